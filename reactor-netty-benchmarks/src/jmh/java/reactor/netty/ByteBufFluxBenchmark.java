@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+/**
+ * Measures {@link ByteBufFlux#aggregate()} and the {@link ByteBufFlux} conversions on top of it.
+ * The source emits {@code components} buffers of {@code componentSize} bytes each, sharing the reference count
+ * of a single pooled buffer, as {@code FluxReceive} would after releasing each message.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ByteBufFluxBenchmark {
+
+	@Param({"1", "16", "128"})
+	int components;
+
+	@Param({"1024"})
+	int componentSize;
+
+	ByteBuf payload;
+	ByteBufFlux source;
+
+	@Setup
+	public void setup() {
+		payload = PooledByteBufAllocator.DEFAULT.directBuffer(componentSize)
+		                                        .writeZero(componentSize);
+		source = ByteBufFlux.fromInbound(Flux.range(0, components).map(i -> payload.duplicate()),
+				PooledByteBufAllocator.DEFAULT);
+	}
+
+	@TearDown
+	public void tearDown() {
+		payload.release();
+	}
+
+	@Benchmark
+	public byte[] aggregateAsByteArray() {
+		return source.aggregate()
+		             .asByteArray()
+		             .block();
+	}
+
+	@Benchmark
+	public String aggregateAsString() {
+		return source.aggregate()
+		             .asString()
+		             .block();
+	}
+
+	@Benchmark
+	public Long asByteArray() {
+		return source.asByteArray()
+		             .count()
+		             .block();
+	}
+}
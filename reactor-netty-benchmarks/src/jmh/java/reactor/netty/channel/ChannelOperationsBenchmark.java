@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.NettyInbound;
+import reactor.netty.NettyOutbound;
+
+/**
+ * Measures the {@link NettyOutbound} API as implemented by {@link ChannelOperations}, including the
+ * {@link NettyOutbound#then()} chaining, for the single message ({@link Mono}) and the multiple messages
+ * ({@link Flux}, i.e. {@link MonoSendMany}) paths.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChannelOperationsBenchmark {
+
+	@Param({"64", "8192"})
+	int messageSize;
+
+	EmbeddedChannel channel;
+	ChannelOperations<NettyInbound, NettyOutbound> operations;
+	ByteBuf payload;
+	String message;
+
+	@Setup
+	public void setup() {
+		channel = new EmbeddedChannel(DiscardingOutboundHandler.INSTANCE, new ChannelHandlerAdapter() {});
+		operations = new ChannelOperations<>(Connection.from(channel), ConnectionObserver.emptyListener());
+		payload = PooledByteBufAllocator.DEFAULT.directBuffer(messageSize)
+		                                        .writeZero(messageSize);
+		StringBuilder sb = new StringBuilder(messageSize);
+		for (int i = 0; i < messageSize; i++) {
+			sb.append('a');
+		}
+		message = sb.toString();
+	}
+
+	@TearDown
+	public void tearDown() {
+		channel.finishAndReleaseAll();
+		payload.release();
+	}
+
+	@Benchmark
+	public void sendMono() {
+		operations.send(Mono.fromCallable(payload::retainedDuplicate))
+		          .then()
+		          .block();
+	}
+
+	@Benchmark
+	public void sendFlux() {
+		operations.send(Flux.just(payload.retainedDuplicate(), payload.retainedDuplicate()))
+		          .then()
+		          .block();
+		channel.runPendingTasks();
+	}
+
+	@Benchmark
+	public void sendObject() {
+		operations.sendObject(payload.retainedDuplicate())
+		          .then()
+		          .block();
+	}
+
+	@Benchmark
+	public void sendString() {
+		operations.sendString(Mono.just(message))
+		          .then()
+		          .block();
+	}
+
+	@Benchmark
+	public void sendChained() {
+		operations.send(Mono.fromCallable(payload::retainedDuplicate))
+		          .then(operations.send(Mono.fromCallable(payload::retainedDuplicate)))
+		          .then()
+		          .block();
+	}
+}
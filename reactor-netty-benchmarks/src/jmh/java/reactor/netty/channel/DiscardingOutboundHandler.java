@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * Terminal outbound handler used by the {@link io.netty.channel.embedded.EmbeddedChannel} based benchmarks.
+ * Written messages are released and the write promise is completed immediately,
+ * so that only the Reactor Netty send path is measured.
+ */
+@ChannelHandler.Sharable
+final class DiscardingOutboundHandler extends ChannelOutboundHandlerAdapter {
+
+	static final DiscardingOutboundHandler INSTANCE = new DiscardingOutboundHandler();
+
+	@Override
+	public void flush(ChannelHandlerContext ctx) {
+		// discard
+	}
+
+	@Override
+	public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+		ReferenceCountUtil.release(msg);
+		promise.trySuccess();
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.NettyInbound;
+import reactor.netty.NettyOutbound;
+
+/**
+ * Measures {@link FluxReceive} delivering inbound messages to a receiver, either with unbounded demand
+ * (fast path, no queueing) or with bounded demand (messages are queued and drained on request).
+ * One operation is one inbound sequence of {@code messages} buffers followed by completion.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FluxReceiveBenchmark {
+
+	@Param({"16", "256"})
+	int messages;
+
+	@Param({"1024"})
+	int messageSize;
+
+	/**
+	 * {@code 0} means unbounded demand, otherwise the receiver requests in batches of this size.
+	 */
+	@Param({"0", "32"})
+	int batch;
+
+	EmbeddedChannel channel;
+	ChannelOperations<NettyInbound, NettyOutbound> operations;
+	ByteBuf payload;
+
+	@Setup
+	public void setup() {
+		channel = new EmbeddedChannel();
+		operations = new ChannelOperations<>(Connection.from(channel), ConnectionObserver.emptyListener());
+		payload = PooledByteBufAllocator.DEFAULT.directBuffer(messageSize)
+		                                        .writeZero(messageSize);
+	}
+
+	@TearDown
+	public void tearDown() {
+		channel.finishAndReleaseAll();
+		payload.release();
+	}
+
+	@Benchmark
+	public void receive(Blackhole bh) {
+		FluxReceive receive = new FluxReceive(operations);
+		receive.subscribe(new Receiver(bh, batch));
+		for (int i = 0; i < messages; i++) {
+			receive.onInboundNext(payload.retainedDuplicate());
+		}
+		receive.onInboundComplete();
+	}
+
+	static final class Receiver implements CoreSubscriber<Object> {
+
+		final Blackhole bh;
+		final int batch;
+
+		Subscription s;
+		int consumed;
+
+		Receiver(Blackhole bh, int batch) {
+			this.bh = bh;
+			this.batch = batch;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			this.s = s;
+			s.request(batch == 0 ? Long.MAX_VALUE : batch);
+		}
+
+		@Override
+		public void onNext(Object o) {
+			bh.consume(((ByteBuf) o).readableBytes());
+			if (batch != 0 && ++consumed == batch) {
+				consumed = 0;
+				s.request(batch);
+			}
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			bh.consume(t);
+		}
+
+		@Override
+		public void onComplete() {
+			bh.consume(true);
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+/**
+ * Measures {@link MonoSendMany} when writing a stream of {@link ByteBuf} or {@link String} messages
+ * to an {@link EmbeddedChannel}. One operation is one fully drained publisher.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MonoSendManyBenchmark {
+
+	@Param({"1", "16", "256"})
+	int messages;
+
+	@Param({"64", "8192"})
+	int messageSize;
+
+	/**
+	 * When {@code true} the upstream is hidden so that the non-fused (queue based) path is exercised.
+	 */
+	@Param({"false", "true"})
+	boolean hide;
+
+	EmbeddedChannel channel;
+	ByteBuf payload;
+	Flux<ByteBuf> byteBufSource;
+	Flux<String> stringSource;
+
+	@Setup
+	public void setup() {
+		channel = new EmbeddedChannel(DiscardingOutboundHandler.INSTANCE, new ChannelHandlerAdapter() {});
+		payload = PooledByteBufAllocator.DEFAULT.directBuffer(messageSize)
+		                                        .writeZero(messageSize);
+		StringBuilder sb = new StringBuilder(messageSize);
+		for (int i = 0; i < messageSize; i++) {
+			sb.append('a');
+		}
+		String message = sb.toString();
+
+		Flux<ByteBuf> byteBufs = Flux.range(0, messages).map(i -> payload.retainedDuplicate());
+		Flux<String> strings = Flux.range(0, messages).map(i -> message);
+		byteBufSource = hide ? byteBufs.hide() : byteBufs;
+		stringSource = hide ? strings.hide() : strings;
+	}
+
+	@TearDown
+	public void tearDown() {
+		channel.finishAndReleaseAll();
+		payload.release();
+	}
+
+	@Benchmark
+	public void sendByteBufFlushOnBoundary() {
+		MonoSendMany.byteBufSource(byteBufSource, channel, b -> false)
+		            .block();
+		channel.runPendingTasks();
+	}
+
+	@Benchmark
+	public void sendByteBufFlushOnEach() {
+		MonoSendMany.byteBufSource(byteBufSource, channel, b -> true)
+		            .block();
+	}
+
+	@Benchmark
+	public void sendObjectFlushOnBoundary() {
+		MonoSendMany.objectSource(stringSource, channel, o -> false)
+		            .block();
+		channel.runPendingTasks();
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.CertificateException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * End-to-end benchmark: an {@link HttpServer} driven by an {@link HttpClient} over loopback.
+ * <p>
+ * {@link #throughput()} reports requests/s, {@link #latency()} reports the latency distribution
+ * (p50/p90/p99/p999 are part of the {@link Mode#SampleTime} output). Combined with the {@code gc} profiler
+ * configured for the module, the allocation rate and the bytes allocated per request are reported as well.
+ * <p>
+ * Parameters:
+ * <ul>
+ *     <li>{@code protocol}: {@code HTTP11}, {@code HTTP11_TLS}, {@code H2} (always TLS) and {@code H2C}</li>
+ *     <li>{@code sslProvider}: the {@link SslProvider} used when the protocol is secured</li>
+ *     <li>{@code transport}: {@code nio} or {@code native}. {@code native} resolves to {@code io_uring} when it
+ *     is available on the classpath ({@code -PjmhTransport=io_uring}), otherwise to {@code epoll}/{@code kqueue}</li>
+ *     <li>{@code payload}: {@code json} (small response), {@code stream} (large response streamed in chunks)
+ *     and {@code file} (large response served with {@code sendFile})</li>
+ * </ul>
+ */
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class HttpLoopbackBenchmark {
+
+	static final String JSON =
+			"{\"id\":42,\"name\":\"reactor-netty\",\"tags\":[\"http\",\"benchmark\"],\"active\":true,\"score\":12.5}";
+
+	static final int STREAM_CHUNK_SIZE = 16 * 1024;
+	static final int STREAM_CHUNKS = 64;
+
+	@Param({"HTTP11", "HTTP11_TLS", "H2", "H2C"})
+	String protocol;
+
+	@Param({"OPENSSL"})
+	String sslProvider;
+
+	@Param({"nio", "native"})
+	String transport;
+
+	@Param({"json", "stream", "file"})
+	String payload;
+
+	LoopResources loop;
+	ConnectionProvider provider;
+	DisposableServer server;
+	HttpClient client;
+	ByteBuf chunk;
+	Path file;
+	SelfSignedCertificate ssc;
+	String uri;
+
+	@Setup
+	public void setup() throws CertificateException, IOException {
+		boolean preferNative = "native".equals(transport);
+		if (preferNative && !LoopResources.hasNativeSupport()) {
+			throw new IllegalStateException("No native transport available on this platform");
+		}
+
+		chunk = PooledByteBufAllocator.DEFAULT.directBuffer(STREAM_CHUNK_SIZE)
+		                                      .writeZero(STREAM_CHUNK_SIZE);
+		file = Files.createTempFile("reactor-netty-benchmark", ".bin");
+		Files.write(file, new byte[STREAM_CHUNK_SIZE * STREAM_CHUNKS]);
+
+		loop = LoopResources.create("benchmark", 4, true);
+		provider = ConnectionProvider.create("benchmark", 64);
+
+		HttpServer httpServer =
+				HttpServer.create()
+				          .host("127.0.0.1")
+				          .port(0)
+				          .runOn(loop, preferNative)
+				          .route(r -> r.get("/json", (req, res) ->
+				                                res.header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+				                                   .sendString(Mono.just(JSON)))
+				                       .get("/stream", (req, res) ->
+				                                res.send(Flux.range(0, STREAM_CHUNKS)
+				                                             .map(i -> chunk.retainedDuplicate())))
+				                       .get("/file", (req, res) -> res.sendFile(file)));
+
+		HttpClient httpClient =
+				HttpClient.create(provider)
+				          .runOn(loop, preferNative);
+
+		SslProvider tlsProvider = SslProvider.valueOf(sslProvider);
+		switch (protocol) {
+			case "HTTP11":
+				break;
+			case "HTTP11_TLS":
+				ssc = new SelfSignedCertificate();
+				Http11SslContextSpec serverCtx11 =
+						Http11SslContextSpec.forServer(ssc.certificate(), ssc.privateKey())
+						                    .configure(builder -> builder.sslProvider(tlsProvider));
+				Http11SslContextSpec clientCtx11 =
+						Http11SslContextSpec.forClient()
+						                    .configure(builder -> builder.trustManager(InsecureTrustManagerFactory.INSTANCE)
+						                                                 .sslProvider(tlsProvider));
+				httpServer = httpServer.secure(spec -> spec.sslContext(serverCtx11));
+				httpClient = httpClient.secure(spec -> spec.sslContext(clientCtx11));
+				break;
+			case "H2":
+				ssc = new SelfSignedCertificate();
+				Http2SslContextSpec serverCtx2 =
+						Http2SslContextSpec.forServer(ssc.certificate(), ssc.privateKey())
+						                   .configure(builder -> builder.sslProvider(tlsProvider));
+				Http2SslContextSpec clientCtx2 =
+						Http2SslContextSpec.forClient()
+						                   .configure(builder -> builder.trustManager(InsecureTrustManagerFactory.INSTANCE)
+						                                                .sslProvider(tlsProvider));
+				httpServer = httpServer.protocol(HttpProtocol.H2).secure(spec -> spec.sslContext(serverCtx2));
+				httpClient = httpClient.protocol(HttpProtocol.H2).secure(spec -> spec.sslContext(clientCtx2));
+				break;
+			case "H2C":
+				httpServer = httpServer.protocol(HttpProtocol.H2C);
+				httpClient = httpClient.protocol(HttpProtocol.H2C);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown protocol " + protocol);
+		}
+
+		httpServer.warmup().block();
+		server = httpServer.bindNow();
+
+		httpClient.warmup().block();
+		client = httpClient.remoteAddress(server::address);
+		uri = "/" + payload;
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		server.disposeNow();
+		provider.disposeLater().block(Duration.ofSeconds(5));
+		loop.disposeLater(Duration.ZERO, Duration.ofSeconds(5))
+		    .block();
+		chunk.release();
+		Files.deleteIfExists(file);
+		if (ssc != null) {
+			ssc.delete();
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public Integer throughput() {
+		return request();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public Integer latency() {
+		return request();
+	}
+
+	Integer request() {
+		return client.get()
+		             .uri(uri)
+		             .responseContent()
+		             .map(ByteBuf::readableBytes)
+		             .reduce(0, Integer::sum)
+		             .block();
+	}
+}
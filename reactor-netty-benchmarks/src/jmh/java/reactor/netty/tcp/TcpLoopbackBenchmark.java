@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.tcp;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Measures a round trip over a loopback socket: the client sends {@code messages} buffers via
+ * {@code NettyOutbound#send}, the server echoes them back and the operation completes once the client
+ * received all echoed bytes. This covers {@code MonoSend}/{@code MonoSendMany} and {@code FluxReceive}
+ * on both peers together with the real transport.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TcpLoopbackBenchmark {
+
+	@Param({"1", "16"})
+	int messages;
+
+	@Param({"128", "16384"})
+	int messageSize;
+
+	/**
+	 * {@code true} to use the native transport when available, otherwise NIO.
+	 */
+	@Param({"false", "true"})
+	boolean preferNative;
+
+	LoopResources loop;
+	DisposableServer server;
+	Connection client;
+	ByteBuf payload;
+	Mono<Void> send;
+	Semaphore roundTrips;
+
+	@Setup
+	public void setup() {
+		loop = LoopResources.create("benchmark", 2, true);
+		server = TcpServer.create()
+		                  .host("127.0.0.1")
+		                  .port(0)
+		                  .runOn(loop, preferNative)
+		                  .handle((in, out) -> out.send(in.receive().retain()))
+		                  .bindNow();
+
+		int roundTripSize = messages * messageSize;
+		roundTrips = new Semaphore(0);
+		client = TcpClient.create()
+		                  .remoteAddress(server::address)
+		                  .runOn(loop, preferNative)
+		                  .connectNow();
+		client.inbound()
+		      .receive()
+		      .subscribe(new RoundTripCounter(roundTrips, roundTripSize));
+
+		payload = PooledByteBufAllocator.DEFAULT.directBuffer(messageSize)
+		                                        .writeZero(messageSize);
+		send = messages == 1 ?
+				client.outbound().send(Mono.fromCallable(payload::retainedDuplicate)).then() :
+				client.outbound().send(Flux.range(0, messages).map(i -> payload.retainedDuplicate())).then();
+	}
+
+	@TearDown
+	public void tearDown() {
+		client.disposeNow();
+		server.disposeNow();
+		loop.disposeLater(Duration.ZERO, Duration.ofSeconds(5))
+		    .block();
+		payload.release();
+	}
+
+	@Benchmark
+	public void roundTrip() throws InterruptedException {
+		send.block();
+		roundTrips.acquire();
+	}
+
+	static final class RoundTripCounter implements Consumer<ByteBuf> {
+
+		final Semaphore roundTrips;
+		final int roundTripSize;
+
+		long received;
+
+		RoundTripCounter(Semaphore roundTrips, int roundTripSize) {
+			this.roundTrips = roundTrips;
+			this.roundTripSize = roundTripSize;
+		}
+
+		@Override
+		public void accept(ByteBuf buf) {
+			received += buf.readableBytes();
+			while (received >= roundTripSize) {
+				received -= roundTripSize;
+				roundTrips.release();
+			}
+		}
+	}
+}
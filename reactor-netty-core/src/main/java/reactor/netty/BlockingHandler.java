@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+/**
+ * Runs I/O handlers that call blocking code off the event loops.
+ * <p>
+ * A blocking handler is invoked on a virtual thread when the runtime supports them (JDK 21+),
+ * detected at runtime with {@link Schedulers#newBoundedElasticThreadPerTask(int, int, String)},
+ * otherwise on {@link Schedulers#boundedElastic()}.
+ * The handler can block, e.g. with {@link Mono#block()}, and still return a {@link Publisher} that is subscribed
+ * on the same thread. The inbound and outbound data can be consumed and produced with blocking calls while preserving
+ * the backpressure with {@link #toIterable(NettyInbound, int)} and {@link #fromIterable(Iterable)}.
+ *
+ * @since 1.2.0
+ */
+public final class BlockingHandler {
+
+	/**
+	 * Returns an I/O handler that invokes the given handler and subscribes to its result
+	 * on the {@link #scheduler()} for blocking handlers.
+	 *
+	 * @param handler the I/O handler that may block
+	 * @param <I> the inbound type
+	 * @param <O> the outbound type
+	 * @return an I/O handler that does not block the event loop
+	 */
+	public static <I extends NettyInbound, O extends NettyOutbound> BiFunction<I, O, Publisher<Void>> wrap(
+			BiFunction<? super I, ? super O, ? extends Publisher<Void>> handler) {
+		Objects.requireNonNull(handler, "handler");
+		return (in, out) -> Mono.defer(() -> Mono.fromDirect(handler.apply(in, out)))
+		                        .subscribeOn(scheduler());
+	}
+
+	/**
+	 * Returns the {@link Scheduler} on which the blocking handlers run, a {@link Scheduler} that creates
+	 * a virtual thread per task on JDK 21+, otherwise {@link Schedulers#boundedElastic()}.
+	 * The {@link Scheduler} is created on first use.
+	 *
+	 * @return the {@link Scheduler} on which the blocking handlers run
+	 */
+	public static Scheduler scheduler() {
+		return SchedulerHolder.SCHEDULER;
+	}
+
+	/**
+	 * Returns a blocking {@link Iterable} over the received bytes. At most {@code prefetch} messages are requested
+	 * from the connection ahead of the iteration, so that reading from the connection is suspended while
+	 * the blocking code is busy. The iteration must not happen on an event loop.
+	 *
+	 * @param inbound the inbound to read from
+	 * @param prefetch the number of messages requested ahead of the iteration
+	 * @return a blocking {@link Iterable} over the received bytes
+	 */
+	public static Iterable<byte[]> toIterable(NettyInbound inbound, int prefetch) {
+		Objects.requireNonNull(inbound, "inbound");
+		if (prefetch <= 0) {
+			throw new IllegalArgumentException("prefetch must be strictly positive");
+		}
+		return inbound.receive()
+		              .asByteArray()
+		              .toIterable(prefetch);
+	}
+
+	/**
+	 * Returns a {@link Publisher} that pulls the elements from the given, possibly blocking, {@link Iterable}
+	 * on the {@link #scheduler()}, as they are requested by the connection. The {@link Iterable} is thus not
+	 * consumed faster than the data can be written.
+	 *
+	 * @param iterable the elements to send
+	 * @param <T> the type of the elements
+	 * @return a {@link Publisher} to pass to the {@link NettyOutbound} send methods
+	 */
+	public static <T> Flux<T> fromIterable(Iterable<? extends T> iterable) {
+		Objects.requireNonNull(iterable, "iterable");
+		return Flux.<T>fromIterable(iterable)
+		           .subscribeOn(scheduler(), true);
+	}
+
+	/**
+	 * Returns the {@link Scheduler} supplied by {@code virtualThreads}, or {@link Schedulers#boundedElastic()}
+	 * when it throws {@link UnsupportedOperationException} because the runtime does not support virtual threads.
+	 */
+	static Scheduler createScheduler(Supplier<? extends Scheduler> virtualThreads) {
+		try {
+			return virtualThreads.get();
+		}
+		catch (UnsupportedOperationException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Virtual threads are not supported, blocking handlers run on boundedElastic", e);
+			}
+			return Schedulers.boundedElastic();
+		}
+	}
+
+	BlockingHandler() {
+	}
+
+	static final Logger log = Loggers.getLogger(BlockingHandler.class);
+
+	static final class SchedulerHolder {
+
+		static final Scheduler SCHEDULER = createScheduler(() ->
+				Schedulers.newBoundedElasticThreadPerTask(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+						Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "reactor-netty-blocking"));
+	}
+}
@@ -115,6 +115,11 @@ public class Metrics {
 	 */
 	public static final String DATA_SENT = ".data.sent";
 
+	/**
+	 * Amount of the data sent in buffers merged from several small buffers, in bytes.
+	 */
+	public static final String DATA_COALESCED = ".data.coalesced";
+
 	/**
 	 * Number of errors that occurred.
 	 */
@@ -155,6 +160,11 @@ public class Metrics {
 	 */
 	public static final String CONNECTIONS_ACTIVE = ".connections.active";
 
+	/**
+	 * The number of connections accepted by each acceptor of the server.
+	 */
+	public static final String CONNECTIONS_ACCEPTED = ".connections.accepted";
+
 
 	// AddressResolverGroup Metrics
 	/**
@@ -162,6 +172,21 @@ public class Metrics {
 	 */
 	public static final String ADDRESS_RESOLVER = ".address.resolver";
 
+	/**
+	 * The number of the host names found in the DNS cache, when the refresh-ahead of the DNS cache is enabled.
+	 */
+	public static final String ADDRESS_RESOLVER_CACHE_HITS = ".address.resolver.cache.hits";
+
+	/**
+	 * The number of the host names not found in the DNS cache, when the refresh-ahead of the DNS cache is enabled.
+	 */
+	public static final String ADDRESS_RESOLVER_CACHE_MISSES = ".address.resolver.cache.misses";
+
+	/**
+	 * The number of the refreshes of the DNS cache entries, when the refresh-ahead of the DNS cache is enabled.
+	 */
+	public static final String ADDRESS_RESOLVER_CACHE_REFRESHES = ".address.resolver.cache.refreshes";
+
 
 	// PooledConnectionProvider Metrics
 	/**
@@ -262,6 +287,21 @@ public class Metrics {
 	 */
 	public static final String PENDING_TASKS = ".pending.tasks";
 
+	/**
+	 * The ratio of the time during which an event loop thread consumed CPU.
+	 */
+	public static final String BUSY_RATIO = ".busy.ratio";
+
+	/**
+	 * Time spent by a task in the queue of an event loop before being executed.
+	 */
+	public static final String TASK_QUEUE_LATENCY = ".task.queue.latency";
+
+	/**
+	 * The number of times an event loop was detected as blocked.
+	 */
+	public static final String BLOCKED = ".blocked";
+
 	// HttpServer Metrics
 	/**
 	 * The number of active HTTP/2 streams.
@@ -295,6 +335,11 @@ public class Metrics {
 
 	public static final String NA = "na";
 
+	/**
+	 * The tag value used instead of the URI and the remote address when a meter cache is full.
+	 */
+	public static final String OVERFLOW = "OVERFLOW";
+
 	@Nullable
 	public static Observation currentObservation(ContextView contextView) {
 		if (contextView.hasKey(OBSERVATION_KEY)) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,8 +33,6 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
-import io.netty.channel.DefaultFileRegion;
-import io.netty.handler.stream.ChunkedNioFile;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import reactor.core.Exceptions;
@@ -151,6 +149,8 @@ public interface NettyOutbound extends Publisher<Void> {
 	 * support, if the system supports it, the path resolves to a local file
 	 * system {@link File}, compression and SSL/TLS is not enabled, then transfer will
 	 * use zero-byte copy to the peer., otherwise chunked read/write will be used.
+	 * The chunk size and whether the chunks are memory-mapped can be configured with
+	 * {@link ReactorNetty#SEND_FILE_CHUNK_SIZE} and {@link ReactorNetty#SEND_FILE_MEMORY_MAPPED}.
 	 * <p>It will listens for any error on write and closes
 	 * on terminal signal (complete|error). If more than one publisher is attached
 	 * (multiple calls to send()) completion occurs after all publishers complete.</p>
@@ -166,24 +166,53 @@ public interface NettyOutbound extends Publisher<Void> {
 	default NettyOutbound sendFile(Path file, long position, long count) {
 		Objects.requireNonNull(file, "filepath");
 
-		return sendUsing(() -> FileChannel.open(file, StandardOpenOption.READ),
+		return sendFile(file, position, count, () -> FileChannel.open(file, StandardOpenOption.READ),
+				ReactorNetty.fileCloser);
+	}
+
+	/**
+	 * Sends content from the {@link FileChannel} provided by {@code fileChannelInput} for the given {@link Path}
+	 * in the same way as {@link #sendFile(Path, long, long)}. The {@link FileChannel} is not closed once
+	 * the transfer completes, {@code fileChannelCleanup} is invoked instead, this allows sharing the same
+	 * {@link FileChannel} between concurrent transfers of the same file.
+	 * <p>Note: Nesting any send* method is not supported.</p>
+	 *
+	 * @param file the file Path
+	 * @param position where to start
+	 * @param count how much to transfer
+	 * @param fileChannelInput the {@link FileChannel} supplier, invoked when the transfer is subscribed
+	 * @param fileChannelCleanup invoked with the {@link FileChannel} on terminal signal (complete|error|cancel)
+	 *
+	 * @return A Publisher to signal successful sequence write (e.g. after "flush") or any
+	 * error during write
+	 * @since 1.2.0
+	 */
+	default NettyOutbound sendFile(Path file, long position, long count,
+			Callable<? extends FileChannel> fileChannelInput, Consumer<? super FileChannel> fileChannelCleanup) {
+		Objects.requireNonNull(file, "filepath");
+		Objects.requireNonNull(fileChannelInput, "fileChannelInput");
+		Objects.requireNonNull(fileChannelCleanup, "fileChannelCleanup");
+
+		return sendUsing(fileChannelInput,
 				(c, fc) -> {
 					if (ReactorNetty.mustChunkFileTransfer(c, file)) {
 						ReactorNetty.addChunkedWriter(c);
 						try {
-							return new ChunkedNioFile(fc, position, count, 1024);
+							return ReactorNetty.chunkedFile(c, fc, position, count);
 						}
 						catch (Exception ioe) {
 							throw Exceptions.propagate(ioe);
 						}
 					}
-					return new DefaultFileRegion(fc, position, count);
+					return new ReactorNetty.SharedFileRegion(fc, position, count);
 				},
-				ReactorNetty.fileCloser);
+				fileChannelCleanup);
 	}
 
 	/**
-	 * Sends content from given {@link Path} using chunked read/write. <p>It will listen
+	 * Sends content from given {@link Path} using chunked read/write. The chunk size and whether the chunks
+	 * are memory-mapped can be configured with {@link ReactorNetty#SEND_FILE_CHUNK_SIZE} and
+	 * {@link ReactorNetty#SEND_FILE_MEMORY_MAPPED}. <p>It will listen
 	 * for any error on write and close on terminal signal (complete|error). If more than
 	 * one publisher is attached (multiple calls to send()) completion occurs after all
 	 * publishers complete.</p>
@@ -203,7 +232,7 @@ public interface NettyOutbound extends Publisher<Void> {
 				(c, fc) -> {
 					ReactorNetty.addChunkedWriter(c);
 					try {
-						return new ChunkedNioFile(fc, position, count, 1024);
+						return ReactorNetty.chunkedFile(c, fc, position, count);
 					}
 					catch (Exception e) {
 						throw Exceptions.propagate(e);
@@ -35,6 +35,7 @@ import io.netty.channel.ChannelInboundHandler;
  * -> ssl reader ? [SslReader]
  * -> channel metrics ? [ChannelMetricsHandler]
  * -> connect metrics ? [ConnectMetricsHandler]
+ * -> flush consolidation ? [FlushConsolidationHandler]
  * -> h2 or http/1.1 codec? [H2OrHttp11Codec]
  * -> http/1.1 codec ? [HttpCodec]
  * -> h2 multiplex handler ? [H2MultiplexHandler]
@@ -60,6 +61,7 @@ import io.netty.channel.ChannelInboundHandler;
  * -> log ? [LoggingHandler]
  * -> ssl reader ? [SslReader]
  * -> channel metrics ? [ChannelMetricsHandler]
+ * -> flush consolidation ? [FlushConsolidationHandler]
  * -> h2c upgrade handler ? [H2CUpgradeHandler]
  * -> h2 or http/1.1 codec? [H2OrHttp11Codec]
  * -> http codec ? [HttpCodec]
@@ -93,6 +95,7 @@ public interface NettyPipeline {
 	String ChunkedWriter         = LEFT + "chunkedWriter";
 	String CompressionHandler    = LEFT + "compressionHandler";
 	String ConnectMetricsHandler = LEFT + "connectMetricsHandler";
+	String FlushConsolidationHandler = LEFT + "flushConsolidationHandler";
 	String H2CUpgradeHandler     = LEFT + "h2cUpgradeHandler";
 	String H2Flush               = LEFT + "h2Flush";
 	String H2MultiplexHandler    = LEFT + "h2MultiplexHandler";
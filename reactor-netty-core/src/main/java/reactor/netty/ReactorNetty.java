@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,7 +15,11 @@
  */
 package reactor.netty;
 
+import java.io.IOException;
 import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.time.ZoneId;
@@ -34,14 +38,18 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufHolder;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.channel.nio.NioEventLoop;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.handler.stream.ChunkedNioFile;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
@@ -198,6 +206,56 @@ public final class ReactorNetty {
 	 */
 	public static final ZoneId ZONE_ID_SYSTEM = ZoneId.systemDefault();
 
+	/**
+	 * Default size (bytes) of the chunks read from a file when the file cannot be transferred with zero-copy
+	 * (e.g. SSL/TLS, compression) or when {@link NettyOutbound#sendFileChunked(Path, long, long)} is used,
+	 * fallback - the chunk size is adapted to the connection: half of the channel write buffer high water mark,
+	 * rounded down to a multiple of the maximum SSL/TLS record size (16 KiB) when SSL/TLS is enabled, otherwise to
+	 * a multiple of the allocator page size.
+	 */
+	public static final String SEND_FILE_CHUNK_SIZE = "reactor.netty.sendFile.chunkSize";
+	/**
+	 * Specifies whether the chunks of a file that cannot be transferred with zero-copy are obtained from
+	 * memory-mapped regions of the file instead of being read into buffers, fallback to false.
+	 * The mapped regions are unmapped when they are garbage collected.
+	 */
+	public static final String SEND_FILE_MEMORY_MAPPED = "reactor.netty.sendFile.memoryMapped";
+
+	/**
+	 * Specifies whether the demand of {@link NettyOutbound#send(Publisher)} and
+	 * {@link NettyOutbound#sendObject(Publisher)} is sized from the bytes that can be written before
+	 * the channel becomes unwritable and the observed average message size, fallback to false.
+	 * When disabled, up to 128 messages are requested regardless of their size.
+	 */
+	public static final String SEND_BYTE_AWARE_DEMAND = "reactor.netty.send.byteAwareDemand";
+
+	/**
+	 * Specifies the interval (milliseconds) at which the event loops are probed when the metrics are enabled,
+	 * fallback - 500 milliseconds. The probes measure the task queue latency and the busy ratio of the event loops,
+	 * and detect the blocked event loops. Use a value less than or equal to 0 in order to disable the probes.
+	 */
+	public static final String EVENT_LOOP_MONITOR_INTERVAL = "reactor.netty.eventLoop.monitorInterval";
+
+	/**
+	 * Specifies the time (milliseconds) after which an event loop that did not run a probe task is considered
+	 * blocked, fallback - 2000 milliseconds. The stack trace of a blocked event loop thread is logged at WARN level.
+	 * Use a value less than or equal to 0 in order to disable the detection.
+	 */
+	public static final String EVENT_LOOP_BLOCKED_THRESHOLD = "reactor.netty.eventLoop.blockedThreshold";
+
+	/**
+	 * Specifies the maximum number of meters kept by each meter cache of the built-in Micrometer recorders,
+	 * fallback - 10000. When a cache is full, new URIs and remote addresses are recorded with
+	 * the {@link Metrics#OVERFLOW} tag value.
+	 */
+	public static final String METER_CACHE_MAX_SIZE = "reactor.netty.metrics.meterCacheMaxSize";
+
+	/**
+	 * Specifies the time (milliseconds) after which a meter that did not record anything is removed from
+	 * the meter cache of the built-in Micrometer recorders and from the registry, fallback - 0 (disabled).
+	 */
+	public static final String METER_CACHE_IDLE_TIMEOUT = "reactor.netty.metrics.meterCacheIdleTimeout";
+
 	/**
 	 * Try to call {@link ReferenceCounted#release()} if the specified message implements {@link ReferenceCounted}.
 	 * If the specified message doesn't implement {@link ReferenceCounted} or it is already released,
@@ -438,6 +496,30 @@ public final class ReactorNetty {
 		}
 	}
 
+	/**
+	 * Creates the {@link ChunkedInput} used to transfer a file when zero-copy cannot be used.
+	 * The {@link FileChannel} is not closed when the transfer completes.
+	 */
+	static ChunkedInput<ByteBuf> chunkedFile(Connection c, FileChannel fc, long position, long count) throws IOException {
+		int chunkSize = fileChunkSize(c.channel());
+		if (FILE_MEMORY_MAPPED) {
+			return new MappedChunkedFile(fc, position, count, chunkSize);
+		}
+		return new SharedChunkedNioFile(fc, position, count, chunkSize);
+	}
+
+	static int fileChunkSize(Channel channel) {
+		if (FILE_CHUNK_SIZE > 0) {
+			return FILE_CHUNK_SIZE;
+		}
+		// if channel multiplexing a parent channel as an http2 stream, SSL/TLS is configured on the parent channel
+		boolean secure = channel.pipeline().get(SslHandler.class) != null ||
+				(channel.parent() != null && channel.parent().pipeline().get(SslHandler.class) != null);
+		int unit = secure ? MAX_TLS_RECORD_PLAINTEXT_LENGTH : PooledByteBufAllocator.defaultPageSize();
+		int target = Math.min(channel.config().getWriteBufferHighWaterMark() / 2, MAX_FILE_CHUNK_SIZE);
+		return Math.max(unit, target / unit * unit);
+	}
+
 	static boolean mustChunkFileTransfer(Connection c, Path file) {
 		// if channel multiplexing a parent channel as an http2 stream
 		if (c.channel().parent() != null && c.channel().parent().pipeline().get(NettyPipeline.H2MultiplexHandler) != null) {
@@ -795,6 +877,129 @@ public final class ReactorNetty {
 		}
 	}
 
+	/**
+	 * A {@link DefaultFileRegion} that does not close the {@link FileChannel} when it is released,
+	 * the {@link FileChannel} is closed by the cleanup provided to
+	 * {@link NettyOutbound#sendFile(Path, long, long, Callable, Consumer)}.
+	 */
+	static final class SharedFileRegion extends DefaultFileRegion {
+
+		SharedFileRegion(FileChannel fileChannel, long position, long count) {
+			super(fileChannel, position, count);
+		}
+
+		@Override
+		protected void deallocate() {
+			// the FileChannel is owned by the caller
+		}
+	}
+
+	/**
+	 * A {@link ChunkedInput} that obtains the chunks from memory-mapped regions of the file, so that the content
+	 * is not copied into intermediate buffers. The {@link FileChannel} is not closed when the transfer completes,
+	 * the {@link FileChannel} is closed by the cleanup provided to
+	 * {@link NettyOutbound#sendFile(Path, long, long, Callable, Consumer)}.
+	 */
+	static final class MappedChunkedFile implements ChunkedInput<ByteBuf> {
+
+		/**
+		 * The maximum size of a single mapped region, bigger files are mapped region by region.
+		 */
+		static final long MAX_REGION_SIZE = 64 * 1024 * 1024;
+
+		final FileChannel fileChannel;
+		final long startOffset;
+		final long endOffset;
+		final int chunkSize;
+
+		long offset;
+		MappedByteBuffer region;
+		long regionOffset;
+
+		MappedChunkedFile(FileChannel fileChannel, long offset, long length, int chunkSize) throws IOException {
+			if (offset < 0) {
+				throw new IllegalArgumentException("offset: " + offset + " (expected: 0 or greater)");
+			}
+			if (length < 0) {
+				throw new IllegalArgumentException("length: " + length + " (expected: 0 or greater)");
+			}
+			if (chunkSize <= 0) {
+				throw new IllegalArgumentException("chunkSize: " + chunkSize + " (expected: a positive integer)");
+			}
+			if (!fileChannel.isOpen()) {
+				throw new ClosedChannelException();
+			}
+			this.fileChannel = fileChannel;
+			this.startOffset = offset;
+			this.endOffset = offset + length;
+			this.chunkSize = chunkSize;
+			this.offset = offset;
+		}
+
+		@Override
+		public boolean isEndOfInput() {
+			return offset >= endOffset;
+		}
+
+		@Override
+		public void close() {
+			// the FileChannel is owned by the caller, the mapped region is unmapped when garbage collected
+			region = null;
+		}
+
+		@Override
+		@Deprecated
+		public ByteBuf readChunk(ChannelHandlerContext ctx) throws Exception {
+			return readChunk(ctx.alloc());
+		}
+
+		@Override
+		@Nullable
+		public ByteBuf readChunk(ByteBufAllocator allocator) throws Exception {
+			if (offset >= endOffset) {
+				return null;
+			}
+			if (region == null || offset >= regionOffset + region.capacity()) {
+				region = fileChannel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(MAX_REGION_SIZE, endOffset - offset));
+				regionOffset = offset;
+			}
+			int position = (int) (offset - regionOffset);
+			int length = (int) Math.min(chunkSize, region.capacity() - position);
+			ByteBuffer chunk = region.duplicate();
+			chunk.position(position);
+			chunk.limit(position + length);
+			offset += length;
+			return Unpooled.wrappedBuffer(chunk.slice());
+		}
+
+		@Override
+		public long length() {
+			return endOffset - startOffset;
+		}
+
+		@Override
+		public long progress() {
+			return offset - startOffset;
+		}
+	}
+
+	/**
+	 * A {@link ChunkedNioFile} that does not close the {@link FileChannel} when the transfer completes,
+	 * the {@link FileChannel} is closed by the cleanup provided to
+	 * {@link NettyOutbound#sendFile(Path, long, long, Callable, Consumer)}.
+	 */
+	static final class SharedChunkedNioFile extends ChunkedNioFile {
+
+		SharedChunkedNioFile(FileChannel fileChannel, long offset, long length, int chunkSize) throws IOException {
+			super(fileChannel, offset, length, chunkSize);
+		}
+
+		@Override
+		public void close() {
+			// the FileChannel is owned by the caller
+		}
+	}
+
 	static final class OutboundIdleStateHandler extends IdleStateHandler {
 
 		final Runnable onWriteIdle;
@@ -1018,6 +1223,17 @@ public final class ReactorNetty {
 
 	static final AttributeKey<ContextView> CONTEXT_VIEW = AttributeKey.valueOf("$CONTEXT_VIEW");
 
+	static final int FILE_CHUNK_SIZE = Integer.getInteger(SEND_FILE_CHUNK_SIZE, 0);
+
+	static final boolean FILE_MEMORY_MAPPED = Boolean.getBoolean(SEND_FILE_MEMORY_MAPPED);
+
+	/**
+	 * The maximum size of the plaintext in a single SSL/TLS record.
+	 */
+	static final int MAX_TLS_RECORD_PLAINTEXT_LENGTH = 16 * 1024;
+
+	static final int MAX_FILE_CHUNK_SIZE = 256 * 1024;
+
 	static final Consumer<? super FileChannel> fileCloser = fc -> {
 		try {
 			fc.close();
@@ -28,6 +28,26 @@ import io.micrometer.core.instrument.docs.MeterDocumentation;
  */
 public enum ChannelMeters implements MeterDocumentation {
 
+	/**
+	 * The number of connections accepted by each acceptor of the server.
+	 */
+	CONNECTIONS_ACCEPTED {
+		@Override
+		public String getName() {
+			return "%s";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return ConnectionsAcceptedMeterTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
 	/**
 	 * The number of all opened connections on the server.
 	 */
@@ -98,6 +118,31 @@ public enum ChannelMeters implements MeterDocumentation {
 		}
 	},
 
+	/**
+	 * Amount of the data sent in buffers merged from several small buffers, in bytes.
+	 */
+	DATA_COALESCED {
+		@Override
+		public String getBaseUnit() {
+			return "bytes";
+		}
+
+		@Override
+		public String getName() {
+			return "%s";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return new KeyName[] {ChannelMetersTags.REMOTE_ADDRESS, ChannelMetersTags.URI};
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.DISTRIBUTION_SUMMARY;
+		}
+	},
+
 	/**
 	 * Number of errors that occurred.
 	 */
@@ -151,6 +196,39 @@ public enum ChannelMeters implements MeterDocumentation {
 		}
 	}
 
+	public enum ConnectionsAcceptedMeterTags implements KeyName {
+
+		/**
+		 * Acceptor identifier.
+		 */
+		ACCEPTOR {
+			@Override
+			public String asString() {
+				return "acceptor";
+			}
+		},
+
+		/**
+		 * Local address.
+		 */
+		LOCAL_ADDRESS {
+			@Override
+			public String asString() {
+				return "local.address";
+			}
+		},
+
+		/**
+		 * URI.
+		 */
+		URI {
+			@Override
+			public String asString() {
+				return "uri";
+			}
+		}
+	}
+
 	public enum ConnectionsTotalMeterTags implements KeyName {
 
 		/**
@@ -65,6 +65,16 @@ public interface ChannelMetricsRecorder {
 		recordDataSent(remoteAddress, bytes);
 	}
 
+	/**
+	 * Records the amount of the data that is sent in a buffer merged from several small buffers, in bytes.
+	 * Relevant only when the write coalescing is enabled.
+	 *
+	 * @param remoteAddress The remote peer
+	 * @param bytes The amount of the data that is sent in a merged buffer, in bytes
+	 * @since 1.2.0
+	 */
+	default void recordDataCoalesced(SocketAddress remoteAddress, long bytes) { }
+
 	/**
 	 * Increments the number of the errors that have occurred.
 	 *
@@ -155,4 +165,13 @@ public interface ChannelMetricsRecorder {
 	 */
 	default void recordServerConnectionClosed(SocketAddress localAddress) { }
 
+	/**
+	 * Records a connection accepted by one of the acceptors of a server bound with {@code SO_REUSEPORT}.
+	 *
+	 * @param localAddress the server local address
+	 * @param acceptor the acceptor identifier
+	 * @since 1.2.0
+	 */
+	default void recordServerConnectionAccepted(SocketAddress localAddress, String acceptor) { }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -110,6 +110,38 @@ public class ChannelOperations<INBOUND extends NettyInbound, OUTBOUND extends Ne
 		  .addFirst(NettyPipeline.ChannelMetricsHandler, handler);
 	}
 
+	/**
+	 * Configure the {@link InboundBufferWatermarks} applied to the inbound receivers of the given {@link Channel}
+	 * and of its child channels (e.g. HTTP/2 streams).
+	 *
+	 * @param ch the channel
+	 * @param watermarks the watermarks to apply or null to restore the default message based limit
+	 * @since 1.2.0
+	 */
+	public static void setInboundBufferWatermarks(Channel ch, @Nullable InboundBufferWatermarks watermarks) {
+		requireNonNull(ch, "channel");
+		ch.attr(InboundBufferWatermarks.KEY)
+		  .set(watermarks);
+	}
+
+	/**
+	 * Configure the size, in bytes, below which the consecutive buffers written by the {@link NettyOutbound#send}
+	 * operations on the given {@link Channel} and on its child channels (e.g. HTTP/2 streams)
+	 * are merged into a single buffer.
+	 *
+	 * @param ch the channel
+	 * @param threshold the maximum size of a merged buffer, {@code 0} disables the write coalescing
+	 * @since 1.2.0
+	 */
+	public static void setWriteCoalescingThreshold(Channel ch, int threshold) {
+		requireNonNull(ch, "channel");
+		if (threshold < 0) {
+			throw new IllegalArgumentException("threshold must be greater or equal to 0");
+		}
+		ch.attr(MonoSendMany.WRITE_COALESCING_THRESHOLD)
+		  .set(threshold == 0 ? null : threshold);
+	}
+
 	/**
 	 * Return the current {@link Channel} bound {@link ChannelOperations} or null if none.
 	 *
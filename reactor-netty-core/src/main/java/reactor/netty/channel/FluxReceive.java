@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -49,11 +49,14 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 	final Channel           channel;
 	final ChannelOperations<?, ?> parent;
 	final EventLoop         eventLoop;
+	final InboundBufferWatermarks watermarks;
 
 	CoreSubscriber<? super Object> receiver;
 	boolean                        receiverFastpath;
 	long                           receiverDemand;
 	Queue<Object>                  receiverQueue;
+	// the readable bytes of the messages in the receiverQueue, tracked only when watermarks are configured
+	long                           receiverQueueBytes;
 
 	boolean needRead = true;
 
@@ -80,6 +83,7 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 		this.parent = parent;
 		this.channel = parent.channel();
 		this.eventLoop = channel.eventLoop();
+		this.watermarks = watermarks(channel);
 		channel.config()
 		       .setAutoRead(false);
 		CANCEL.lazySet(this, (state) -> {
@@ -223,6 +227,7 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 				ReferenceCountUtil.release(o);
 			}
 		}
+		receiverQueueBytes = 0;
 	}
 
 	final void drainReceiver() {
@@ -270,6 +275,9 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 				d = inboundDone;
 				Object v = q != null ? q.poll() : null;
 				boolean empty = v == null;
+				if (!empty && watermarks != null) {
+					receiverQueueBytes -= readableBytes(v);
+				}
 
 				if (d && empty) {
 					terminateReceiver(q, a);
@@ -333,7 +341,8 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 				}
 			}
 
-			if ((receiverDemand -= e) > 0L || (e > 0L && q.size() < QUEUE_LOW_LIMIT)) {
+			receiverDemand -= e;
+			if (watermarks != null ? isBelowWatermark() : (receiverDemand > 0L || (e > 0L && q.size() < QUEUE_LOW_LIMIT))) {
 				if (needRead) {
 					needRead = false;
 					channel.config()
@@ -400,6 +409,9 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 				}
 			}
 			q.offer(msg);
+			if (watermarks != null) {
+				receiverQueueBytes += readableBytes(msg);
+			}
 			drainReceiver();
 		}
 	}
@@ -469,10 +481,20 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 		}
 	}
 
+	/**
+	 * Returns whether reading from the channel can continue with respect to the configured watermarks.
+	 * Reading is suspended when the buffered bytes reach the high watermark and resumed only when
+	 * they drop to the low watermark.
+	 */
+	final boolean isBelowWatermark() {
+		return needRead ? receiverQueueBytes <= watermarks.low : receiverQueueBytes < watermarks.high;
+	}
+
 	final void terminateReceiver(@Nullable Queue<?> q, CoreSubscriber<?> a) {
 		if (q != null) {
 			q.clear();
 		}
+		receiverQueueBytes = 0;
 		Throwable ex = inboundError;
 		receiver = null;
 		if (ex != null) {
@@ -521,10 +543,31 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 				"terminated=" + inboundDone +
 				", cancelled=" + isCancelled() +
 				", pending=" + getPending() +
+				(watermarks != null ? ", pendingBytes=" + receiverQueueBytes : "") +
 				", error=" + (logErrorMessage ? inboundError : (inboundError != null)) +
 				']';
 	}
 
+	static int readableBytes(Object msg) {
+		if (msg instanceof ByteBuf) {
+			return ((ByteBuf) msg).readableBytes();
+		}
+		if (msg instanceof ByteBufHolder) {
+			return ((ByteBufHolder) msg).content().readableBytes();
+		}
+		return 0;
+	}
+
+	@Nullable
+	static InboundBufferWatermarks watermarks(Channel channel) {
+		InboundBufferWatermarks watermarks = channel.attr(InboundBufferWatermarks.KEY).get();
+		// e.g. HTTP/2 streams inherit the configuration of the connection
+		if (watermarks == null && channel.parent() != null) {
+			watermarks = channel.parent().attr(InboundBufferWatermarks.KEY).get();
+		}
+		return watermarks;
+	}
+
 	static final AtomicReferenceFieldUpdater<FluxReceive, IntConsumer> CANCEL =
 			AtomicReferenceFieldUpdater.newUpdater(FluxReceive.class,
 					IntConsumer.class,
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import io.netty.util.AttributeKey;
+
+/**
+ * The low and high watermarks, in bytes, of the inbound messages buffered for a
+ * {@link reactor.netty.NettyInbound#receive()} subscriber that has not requested them yet.
+ * <p>
+ * When the watermarks are configured, reading from the connection is suspended as soon as the readable bytes
+ * of the buffered messages reach the high watermark, and it is resumed when they drop to the low watermark.
+ * The buffered bytes can exceed the high watermark by at most the bytes of one read operation.
+ * Without watermarks, reading is suspended based on the number of the buffered messages only.
+ *
+ * @since 1.2.0
+ */
+public final class InboundBufferWatermarks {
+
+	/**
+	 * Creates a new {@link InboundBufferWatermarks}.
+	 *
+	 * @param low the number of buffered bytes at or below which reading is resumed
+	 * @param high the number of buffered bytes at or above which reading is suspended
+	 * @return a new {@link InboundBufferWatermarks}
+	 * @throws IllegalArgumentException if {@code low} is negative, {@code high} is not positive
+	 * or {@code low} is greater than {@code high}
+	 */
+	public static InboundBufferWatermarks of(int low, int high) {
+		if (low < 0) {
+			throw new IllegalArgumentException("low must be greater or equal to 0");
+		}
+		if (high <= 0) {
+			throw new IllegalArgumentException("high must be strictly positive");
+		}
+		if (low > high) {
+			throw new IllegalArgumentException("low must be less or equal to high");
+		}
+		return new InboundBufferWatermarks(low, high);
+	}
+
+	/**
+	 * Returns the number of buffered bytes at or below which reading is resumed.
+	 *
+	 * @return the number of buffered bytes at or below which reading is resumed
+	 */
+	public int low() {
+		return low;
+	}
+
+	/**
+	 * Returns the number of buffered bytes at or above which reading is suspended.
+	 *
+	 * @return the number of buffered bytes at or above which reading is suspended
+	 */
+	public int high() {
+		return high;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		InboundBufferWatermarks that = (InboundBufferWatermarks) o;
+		return low == that.low && high == that.high;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * low + high;
+	}
+
+	@Override
+	public String toString() {
+		return "InboundBufferWatermarks(low: " + low + ", high: " + high + ')';
+	}
+
+	static final AttributeKey<InboundBufferWatermarks> KEY = AttributeKey.valueOf("$INBOUND_BUFFER_WATERMARKS");
+
+	final int low;
+	final int high;
+
+	InboundBufferWatermarks(int low, int high) {
+		this.low = low;
+		this.high = high;
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Statistic;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.ReactorNetty;
+import reactor.netty.internal.util.MapUtils;
+import reactor.util.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Function;
+
+import static reactor.netty.Metrics.REGISTRY;
+
+/**
+ * A bounded cache of meters, used by the built-in Micrometer recorders.
+ * <p>
+ * When the cache holds {@code maxSize} meters, the meters for new keys are looked up with the overflow key
+ * (e.g. {@link MeterKey#overflow()}), so that the number of registered meters does not grow without bounds when
+ * a tag has an unexpected cardinality (e.g. a misconfigured URI tag value or many remote addresses).
+ * <p>
+ * When an idle timeout is configured, the meters that did not record anything during this timeout are removed
+ * from the cache and from {@link reactor.netty.Metrics#REGISTRY}. A meter is considered idle when its measurements,
+ * as reported by the registry, did not change. The meters without a count (e.g. gauges) are never evicted.
+ * The users that keep a meter outside of this cache have to look it up again when {@link #evictions()} changes.
+ *
+ * @param <K> the key type
+ * @param <M> the meter type
+ * @since 1.2.0
+ */
+public final class MeterCache<K, M extends Meter> {
+
+	static final int DEFAULT_MAX_SIZE = Integer.parseInt(System.getProperty(ReactorNetty.METER_CACHE_MAX_SIZE, "10000"));
+
+	static final Duration DEFAULT_IDLE_TIMEOUT =
+			Duration.ofMillis(Long.parseLong(System.getProperty(ReactorNetty.METER_CACHE_IDLE_TIMEOUT, "0")));
+
+	/**
+	 * Creates a new {@link MeterCache} configured with {@link ReactorNetty#METER_CACHE_MAX_SIZE} and
+	 * {@link ReactorNetty#METER_CACHE_IDLE_TIMEOUT}.
+	 *
+	 * @param overflowKey the function returning the overflow key for a given key
+	 * @param <K> the key type
+	 * @param <M> the meter type
+	 * @return a new {@link MeterCache}
+	 */
+	public static <K, M extends Meter> MeterCache<K, M> create(Function<K, K> overflowKey) {
+		return create(DEFAULT_MAX_SIZE, DEFAULT_IDLE_TIMEOUT, overflowKey);
+	}
+
+	/**
+	 * Creates a new {@link MeterCache}.
+	 *
+	 * @param maxSize the maximum number of meters for keys other than the overflow keys
+	 * @param idleTimeout the time after which a meter that did not record anything is evicted,
+	 * {@link Duration#ZERO} to disable the eviction
+	 * @param overflowKey the function returning the overflow key for a given key
+	 * @param <K> the key type
+	 * @param <M> the meter type
+	 * @return a new {@link MeterCache}
+	 */
+	public static <K, M extends Meter> MeterCache<K, M> create(int maxSize, Duration idleTimeout, Function<K, K> overflowKey) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be strictly positive");
+		}
+		Objects.requireNonNull(idleTimeout, "idleTimeout");
+		Objects.requireNonNull(overflowKey, "overflowKey");
+		if (idleTimeout.isNegative()) {
+			throw new IllegalArgumentException("idleTimeout must be positive or zero");
+		}
+		MeterCache<K, M> cache = new MeterCache<>(maxSize, idleTimeout.toNanos(), overflowKey);
+		if (cache.idleTimeoutNanos > 0) {
+			Evictor.register(cache);
+		}
+		return cache;
+	}
+
+	final ConcurrentMap<K, M> meters = new ConcurrentHashMap<>();
+	final int maxSize;
+
+	volatile int evictions;
+	@SuppressWarnings("rawtypes")
+	static final AtomicIntegerFieldUpdater<MeterCache> EVICTIONS =
+			AtomicIntegerFieldUpdater.newUpdater(MeterCache.class, "evictions");
+
+	final long idleTimeoutNanos;
+	final Function<K, K> overflowKey;
+
+	// accessed by the evictor only
+	final Map<K, Activity> activities = new ConcurrentHashMap<>();
+
+	MeterCache(int maxSize, long idleTimeoutNanos, Function<K, K> overflowKey) {
+		this.maxSize = maxSize;
+		this.idleTimeoutNanos = idleTimeoutNanos;
+		this.overflowKey = overflowKey;
+	}
+
+	/**
+	 * Returns the meter for the given key, creating it with the given function if needed.
+	 * When the cache is full, the meter for the overflow key is returned instead and the function
+	 * is invoked with the overflow key.
+	 *
+	 * @param key the key
+	 * @param meterFactory the function creating and registering the meter for a key, the meter must be built
+	 * from the tag values of the key passed to the function
+	 * @return the meter or null if the function returned null
+	 */
+	@Nullable
+	public M computeIfAbsent(K key, Function<K, M> meterFactory) {
+		M meter = meters.get(key);
+		if (meter != null) {
+			return meter;
+		}
+		K k = meters.size() < maxSize ? key : overflowKey.apply(key);
+		return MapUtils.computeIfAbsent(meters, k, meterFactory);
+	}
+
+	/**
+	 * Returns a live view of the cached meters.
+	 *
+	 * @return a live view of the cached meters
+	 */
+	public ConcurrentMap<K, M> asMap() {
+		return meters;
+	}
+
+	/**
+	 * Returns the number of the meters evicted so far. As the evicted meters are removed from
+	 * {@link reactor.netty.Metrics#REGISTRY}, the meters kept outside of this cache (e.g. per connection)
+	 * must be looked up again when this number changes.
+	 *
+	 * @return the number of the meters evicted so far
+	 */
+	public int evictions() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the number of cached meters.
+	 *
+	 * @return the number of cached meters
+	 */
+	public int size() {
+		return meters.size();
+	}
+
+	/**
+	 * Removes the meters that did not record anything since the last invocation more than the idle timeout ago.
+	 *
+	 * @param now the current time in nanoseconds
+	 */
+	void evictIdle(long now) {
+		activities.keySet().retainAll(meters.keySet());
+		for (Map.Entry<K, M> entry : meters.entrySet()) {
+			double count = count(entry.getValue());
+			if (Double.isNaN(count)) {
+				continue;
+			}
+			Activity activity = activities.get(entry.getKey());
+			if (activity == null || activity.count != count) {
+				activities.put(entry.getKey(), new Activity(count, now));
+			}
+			else if (now - activity.lastChange >= idleTimeoutNanos) {
+				// removed from the registry first, so that a meter registered again for the same key
+				// after its removal from the cache is not removed from the registry
+				REGISTRY.remove(entry.getValue());
+				meters.remove(entry.getKey(), entry.getValue());
+				activities.remove(entry.getKey());
+				EVICTIONS.incrementAndGet(this);
+			}
+		}
+	}
+
+	/**
+	 * Returns a value that changes when the meter records something, i.e. the sum of its measurements
+	 * when it has a count, NaN otherwise.
+	 */
+	static double count(Meter meter) {
+		boolean hasCount = false;
+		double sum = 0;
+		for (Measurement measurement : meter.measure()) {
+			hasCount |= measurement.getStatistic() == Statistic.COUNT;
+			sum += measurement.getValue();
+		}
+		return hasCount ? sum : Double.NaN;
+	}
+
+	static final class Activity {
+
+		final double count;
+		final long lastChange;
+
+		Activity(double count, long lastChange) {
+			this.count = count;
+			this.lastChange = lastChange;
+		}
+	}
+
+	/**
+	 * Periodically evicts the idle meters of all meter caches with an idle timeout.
+	 */
+	static final class Evictor implements Runnable {
+
+		static final Evictor INSTANCE = new Evictor();
+
+		final Set<MeterCache<?, ?>> caches = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+		long intervalNanos = Long.MAX_VALUE;
+
+		@Nullable
+		Disposable task;
+
+		static synchronized void register(MeterCache<?, ?> cache) {
+			INSTANCE.caches.add(cache);
+			// the eviction runs at half the smallest idle timeout, with a minimum of 1s
+			long interval = Math.max(TimeUnit.SECONDS.toNanos(1), cache.idleTimeoutNanos / 2);
+			if (interval < INSTANCE.intervalNanos) {
+				INSTANCE.intervalNanos = interval;
+				if (INSTANCE.task != null) {
+					INSTANCE.task.dispose();
+				}
+				INSTANCE.task = Schedulers.parallel().schedulePeriodically(INSTANCE, interval, interval, TimeUnit.NANOSECONDS);
+			}
+		}
+
+		@Override
+		public void run() {
+			List<MeterCache<?, ?>> snapshot;
+			synchronized (caches) {
+				snapshot = new ArrayList<>(caches);
+			}
+			long now = System.nanoTime();
+			for (MeterCache<?, ?> cache : snapshot) {
+				cache.evictIdle(now);
+			}
+		}
+	}
+}
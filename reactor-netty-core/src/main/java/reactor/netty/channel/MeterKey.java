@@ -19,6 +19,8 @@ import reactor.util.annotation.Nullable;
 
 import java.util.Objects;
 
+import static reactor.netty.Metrics.OVERFLOW;
+
 /**
  * Contains meters' tags values. Used as a key when caching meters.
  *
@@ -68,6 +70,73 @@ public final class MeterKey {
 		this.status = status;
 	}
 
+	/**
+	 * Returns the requested URI.
+	 *
+	 * @return the requested URI
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public String uri() {
+		return uri;
+	}
+
+	/**
+	 * Returns the remote address.
+	 *
+	 * @return the remote address
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public String remoteAddress() {
+		return remoteAddress;
+	}
+
+	/**
+	 * Returns the proxy address.
+	 *
+	 * @return the proxy address
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public String proxyAddress() {
+		return proxyAddress;
+	}
+
+	/**
+	 * Returns the HTTP method.
+	 *
+	 * @return the HTTP method
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public String method() {
+		return method;
+	}
+
+	/**
+	 * Returns the HTTP status.
+	 *
+	 * @return the HTTP status
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public String status() {
+		return status;
+	}
+
+	/**
+	 * Returns the key of the overflow bucket for this key, i.e. the URI and the remote address, when present,
+	 * are replaced with {@link reactor.netty.Metrics#OVERFLOW}. The method and the status are preserved.
+	 *
+	 * @return the key of the overflow bucket for this key
+	 * @since 1.2.0
+	 */
+	public MeterKey overflow() {
+		return new MeterKey(uri != null ? OVERFLOW : null, remoteAddress != null ? OVERFLOW : null,
+				proxyAddress, method, status);
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
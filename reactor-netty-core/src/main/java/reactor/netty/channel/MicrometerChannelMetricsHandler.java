@@ -16,6 +16,8 @@
 package reactor.netty.channel;
 
 import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.Observation;
 import io.netty.channel.ChannelHandler;
@@ -63,6 +65,20 @@ public final class MicrometerChannelMetricsHandler extends AbstractChannelMetric
 
 	final MicrometerChannelMetricsRecorder recorder;
 
+	// The meters are resolved on first use and cached for the connection, so that recording the data received/sent
+	// does not format the addresses and look up the recorder caches on every read/write.
+	// The cached meter is reused as long as the address is the same instance (always the case except for UDP servers)
+	// and no meter was evicted from the recorder cache, as an evicted meter is removed from the registry.
+	SocketAddress dataReceivedAddress;
+	int dataReceivedEvictions;
+	DistributionSummary dataReceived;
+	SocketAddress dataSentAddress;
+	int dataSentEvictions;
+	DistributionSummary dataSent;
+	SocketAddress errorsAddress;
+	int errorsEvictions;
+	Counter errors;
+
 	MicrometerChannelMetricsHandler(MicrometerChannelMetricsRecorder recorder, @Nullable SocketAddress remoteAddress, boolean onServer) {
 		super(remoteAddress, onServer);
 		this.recorder = recorder;
@@ -82,6 +98,64 @@ public final class MicrometerChannelMetricsHandler extends AbstractChannelMetric
 		return recorder;
 	}
 
+	@Override
+	protected void recordException(ChannelHandlerContext ctx, SocketAddress address) {
+		if (!recorder.connectionMetersCacheable) {
+			super.recordException(ctx, address);
+			return;
+		}
+		int evictions = recorder.errorsCache.evictions();
+		if (address != errorsAddress || evictions != errorsEvictions) {
+			errors = recorder.getErrorsCounter(address, proxyAddressTag());
+			errorsAddress = address;
+			errorsEvictions = evictions;
+		}
+		Counter c = errors;
+		if (c != null) {
+			c.increment();
+		}
+	}
+
+	@Override
+	protected void recordRead(ChannelHandlerContext ctx, SocketAddress address, long bytes) {
+		if (!recorder.connectionMetersCacheable) {
+			super.recordRead(ctx, address, bytes);
+			return;
+		}
+		int evictions = recorder.dataReceivedCache.evictions();
+		if (address != dataReceivedAddress || evictions != dataReceivedEvictions) {
+			dataReceived = recorder.getDataReceivedDistributionSummary(address, proxyAddressTag());
+			dataReceivedAddress = address;
+			dataReceivedEvictions = evictions;
+		}
+		DistributionSummary ds = dataReceived;
+		if (ds != null) {
+			ds.record(bytes);
+		}
+	}
+
+	@Override
+	protected void recordWrite(ChannelHandlerContext ctx, SocketAddress address, long bytes) {
+		if (!recorder.connectionMetersCacheable) {
+			super.recordWrite(ctx, address, bytes);
+			return;
+		}
+		int evictions = recorder.dataSentCache.evictions();
+		if (address != dataSentAddress || evictions != dataSentEvictions) {
+			dataSent = recorder.getDataSentDistributionSummary(address, proxyAddressTag());
+			dataSentAddress = address;
+			dataSentEvictions = evictions;
+		}
+		DistributionSummary ds = dataSent;
+		if (ds != null) {
+			ds.record(bytes);
+		}
+	}
+
+	String proxyAddressTag() {
+		return proxyAddress == null ? NA : formatSocketAddress(proxyAddress);
+	}
+
 	// ConnectMetricsHandler is Observation.Context and ChannelOutboundHandler in order to reduce allocations,
 	// this is invoked on every connection establishment
 	// This handler is not shared and as such it is different object per connection.
@@ -31,8 +31,10 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.LongAdder;
 
 import static reactor.netty.Metrics.ADDRESS_RESOLVER;
+import static reactor.netty.Metrics.CONNECTIONS_ACCEPTED;
 import static reactor.netty.Metrics.CONNECTIONS_TOTAL;
 import static reactor.netty.Metrics.CONNECT_TIME;
+import static reactor.netty.Metrics.DATA_COALESCED;
 import static reactor.netty.Metrics.DATA_RECEIVED;
 import static reactor.netty.Metrics.DATA_SENT;
 import static reactor.netty.Metrics.ERRORS;
@@ -51,24 +53,34 @@ import static reactor.netty.Metrics.formatSocketAddress;
  * @since 0.9
  */
 public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder {
-	final ConcurrentMap<MeterKey, DistributionSummary> dataReceivedCache = new ConcurrentHashMap<>();
+	final MeterCache<MeterKey, DistributionSummary> dataReceivedCache = MeterCache.create(MeterKey::overflow);
 
-	final ConcurrentMap<MeterKey, DistributionSummary> dataSentCache = new ConcurrentHashMap<>();
+	final MeterCache<MeterKey, DistributionSummary> dataSentCache = MeterCache.create(MeterKey::overflow);
 
-	final ConcurrentMap<MeterKey, Counter> errorsCache = new ConcurrentHashMap<>();
+	final MeterCache<MeterKey, DistributionSummary> dataCoalescedCache = MeterCache.create(MeterKey::overflow);
 
-	final ConcurrentMap<MeterKey, Timer> connectTimeCache = new ConcurrentHashMap<>();
+	final MeterCache<MeterKey, Counter> errorsCache = MeterCache.create(MeterKey::overflow);
 
-	final ConcurrentMap<MeterKey, Timer> tlsHandshakeTimeCache = new ConcurrentHashMap<>();
+	final MeterCache<MeterKey, Timer> connectTimeCache = MeterCache.create(MeterKey::overflow);
 
-	final ConcurrentMap<MeterKey, Timer> addressResolverTimeCache = new ConcurrentHashMap<>();
+	final MeterCache<MeterKey, Timer> tlsHandshakeTimeCache = MeterCache.create(MeterKey::overflow);
+
+	final MeterCache<MeterKey, Timer> addressResolverTimeCache = MeterCache.create(MeterKey::overflow);
 
 	final ConcurrentMap<String, LongAdder> totalConnectionsCache = new ConcurrentHashMap<>();
 
+	final ConcurrentMap<MeterKey, Counter> connectionsAcceptedCache = new ConcurrentHashMap<>();
+
 	final String name;
 	final String protocol;
 	final boolean onServer;
 
+	/**
+	 * Whether the meters recording the data received/sent and the errors can be resolved once per connection
+	 * and cached by {@link MicrometerChannelMetricsHandler}, i.e. the methods recording them are not overridden.
+	 */
+	final boolean connectionMetersCacheable;
+
 	public MicrometerChannelMetricsRecorder(String name, String protocol) {
 		this(name, protocol, true);
 	}
@@ -77,6 +89,7 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 		this.name = name;
 		this.protocol = protocol;
 		this.onServer = onServer;
+		this.connectionMetersCacheable = connectionMetersCacheable(getClass());
 	}
 
 	@Override
@@ -90,22 +103,27 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 	}
 
 	void recordDataReceived(SocketAddress remoteAddress, @Nullable String proxyAddress, long bytes) {
+		DistributionSummary ds = getDataReceivedDistributionSummary(remoteAddress, proxyAddress);
+		if (ds != null) {
+			ds.record(bytes);
+		}
+	}
+
+	@Nullable
+	final DistributionSummary getDataReceivedDistributionSummary(SocketAddress remoteAddress, @Nullable String proxyAddress) {
 		String address = formatSocketAddress(remoteAddress);
 		MeterKey meterKey = new MeterKey(null, address, proxyAddress, null, null);
-		DistributionSummary ds = MapUtils.computeIfAbsent(dataReceivedCache, meterKey, key -> {
+		return dataReceivedCache.computeIfAbsent(meterKey, key -> {
 			DistributionSummary.Builder builder =
 					DistributionSummary.builder(name + DATA_RECEIVED)
 					                   .baseUnit(ChannelMeters.DATA_RECEIVED.getBaseUnit())
 					                   .tags(ChannelMeters.ChannelMetersTags.URI.asString(), protocol,
-					                         ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), address);
+					                         ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), key.remoteAddress());
 			if (!onServer) {
-				builder.tag(ChannelMeters.ChannelMetersTags.PROXY_ADDRESS.asString(), proxyAddress);
+				builder.tag(ChannelMeters.ChannelMetersTags.PROXY_ADDRESS.asString(), key.proxyAddress());
 			}
 			return filter(builder.register(REGISTRY));
 		});
-		if (ds != null) {
-			ds.record(bytes);
-		}
 	}
 
 	@Override
@@ -119,19 +137,39 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 	}
 
 	void recordDataSent(SocketAddress remoteAddress, @Nullable String proxyAddress, long bytes) {
+		DistributionSummary ds = getDataSentDistributionSummary(remoteAddress, proxyAddress);
+		if (ds != null) {
+			ds.record(bytes);
+		}
+	}
+
+	@Nullable
+	final DistributionSummary getDataSentDistributionSummary(SocketAddress remoteAddress, @Nullable String proxyAddress) {
 		String address = formatSocketAddress(remoteAddress);
 		MeterKey meterKey = new MeterKey(null, address, proxyAddress, null, null);
-		DistributionSummary ds = MapUtils.computeIfAbsent(dataSentCache, meterKey, key -> {
+		return dataSentCache.computeIfAbsent(meterKey, key -> {
 			DistributionSummary.Builder builder =
 					DistributionSummary.builder(name + DATA_SENT)
 					                   .baseUnit(ChannelMeters.DATA_SENT.getBaseUnit())
 					                   .tags(ChannelMeters.ChannelMetersTags.URI.asString(), protocol,
-					                         ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), address);
+					                         ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), key.remoteAddress());
 			if (!onServer) {
-				builder.tag(ChannelMeters.ChannelMetersTags.PROXY_ADDRESS.asString(), proxyAddress);
+				builder.tag(ChannelMeters.ChannelMetersTags.PROXY_ADDRESS.asString(), key.proxyAddress());
 			}
 			return filter(builder.register(REGISTRY));
 		});
+	}
+
+	@Override
+	public void recordDataCoalesced(SocketAddress remoteAddress, long bytes) {
+		String address = formatSocketAddress(remoteAddress);
+		MeterKey meterKey = new MeterKey(null, address, null, null, null);
+		DistributionSummary ds = dataCoalescedCache.computeIfAbsent(meterKey,
+				key -> filter(DistributionSummary.builder(name + DATA_COALESCED)
+				                                 .baseUnit(ChannelMeters.DATA_COALESCED.getBaseUnit())
+				                                 .tags(ChannelMeters.ChannelMetersTags.URI.asString(), protocol,
+				                                       ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), key.remoteAddress())
+				                                 .register(REGISTRY)));
 		if (ds != null) {
 			ds.record(bytes);
 		}
@@ -148,20 +186,25 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 	}
 
 	void incrementErrorsCount(SocketAddress remoteAddress, @Nullable String proxyAddress) {
+		Counter c = getErrorsCounter(remoteAddress, proxyAddress);
+		if (c != null) {
+			c.increment();
+		}
+	}
+
+	@Nullable
+	final Counter getErrorsCounter(SocketAddress remoteAddress, @Nullable String proxyAddress) {
 		String address = formatSocketAddress(remoteAddress);
 		MeterKey meterKey = new MeterKey(null, address, proxyAddress, null, null);
-		Counter c = MapUtils.computeIfAbsent(errorsCache, meterKey, key -> {
+		return errorsCache.computeIfAbsent(meterKey, key -> {
 			Counter.Builder builder = Counter.builder(name + ERRORS)
 			                                 .tags(ChannelMeters.ChannelMetersTags.URI.asString(), protocol,
-			                                       ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), address);
+			                                       ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), key.remoteAddress());
 			if (!onServer) {
-				builder.tag(ChannelMeters.ChannelMetersTags.PROXY_ADDRESS.asString(), proxyAddress);
+				builder.tag(ChannelMeters.ChannelMetersTags.PROXY_ADDRESS.asString(), key.proxyAddress());
 			}
 			return filter(builder.register(REGISTRY));
 		});
-		if (c != null) {
-			c.increment();
-		}
 	}
 
 	@Override
@@ -186,9 +229,9 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 	@Deprecated
 	public final Timer getTlsHandshakeTimer(String name, @Nullable String address, String status) {
 		MeterKey meterKey = new MeterKey(null, address, null, null, status);
-		return MapUtils.computeIfAbsent(tlsHandshakeTimeCache, meterKey,
+		return tlsHandshakeTimeCache.computeIfAbsent(meterKey,
 				key -> filter(Timer.builder(name)
-				                   .tags(REMOTE_ADDRESS, address, STATUS, status)
+				                   .tags(REMOTE_ADDRESS, key.remoteAddress(), STATUS, status)
 				                   .register(REGISTRY)));
 	}
 
@@ -212,10 +255,10 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 	@Nullable
 	public final Timer getTlsHandshakeTimer(String name, @Nullable String remoteAddress, @Nullable String proxyAddress, String status) {
 		MeterKey meterKey = new MeterKey(null, remoteAddress, proxyAddress, null, status);
-		return MapUtils.computeIfAbsent(tlsHandshakeTimeCache, meterKey, key -> {
-			Timer.Builder builder = Timer.builder(name).tags(REMOTE_ADDRESS, remoteAddress, STATUS, status);
+		return tlsHandshakeTimeCache.computeIfAbsent(meterKey, key -> {
+			Timer.Builder builder = Timer.builder(name).tags(REMOTE_ADDRESS, key.remoteAddress(), STATUS, status);
 			if (!onServer) {
-				builder.tag(PROXY_ADDRESS, proxyAddress);
+				builder.tag(PROXY_ADDRESS, key.proxyAddress());
 			}
 			return filter(builder.register(REGISTRY));
 		});
@@ -240,9 +283,9 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 	@Nullable
 	final Timer getConnectTimer(String name, @Nullable String remoteAddress, @Nullable String proxyAddress, String status) {
 		MeterKey meterKey = new MeterKey(null, remoteAddress, proxyAddress, null, status);
-		return MapUtils.computeIfAbsent(connectTimeCache, meterKey,
+		return connectTimeCache.computeIfAbsent(meterKey,
 				key -> filter(Timer.builder(name)
-				                   .tags(REMOTE_ADDRESS, remoteAddress, PROXY_ADDRESS, proxyAddress, STATUS, status)
+				                   .tags(REMOTE_ADDRESS, key.remoteAddress(), PROXY_ADDRESS, key.proxyAddress(), STATUS, status)
 				                   .register(REGISTRY)));
 	}
 
@@ -258,9 +301,9 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 	@Nullable
 	public final Timer getResolveAddressTimer(String name, @Nullable String address, String status) {
 		MeterKey meterKey = new MeterKey(null, address, null, null, status);
-		return MapUtils.computeIfAbsent(addressResolverTimeCache, meterKey,
+		return addressResolverTimeCache.computeIfAbsent(meterKey,
 				key -> filter(Timer.builder(name)
-				                   .tags(REMOTE_ADDRESS, address, STATUS, status)
+				                   .tags(REMOTE_ADDRESS, key.remoteAddress(), STATUS, status)
 				                   .register(REGISTRY)));
 	}
 
@@ -280,6 +323,21 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 		}
 	}
 
+	@Override
+	public void recordServerConnectionAccepted(SocketAddress serverAddress, String acceptor) {
+		String address = formatSocketAddress(serverAddress);
+		MeterKey meterKey = new MeterKey(acceptor, address, null, null, null);
+		Counter c = MapUtils.computeIfAbsent(connectionsAcceptedCache, meterKey,
+				key -> filter(Counter.builder(name + CONNECTIONS_ACCEPTED)
+				                     .tags(ChannelMeters.ConnectionsAcceptedMeterTags.URI.asString(), protocol,
+				                           ChannelMeters.ConnectionsAcceptedMeterTags.LOCAL_ADDRESS.asString(), address,
+				                           ChannelMeters.ConnectionsAcceptedMeterTags.ACCEPTOR.asString(), acceptor)
+				                     .register(REGISTRY)));
+		if (c != null) {
+			c.increment();
+		}
+	}
+
 	@Nullable
 	protected static <M extends Meter> M filter(M meter) {
 		if (meter instanceof NoopMeter) {
@@ -298,6 +356,25 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 		return protocol;
 	}
 
+	static boolean connectionMetersCacheable(Class<?> recorderClass) {
+		try {
+			return notOverridden(recorderClass, "recordDataReceived", SocketAddress.class, long.class) &&
+					notOverridden(recorderClass, "recordDataReceived", SocketAddress.class, SocketAddress.class, long.class) &&
+					notOverridden(recorderClass, "recordDataSent", SocketAddress.class, long.class) &&
+					notOverridden(recorderClass, "recordDataSent", SocketAddress.class, SocketAddress.class, long.class) &&
+					notOverridden(recorderClass, "incrementErrorsCount", SocketAddress.class) &&
+					notOverridden(recorderClass, "incrementErrorsCount", SocketAddress.class, SocketAddress.class);
+		}
+		catch (NoSuchMethodException | SecurityException e) {
+			return false;
+		}
+	}
+
+	static boolean notOverridden(Class<?> recorderClass, String methodName, Class<?>... parameterTypes)
+			throws NoSuchMethodException {
+		return recorderClass.getMethod(methodName, parameterTypes).getDeclaringClass() == MicrometerChannelMetricsRecorder.class;
+	}
+
 	@Nullable
 	LongAdder getTotalConnectionsAdder(SocketAddress serverAddress) {
 		String address = formatSocketAddress(serverAddress);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2019-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -60,7 +60,20 @@ abstract class MonoSend<I, O> extends Mono<Void> {
 
 	static final int                    MAX_SIZE    = 128;
 
-	static final int                    REFILL_SIZE = MAX_SIZE / 2;
+	/**
+	 * Whether the demand is sized from {@link Channel#bytesBeforeUnwritable()} and the average message size.
+	 */
+	static final boolean                BYTE_AWARE_DEMAND = Boolean.getBoolean(ReactorNetty.SEND_BYTE_AWARE_DEMAND);
+
+	/**
+	 * The minimum demand when sized from the message size, also the initial demand as the size is not yet known.
+	 */
+	static final int                    MIN_DEMAND  = 4;
+
+	/**
+	 * The maximum demand when sized from the message size.
+	 */
+	static final int                    MAX_DEMAND  = 4 * MAX_SIZE;
 
 	static final Function<ByteBuf, ByteBuf> TRANSFORMATION_FUNCTION_BB =
 		msg -> {
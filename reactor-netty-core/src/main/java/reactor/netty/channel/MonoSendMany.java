@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2019-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package reactor.netty.channel;
 
+import java.net.SocketAddress;
 import java.nio.channels.ClosedChannelException;
 import java.util.AbstractMap;
 import java.util.Map;
@@ -35,10 +36,12 @@ import io.netty.buffer.ByteBufHolder;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.DefaultChannelPromise;
 import io.netty.channel.EventLoop;
+import io.netty.util.AttributeKey;
 import io.netty.util.IllegalReferenceCountException;
 import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.Future;
@@ -50,6 +53,7 @@ import reactor.core.Exceptions;
 import reactor.core.Fuseable;
 import reactor.core.Scannable;
 import reactor.core.publisher.Operators;
+import reactor.netty.NettyPipeline;
 import reactor.util.annotation.Nullable;
 import reactor.util.concurrent.Queues;
 import reactor.util.context.Context;
@@ -83,8 +87,11 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 		return new MonoSendMany<>(source, channel, predicate, TRANSFORMATION_FUNCTION, CONSUMER_NOCHECK_CLEANUP, SIZE_OF);
 	}
 
+	static final AttributeKey<Integer> WRITE_COALESCING_THRESHOLD = AttributeKey.valueOf("$WRITE_COALESCING_THRESHOLD");
+
 	final Publisher<? extends I> source;
 	final Predicate<I> predicate;
+	final boolean byteAwareDemand;
 
 	MonoSendMany(Publisher<? extends I> source,
 			Channel channel,
@@ -92,9 +99,20 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 			Function<? super I, ? extends O> transformer,
 			Consumer<? super I> sourceCleanup,
 			ToIntFunction<O> sizeOf) {
+		this(source, channel, predicate, transformer, sourceCleanup, sizeOf, BYTE_AWARE_DEMAND);
+	}
+
+	MonoSendMany(Publisher<? extends I> source,
+			Channel channel,
+			Predicate<I> predicate,
+			Function<? super I, ? extends O> transformer,
+			Consumer<? super I> sourceCleanup,
+			ToIntFunction<O> sizeOf,
+			boolean byteAwareDemand) {
 		super(channel, transformer, sourceCleanup, sizeOf);
 		this.source = Objects.requireNonNull(source, "source publisher cannot be null");
 		this.predicate = Objects.requireNonNull(predicate, "predicate cannot be null");
+		this.byteAwareDemand = byteAwareDemand;
 	}
 
 	@Override
@@ -115,6 +133,32 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 		return null;
 	}
 
+	static int coalescingThreshold(Channel channel) {
+		Integer threshold = channel.attr(WRITE_COALESCING_THRESHOLD).get();
+		// e.g. HTTP/2 streams inherit the configuration of the connection
+		if (threshold == null && channel.parent() != null) {
+			threshold = channel.parent().attr(WRITE_COALESCING_THRESHOLD).get();
+		}
+		return threshold != null ? threshold : 0;
+	}
+
+	@Nullable
+	static ChannelMetricsRecorder metricsRecorder(Channel channel) {
+		ChannelHandler handler = channel.pipeline().get(NettyPipeline.ChannelMetricsHandler);
+		if (handler == null && channel.parent() != null) {
+			handler = channel.parent().pipeline().get(NettyPipeline.ChannelMetricsHandler);
+		}
+		return handler instanceof AbstractChannelMetricsHandler ? ((AbstractChannelMetricsHandler) handler).recorder() : null;
+	}
+
+	static SocketAddress remoteAddress(Channel channel) {
+		SocketAddress remoteAddress = channel.remoteAddress();
+		if (remoteAddress == null && channel.parent() != null) {
+			remoteAddress = channel.parent().remoteAddress();
+		}
+		return remoteAddress;
+	}
+
 	static final class SendManyInner<I, O> implements CoreSubscriber<I>, Subscription,
 	                                                  Fuseable, Context, Consumer<I>,
 	                                                  ChannelFutureListener, Runnable, Scannable, ChannelPromise {
@@ -142,13 +186,25 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 
 		int nextRequest;
 
+		// the moving average of the written messages size, used only with the byte aware demand
+		int averageSize;
+
+		// the buffers smaller than the threshold are merged, 0 when the write coalescing is disabled
+		final int coalescingThreshold;
+		@Nullable
+		final ChannelMetricsRecorder coalescingRecorder;
+		ByteBuf coalescing;
+		int coalescedMessages;
+
 		SendManyInner(MonoSendMany<I, O> parent, CoreSubscriber<? super Void> actual) {
 			this.parent = parent;
 			this.actual = actual;
 			this.actualContext = actual.currentContext();
-			this.requested = MAX_SIZE;
+			this.requested = parent.byteAwareDemand ? MIN_DEMAND : MAX_SIZE;
 			this.ctx = parent.ctx;
 			this.eventLoop = ctx.channel().eventLoop();
+			this.coalescingThreshold = coalescingThreshold(ctx.channel());
+			this.coalescingRecorder = coalescingThreshold > 0 ? metricsRecorder(ctx.channel()) : null;
 
 			this.asyncFlush = new AsyncFlush();
 
@@ -244,14 +300,14 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 						sourceMode = Fuseable.ASYNC;
 						queue = f;
 						actual.onSubscribe(this);
-						s.request(MAX_SIZE);
+						s.request(requested);
 						return;
 					}
 				}
 
-				queue = Queues.<I>get(MAX_SIZE).get();
+				queue = Queues.<I>get(parent.byteAwareDemand ? MAX_DEMAND : MAX_SIZE).get();
 				actual.onSubscribe(this);
-				s.request(MAX_SIZE);
+				s.request(requested);
 			}
 			else {
 				queue = Queues.<I>empty().get();
@@ -301,6 +357,7 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 						O encodedMessage = parent.transformer.apply(sourceMessage);
 						if (encodedMessage == null) {
 							if (parent.predicate.test(sourceMessage)) {
+								writeCoalesced();
 								nextRequest++;
 								needFlush = false;
 								ctx.flush();
@@ -316,6 +373,19 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 							nextRequest++;
 							continue;
 						}
+						if (parent.byteAwareDemand && readableBytes > 0) {
+							averageSize = averageSize == 0 ? readableBytes : averageSize + ((readableBytes - averageSize) >> 3);
+						}
+						if (readableBytes < coalescingThreshold && encodedMessage instanceof ByteBuf) {
+							coalesce((ByteBuf) encodedMessage, readableBytes);
+							if (parent.predicate.test(sourceMessage)) {
+								writeCoalesced();
+								needFlush = false;
+								ctx.flush();
+							}
+							continue;
+						}
+						writeCoalesced();
 						pending++;
 						//"FutureReturnValueIgnored" this is deliberate
 						ctx.write(encodedMessage, this);
@@ -329,6 +399,9 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 						}
 					}
 
+					// the merged buffers are never kept across the drain loops, so that they are not delayed
+					writeCoalesced();
+
 					if (needFlush && pending != 0) {
 						needFlush = false;
 						eventLoop.execute(asyncFlush);
@@ -395,6 +468,12 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 			   .closeFuture()
 			   .removeListener(this);
 
+			ByteBuf coalescing = this.coalescing;
+			if (coalescing != null) {
+				this.coalescing = null;
+				coalescing.release();
+			}
+
 			Queue<I> queue = this.queue;
 			if (queue == null) {
 				return;
@@ -415,6 +494,100 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 			return pending == 0 && terminalSignal != null;
 		}
 
+		/**
+		 * Adds a small buffer to the buffer being coalesced. The first buffer is kept as is, a pooled direct buffer
+		 * is allocated when a second buffer has to be merged. The buffer being coalesced is written when the new buffer
+		 * does not fit. Only the first buffer of a merged buffer takes a write slot, a new message is requested
+		 * for each of the other buffers.
+		 */
+		void coalesce(ByteBuf msg, int readableBytes) {
+			ByteBuf coalescing = this.coalescing;
+			if (coalescing != null && coalescing.readableBytes() + readableBytes > coalescingThreshold) {
+				writeCoalesced();
+				coalescing = null;
+			}
+
+			if (coalescing == null) {
+				this.coalescing = msg;
+				coalescedMessages = 1;
+				return;
+			}
+
+			try {
+				if (coalescedMessages == 1) {
+					ByteBuf buffer = ctx.alloc().directBuffer(coalescingThreshold);
+					this.coalescing = buffer;
+					buffer.writeBytes(coalescing);
+					coalescing.release();
+					coalescing = buffer;
+				}
+				coalescing.writeBytes(msg);
+			}
+			finally {
+				msg.release();
+			}
+			coalescedMessages++;
+			nextRequest++;
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void writeCoalesced() {
+			ByteBuf coalescing = this.coalescing;
+			if (coalescing == null) {
+				return;
+			}
+			this.coalescing = null;
+
+			int readableBytes = coalescing.readableBytes();
+			if (coalescedMessages > 1 && coalescingRecorder != null) {
+				coalescingRecorder.recordDataCoalesced(remoteAddress(ctx.channel()), readableBytes);
+			}
+
+			pending++;
+			//"FutureReturnValueIgnored" this is deliberate
+			ctx.write(coalescing, this);
+
+			if (!ctx.channel().isWritable() || readableBytes > ctx.channel().bytesBeforeUnwritable()) {
+				needFlush = false;
+				ctx.flush();
+			}
+			else {
+				needFlush = true;
+			}
+		}
+
+		/**
+		 * Returns the maximum number of messages requested and not yet written. With the byte aware demand,
+		 * this is the number of messages of average size that can be written before the channel becomes unwritable.
+		 */
+		int demandLimit() {
+			if (!parent.byteAwareDemand) {
+				return MAX_SIZE;
+			}
+			if (averageSize == 0) {
+				// the message size is unknown
+				return MAX_SIZE;
+			}
+			long limit = ctx.channel().bytesBeforeUnwritable() / averageSize;
+			return (int) Math.max(MIN_DEMAND, Math.min(MAX_DEMAND, limit));
+		}
+
+		/**
+		 * Refills the demand when at most half of the demand limit is outstanding.
+		 *
+		 * @return true if more messages have to be requested
+		 */
+		boolean refill() {
+			int limit = demandLimit();
+			if (requested <= limit / 2) {
+				int u = limit - requested;
+				requested += u;
+				nextRequest += u;
+				return true;
+			}
+			return false;
+		}
+
 		void trySchedule() {
 			int wip = wipIncrement(WIP, this);
 			if (wip != 0) {
@@ -590,19 +763,14 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 			pending--;
 
 			if (checkTerminated()) {
-				if (sourceMode == SYNC && requested <= REFILL_SIZE) {
-					int u = MAX_SIZE - requested;
-					requested += u;
-					nextRequest += u;
+				if (sourceMode == SYNC) {
+					refill();
 				}
 				trySchedule();
 				return true;
 			}
 
-			if (requested <= REFILL_SIZE) {
-				int u = MAX_SIZE - requested;
-				requested += u;
-				nextRequest += u;
+			if (refill()) {
 				trySchedule();
 			}
 			return true;
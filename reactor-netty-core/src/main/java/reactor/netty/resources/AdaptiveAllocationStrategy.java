@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.resources;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * {@link ConnectionProvider.AllocationStrategy} that adapts the number of connections that can be opened
+ * to the remote peer to the observed load, following an additive increase/multiplicative decrease (AIMD) scheme.
+ * <ul>
+ *     <li>When an acquisition waits longer than {@link Builder#acquireLatencyThreshold(Duration)} while all permitted
+ *     connections are in use and the response times are healthy, the limit grows by one connection.</li>
+ *     <li>When a connection is held longer than {@link Builder#latencyTolerance(double)} times the baseline,
+ *     i.e. the best recently observed time between acquiring and releasing a connection, the remote peer is considered
+ *     congested and the limit is multiplied by {@link Builder#backoffRatio(double)}, at most once per observed
+ *     response time.</li>
+ * </ul>
+ * The limit is always between {@link Builder#minConnections(int)} and {@link Builder#maxConnections(int)}.
+ * When the limit is reduced, no new connection is opened until the number of the live connections goes below it,
+ * the connections above the limit are not closed and are removed by the usual idle and life time eviction.
+ * <p>Each pool gets its own {@link #copy()} of the strategy, the limit is thus maintained per remote address.
+ * <p>The limit is adapted only by the HTTP/1.1 and TCP connection pools. The HTTP/2 connection pool does not report
+ * the acquisitions and the releases of the streams, with HTTP/2 the limit thus stays at
+ * {@link Builder#initialConnections(int)}.
+ *
+ * @since 1.2.0
+ */
+public final class AdaptiveAllocationStrategy implements ConnectionProvider.AllocationStrategy<AdaptiveAllocationStrategy> {
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link AdaptiveAllocationStrategy}.
+		 *
+		 * @return a new {@link AdaptiveAllocationStrategy}
+		 */
+		AdaptiveAllocationStrategy build();
+
+		/**
+		 * Configures the minimum duration of an acquisition, at or above which the acquisition is considered
+		 * as waiting for a connection.
+		 * Default to {@code 1ms}.
+		 *
+		 * @param acquireLatencyThreshold the minimum duration of an acquisition considered as waiting
+		 * @return {@code this}
+		 */
+		Builder acquireLatencyThreshold(Duration acquireLatencyThreshold);
+
+		/**
+		 * Configures the ratio applied to the limit when the remote peer is considered congested.
+		 * Default to {@code 0.9}.
+		 *
+		 * @param backoffRatio the ratio applied to the limit, must be between 0 and 1 (exclusive)
+		 * @return {@code this}
+		 */
+		Builder backoffRatio(double backoffRatio);
+
+		/**
+		 * Configures the initial limit, i.e. the number of connections that can be opened before any adaptation.
+		 * Default to {@link #minConnections(int)} if greater than {@code 0}, {@code 1} otherwise.
+		 *
+		 * @param initialConnections the initial limit
+		 * @return {@code this}
+		 */
+		Builder initialConnections(int initialConnections);
+
+		/**
+		 * Configures the ratio between the observed and the baseline response time
+		 * above which the remote peer is considered congested.
+		 * Default to {@code 2.0}.
+		 *
+		 * @param latencyTolerance the ratio, must be greater than 1
+		 * @return {@code this}
+		 */
+		Builder latencyTolerance(double latencyTolerance);
+
+		/**
+		 * Configures the maximum number of live connections to keep in the pool.
+		 * Default to {@link ConnectionProvider#DEFAULT_POOL_MAX_CONNECTIONS}.
+		 *
+		 * @param maxConnections the maximum number of live connections to keep in the pool
+		 * @return {@code this}
+		 */
+		Builder maxConnections(int maxConnections);
+
+		/**
+		 * Configures the minimum number of live connections to keep in the pool (can be the best effort).
+		 * Default to {@code 0}.
+		 *
+		 * @param minConnections the minimum number of live connections to keep in the pool
+		 * @return {@code this}
+		 */
+		Builder minConnections(int minConnections);
+	}
+
+	/**
+	 * Creates a builder for {@link AdaptiveAllocationStrategy}.
+	 *
+	 * @return a new {@link AdaptiveAllocationStrategy.Builder}
+	 */
+	public static AdaptiveAllocationStrategy.Builder builder() {
+		return new AdaptiveAllocationStrategy.Build();
+	}
+
+	/**
+	 * Returns the current limit, i.e. the number of connections that can be opened to the remote peer.
+	 *
+	 * @return the current limit
+	 */
+	public int limit() {
+		return limit;
+	}
+
+	@Override
+	public AdaptiveAllocationStrategy copy() {
+		return new AdaptiveAllocationStrategy(this);
+	}
+
+	@Override
+	public int estimatePermitCount() {
+		return Math.max(0, limit - permits);
+	}
+
+	@Override
+	public int getPermits(int desired) {
+		if (desired < 0) {
+			return 0;
+		}
+
+		for (;;) {
+			int granted = permits;
+			int target = Math.min(desired, limit - granted);
+			target = Math.min(maxConnections - granted, Math.max(target, minConnections - granted));
+			if (target <= 0) {
+				return 0;
+			}
+
+			if (PERMITS.compareAndSet(this, granted, granted + target)) {
+				return target;
+			}
+		}
+	}
+
+	@Override
+	public int permitGranted() {
+		return permits;
+	}
+
+	@Override
+	public int permitMinimum() {
+		return minConnections;
+	}
+
+	@Override
+	public int permitMaximum() {
+		return maxConnections;
+	}
+
+	@Override
+	public void returnPermits(int returned) {
+		for (;;) {
+			int granted = permits;
+			if (granted - returned < 0) {
+				throw new IllegalArgumentException("Too many permits returned: returned=" + returned +
+						", would bring to " + (granted - returned) + "/" + maxConnections);
+			}
+			if (PERMITS.compareAndSet(this, granted, granted - returned)) {
+				return;
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "AdaptiveAllocationStrategy{limit=" + limit + ", minConnections=" + minConnections +
+				", maxConnections=" + maxConnections + '}';
+	}
+
+	/**
+	 * Invoked when a connection is acquired from the pool.
+	 * Increases the limit when the acquisition waited while all permitted connections were in use,
+	 * unless the remote peer is considered congested.
+	 *
+	 * @param acquireNanos the duration of the acquisition
+	 */
+	void onAcquire(long acquireNanos) {
+		if (acquireNanos < acquireLatencyThresholdNanos || permits < limit) {
+			return;
+		}
+
+		long baseline = baselineNanos;
+		if (baseline != 0 && smoothedNanos > baseline * latencyTolerance) {
+			return;
+		}
+
+		for (;;) {
+			int l = limit;
+			if (l >= maxConnections || LIMIT.compareAndSet(this, l, l + 1)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Invoked when a connection is released to the pool.
+	 * Updates the baseline and decreases the limit when the remote peer is considered congested.
+	 *
+	 * @param responseNanos the duration between acquiring and releasing the connection
+	 */
+	void onRelease(long responseNanos) {
+		if (responseNanos <= 0) {
+			return;
+		}
+
+		long baseline = baselineNanos;
+		if (baseline == 0 || responseNanos < baseline) {
+			baseline = responseNanos;
+		}
+		else {
+			// The baseline slowly follows a lasting change of the response times
+			baseline += (responseNanos - baseline) >> 6;
+		}
+		baselineNanos = baseline;
+
+		long smoothed = smoothedNanos;
+		smoothedNanos = smoothed == 0 ? responseNanos : smoothed + ((responseNanos - smoothed) >> 3);
+
+		if (responseNanos <= baseline * latencyTolerance) {
+			return;
+		}
+
+		long now = System.nanoTime();
+		long lastDecrease = lastDecreaseNanos;
+		if (lastDecrease != 0 && now - lastDecrease < responseNanos) {
+			return;
+		}
+		lastDecreaseNanos = now;
+
+		for (;;) {
+			int l = limit;
+			int newLimit = Math.max(Math.max(minConnections, 1), (int) (l * backoffRatio));
+			if (newLimit >= l || LIMIT.compareAndSet(this, l, newLimit)) {
+				return;
+			}
+		}
+	}
+
+	final long acquireLatencyThresholdNanos;
+	final double backoffRatio;
+	final int initialConnections;
+	final double latencyTolerance;
+	final int maxConnections;
+	final int minConnections;
+
+	volatile long baselineNanos;
+	volatile long lastDecreaseNanos;
+	volatile long smoothedNanos;
+
+	volatile int limit;
+	static final AtomicIntegerFieldUpdater<AdaptiveAllocationStrategy> LIMIT =
+			AtomicIntegerFieldUpdater.newUpdater(AdaptiveAllocationStrategy.class, "limit");
+
+	volatile int permits;
+	static final AtomicIntegerFieldUpdater<AdaptiveAllocationStrategy> PERMITS =
+			AtomicIntegerFieldUpdater.newUpdater(AdaptiveAllocationStrategy.class, "permits");
+
+	AdaptiveAllocationStrategy(Build build) {
+		this.acquireLatencyThresholdNanos = build.acquireLatencyThreshold.toNanos();
+		this.backoffRatio = build.backoffRatio;
+		this.initialConnections = build.initialConnections > 0 ? build.initialConnections : Math.max(1, build.minConnections);
+		this.latencyTolerance = build.latencyTolerance;
+		this.maxConnections = build.maxConnections;
+		this.minConnections = build.minConnections;
+		LIMIT.lazySet(this, this.initialConnections);
+	}
+
+	AdaptiveAllocationStrategy(AdaptiveAllocationStrategy copy) {
+		this.acquireLatencyThresholdNanos = copy.acquireLatencyThresholdNanos;
+		this.backoffRatio = copy.backoffRatio;
+		this.initialConnections = copy.initialConnections;
+		this.latencyTolerance = copy.latencyTolerance;
+		this.maxConnections = copy.maxConnections;
+		this.minConnections = copy.minConnections;
+		LIMIT.lazySet(this, this.initialConnections);
+	}
+
+	static final class Build implements Builder {
+		static final Duration DEFAULT_ACQUIRE_LATENCY_THRESHOLD = Duration.ofMillis(1);
+		static final double DEFAULT_BACKOFF_RATIO = 0.9d;
+		static final double DEFAULT_LATENCY_TOLERANCE = 2.0d;
+		static final int DEFAULT_MAX_CONNECTIONS = ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS;
+		static final int DEFAULT_MIN_CONNECTIONS = 0;
+
+		Duration acquireLatencyThreshold = DEFAULT_ACQUIRE_LATENCY_THRESHOLD;
+		double backoffRatio = DEFAULT_BACKOFF_RATIO;
+		int initialConnections;
+		double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+		int maxConnections = DEFAULT_MAX_CONNECTIONS;
+		int minConnections = DEFAULT_MIN_CONNECTIONS;
+
+		@Override
+		public AdaptiveAllocationStrategy build() {
+			if (minConnections > maxConnections) {
+				throw new IllegalArgumentException("minConnections (" + minConnections + ")" +
+						" must be less than or equal to maxConnections (" + maxConnections + ")");
+			}
+			if (initialConnections > 0 && (initialConnections < minConnections || initialConnections > maxConnections)) {
+				throw new IllegalArgumentException("initialConnections (" + initialConnections + ")" +
+						" must be between minConnections (" + minConnections + ") and maxConnections (" + maxConnections + ")");
+			}
+			return new AdaptiveAllocationStrategy(this);
+		}
+
+		@Override
+		public Builder acquireLatencyThreshold(Duration acquireLatencyThreshold) {
+			Objects.requireNonNull(acquireLatencyThreshold, "acquireLatencyThreshold");
+			if (acquireLatencyThreshold.isNegative()) {
+				throw new IllegalArgumentException("acquireLatencyThreshold must be positive or zero");
+			}
+			this.acquireLatencyThreshold = acquireLatencyThreshold;
+			return this;
+		}
+
+		@Override
+		public Builder backoffRatio(double backoffRatio) {
+			if (!(backoffRatio > 0 && backoffRatio < 1)) {
+				throw new IllegalArgumentException("backoffRatio must be between 0 and 1 (exclusive)");
+			}
+			this.backoffRatio = backoffRatio;
+			return this;
+		}
+
+		@Override
+		public Builder initialConnections(int initialConnections) {
+			if (initialConnections < 1) {
+				throw new IllegalArgumentException("initialConnections must be strictly positive");
+			}
+			this.initialConnections = initialConnections;
+			return this;
+		}
+
+		@Override
+		public Builder latencyTolerance(double latencyTolerance) {
+			if (!(latencyTolerance > 1)) {
+				throw new IllegalArgumentException("latencyTolerance must be greater than 1");
+			}
+			this.latencyTolerance = latencyTolerance;
+			return this;
+		}
+
+		@Override
+		public Builder maxConnections(int maxConnections) {
+			if (maxConnections < 1) {
+				throw new IllegalArgumentException("maxConnections must be strictly positive");
+			}
+			this.maxConnections = maxConnections;
+			return this;
+		}
+
+		@Override
+		public Builder minConnections(int minConnections) {
+			if (minConnections < 0) {
+				throw new IllegalArgumentException("minConnections must be positive or zero");
+			}
+			this.minConnections = minConnections;
+			return this;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2018-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -199,6 +199,25 @@ public interface ConnectionProvider extends Disposable {
 			@Nullable Supplier<? extends SocketAddress> remoteAddress,
 			@Nullable AddressResolverGroup<?> resolverGroup);
 
+	/**
+	 * Establish the minimum number of idle connections configured with
+	 * {@link ConnectionPoolSpec#minIdleConnections(int)} to the specified remote address, so that the first
+	 * acquire operations do not wait for new connections.
+	 * <p>
+	 * This method has {@code NOOP} default implementation.
+	 * {@link ConnectionProvider} implementations may decide to provide more specific implementation.
+	 *
+	 * @param config the transport configuration
+	 * @param remoteAddress the {@link SocketAddress} to connect to
+	 * @param resolverGroup the resolver which will resolve the address of the unresolved named address
+	 * @return a {@link Mono} representing the completion of the warmup
+	 * @since 1.2.0
+	 */
+	default Mono<Void> warmup(TransportConfig config,
+			Supplier<? extends SocketAddress> remoteAddress,
+			AddressResolverGroup<?> resolverGroup) {
+		return Mono.empty();
+	}
 
 	/**
 	 * Dispose all connection pools for the specified remote address.
@@ -520,6 +539,8 @@ public interface ConnectionProvider extends Disposable {
 		BiFunction<Runnable, Duration, Disposable> pendingAcquireTimer;
 		AllocationStrategy<?> allocationStrategy;
 		BiPredicate<Connection, ConnectionMetadata> evictionPredicate;
+		boolean  eventLoopAffinity;
+		int      minIdleConnections;
 
 		/**
 		 * Returns {@link ConnectionPoolSpec} new instance with default properties.
@@ -546,6 +567,8 @@ public interface ConnectionProvider extends Disposable {
 			this.pendingAcquireTimer = copy.pendingAcquireTimer;
 			this.allocationStrategy = copy.allocationStrategy;
 			this.evictionPredicate = copy.evictionPredicate;
+			this.eventLoopAffinity = copy.eventLoopAffinity;
+			this.minIdleConnections = copy.minIdleConnections;
 		}
 
 		/**
@@ -582,6 +605,31 @@ public interface ConnectionProvider extends Disposable {
 			return get();
 		}
 
+		/**
+		 * Set the minimum number of idle connections that the connection pool keeps established in addition
+		 * to the acquired ones, up to the maximum number of connections. The missing connections are created
+		 * in the background, at the {@link #evictInBackground(Duration)} interval or every second
+		 * when the background eviction is disabled. The connections closed because of {@link #maxIdleTime(Duration)},
+		 * {@link #maxLifeTime(Duration)} or by the background eviction are thus replaced.
+		 * Use {@link reactor.netty.transport.ClientTransport#warmup(SocketAddress...)} to establish them before
+		 * the first requests.
+		 * <p>
+		 * This configuration is not applicable with a custom {@link #allocationStrategy(AllocationStrategy)}.
+		 * Default to {@code 0}.
+		 *
+		 * @param minIdleConnections the minimum number of idle connections (per connection pool)
+		 * @return {@literal this}
+		 * @throws IllegalArgumentException if minIdleConnections is negative
+		 * @since 1.2.0
+		 */
+		public final SPEC minIdleConnections(int minIdleConnections) {
+			if (minIdleConnections < 0) {
+				throw new IllegalArgumentException("Min Idle Connections value must be positive or zero");
+			}
+			this.minIdleConnections = minIdleConnections;
+			return get();
+		}
+
 		/**
 		 * Set the options to use for configuring {@link ConnectionProvider} the maximum number of registered
 		 * requests for acquire to keep in a pending queue
@@ -791,6 +839,34 @@ public interface ConnectionProvider extends Disposable {
 			return get();
 		}
 
+		/**
+		 * Whether to shard the pool of each remote address by event loop. When enabled, a connection is acquired
+		 * from and released to the pool of the caller event loop, so that the acquired connection is served by the same
+		 * event loop as the caller and no handoff between event loops is needed. When the pool of the caller event loop
+		 * has neither an idle connection nor a permit to create a new connection, an idle connection is taken
+		 * from the pool of another event loop, if any, otherwise a new connection is created on the event loop
+		 * of another pool that has a permit. A connection is thus always served by the event loop of its pool.
+		 * When the caller is not an event loop of the client {@link LoopResources}, the acquire operations are spread
+		 * over the pools of the event loops in round-robin order.
+		 * <p>
+		 * The maximum number of connections, the minimum number of idle connections and the maximum number
+		 * of pending acquire operations are divided between the event loops of the client {@link LoopResources},
+		 * the pools of all event loops sum up exactly to the configured values.
+		 * When the maximum number of connections is lower than the number of event loops, the pool is not sharded
+		 * and this configuration has no effect.
+		 * This configuration cannot be combined with a custom {@link #allocationStrategy(AllocationStrategy)},
+		 * the connection provider creation fails with an {@link IllegalArgumentException} otherwise.
+		 * Default to {@code false}.
+		 *
+		 * @param enable {@code true} to shard the pool of each remote address by event loop
+		 * @return {@literal this}
+		 * @since 1.2.0
+		 */
+		public final SPEC eventLoopAffinity(boolean enable) {
+			this.eventLoopAffinity = enable;
+			return get();
+		}
+
 		@Override
 		@SuppressWarnings("unchecked")
 		public SPEC get() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2020-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -110,8 +110,22 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 
 	static final AttributeKey<ConnectionObserver> OWNER = AttributeKey.valueOf("connectionOwner");
 
+	/**
+	 * Returns the {@link AdaptiveAllocationStrategy} of the pool or {@code null} when another strategy is used.
+	 */
+	@Nullable
+	static AdaptiveAllocationStrategy adaptiveAllocationStrategy(InstrumentedPool<?> pool) {
+		reactor.pool.AllocationStrategy allocationStrategy = pool.config().allocationStrategy();
+		if (allocationStrategy instanceof PoolFactory.DelegatingAllocationStrategy &&
+				((PoolFactory.DelegatingAllocationStrategy) allocationStrategy).delegate instanceof AdaptiveAllocationStrategy) {
+			return (AdaptiveAllocationStrategy) ((PoolFactory.DelegatingAllocationStrategy) allocationStrategy).delegate;
+		}
+		return null;
+	}
+
 	static final class DisposableAcquire
 			implements ConnectionObserver, Runnable, CoreSubscriber<PooledRef<PooledConnection>>, Disposable {
+		final AdaptiveAllocationStrategy adaptiveAllocationStrategy;
 		final Disposable.Composite cancellations;
 		final Context currentContext;
 		final ConnectionObserver obs;
@@ -121,6 +135,7 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 		final boolean retried;
 		final MonoSink<Connection> sink;
 
+		long acquireStart;
 		PooledRef<PooledConnection> pooledRef;
 		Subscription subscription;
 
@@ -131,6 +146,7 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 				InstrumentedPool<PooledConnection> pool,
 				MonoSink<Connection> sink,
 				Context currentContext) {
+			this.adaptiveAllocationStrategy = adaptiveAllocationStrategy(pool);
 			this.cancellations = Disposables.composite();
 			this.currentContext = currentContext;
 			this.obs = obs;
@@ -142,6 +158,7 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 		}
 
 		DisposableAcquire(DisposableAcquire parent) {
+			this.adaptiveAllocationStrategy = parent.adaptiveAllocationStrategy;
 			this.cancellations = parent.cancellations;
 			this.currentContext = parent.currentContext;
 			this.obs = parent.obs;
@@ -179,6 +196,12 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 			PooledConnection pooledConnection = value.poolable();
 			pooledConnection.pooledRef = pooledRef;
 
+			if (adaptiveAllocationStrategy != null) {
+				long now = System.nanoTime();
+				adaptiveAllocationStrategy.onAcquire(now - acquireStart);
+				pooledConnection.acquireTime = now;
+			}
+
 			Channel c = pooledConnection.channel;
 
 			if (!currentContext.isEmpty()) {
@@ -209,6 +232,9 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 		public void onSubscribe(Subscription s) {
 			if (Operators.validate(subscription, s)) {
 				this.subscription = s;
+				if (adaptiveAllocationStrategy != null) {
+					acquireStart = System.nanoTime();
+				}
 				cancellations.add(this);
 				if (!retried) {
 					sink.onCancel(cancellations);
@@ -383,6 +409,7 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 		final Sinks.Empty<Void> onTerminate;
 		final InstrumentedPool<PooledConnection> pool;
 
+		long acquireTime;
 		PooledRef<PooledConnection> pooledRef;
 
 		PooledConnection(Channel channel, InstrumentedPool<PooledConnection> pool) {
@@ -438,6 +465,14 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 					return;
 				}
 
+				if (acquireTime != 0) {
+					AdaptiveAllocationStrategy adaptiveAllocationStrategy = adaptiveAllocationStrategy(pool);
+					if (adaptiveAllocationStrategy != null) {
+						adaptiveAllocationStrategy.onRelease(System.nanoTime() - acquireTime);
+					}
+					acquireTime = 0;
+				}
+
 				pooledRef.release()
 				         .subscribe(
 				                 null,
@@ -19,6 +19,7 @@ import io.netty.channel.Channel;
 import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.resolver.AddressResolverGroup;
+import io.netty.util.concurrent.EventExecutor;
 import org.reactivestreams.Publisher;
 import reactor.core.CoreSubscriber;
 import reactor.core.Disposable;
@@ -51,13 +52,17 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -84,6 +89,7 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 	final Map<SocketAddress, PoolFactory<T>> poolFactoryPerRemoteHost = new HashMap<>();
 
 	final ConcurrentMap<PoolKey, InstrumentedPool<T>> channelPools = new ConcurrentHashMap<>();
+	final ConcurrentMap<EventLoopGroup, EventLoops> eventLoopsPerGroup = new ConcurrentHashMap<>();
 
 	final Builder builder;
 	final String name;
@@ -91,6 +97,7 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 	final Duration poolInactivity;
 	final Duration disposeTimeout;
 	final Map<SocketAddress, Integer> maxConnections = new HashMap<>();
+	final Duration idleConnectionsReplenishInterval;
 	Mono<Void> onDispose;
 
 	protected PooledConnectionProvider(Builder builder) {
@@ -109,8 +116,10 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 			poolFactoryPerRemoteHost.put(entry.getKey(), new PoolFactory<>(entry.getValue(), builder.disposeTimeout));
 			maxConnections.put(entry.getKey(), entry.getValue().maxConnections);
 		}
+		this.idleConnectionsReplenishInterval = idleConnectionsReplenishInterval();
 		this.onDispose = Mono.empty();
 		scheduleInactivePoolsDisposal();
+		scheduleIdleConnectionsReplenishment();
 	}
 
 	@Override
@@ -125,35 +134,7 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		Objects.requireNonNull(resolverGroup, "resolverGroup");
 		return Mono.create(sink -> {
 			SocketAddress remoteAddress = Objects.requireNonNull(remote.get(), "Remote Address supplier returned null");
-			PoolKey holder = new PoolKey(remoteAddress, config.channelHash());
 			PoolFactory<T> poolFactory = poolFactory(remoteAddress);
-			InstrumentedPool<T> pool = MapUtils.computeIfAbsent(channelPools, holder, poolKey -> {
-				if (log.isDebugEnabled()) {
-					log.debug("Creating a new [{}] client pool [{}] for [{}]", name, poolFactory, remoteAddress);
-				}
-
-				boolean metricsEnabled = poolFactory.metricsEnabled || config.metricsRecorder() != null;
-				String id = metricsEnabled ? poolKey.hashCode() + "" : null;
-
-				InstrumentedPool<T> newPool = metricsEnabled && Metrics.isMicrometerAvailable() ?
-						createPool(id, config, poolFactory, remoteAddress, resolverGroup) :
-						createPool(config, poolFactory, remoteAddress, resolverGroup);
-
-				if (metricsEnabled) {
-					// registrar is null when metrics are enabled on HttpClient level or
-					// with the `metrics(boolean metricsEnabled)` method on ConnectionProvider
-					if (poolFactory.registrar != null) {
-						poolFactory.registrar.get().registerMetrics(name, id, remoteAddress,
-								new DelegatingConnectionPoolMetrics(newPool.metrics()));
-					}
-					else if (Metrics.isMicrometerAvailable()) {
-						// work directly with the pool otherwise a weak reference is needed to ConnectionPoolMetrics
-						// we don't want to keep another map with weak references
-						registerDefaultMetrics(id, remoteAddress, newPool.metrics());
-					}
-				}
-				return newPool;
-			});
 
 			EventLoop eventLoop;
 			if (sink.contextView().hasKey(CONTEXT_CALLER_EVENTLOOP)) {
@@ -169,9 +150,33 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 				}
 			}
 
+			PoolKey holder;
+			InstrumentedPool<T> pool;
+			EventLoop connectionEventLoop;
+			EventLoops eventLoops = poolFactory.eventLoopAffinity ?
+					eventLoops(config.loopResources().onClient(config.isPreferNative())) : null;
+			if (eventLoops != null && isEventLoopAffine(poolFactory, eventLoops)) {
+				// Every acquire goes to the pool of an event loop, so that the pools of all event loops
+				// never exceed the configured limits
+				holder = new PoolKey(remoteAddress, config.channelHash(), eventLoops.shard(eventLoop));
+				pool = channelPool(holder, config, poolFactory, remoteAddress, resolverGroup);
+				Map.Entry<PoolKey, InstrumentedPool<T>> stolen = workStealing(holder, pool, eventLoops);
+				if (stolen != null) {
+					holder = stolen.getKey();
+					pool = stolen.getValue();
+				}
+				// New connections are created on the event loop of the pool
+				connectionEventLoop = holder.eventLoop;
+			}
+			else {
+				holder = new PoolKey(remoteAddress, config.channelHash());
+				pool = channelPool(holder, config, poolFactory, remoteAddress, resolverGroup);
+				connectionEventLoop = eventLoop;
+			}
+
 			Mono<PooledRef<T>> mono = pool.acquire(Duration.ofMillis(poolFactory.pendingAcquireTimeout));
-			if (eventLoop != null) {
-				mono = mono.contextWrite(ctx -> ctx.put(CONTEXT_CALLER_EVENTLOOP, eventLoop));
+			if (connectionEventLoop != null) {
+				mono = mono.contextWrite(ctx -> ctx.put(CONTEXT_CALLER_EVENTLOOP, connectionEventLoop));
 			}
 			Context currentContext = Context.of(sink.contextView());
 			if ((poolFactory.metricsEnabled || config.metricsRecorder() != null)
@@ -187,6 +192,42 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		});
 	}
 
+	/**
+	 * Establishes the minimum number of idle connections to the remote address, in the pool of each event loop
+	 * when the pools are event loop affine.
+	 */
+	@Override
+	public final Mono<Void> warmup(
+			TransportConfig config,
+			Supplier<? extends SocketAddress> remote,
+			AddressResolverGroup<?> resolverGroup) {
+		Objects.requireNonNull(config, "config");
+		Objects.requireNonNull(remote, "remoteAddress");
+		Objects.requireNonNull(resolverGroup, "resolverGroup");
+		return Mono.defer(() -> {
+			SocketAddress remoteAddress = Objects.requireNonNull(remote.get(), "Remote Address supplier returned null");
+			PoolFactory<T> poolFactory = poolFactory(remoteAddress);
+			if (poolFactory.minIdleConnections == 0) {
+				return Mono.empty();
+			}
+
+			List<Mono<Integer>> warmups = new ArrayList<>();
+			EventLoops eventLoops = poolFactory.eventLoopAffinity ?
+					eventLoops(config.loopResources().onClient(config.isPreferNative())) : null;
+			if (eventLoops != null && isEventLoopAffine(poolFactory, eventLoops)) {
+				for (EventLoop eventLoop : eventLoops.eventLoops) {
+					PoolKey holder = new PoolKey(remoteAddress, config.channelHash(), eventLoop);
+					warmups.add(warmup(holder, channelPool(holder, config, poolFactory, remoteAddress, resolverGroup)));
+				}
+			}
+			else {
+				PoolKey holder = new PoolKey(remoteAddress, config.channelHash());
+				warmups.add(warmup(holder, channelPool(holder, config, poolFactory, remoteAddress, resolverGroup)));
+			}
+			return Mono.when(warmups);
+		});
+	}
+
 	@Override
 	public final Mono<Void> disposeLater() {
 		return Mono.defer(() -> {
@@ -381,6 +422,185 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		}
 	}
 
+	final InstrumentedPool<T> channelPool(
+			PoolKey holder,
+			TransportConfig config,
+			PoolFactory<T> poolFactory,
+			SocketAddress remoteAddress,
+			AddressResolverGroup<?> resolverGroup) {
+		return MapUtils.computeIfAbsent(channelPools, holder, poolKey -> {
+			PoolFactory<T> factory;
+			if (poolKey.eventLoop != null) {
+				EventLoops eventLoops = eventLoops(config.loopResources().onClient(config.isPreferNative()));
+				factory = new PoolFactory<>(poolFactory, eventLoops.size(), eventLoops.indexOf(poolKey.eventLoop));
+			}
+			else {
+				factory = poolFactory;
+			}
+			if (log.isDebugEnabled()) {
+				if (poolKey.eventLoop != null) {
+					log.debug("Creating a new [{}] client pool [{}] for [{}] on [{}]", name, factory, remoteAddress, poolKey.eventLoop);
+				}
+				else {
+					log.debug("Creating a new [{}] client pool [{}] for [{}]", name, factory, remoteAddress);
+				}
+			}
+
+			boolean metricsEnabled = factory.metricsEnabled || config.metricsRecorder() != null;
+			String id = metricsEnabled ? poolKey.hashCode() + "" : null;
+
+			InstrumentedPool<T> newPool = metricsEnabled && Metrics.isMicrometerAvailable() ?
+					createPool(id, config, factory, remoteAddress, resolverGroup) :
+					createPool(config, factory, remoteAddress, resolverGroup);
+
+			if (metricsEnabled) {
+				// registrar is null when metrics are enabled on HttpClient level or
+				// with the `metrics(boolean metricsEnabled)` method on ConnectionProvider
+				if (factory.registrar != null) {
+					factory.registrar.get().registerMetrics(name, id, remoteAddress,
+							new DelegatingConnectionPoolMetrics(newPool.metrics()));
+				}
+				else if (Metrics.isMicrometerAvailable()) {
+					// work directly with the pool otherwise a weak reference is needed to ConnectionPoolMetrics
+					// we don't want to keep another map with weak references
+					registerDefaultMetrics(id, remoteAddress, newPool.metrics());
+				}
+			}
+			return newPool;
+		});
+	}
+
+	/**
+	 * Allocates the connections missing to reach the minimum number of idle connections of the pool.
+	 * New connections of an event loop affine pool are created on its event loop.
+	 */
+	static Mono<Integer> warmup(PoolKey holder, InstrumentedPool<?> pool) {
+		Mono<Integer> warmup = pool.warmup();
+		EventLoop eventLoop = holder.eventLoop;
+		return eventLoop != null ? warmup.contextWrite(ctx -> ctx.put(CONTEXT_CALLER_EVENTLOOP, eventLoop)) : warmup;
+	}
+
+	/**
+	 * Returns the pool of another event loop that has an idle connection, or otherwise a permit to allocate
+	 * a new connection, when the pool of the caller event loop has neither an idle connection nor a permit
+	 * to allocate a new connection. Otherwise returns {@code null}.
+	 * A new connection is always created on the event loop of the pool that stores it.
+	 */
+	@Nullable
+	final Map.Entry<PoolKey, InstrumentedPool<T>> workStealing(PoolKey key, InstrumentedPool<T> pool, EventLoops eventLoops) {
+		InstrumentedPool.PoolMetrics metrics = pool.metrics();
+		if (metrics.idleSize() > 0 || metrics.allocatedSize() < metrics.getMaxAllocatedSize()) {
+			return null;
+		}
+		Map.Entry<PoolKey, InstrumentedPool<T>> withPermit = null;
+		for (EventLoop eventLoop : eventLoops.eventLoops) {
+			if (eventLoop == key.eventLoop) {
+				continue;
+			}
+			PoolKey siblingKey = new PoolKey(key.holder, key.pipelineKey, eventLoop);
+			InstrumentedPool<T> sibling = channelPools.get(siblingKey);
+			if (sibling == null) {
+				continue;
+			}
+			InstrumentedPool.PoolMetrics siblingMetrics = sibling.metrics();
+			if (siblingMetrics.idleSize() > 0) {
+				if (log.isDebugEnabled()) {
+					log.debug("ConnectionProvider[name={}]: Acquiring an idle connection for [{}] from the pool of [{}]",
+							name, key.holder, eventLoop);
+				}
+				return new AbstractMap.SimpleImmutableEntry<>(siblingKey, sibling);
+			}
+			if (withPermit == null && siblingMetrics.allocatedSize() < siblingMetrics.getMaxAllocatedSize()) {
+				withPermit = new AbstractMap.SimpleImmutableEntry<>(siblingKey, sibling);
+			}
+		}
+		if (withPermit != null && log.isDebugEnabled()) {
+			log.debug("ConnectionProvider[name={}]: Acquiring a new connection for [{}] on [{}]",
+					name, key.holder, withPermit.getKey().eventLoop);
+		}
+		return withPermit;
+	}
+
+	/**
+	 * Returns the event loops of the client event loop group. They are computed once per group and
+	 * forgotten when the group terminates.
+	 */
+	@SuppressWarnings("FutureReturnValueIgnored")
+	final EventLoops eventLoops(EventLoopGroup group) {
+		EventLoops eventLoops = eventLoopsPerGroup.get(group);
+		if (eventLoops == null) {
+			EventLoops newEventLoops = new EventLoops(group);
+			eventLoops = eventLoopsPerGroup.putIfAbsent(group, newEventLoops);
+			if (eventLoops == null) {
+				eventLoops = newEventLoops;
+				//"FutureReturnValueIgnored" this is deliberate
+				group.terminationFuture().addListener(f -> eventLoopsPerGroup.remove(group, newEventLoops));
+			}
+		}
+		return eventLoops;
+	}
+
+	/**
+	 * Returns {@code true} when the pool has to be sharded by event loop: the event loop affinity is enabled
+	 * and there are at least as many connections as event loops, so that the pool of each event loop has
+	 * at least one connection.
+	 */
+	static boolean isEventLoopAffine(PoolFactory<?> poolFactory, EventLoops eventLoops) {
+		return poolFactory.eventLoopAffinity &&
+				eventLoops.size() > 0 &&
+				poolFactory.maxConnections >= eventLoops.size();
+	}
+
+	/**
+	 * Returns the interval of the background replenishment of the idle connections, i.e. the smallest background
+	 * eviction interval of the pools configured with a minimum number of idle connections
+	 * (one second when the background eviction is disabled), or {@link Duration#ZERO} when there are no such pools.
+	 */
+	final Duration idleConnectionsReplenishInterval() {
+		Duration interval = Duration.ZERO;
+		List<PoolFactory<T>> poolFactories = new ArrayList<>(poolFactoryPerRemoteHost.values());
+		poolFactories.add(defaultPoolFactory);
+		for (PoolFactory<T> poolFactory : poolFactories) {
+			if (poolFactory.minIdleConnections > 0) {
+				Duration poolInterval = poolFactory.evictionInterval.isZero() ?
+						DEFAULT_IDLE_CONNECTIONS_REPLENISH_INTERVAL : poolFactory.evictionInterval;
+				if (interval.isZero() || poolInterval.compareTo(interval) < 0) {
+					interval = poolInterval;
+				}
+			}
+		}
+		return interval;
+	}
+
+	final void scheduleIdleConnectionsReplenishment() {
+		if (!idleConnectionsReplenishInterval.isZero()) {
+			Schedulers.parallel()
+			          .schedule(this::replenishIdleConnectionsInBackground, idleConnectionsReplenishInterval.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Allocates the connections missing to reach the minimum number of idle connections. The connections removed
+	 * because of {@code maxIdleTime}, {@code maxLifeTime} or by the background eviction are thus replaced.
+	 */
+	final void replenishIdleConnectionsInBackground() {
+		channelPools.forEach((holder, pool) -> {
+			reactor.pool.AllocationStrategy allocationStrategy = pool.config().allocationStrategy();
+			if (allocationStrategy instanceof PoolFactory.MinIdleAllocationStrategy &&
+					((PoolFactory.MinIdleAllocationStrategy) allocationStrategy).update(pool.metrics().acquiredSize())) {
+				warmup(holder, pool).subscribe(
+						null,
+						t -> {
+							if (log.isDebugEnabled()) {
+								log.debug("ConnectionProvider[name={}]: Failed to replenish the idle connections for [{}]",
+										name, holder.holder, t);
+							}
+						});
+			}
+		});
+		scheduleIdleConnectionsReplenishment();
+	}
+
 	final void disposeInactivePoolsInBackground() {
 		if (!channelPools.isEmpty()) {
 			List<Map.Entry<PoolKey, InstrumentedPool<T>>> toDispose;
@@ -420,6 +640,8 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 
 	static final Logger log = Loggers.getLogger(PooledConnectionProvider.class);
 
+	static final Duration DEFAULT_IDLE_CONNECTIONS_REPLENISH_INTERVAL = Duration.ofSeconds(1);
+
 	protected static final class PoolFactory<T extends Connection> {
 		static final double DEFAULT_POOL_GET_PERMITS_SAMPLING_RATE;
 		static {
@@ -467,6 +689,8 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		final BiFunction<Runnable, Duration, Disposable> pendingAcquireTimer;
 		final AllocationStrategy<?> allocationStrategy;
 		final BiPredicate<Connection, ConnectionMetadata> evictionPredicate;
+		final boolean eventLoopAffinity;
+		final int minIdleConnections;
 
 		PoolFactory(ConnectionPoolSpec<?> conf, Duration disposeTimeout) {
 			this(conf, disposeTimeout, null);
@@ -474,6 +698,10 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 
 		// Used only for testing purposes
 		PoolFactory(ConnectionPoolSpec<?> conf, Duration disposeTimeout, @Nullable Clock clock) {
+			if (conf.eventLoopAffinity && conf.allocationStrategy != null) {
+				// the limits of a custom allocation strategy cannot be divided between the event loops
+				throw new IllegalArgumentException("Event loop affinity cannot be used with a custom allocation strategy");
+			}
 			this.evictionInterval = conf.evictionInterval;
 			this.leasingStrategy = conf.leasingStrategy;
 			this.maxConnections = conf.maxConnections;
@@ -489,6 +717,37 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 			this.pendingAcquireTimer = conf.pendingAcquireTimer;
 			this.allocationStrategy = conf.allocationStrategy;
 			this.evictionPredicate = conf.evictionPredicate;
+			this.eventLoopAffinity = conf.eventLoopAffinity;
+			this.minIdleConnections = Math.min(conf.minIdleConnections, conf.maxConnections);
+		}
+
+		/**
+		 * Creates the factory of the pool of one event loop, the connections, the minimum idle connections and
+		 * the pending acquire operations are divided between the event loops, so that the pools of all event loops
+		 * sum up exactly to the configured values. The remainder goes to the first event loops.
+		 */
+		PoolFactory(PoolFactory<T> parent, int eventLoops, int index) {
+			this.evictionInterval = parent.evictionInterval;
+			this.leasingStrategy = parent.leasingStrategy;
+			this.maxConnections = share(parent.maxConnections, eventLoops, index);
+			this.maxIdleTime = parent.maxIdleTime;
+			this.maxLifeTime = parent.maxLifeTime;
+			this.metricsEnabled = parent.metricsEnabled;
+			this.pendingAcquireMaxCount = parent.pendingAcquireMaxCount < 0 ?
+					parent.pendingAcquireMaxCount : share(parent.pendingAcquireMaxCount, eventLoops, index);
+			this.pendingAcquireTimeout = parent.pendingAcquireTimeout;
+			this.registrar = parent.registrar;
+			this.clock = parent.clock;
+			this.disposeTimeout = parent.disposeTimeout;
+			this.pendingAcquireTimer = parent.pendingAcquireTimer;
+			this.allocationStrategy = parent.allocationStrategy;
+			this.evictionPredicate = parent.evictionPredicate;
+			this.eventLoopAffinity = parent.eventLoopAffinity;
+			this.minIdleConnections = Math.min(this.maxConnections, share(parent.minIdleConnections, eventLoops, index));
+		}
+
+		static int share(int value, int parts, int index) {
+			return value / parts + (index < value % parts ? 1 : 0);
 		}
 
 		public InstrumentedPool<T> newPool(
@@ -579,7 +838,12 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 			}
 			else {
 				if (allocationStrategy == null) {
-					poolBuilder = poolBuilder.sizeBetween(0, maxConnections);
+					if (minIdleConnections > 0) {
+						poolBuilder = poolBuilder.allocationStrategy(new MinIdleAllocationStrategy(minIdleConnections, maxConnections));
+					}
+					else {
+						poolBuilder = poolBuilder.sizeBetween(0, maxConnections);
+					}
 				}
 				else {
 					poolBuilder = poolBuilder.allocationStrategy(new DelegatingAllocationStrategy(allocationStrategy.copy()));
@@ -632,9 +896,96 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 					", metricsEnabled=" + metricsEnabled +
 					", pendingAcquireMaxCount=" + pendingAcquireMaxCount +
 					", pendingAcquireTimeout=" + pendingAcquireTimeout +
+					", eventLoopAffinity=" + eventLoopAffinity +
+					", minIdleConnections=" + minIdleConnections +
 					'}';
 		}
 
+		/**
+		 * Allocation strategy that keeps at least {@code minIdleConnections} connections in addition to the acquired
+		 * ones, up to {@code maxConnections}. The minimum is updated from the number of the acquired connections before
+		 * each background replenishment, the missing connections are allocated with {@link Pool#warmup()}.
+		 */
+		static final class MinIdleAllocationStrategy implements reactor.pool.AllocationStrategy {
+
+			final int maxConnections;
+			final int minIdleConnections;
+
+			volatile int minimum;
+			volatile int permits;
+			static final AtomicIntegerFieldUpdater<MinIdleAllocationStrategy> PERMITS =
+					AtomicIntegerFieldUpdater.newUpdater(MinIdleAllocationStrategy.class, "permits");
+
+			MinIdleAllocationStrategy(int minIdleConnections, int maxConnections) {
+				this.maxConnections = maxConnections;
+				this.minIdleConnections = minIdleConnections;
+				this.minimum = minIdleConnections;
+				PERMITS.lazySet(this, maxConnections);
+			}
+
+			/**
+			 * Updates the minimum from the number of the acquired connections.
+			 *
+			 * @return true if connections are missing to reach the minimum
+			 */
+			boolean update(int acquired) {
+				int minimum = Math.min(maxConnections, acquired + minIdleConnections);
+				this.minimum = minimum;
+				return permitGranted() < minimum;
+			}
+
+			@Override
+			public int estimatePermitCount() {
+				return PERMITS.get(this);
+			}
+
+			@Override
+			public int getPermits(int desired) {
+				if (desired < 0) {
+					return 0;
+				}
+
+				for (;;) {
+					int p = permits;
+					int granted = maxConnections - p;
+					int target = Math.min(p, Math.max(desired, minimum - granted));
+
+					if (PERMITS.compareAndSet(this, p, p - target)) {
+						return target;
+					}
+				}
+			}
+
+			@Override
+			public int permitGranted() {
+				return maxConnections - PERMITS.get(this);
+			}
+
+			@Override
+			public int permitMinimum() {
+				return minimum;
+			}
+
+			@Override
+			public int permitMaximum() {
+				return maxConnections;
+			}
+
+			@Override
+			public void returnPermits(int returned) {
+				for (;;) {
+					int p = PERMITS.get(this);
+					if (p + returned > maxConnections) {
+						throw new IllegalArgumentException("Too many permits returned: returned=" + returned +
+								", would bring to " + (p + returned) + "/" + maxConnections);
+					}
+					if (PERMITS.compareAndSet(this, p, p + returned)) {
+						return;
+					}
+				}
+			}
+		}
+
 		static final class DelegatingAllocationStrategy implements reactor.pool.AllocationStrategy {
 
 			final AllocationStrategy<?> delegate;
@@ -675,6 +1026,54 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		}
 	}
 
+	/**
+	 * The event loops of a client event loop group and their index, used for sharding the pools by event loop.
+	 */
+	static final class EventLoops {
+		final EventLoop[] eventLoops;
+		final Map<EventExecutor, Integer> indexes;
+
+		volatile int next;
+		static final AtomicIntegerFieldUpdater<EventLoops> NEXT =
+				AtomicIntegerFieldUpdater.newUpdater(EventLoops.class, "next");
+
+		EventLoops(EventLoopGroup group) {
+			List<EventLoop> eventLoops = new ArrayList<>();
+			Map<EventExecutor, Integer> indexes = new IdentityHashMap<>();
+			for (EventExecutor executor : group) {
+				if (executor instanceof EventLoop) {
+					indexes.put(executor, eventLoops.size());
+					eventLoops.add((EventLoop) executor);
+				}
+			}
+			this.eventLoops = eventLoops.toArray(new EventLoop[0]);
+			this.indexes = indexes;
+		}
+
+		/**
+		 * Returns the index of the event loop, or {@code -1} when the event loop does not belong to the group.
+		 */
+		int indexOf(EventLoop eventLoop) {
+			Integer index = indexes.get(eventLoop);
+			return index != null ? index : -1;
+		}
+
+		/**
+		 * Returns the given event loop when it belongs to the group, otherwise the next event loop of the group
+		 * in round-robin order, e.g. when the caller is not an event loop.
+		 */
+		EventLoop shard(@Nullable EventLoop eventLoop) {
+			if (eventLoop != null && indexes.containsKey(eventLoop)) {
+				return eventLoop;
+			}
+			return eventLoops[(NEXT.getAndIncrement(this) & Integer.MAX_VALUE) % eventLoops.length];
+		}
+
+		int size() {
+			return eventLoops.length;
+		}
+	}
+
 	static final class PooledConnectionMetadata implements ConnectionMetadata {
 
 		final PooledRefMetadata delegate;
@@ -713,8 +1112,15 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		final String fqdn;
 		final SocketAddress holder;
 		final int pipelineKey;
+		// the event loop of the pool when the pools are event loop affine, otherwise null
+		@Nullable
+		final EventLoop eventLoop;
 
 		PoolKey(SocketAddress holder, int pipelineKey) {
+			this(holder, pipelineKey, null);
+		}
+
+		PoolKey(SocketAddress holder, int pipelineKey, @Nullable EventLoop eventLoop) {
 			String fqdn = null;
 			if (holder instanceof InetSocketAddress) {
 				InetSocketAddress inetSocketAddress = (InetSocketAddress) holder;
@@ -726,6 +1132,7 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 			this.fqdn = fqdn;
 			this.holder = holder;
 			this.pipelineKey = pipelineKey;
+			this.eventLoop = eventLoop;
 		}
 
 		@Override
@@ -739,7 +1146,8 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 			PoolKey poolKey = (PoolKey) o;
 			return Objects.equals(fqdn, poolKey.fqdn) &&
 						   Objects.equals(holder, poolKey.holder) &&
-						   pipelineKey == poolKey.pipelineKey;
+						   pipelineKey == poolKey.pipelineKey &&
+						   eventLoop == poolKey.eventLoop;
 		}
 
 		@Override
@@ -748,6 +1156,7 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 			result = 31 * result + Objects.hashCode(fqdn);
 			result = 31 * result + Objects.hashCode(holder);
 			result = 31 * result + pipelineKey;
+			result = 31 * result + Objects.hashCode(eventLoop);
 			return result;
 		}
 	}
@@ -30,6 +30,7 @@ import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
+import reactor.netty.BlockingHandler;
 import reactor.netty.Connection;
 import reactor.netty.DisposableServer;
 import reactor.netty.NettyInbound;
@@ -117,6 +118,21 @@ public abstract class TcpServer extends ServerTransport<TcpServer, TcpServerConf
 		return doOnConnection(new OnConnectionHandle(handler));
 	}
 
+	/**
+	 * Attaches an I/O handler that may call blocking code to react on a connected client.
+	 * The handler is invoked, and its result is subscribed, on a virtual thread when the runtime supports them
+	 * (JDK 21+), otherwise on {@link reactor.core.scheduler.Schedulers#boundedElastic()},
+	 * so that the event loops are never blocked.
+	 *
+	 * @param handler an I/O handler that may block
+	 * @return a new {@link TcpServer}
+	 * @see BlockingHandler
+	 * @since 1.2.0
+	 */
+	public TcpServer handleBlocking(BiFunction<? super NettyInbound, ? super NettyOutbound, ? extends Publisher<Void>> handler) {
+		return handle(BlockingHandler.wrap(handler));
+	}
+
 	@Override
 	public TcpServer host(String host) {
 		return super.host(host);
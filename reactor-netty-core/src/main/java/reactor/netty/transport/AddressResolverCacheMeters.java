@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.docs.MeterDocumentation;
+
+/**
+ * Meters of the DNS cache, when the refresh-ahead of the DNS cache is enabled.
+ *
+ * @since 1.2.0
+ */
+enum AddressResolverCacheMeters implements MeterDocumentation {
+
+	/**
+	 * The number of the host names found in the DNS cache.
+	 */
+	ADDRESS_RESOLVER_CACHE_HITS {
+		@Override
+		public String getName() {
+			return "%s";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return new KeyName[] {AddressResolverCacheMetersTags.ID};
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * The number of the host names not found in the DNS cache.
+	 */
+	ADDRESS_RESOLVER_CACHE_MISSES {
+		@Override
+		public String getName() {
+			return "%s";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return new KeyName[] {AddressResolverCacheMetersTags.ID};
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * The number of the refreshes of the DNS cache entries.
+	 */
+	ADDRESS_RESOLVER_CACHE_REFRESHES {
+		@Override
+		public String getName() {
+			return "%s";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return AddressResolverCacheMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	};
+
+	enum AddressResolverCacheMetersTags implements KeyName {
+
+		/**
+		 * ID.
+		 */
+		ID {
+			@Override
+			public String asString() {
+				return "id";
+			}
+		},
+
+		/**
+		 * STATUS.
+		 */
+		STATUS {
+			@Override
+			public String asString() {
+				return "status";
+			}
+		}
+	}
+}
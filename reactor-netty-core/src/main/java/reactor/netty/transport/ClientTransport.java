@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2020-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import java.util.function.Supplier;
 
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.resolver.NoopAddressResolverGroup;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
@@ -376,4 +377,25 @@ public abstract class ClientTransport<T extends ClientTransport<T, CONF>,
 			configuration().resolverInternal();
 		});
 	}
+
+	/**
+	 * Based on the actual configuration, returns a {@link Mono} that triggers the initializations of {@link #warmup()}
+	 * and establishes, for each of the given remote addresses, the minimum number of idle connections configured with
+	 * {@link reactor.netty.resources.ConnectionProvider.ConnectionPoolSpec#minIdleConnections(int)}.
+	 * This is applicable only with a pooled {@link reactor.netty.resources.ConnectionProvider}, connections are not established otherwise.
+	 *
+	 * @param remoteAddresses the remote addresses to establish connections to
+	 * @return a {@link Mono} representing the completion of the warmup
+	 * @since 1.2.0
+	 */
+	public Mono<Void> warmup(SocketAddress... remoteAddresses) {
+		Objects.requireNonNull(remoteAddresses, "remoteAddresses");
+		return warmup().then(Mono.defer(() -> {
+			CONF config = configuration();
+			AddressResolverGroup<?> resolver = config.resolverInternal();
+			return Flux.fromArray(remoteAddresses)
+			           .flatMap(remoteAddress -> config.connectionProvider().warmup(config, () -> remoteAddress, resolver))
+			           .then();
+		}));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+
+/**
+ * Chooses the {@link EventLoop} on which a connection accepted by a server is registered.
+ * By default, the connections are assigned in a round-robin fashion with {@link EventLoopGroup#next()},
+ * which may leave some event loops with many long-lived connections while others are idle.
+ *
+ * @since 1.2.0
+ */
+@FunctionalInterface
+public interface EventLoopChooser {
+
+	/**
+	 * Assigns the connections with {@link EventLoopGroup#next()}. This is the default.
+	 *
+	 * @return an {@link EventLoopChooser} assigning the connections in a round-robin fashion
+	 */
+	static EventLoopChooser roundRobin() {
+		return EventLoopChoosers.ROUND_ROBIN;
+	}
+
+	/**
+	 * Assigns each connection to the event loop with the fewest connections assigned by this chooser that are
+	 * still open. The ties are broken in a round-robin fashion. The same instance can be shared by several servers
+	 * using the same event loops, in order to balance all their connections.
+	 *
+	 * @return a new {@link EventLoopChooser} assigning the connections to the least loaded event loop
+	 */
+	static EventLoopChooser leastActiveChannels() {
+		return new EventLoopChoosers.LeastActiveChannels();
+	}
+
+	/**
+	 * Assigns each connection to the event loop with the fewest tasks waiting to be executed, i.e. the event loop
+	 * that is expected to serve it with the lowest latency. The ties are broken in a round-robin fashion.
+	 * Falls back to {@link EventLoopGroup#next()} for event loops that do not expose their pending tasks.
+	 *
+	 * @return an {@link EventLoopChooser} assigning the connections to the least busy event loop
+	 */
+	static EventLoopChooser leastPendingTasks() {
+		return EventLoopChoosers.LEAST_PENDING_TASKS;
+	}
+
+	/**
+	 * Returns the {@link EventLoop} of the given {@link EventLoopGroup} on which the accepted connection is registered.
+	 *
+	 * @param group the {@link EventLoopGroup} serving the connections
+	 * @param channel the accepted connection, not yet registered
+	 * @return the {@link EventLoop} on which the connection is registered
+	 */
+	EventLoop next(EventLoopGroup group, Channel channel);
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import reactor.netty.internal.util.MapUtils;
+import reactor.util.annotation.Nullable;
+
+/**
+ * The built-in {@link EventLoopChooser} implementations.
+ */
+final class EventLoopChoosers {
+
+	static final EventLoopChooser ROUND_ROBIN = (group, channel) -> group.next();
+
+	static final EventLoopChooser LEAST_PENDING_TASKS = new LeastPendingTasks();
+
+	EventLoopChoosers() {
+	}
+
+	/**
+	 * Base class choosing among the event loops of the group, the scan starts at a rotating offset
+	 * so that the ties are broken in a round-robin fashion.
+	 */
+	abstract static class ScanningEventLoopChooser implements EventLoopChooser {
+
+		final AtomicInteger index = new AtomicInteger();
+
+		volatile EventLoops cached;
+
+		@Override
+		public final EventLoop next(EventLoopGroup group, Channel channel) {
+			EventLoops eventLoops = cached;
+			if (eventLoops == null || eventLoops.group != group) {
+				eventLoops = new EventLoops(group);
+				cached = eventLoops;
+			}
+
+			int size = eventLoops.eventLoops.size();
+			if (size < 2) {
+				return group.next();
+			}
+			EventLoop selected = select(eventLoops.eventLoops, Math.abs(index.getAndIncrement() % size), channel);
+			return selected != null ? selected : group.next();
+		}
+
+		/**
+		 * Returns the selected event loop or {@code null} to fall back to {@link EventLoopGroup#next()}.
+		 */
+		@Nullable
+		abstract EventLoop select(List<EventLoop> eventLoops, int offset, Channel channel);
+	}
+
+	static final class EventLoops {
+
+		final EventLoopGroup group;
+		final List<EventLoop> eventLoops;
+
+		EventLoops(EventLoopGroup group) {
+			this.group = group;
+			List<EventLoop> eventLoops = new ArrayList<>();
+			for (EventExecutor executor : group) {
+				if (executor instanceof EventLoop) {
+					eventLoops.add((EventLoop) executor);
+				}
+			}
+			this.eventLoops = eventLoops;
+		}
+	}
+
+	static final class LeastActiveChannels extends ScanningEventLoopChooser {
+
+		final ConcurrentMap<EventLoop, AtomicInteger> activeChannels = new ConcurrentHashMap<>();
+
+		@Override
+		EventLoop select(List<EventLoop> eventLoops, int offset, Channel channel) {
+			int size = eventLoops.size();
+			EventLoop selected = null;
+			AtomicInteger selectedCount = null;
+			int min = Integer.MAX_VALUE;
+			for (int i = 0; i < size; i++) {
+				EventLoop eventLoop = eventLoops.get((offset + i) % size);
+				AtomicInteger count = MapUtils.computeIfAbsent(activeChannels, eventLoop, key -> new AtomicInteger());
+				int active = count.get();
+				if (active < min) {
+					min = active;
+					selected = eventLoop;
+					selectedCount = count;
+				}
+			}
+
+			AtomicInteger c = selectedCount;
+			if (c != null) {
+				c.incrementAndGet();
+				channel.closeFuture().addListener(f -> c.decrementAndGet());
+			}
+			return selected;
+		}
+
+		int activeChannels(EventLoop eventLoop) {
+			AtomicInteger count = activeChannels.get(eventLoop);
+			return count != null ? count.get() : 0;
+		}
+	}
+
+	static final class LeastPendingTasks extends ScanningEventLoopChooser {
+
+		@Override
+		@Nullable
+		EventLoop select(List<EventLoop> eventLoops, int offset, Channel channel) {
+			int size = eventLoops.size();
+			EventLoop selected = null;
+			int min = Integer.MAX_VALUE;
+			for (int i = 0; i < size; i++) {
+				EventLoop eventLoop = eventLoops.get((offset + i) % size);
+				if (!(eventLoop instanceof SingleThreadEventExecutor)) {
+					return null;
+				}
+				int pendingTasks = ((SingleThreadEventExecutor) eventLoop).pendingTasks();
+				if (pendingTasks < min) {
+					min = pendingTasks;
+					selected = eventLoop;
+					if (pendingTasks == 0) {
+						break;
+					}
+				}
+			}
+			return selected;
+		}
+	}
+}
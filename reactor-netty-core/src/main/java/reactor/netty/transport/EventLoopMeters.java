@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2022-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,46 @@ import io.micrometer.core.instrument.docs.MeterDocumentation;
  */
 enum EventLoopMeters implements MeterDocumentation {
 
+	/**
+	 * The number of times the event loop was detected as blocked.
+	 */
+	BLOCKED {
+		@Override
+		public String getName() {
+			return "reactor.netty.eventloop.blocked";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return EventLoopMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * The ratio of the time during which the event loop thread consumed CPU.
+	 */
+	BUSY_RATIO {
+		@Override
+		public String getName() {
+			return "reactor.netty.eventloop.busy.ratio";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return EventLoopMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
 	/**
 	 * Event loop pending scheduled tasks.
 	 */
@@ -45,6 +85,26 @@ enum EventLoopMeters implements MeterDocumentation {
 		public Meter.Type getType() {
 			return Meter.Type.GAUGE;
 		}
+	},
+
+	/**
+	 * Time spent by a task in the queue of the event loop before being executed.
+	 */
+	TASK_QUEUE_LATENCY {
+		@Override
+		public String getName() {
+			return "reactor.netty.eventloop.task.queue.latency";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return EventLoopMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.TIMER;
+		}
 	};
 
 	enum EventLoopMetersTags implements KeyName {
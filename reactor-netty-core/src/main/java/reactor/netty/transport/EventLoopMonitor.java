@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.netty.util.concurrent.ThreadProperties;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.ReactorNetty;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+/**
+ * Periodically probes the monitored event loops in order to measure how long a task waits before running
+ * and how busy the event loop thread is, and to detect the event loops that are blocked.
+ * <p>
+ * On every tick, a probe task is submitted to each event loop unless the previous one has not run yet.
+ * The time between the submission and the execution of the probe is the task queue latency.
+ * When a probe has been waiting for longer than {@link ReactorNetty#EVENT_LOOP_BLOCKED_THRESHOLD},
+ * the event loop is considered blocked and the stack trace of its thread is logged, once per blocking episode.
+ * The busy ratio is the CPU time consumed by the event loop thread divided by the elapsed time between two ticks.
+ *
+ * @since 1.2.0
+ */
+final class EventLoopMonitor implements Runnable {
+
+	static final Logger log = Loggers.getLogger(EventLoopMonitor.class);
+
+	static final long MONITOR_INTERVAL =
+			Long.parseLong(System.getProperty(ReactorNetty.EVENT_LOOP_MONITOR_INTERVAL, "500"));
+
+	static final long BLOCKED_THRESHOLD =
+			TimeUnit.MILLISECONDS.toNanos(Long.parseLong(System.getProperty(ReactorNetty.EVENT_LOOP_BLOCKED_THRESHOLD, "2000")));
+
+	static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+	static final EventLoopMonitor INSTANCE = new EventLoopMonitor();
+
+	final ConcurrentMap<String, Probe> probes = new ConcurrentHashMap<>();
+
+	volatile boolean started;
+
+	EventLoopMonitor() {
+	}
+
+	/**
+	 * Starts monitoring the given event loop if it is not monitored yet.
+	 *
+	 * @param name the event loop name
+	 * @param executor the event loop
+	 * @param taskQueueLatency the timer recording the task queue latency
+	 * @param blocked the counter incremented every time the event loop is detected as blocked
+	 * @return the probe monitoring the event loop
+	 */
+	Probe monitor(String name, SingleThreadEventExecutor executor, Timer taskQueueLatency, Counter blocked) {
+		Probe probe = probes.computeIfAbsent(name, key -> new Probe(name, executor, taskQueueLatency, blocked));
+		start();
+		return probe;
+	}
+
+	void start() {
+		if (!started && MONITOR_INTERVAL > 0) {
+			synchronized (this) {
+				if (!started) {
+					Schedulers.parallel().schedulePeriodically(this, MONITOR_INTERVAL, MONITOR_INTERVAL, TimeUnit.MILLISECONDS);
+					started = true;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void run() {
+		long now = System.nanoTime();
+		for (Probe probe : probes.values()) {
+			try {
+				if (!probe.check(now, BLOCKED_THRESHOLD)) {
+					probes.remove(probe.name, probe);
+				}
+			}
+			catch (RuntimeException e) {
+				if (log.isDebugEnabled()) {
+					log.debug("Exception caught while monitoring the event loop [" + probe.name + "]", e);
+				}
+			}
+		}
+	}
+
+	static final class Probe implements Runnable {
+
+		final String name;
+		final SingleThreadEventExecutor executor;
+		final Timer taskQueueLatency;
+		final Counter blocked;
+
+		/**
+		 * The time when the pending probe task was submitted, 0 when no probe task is pending.
+		 */
+		volatile long submitted;
+
+		volatile boolean reported;
+
+		long lastCpuTime = -1;
+		long lastCheck;
+
+		volatile double busyRatio;
+
+		Probe(String name, SingleThreadEventExecutor executor, Timer taskQueueLatency, Counter blocked) {
+			this.name = name;
+			this.executor = executor;
+			this.taskQueueLatency = taskQueueLatency;
+			this.blocked = blocked;
+		}
+
+		double busyRatio() {
+			return busyRatio;
+		}
+
+		/**
+		 * Samples the busy ratio, checks whether the event loop is blocked and submits the next probe task.
+		 *
+		 * @return false if the event loop is terminated and should not be monitored anymore
+		 */
+		boolean check(long now, long blockedThreshold) {
+			if (executor.isShutdown()) {
+				return false;
+			}
+
+			ThreadProperties threadProperties = executor.threadProperties();
+			sampleBusyRatio(threadProperties, now);
+
+			long pending = submitted;
+			if (pending == 0) {
+				submitted = now;
+				try {
+					executor.execute(this);
+				}
+				catch (RejectedExecutionException e) {
+					return false;
+				}
+			}
+			else if (blockedThreshold > 0 && !reported && now - pending >= blockedThreshold) {
+				reported = true;
+				blocked.increment();
+				if (log.isWarnEnabled()) {
+					log.warn("The event loop [" + name + "] did not run any task for " +
+									TimeUnit.NANOSECONDS.toMillis(now - pending) + "ms, it might be blocked.",
+							new BlockedEventLoopException(name, threadProperties.stackTrace()));
+				}
+			}
+			return true;
+		}
+
+		void sampleBusyRatio(ThreadProperties threadProperties, long now) {
+			long cpuTime = THREAD_MX_BEAN.isThreadCpuTimeSupported() ? THREAD_MX_BEAN.getThreadCpuTime(threadProperties.id()) : -1;
+			if (cpuTime >= 0 && lastCpuTime >= 0 && now > lastCheck) {
+				busyRatio = Math.min(1.0d, (double) (cpuTime - lastCpuTime) / (now - lastCheck));
+			}
+			lastCpuTime = cpuTime;
+			lastCheck = now;
+		}
+
+		@Override
+		public void run() {
+			long pending = submitted;
+			if (pending != 0) {
+				taskQueueLatency.record(System.nanoTime() - pending, TimeUnit.NANOSECONDS);
+			}
+			reported = false;
+			submitted = 0;
+		}
+	}
+
+	/**
+	 * Carries the stack trace of a blocked event loop thread.
+	 */
+	static final class BlockedEventLoopException extends RuntimeException {
+
+		BlockedEventLoopException(String name, StackTraceElement[] stackTrace) {
+			super("Stack trace of the event loop [" + name + "]", null, false, true);
+			setStackTrace(stackTrace);
+		}
+
+		private static final long serialVersionUID = 5467851290136485713L;
+	}
+}
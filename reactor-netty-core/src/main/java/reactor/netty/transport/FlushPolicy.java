@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.FileRegion;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import io.netty.util.concurrent.Future;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Defines when the flush operations issued while writing to a connection reach the socket.
+ * Consolidating the flush operations reduces the number of {@code write}/{@code writev} system calls,
+ * at the price of a higher latency for the individual messages.
+ * <p>
+ * The flush policy applies to all writes, whatever handler issued them, so that it can be changed
+ * without changing the handlers. Writes are always flushed when the channel becomes unwritable.
+ *
+ * @since 1.2.0
+ */
+public final class FlushPolicy {
+
+	/**
+	 * Each flush operation is passed to the socket immediately. This is the default.
+	 *
+	 * @return the immediate {@link FlushPolicy}
+	 */
+	public static FlushPolicy immediate() {
+		return IMMEDIATE;
+	}
+
+	/**
+	 * Consolidates up to {@code maxFlushes} flush operations. While reading, the pending flush operations
+	 * are passed to the socket when the read operation completes. Otherwise, they are passed to the socket
+	 * after the currently executing event loop tasks.
+	 *
+	 * @param maxFlushes the number of flush operations after which a flush is passed to the socket in any case
+	 * @return a {@link FlushPolicy} consolidating up to {@code maxFlushes} flush operations
+	 * @see FlushConsolidationHandler
+	 */
+	public static FlushPolicy consolidate(int maxFlushes) {
+		if (maxFlushes <= 0) {
+			throw new IllegalArgumentException("maxFlushes must be strictly positive");
+		}
+		return new FlushPolicy(Type.CONSOLIDATE, maxFlushes, null, 0);
+	}
+
+	/**
+	 * Consolidates the flush operations issued while reading until the read operation completes, e.g. the responses
+	 * to pipelined requests. The flush operations issued when no read operation is in progress are passed to the socket
+	 * immediately.
+	 *
+	 * @return a {@link FlushPolicy} consolidating the flush operations issued while reading
+	 * @see FlushConsolidationHandler
+	 */
+	public static FlushPolicy consolidateUntilReadComplete() {
+		return UNTIL_READ_COMPLETE;
+	}
+
+	/**
+	 * Delays the flush operations for at most {@code maxDelay}, or until at least {@code maxBytes} bytes are pending.
+	 *
+	 * @param maxDelay the maximum time a flush operation is delayed, must be positive
+	 * @param maxBytes the number of pending bytes at or above which a flush is passed to the socket immediately
+	 * @return a {@link FlushPolicy} delaying the flush operations up to a time and a size bound
+	 */
+	public static FlushPolicy bounded(Duration maxDelay, int maxBytes) {
+		Objects.requireNonNull(maxDelay, "maxDelay");
+		if (maxDelay.isNegative() || maxDelay.isZero()) {
+			throw new IllegalArgumentException("maxDelay must be positive");
+		}
+		if (maxBytes <= 0) {
+			throw new IllegalArgumentException("maxBytes must be strictly positive");
+		}
+		return new FlushPolicy(Type.BOUNDED, 0, maxDelay, maxBytes);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		FlushPolicy that = (FlushPolicy) o;
+		return type == that.type &&
+				maxFlushes == that.maxFlushes &&
+				maxBytes == that.maxBytes &&
+				Objects.equals(maxDelay, that.maxDelay);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = type.hashCode();
+		result = 31 * result + maxFlushes;
+		result = 31 * result + Objects.hashCode(maxDelay);
+		result = 31 * result + maxBytes;
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		switch (type) {
+			case CONSOLIDATE:
+				return "FlushPolicy{consolidate, maxFlushes=" + maxFlushes + '}';
+			case UNTIL_READ_COMPLETE:
+				return "FlushPolicy{consolidateUntilReadComplete}";
+			case BOUNDED:
+				return "FlushPolicy{bounded, maxDelay=" + maxDelay + ", maxBytes=" + maxBytes + '}';
+			default:
+				return "FlushPolicy{immediate}";
+		}
+	}
+
+	/**
+	 * Returns a new handler applying this policy or {@code null} when no handler is needed.
+	 */
+	@Nullable
+	ChannelHandler newHandler() {
+		switch (type) {
+			case CONSOLIDATE:
+				return new FlushConsolidationHandler(maxFlushes, true);
+			case UNTIL_READ_COMPLETE:
+				return new FlushConsolidationHandler(Integer.MAX_VALUE, false);
+			case BOUNDED:
+				return new BoundedFlushHandler(maxDelay.toNanos(), maxBytes);
+			default:
+				return null;
+		}
+	}
+
+	enum Type {
+		IMMEDIATE, CONSOLIDATE, UNTIL_READ_COMPLETE, BOUNDED
+	}
+
+	static final FlushPolicy IMMEDIATE = new FlushPolicy(Type.IMMEDIATE, 0, null, 0);
+
+	static final FlushPolicy UNTIL_READ_COMPLETE = new FlushPolicy(Type.UNTIL_READ_COMPLETE, 0, null, 0);
+
+	final Type type;
+	final int maxFlushes;
+	final Duration maxDelay;
+	final int maxBytes;
+
+	FlushPolicy(Type type, int maxFlushes, @Nullable Duration maxDelay, int maxBytes) {
+		this.type = type;
+		this.maxFlushes = maxFlushes;
+		this.maxDelay = maxDelay;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Delays the flush operations up to a time and a size bound.
+	 */
+	static final class BoundedFlushHandler extends ChannelDuplexHandler implements Runnable {
+
+		final long maxDelayNanos;
+		final int maxBytes;
+
+		ChannelHandlerContext ctx;
+		long pendingBytes;
+		boolean flushPending;
+		Future<?> scheduledFlush;
+
+		BoundedFlushHandler(long maxDelayNanos, int maxBytes) {
+			this.maxDelayNanos = maxDelayNanos;
+			this.maxBytes = maxBytes;
+		}
+
+		@Override
+		public void handlerAdded(ChannelHandlerContext ctx) {
+			this.ctx = ctx;
+		}
+
+		@Override
+		public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+			pendingBytes += size(msg);
+			ctx.write(msg, promise);
+		}
+
+		@Override
+		public void flush(ChannelHandlerContext ctx) {
+			if (pendingBytes >= maxBytes || !ctx.channel().isWritable()) {
+				flushNow(ctx);
+			}
+			else {
+				flushPending = true;
+				if (scheduledFlush == null) {
+					scheduledFlush = ctx.executor().schedule(this, maxDelayNanos, TimeUnit.NANOSECONDS);
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			scheduledFlush = null;
+			if (flushPending) {
+				flushNow(ctx);
+			}
+		}
+
+		@Override
+		public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+			if (!ctx.channel().isWritable()) {
+				flushIfPending(ctx);
+			}
+			ctx.fireChannelWritabilityChanged();
+		}
+
+		@Override
+		public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+			flushIfPending(ctx);
+			ctx.close(promise);
+		}
+
+		@Override
+		public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) {
+			flushIfPending(ctx);
+			ctx.disconnect(promise);
+		}
+
+		@Override
+		public void handlerRemoved(ChannelHandlerContext ctx) {
+			flushIfPending(ctx);
+		}
+
+		@Override
+		public void channelInactive(ChannelHandlerContext ctx) {
+			cancelScheduledFlush();
+			ctx.fireChannelInactive();
+		}
+
+		void flushIfPending(ChannelHandlerContext ctx) {
+			if (flushPending) {
+				flushNow(ctx);
+			}
+		}
+
+		void flushNow(ChannelHandlerContext ctx) {
+			cancelScheduledFlush();
+			flushPending = false;
+			pendingBytes = 0;
+			ctx.flush();
+		}
+
+		void cancelScheduledFlush() {
+			if (scheduledFlush != null) {
+				scheduledFlush.cancel(false);
+				scheduledFlush = null;
+			}
+		}
+
+		static long size(Object msg) {
+			if (msg instanceof ByteBuf) {
+				return ((ByteBuf) msg).readableBytes();
+			}
+			if (msg instanceof ByteBufHolder) {
+				return ((ByteBufHolder) msg).content().readableBytes();
+			}
+			if (msg instanceof FileRegion) {
+				return ((FileRegion) msg).count();
+			}
+			return 0;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2022-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package reactor.netty.transport;
 
 import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.Observation;
 import io.netty.resolver.AddressResolver;
@@ -33,14 +34,20 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 import static reactor.netty.Metrics.ADDRESS_RESOLVER;
+import static reactor.netty.Metrics.ADDRESS_RESOLVER_CACHE_HITS;
+import static reactor.netty.Metrics.ADDRESS_RESOLVER_CACHE_MISSES;
+import static reactor.netty.Metrics.ADDRESS_RESOLVER_CACHE_REFRESHES;
 import static reactor.netty.Metrics.ERROR;
 import static reactor.netty.Metrics.OBSERVATION_KEY;
 import static reactor.netty.Metrics.OBSERVATION_REGISTRY;
+import static reactor.netty.Metrics.REGISTRY;
 import static reactor.netty.Metrics.SUCCESS;
 import static reactor.netty.Metrics.UNKNOWN;
+import static reactor.netty.transport.AddressResolverCacheMeters.AddressResolverCacheMetersTags.ID;
 import static reactor.netty.transport.HostnameResolutionObservations.HostnameResolutionTimeHighCardinalityTags.NET_PEER_NAME;
 import static reactor.netty.transport.HostnameResolutionObservations.HostnameResolutionTimeHighCardinalityTags.NET_PEER_PORT;
 import static reactor.netty.transport.HostnameResolutionObservations.HostnameResolutionTimeHighCardinalityTags.REACTOR_NETTY_PROTOCOL;
@@ -68,6 +75,26 @@ final class MicrometerAddressResolverGroupMetrics<T extends SocketAddress> exten
 
 	MicrometerAddressResolverGroupMetrics(AddressResolverGroup<T> resolverGroup, MicrometerChannelMetricsRecorder recorder) {
 		super(resolverGroup, recorder);
+		RefreshAheadDnsCache dnsCache = RefreshAheadDnsCache.get(resolverGroup);
+		if (dnsCache != null) {
+			registerCacheMetrics(recorder.name(), dnsCache);
+		}
+	}
+
+	static void registerCacheMetrics(String name, RefreshAheadDnsCache dnsCache) {
+		String id = Integer.toHexString(System.identityHashCode(dnsCache));
+		FunctionCounter.builder(name + ADDRESS_RESOLVER_CACHE_HITS, dnsCache.hits, LongAdder::sum)
+		               .tag(ID.asString(), id)
+		               .register(REGISTRY);
+		FunctionCounter.builder(name + ADDRESS_RESOLVER_CACHE_MISSES, dnsCache.misses, LongAdder::sum)
+		               .tag(ID.asString(), id)
+		               .register(REGISTRY);
+		FunctionCounter.builder(name + ADDRESS_RESOLVER_CACHE_REFRESHES, dnsCache.refreshes, LongAdder::sum)
+		               .tags(ID.asString(), id, AddressResolverCacheMeters.AddressResolverCacheMetersTags.STATUS.asString(), SUCCESS)
+		               .register(REGISTRY);
+		FunctionCounter.builder(name + ADDRESS_RESOLVER_CACHE_REFRESHES, dnsCache.refreshErrors, LongAdder::sum)
+		               .tags(ID.asString(), id, AddressResolverCacheMeters.AddressResolverCacheMetersTags.STATUS.asString(), ERROR)
+		               .register(REGISTRY);
 	}
 
 	@Override
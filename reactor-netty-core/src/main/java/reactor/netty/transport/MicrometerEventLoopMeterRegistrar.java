@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2021-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,7 +15,9 @@
  */
 package reactor.netty.transport;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
 import io.netty.channel.EventLoop;
 import io.netty.util.concurrent.SingleThreadEventExecutor;
 import reactor.netty.internal.util.MapUtils;
@@ -23,15 +25,19 @@ import reactor.netty.internal.util.MapUtils;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import static reactor.netty.transport.EventLoopMeters.BLOCKED;
+import static reactor.netty.transport.EventLoopMeters.BUSY_RATIO;
 import static reactor.netty.transport.EventLoopMeters.PENDING_TASKS;
+import static reactor.netty.transport.EventLoopMeters.TASK_QUEUE_LATENCY;
 import static reactor.netty.transport.EventLoopMeters.EventLoopMetersTags.NAME;
 
 import static reactor.netty.Metrics.REGISTRY;
 
 /**
  * Registers gauges for a given {@link EventLoop}.
+ * The task queue latency, the busy ratio and the blocked event loops are measured by {@link EventLoopMonitor}.
  *
- * Every gauge uses thread name as tag.
+ * Every meter uses thread name as tag.
  *
  * @author Pierre De Rop
  * @author Violeta Georgieva
@@ -53,6 +59,20 @@ final class MicrometerEventLoopMeterRegistrar {
 				Gauge.builder(PENDING_TASKS.getName(), singleThreadEventExecutor::pendingTasks)
 				     .tag(NAME.asString(), executorName)
 				     .register(REGISTRY);
+
+				Timer taskQueueLatency =
+						Timer.builder(TASK_QUEUE_LATENCY.getName())
+						     .tag(NAME.asString(), executorName)
+						     .register(REGISTRY);
+				Counter blocked =
+						Counter.builder(BLOCKED.getName())
+						       .tag(NAME.asString(), executorName)
+						       .register(REGISTRY);
+				EventLoopMonitor.Probe probe =
+						EventLoopMonitor.INSTANCE.monitor(executorName, singleThreadEventExecutor, taskQueueLatency, blocked);
+				Gauge.builder(BUSY_RATIO.getName(), probe, EventLoopMonitor.Probe::busyRatio)
+				     .tag(NAME.asString(), executorName)
+				     .register(REGISTRY);
 				return eventLoop;
 			});
 		}
@@ -102,6 +102,37 @@ public final class NameResolverProvider {
 		 */
 		NameResolverSpec cacheNegativeTimeToLive(Duration cacheNegativeTimeToLive);
 
+		/**
+		 * Enables the refresh-ahead of the cached DNS resource records.
+		 * When a cached host name is looked up after 80% of the time to live of its records elapsed,
+		 * the host name is resolved again in the background and the cached records are replaced once the resolution
+		 * completes, so that the host names in use do not wait for a DNS query when their records expire.
+		 * When the refresh fails, the expired records are still used for {@link #cacheStaleTimeToLive(Duration)}
+		 * and the refresh is retried.
+		 * When metrics are enabled with the built-in integration with Micrometer, the cache hits, misses and refreshes
+		 * are recorded.
+		 * This configuration is not applicable when {@link #resolveCache(DnsCache)} is specified.
+		 * By default, this is disabled.
+		 *
+		 * @param enable {@code true} to enable, {@code false} to disable
+		 * @return {@code this}
+		 * @since 1.2.0
+		 */
+		NameResolverSpec cacheRefreshAhead(boolean enable);
+
+		/**
+		 * Sets how long the expired DNS resource records are still used when their refresh fails (resolution: ms),
+		 * when {@link #cacheRefreshAhead(boolean)} is enabled.
+		 * Default to {@link Build#DEFAULT_CACHE_STALE_TIME_TO_LIVE}.
+		 *
+		 * @param cacheStaleTimeToLive how long the expired records are still used when their refresh fails
+		 * (resolution: ms)
+		 * @return {@code this}
+		 * @throws IllegalArgumentException if {@code cacheStaleTimeToLive} is negative
+		 * @since 1.2.0
+		 */
+		NameResolverSpec cacheStaleTimeToLive(Duration cacheStaleTimeToLive);
+
 		/**
 		 * If {@code true}, the resolver notifies the returned {@link Future} as
 		 * soon as all queries for the preferred address type are complete.
@@ -115,6 +146,19 @@ public final class NameResolverProvider {
 		 */
 		NameResolverSpec completeOncePreferredResolved(boolean enable);
 
+		/**
+		 * Sets the delay between two connection attempts when {@link #happyEyeballs(boolean)} is enabled
+		 * (resolution: ms). This is the <i>Connection Attempt Delay</i> described in
+		 * <a href="https://datatracker.ietf.org/doc/html/rfc8305#section-5">RFC 8305, Section 5</a>.
+		 * Default to {@link Build#DEFAULT_CONNECTION_ATTEMPT_DELAY}.
+		 *
+		 * @param connectionAttemptDelay the delay between two connection attempts (resolution: ms)
+		 * @return {@code this}
+		 * @throws IllegalArgumentException if {@code connectionAttemptDelay} is negative
+		 * @since 1.2.0
+		 */
+		NameResolverSpec connectionAttemptDelay(Duration connectionAttemptDelay);
+
 		/**
 		 * Disables the automatic inclusion of an optional record that tries to hint the remote DNS server about
 		 * how much data the resolver can read per response. By default, this is enabled.
@@ -143,6 +187,24 @@ public final class NameResolverProvider {
 		NameResolverSpec dnsAddressResolverGroupProvider(
 				Function<DnsNameResolverBuilder, DnsAddressResolverGroup> dnsAddressResolverGroupProvider);
 
+		/**
+		 * Enables Happy Eyeballs (<a href="https://datatracker.ietf.org/doc/html/rfc8305">RFC 8305</a>)
+		 * when connecting to a host name that resolves to multiple addresses.
+		 * The address families of the resolved addresses are interleaved and the connection attempts are started
+		 * one after another, each {@link #connectionAttemptDelay(Duration)} or as soon as the previous attempt fails,
+		 * without waiting for the previous attempts to complete. The first established connection is used,
+		 * all other connection attempts are cancelled.
+		 * When enabled, the resolver always waits for the queries for all address types to complete
+		 * ({@link #completeOncePreferredResolved(boolean)} is not applicable).
+		 * Use {@link #resolvedAddressTypes(ResolvedAddressTypes)} to configure the preferred address family.
+		 * By default, this is disabled, the resolved addresses are tried one after another.
+		 *
+		 * @param enable {@code true} to enable, {@code false} to disable
+		 * @return {@code this}
+		 * @since 1.2.0
+		 */
+		NameResolverSpec happyEyeballs(boolean enable);
+
 		/**
 		 * Specifies a custom {@link HostsFileEntriesResolver} to be used for hosts file entries.
 		 * Default to {@link DefaultHostsFileEntriesResolver}.
@@ -329,6 +391,28 @@ public final class NameResolverProvider {
 		return cacheNegativeTimeToLive;
 	}
 
+	/**
+	 * Returns the configured time during which the expired DNS resource records are still used
+	 * when their refresh fails.
+	 *
+	 * @return the configured time during which the expired DNS resource records are still used
+	 * when their refresh fails
+	 * @since 1.2.0
+	 */
+	public Duration cacheStaleTimeToLive() {
+		return cacheStaleTimeToLive;
+	}
+
+	/**
+	 * Returns the configured delay between two connection attempts when Happy Eyeballs is enabled.
+	 *
+	 * @return the configured delay between two connection attempts when Happy Eyeballs is enabled
+	 * @since 1.2.0
+	 */
+	public Duration connectionAttemptDelay() {
+		return connectionAttemptDelay;
+	}
+
 	/**
 	 * Returns the configured custom provider of {@link DnsAddressResolverGroup} or null.
 	 *
@@ -380,6 +464,26 @@ public final class NameResolverProvider {
 		return disableRecursionDesired;
 	}
 
+	/**
+	 * Returns {@code true} if Happy Eyeballs is enabled.
+	 *
+	 * @return {@code true} if Happy Eyeballs is enabled
+	 * @since 1.2.0
+	 */
+	public boolean isHappyEyeballs() {
+		return happyEyeballs;
+	}
+
+	/**
+	 * Returns {@code true} if the refresh-ahead of the cached DNS resource records is enabled.
+	 *
+	 * @return {@code true} if the refresh-ahead of the cached DNS resource records is enabled
+	 * @since 1.2.0
+	 */
+	public boolean isCacheRefreshAhead() {
+		return cacheRefreshAhead;
+	}
+
 	/**
 	 * Returns {@code true} if prefer native event loop and channel factory (e.g. epoll or kqueue).
 	 *
@@ -499,10 +603,14 @@ public final class NameResolverProvider {
 				cacheMaxTimeToLive.equals(that.cacheMaxTimeToLive) &&
 				cacheMinTimeToLive.equals(that.cacheMinTimeToLive) &&
 				cacheNegativeTimeToLive.equals(that.cacheNegativeTimeToLive) &&
+				cacheRefreshAhead == that.cacheRefreshAhead &&
+				cacheStaleTimeToLive.equals(that.cacheStaleTimeToLive) &&
 				completeOncePreferredResolved == that.completeOncePreferredResolved &&
+				connectionAttemptDelay.equals(that.connectionAttemptDelay) &&
 				disableOptionalRecord == that.disableOptionalRecord &&
 				disableRecursionDesired == that.disableRecursionDesired &&
 				Objects.equals(dnsAddressResolverGroupProvider, that.dnsAddressResolverGroupProvider) &&
+				happyEyeballs == that.happyEyeballs &&
 				Objects.equals(loggingFactory, that.loggingFactory) &&
 				Objects.equals(loopResources, that.loopResources) &&
 				maxPayloadSize == that.maxPayloadSize &&
@@ -525,10 +633,14 @@ public final class NameResolverProvider {
 		result = 31 * result + Objects.hashCode(cacheMaxTimeToLive);
 		result = 31 * result + Objects.hashCode(cacheMinTimeToLive);
 		result = 31 * result + Objects.hashCode(cacheNegativeTimeToLive);
+		result = 31 * result + Boolean.hashCode(cacheRefreshAhead);
+		result = 31 * result + Objects.hashCode(cacheStaleTimeToLive);
 		result = 31 * result + Boolean.hashCode(completeOncePreferredResolved);
+		result = 31 * result + Objects.hashCode(connectionAttemptDelay);
 		result = 31 * result + Boolean.hashCode(disableOptionalRecord);
 		result = 31 * result + Boolean.hashCode(disableRecursionDesired);
 		result = 31 * result + Objects.hashCode(dnsAddressResolverGroupProvider);
+		result = 31 * result + Boolean.hashCode(happyEyeballs);
 		result = 31 * result + Objects.hashCode(loggingFactory);
 		result = 31 * result + Objects.hashCode(loopResources);
 		result = 31 * result + maxPayloadSize;
@@ -565,7 +677,8 @@ public final class NameResolverProvider {
 		DnsNameResolverBuilder builder = new DnsNameResolverBuilder()
 				.ttl(Math.toIntExact(cacheMinTimeToLive.getSeconds()), Math.toIntExact(cacheMaxTimeToLive.getSeconds()))
 				.negativeTtl(Math.toIntExact(cacheNegativeTimeToLive.getSeconds()))
-				.completeOncePreferredResolved(completeOncePreferredResolved)
+				// Happy Eyeballs needs the addresses of all address types
+				.completeOncePreferredResolved(completeOncePreferredResolved && !happyEyeballs)
 				.optResourceEnabled(!disableOptionalRecord)
 				.recursionDesired(!disableRecursionDesired)
 				.maxPayloadSize(maxPayloadSize)
@@ -586,29 +699,53 @@ public final class NameResolverProvider {
 		if (loggingFactory != null) {
 			builder.dnsQueryLifecycleObserverFactory(loggingFactory);
 		}
+		RefreshAheadDnsCache refreshAheadDnsCache = null;
 		if (resolveCache != null) {
 			builder.resolveCache(resolveCache);
 		}
+		else if (cacheRefreshAhead) {
+			refreshAheadDnsCache = new RefreshAheadDnsCache(
+					Math.toIntExact(cacheMinTimeToLive.getSeconds()),
+					Math.toIntExact(cacheMaxTimeToLive.getSeconds()),
+					Math.toIntExact(cacheNegativeTimeToLive.getSeconds()),
+					cacheStaleTimeToLive.toNanos());
+			builder.resolveCache(refreshAheadDnsCache);
+		}
 		if (resolvedAddressTypes != null) {
 			builder.resolvedAddressTypes(resolvedAddressTypes);
 		}
 		if (searchDomains != null) {
 			builder.searchDomains(searchDomains);
 		}
+		if (refreshAheadDnsCache != null) {
+			refreshAheadDnsCache.refresher(builder.copy());
+		}
+		DnsAddressResolverGroup resolverGroup;
 		if (dnsAddressResolverGroupProvider != null) {
-			return dnsAddressResolverGroupProvider.apply(builder);
+			resolverGroup = dnsAddressResolverGroupProvider.apply(builder);
+		}
+		else {
+			resolverGroup = roundRobinSelection ? new RoundRobinDnsAddressResolverGroup(builder) : new DnsAddressResolverGroup(builder);
+		}
+		if (refreshAheadDnsCache != null) {
+			// Used by the metrics in order to find the cache of the resolver group
+			RefreshAheadDnsCache.GROUPS.put(resolverGroup, refreshAheadDnsCache);
 		}
-		return roundRobinSelection ? new RoundRobinDnsAddressResolverGroup(builder) : new DnsAddressResolverGroup(builder);
+		return resolverGroup;
 	}
 
 	final Supplier<? extends SocketAddress> bindAddressSupplier;
 	final Duration cacheMaxTimeToLive;
 	final Duration cacheMinTimeToLive;
 	final Duration cacheNegativeTimeToLive;
+	final boolean cacheRefreshAhead;
+	final Duration cacheStaleTimeToLive;
 	final boolean completeOncePreferredResolved;
+	final Duration connectionAttemptDelay;
 	final boolean disableOptionalRecord;
 	final boolean disableRecursionDesired;
 	final Function<DnsNameResolverBuilder, DnsAddressResolverGroup> dnsAddressResolverGroupProvider;
+	final boolean happyEyeballs;
 	final HostsFileEntriesResolver hostsFileEntriesResolver;
 	final DnsQueryLifecycleObserverFactory loggingFactory;
 	final LoopResources loopResources;
@@ -628,10 +765,14 @@ public final class NameResolverProvider {
 		this.cacheMaxTimeToLive = build.cacheMaxTimeToLive;
 		this.cacheMinTimeToLive = build.cacheMinTimeToLive;
 		this.cacheNegativeTimeToLive = build.cacheNegativeTimeToLive;
+		this.cacheRefreshAhead = build.cacheRefreshAhead;
+		this.cacheStaleTimeToLive = build.cacheStaleTimeToLive;
 		this.completeOncePreferredResolved = build.completeOncePreferredResolved;
+		this.connectionAttemptDelay = build.connectionAttemptDelay;
 		this.disableOptionalRecord = build.disableOptionalRecord;
 		this.disableRecursionDesired = build.disableRecursionDesired;
 		this.dnsAddressResolverGroupProvider = build.dnsAddressResolverGroupProvider;
+		this.happyEyeballs = build.happyEyeballs;
 		this.hostsFileEntriesResolver = build.hostsFileEntriesResolver;
 		this.loggingFactory = build.loggingFactory;
 		this.loopResources = build.loopResources;
@@ -651,7 +792,9 @@ public final class NameResolverProvider {
 		static final Duration DEFAULT_CACHE_MAX_TIME_TO_LIVE = Duration.ofSeconds(Integer.MAX_VALUE);
 		static final Duration DEFAULT_CACHE_MIN_TIME_TO_LIVE = Duration.ofSeconds(0);
 		static final Duration DEFAULT_CACHE_NEGATIVE_TIME_TO_LIVE = Duration.ofSeconds(0);
+		static final Duration DEFAULT_CACHE_STALE_TIME_TO_LIVE = Duration.ofSeconds(30);
 		static final boolean DEFAULT_COMPLETE_ONCE_PREFERRED_RESOLVED = true;
+		static final Duration DEFAULT_CONNECTION_ATTEMPT_DELAY = Duration.ofMillis(250);
 		static final int DEFAULT_MAX_PAYLOAD_SIZE = 4096;
 		static final int DEFAULT_MAX_QUERIES_PER_RESOLVE = 16;
 		static final int DEFAULT_NDOTS = -1;
@@ -661,10 +804,14 @@ public final class NameResolverProvider {
 		Duration cacheMaxTimeToLive = DEFAULT_CACHE_MAX_TIME_TO_LIVE;
 		Duration cacheMinTimeToLive = DEFAULT_CACHE_MIN_TIME_TO_LIVE;
 		Duration cacheNegativeTimeToLive = DEFAULT_CACHE_NEGATIVE_TIME_TO_LIVE;
+		boolean cacheRefreshAhead;
+		Duration cacheStaleTimeToLive = DEFAULT_CACHE_STALE_TIME_TO_LIVE;
 		boolean completeOncePreferredResolved = DEFAULT_COMPLETE_ONCE_PREFERRED_RESOLVED;
+		Duration connectionAttemptDelay = DEFAULT_CONNECTION_ATTEMPT_DELAY;
 		boolean disableOptionalRecord;
 		boolean disableRecursionDesired;
 		Function<DnsNameResolverBuilder, DnsAddressResolverGroup> dnsAddressResolverGroupProvider;
+		boolean happyEyeballs;
 		HostsFileEntriesResolver hostsFileEntriesResolver;
 		DnsQueryLifecycleObserverFactory loggingFactory;
 		LoopResources loopResources;
@@ -705,12 +852,38 @@ public final class NameResolverProvider {
 			return this;
 		}
 
+		@Override
+		public NameResolverSpec cacheRefreshAhead(boolean enable) {
+			this.cacheRefreshAhead = enable;
+			return this;
+		}
+
+		@Override
+		public NameResolverSpec cacheStaleTimeToLive(Duration cacheStaleTimeToLive) {
+			Objects.requireNonNull(cacheStaleTimeToLive, "cacheStaleTimeToLive");
+			if (cacheStaleTimeToLive.isNegative()) {
+				throw new IllegalArgumentException("cacheStaleTimeToLive must be positive or zero");
+			}
+			this.cacheStaleTimeToLive = cacheStaleTimeToLive;
+			return this;
+		}
+
 		@Override
 		public NameResolverSpec completeOncePreferredResolved(boolean enable) {
 			this.completeOncePreferredResolved = enable;
 			return this;
 		}
 
+		@Override
+		public NameResolverSpec connectionAttemptDelay(Duration connectionAttemptDelay) {
+			Objects.requireNonNull(connectionAttemptDelay, "connectionAttemptDelay");
+			if (connectionAttemptDelay.isNegative()) {
+				throw new IllegalArgumentException("connectionAttemptDelay must be positive or zero");
+			}
+			this.connectionAttemptDelay = connectionAttemptDelay;
+			return this;
+		}
+
 		@Override
 		public NameResolverSpec disableOptionalRecord(boolean disable) {
 			this.disableOptionalRecord = disable;
@@ -730,6 +903,12 @@ public final class NameResolverProvider {
 			return this;
 		}
 
+		@Override
+		public NameResolverSpec happyEyeballs(boolean enable) {
+			this.happyEyeballs = enable;
+			return this;
+		}
+
 		@Override
 		public NameResolverSpec hostsFileEntriesResolver(HostsFileEntriesResolver hostsFileEntriesResolver) {
 			this.hostsFileEntriesResolver = Objects.requireNonNull(hostsFileEntriesResolver);
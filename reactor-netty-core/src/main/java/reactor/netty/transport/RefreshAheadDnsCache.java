@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.dns.DnsRecord;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.dns.DnsCache;
+import io.netty.resolver.dns.DnsCacheEntry;
+import io.netty.resolver.dns.DnsNameResolver;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.util.concurrent.Future;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+import reactor.util.annotation.Nullable;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link DnsCache} that resolves again the cached host names in the background, shortly before the time to live
+ * of their records expires, so that the connections do not wait for a DNS query when a used entry expires.
+ * <p>
+ * The refresh of an entry starts on the first lookup after {@link #REFRESH_FACTOR} of its time to live elapsed.
+ * The refreshed records replace the cached ones once the resolution completes. When the refresh fails,
+ * the cached records are still returned after their expiration, for at most the configured stale time to live,
+ * and the refresh is retried on the next lookups.
+ *
+ * @since 1.2.0
+ */
+final class RefreshAheadDnsCache implements DnsCache {
+
+	static final Logger log = Loggers.getLogger(RefreshAheadDnsCache.class);
+
+	/**
+	 * The part of the time to live after which a cache hit triggers the refresh of the entry.
+	 */
+	static final double REFRESH_FACTOR = 0.8d;
+
+	/**
+	 * The minimum time between two attempts to refresh an entry, after a failed refresh.
+	 */
+	static final long REFRESH_RETRY_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+	static final Map<AddressResolverGroup<?>, RefreshAheadDnsCache> GROUPS =
+			Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Returns the {@link RefreshAheadDnsCache} used by the given {@link AddressResolverGroup} or null.
+	 *
+	 * @param resolverGroup the {@link AddressResolverGroup}
+	 * @return the {@link RefreshAheadDnsCache} used by the given {@link AddressResolverGroup} or null
+	 */
+	@Nullable
+	static RefreshAheadDnsCache get(AddressResolverGroup<?> resolverGroup) {
+		return GROUPS.get(resolverGroup);
+	}
+
+	final ConcurrentMap<String, Entries> entries = new ConcurrentHashMap<>();
+	final int minTtl;
+	final int maxTtl;
+	final int negativeTtl;
+	final long staleTimeToLiveNanos;
+
+	final LongAdder hits = new LongAdder();
+	final LongAdder misses = new LongAdder();
+	final LongAdder refreshes = new LongAdder();
+	final LongAdder refreshErrors = new LongAdder();
+
+	/**
+	 * Resolves the given host name, storing the resolved records in the given {@link DnsCache}.
+	 */
+	BiFunction<String, DnsCache, Future<List<InetAddress>>> refresher;
+
+	RefreshAheadDnsCache(int minTtl, int maxTtl, int negativeTtl, long staleTimeToLiveNanos) {
+		this.minTtl = minTtl;
+		this.maxTtl = maxTtl;
+		this.negativeTtl = negativeTtl;
+		this.staleTimeToLiveNanos = staleTimeToLiveNanos;
+	}
+
+	/**
+	 * Uses resolvers built from the given {@link DnsNameResolverBuilder} in order to refresh the entries.
+	 * A dedicated resolver is built for each refresh, so that the query is not answered from this cache
+	 * and the resolved records are stored only once the refresh completes. The resolver is closed afterwards.
+	 *
+	 * @param builder the {@link DnsNameResolverBuilder}
+	 * @return {@code this}
+	 */
+	RefreshAheadDnsCache refresher(DnsNameResolverBuilder builder) {
+		this.refresher = (hostname, cache) -> {
+			DnsNameResolver resolver = builder.copy()
+			                                  .resolveCache(cache)
+			                                  .build();
+			return resolver.resolveAll(hostname)
+			               .addListener(future -> resolver.close());
+		};
+		return this;
+	}
+
+	@Override
+	public void clear() {
+		entries.clear();
+	}
+
+	@Override
+	public boolean clear(String hostname) {
+		return entries.remove(appendDot(hostname)) != null;
+	}
+
+	@Override
+	@Nullable
+	public List<? extends DnsCacheEntry> get(String hostname, @Nullable DnsRecord[] additionals) {
+		if (!emptyAdditionals(additionals)) {
+			return null;
+		}
+
+		String key = appendDot(hostname);
+		Entries current = entries.get(key);
+		if (current == null) {
+			misses.increment();
+			return null;
+		}
+
+		long now = System.nanoTime();
+		if (now - current.expiresAt < 0) {
+			hits.increment();
+			if (current.cause == null && now - current.refreshAt >= 0) {
+				refresh(key, current, now);
+			}
+			return current.entries;
+		}
+
+		// Stale-while-revalidate, only when the entry could not be refreshed yet
+		if (current.cause == null && (current.refreshing.get() || current.refreshFailed) &&
+				now - current.expiresAt < staleTimeToLiveNanos) {
+			hits.increment();
+			refresh(key, current, now);
+			return current.entries;
+		}
+
+		entries.remove(key, current);
+		misses.increment();
+		return null;
+	}
+
+	@Override
+	public DnsCacheEntry cache(String hostname, @Nullable DnsRecord[] additionals, InetAddress address,
+			long originalTtl, EventLoop loop) {
+		Entry entry = new Entry(hostname, address, null);
+		if (maxTtl == 0 || !emptyAdditionals(additionals)) {
+			return entry;
+		}
+		long now = System.nanoTime();
+		long ttl = TimeUnit.SECONDS.toNanos(Math.max(minTtl, Math.min(maxTtl, originalTtl)));
+		entries.compute(appendDot(hostname), (key, current) -> {
+			if (current == null || current.cause != null || now - current.expiresAt >= 0) {
+				return Entries.create(hostname, Collections.singletonList(entry), null, now, ttl);
+			}
+			return current.add(entry, now, ttl);
+		});
+		return entry;
+	}
+
+	@Override
+	public DnsCacheEntry cache(String hostname, @Nullable DnsRecord[] additionals, Throwable cause, EventLoop loop) {
+		Entry entry = new Entry(hostname, null, cause);
+		if (negativeTtl == 0 || !emptyAdditionals(additionals)) {
+			return entry;
+		}
+		entries.put(appendDot(hostname),
+				Entries.create(hostname, Collections.singletonList(entry), cause, System.nanoTime(), TimeUnit.SECONDS.toNanos(negativeTtl)));
+		return entry;
+	}
+
+	@SuppressWarnings("FutureReturnValueIgnored")
+	void refresh(String key, Entries current, long now) {
+		if (refresher == null || (current.refreshFailed && now - current.retryAt < 0) ||
+				!current.refreshing.compareAndSet(false, true)) {
+			return;
+		}
+
+		Refresh refresh = new Refresh(current.hostname);
+		Future<List<InetAddress>> future;
+		try {
+			future = refresher.apply(current.hostname, refresh);
+		}
+		catch (Throwable t) {
+			onRefreshError(current, t);
+			return;
+		}
+		//"FutureReturnValueIgnored" this is deliberate
+		future.addListener(f -> {
+			if (f.isSuccess()) {
+				refreshes.increment();
+				Entries refreshed = refresh.entries();
+				if (refreshed != null) {
+					entries.replace(key, current, refreshed);
+				}
+				else {
+					// Nothing to cache (e.g. hosts file entry), the next lookup resolves the host name again
+					entries.remove(key, current);
+				}
+			}
+			else {
+				onRefreshError(current, f.cause());
+			}
+		});
+	}
+
+	void onRefreshError(Entries current, Throwable cause) {
+		refreshErrors.increment();
+		current.retryAt = System.nanoTime() + REFRESH_RETRY_INTERVAL;
+		current.refreshFailed = true;
+		current.refreshing.set(false);
+		if (log.isDebugEnabled()) {
+			log.debug("Failed to refresh the cached records for [" + current.hostname + "]", cause);
+		}
+	}
+
+	static String appendDot(String hostname) {
+		return hostname.endsWith(".") ? hostname : hostname + '.';
+	}
+
+	static boolean emptyAdditionals(@Nullable DnsRecord[] additionals) {
+		return additionals == null || additionals.length == 0;
+	}
+
+	/**
+	 * The cached records of a host name.
+	 */
+	static final class Entries {
+
+		static Entries create(String hostname, List<Entry> entries, @Nullable Throwable cause, long now, long ttl) {
+			return new Entries(hostname, entries, cause, now + ttl, now + (long) (ttl * REFRESH_FACTOR));
+		}
+
+		final String hostname;
+		final List<Entry> entries;
+		@Nullable
+		final Throwable cause;
+		final long expiresAt;
+		final long refreshAt;
+
+		final AtomicBoolean refreshing = new AtomicBoolean();
+		volatile boolean refreshFailed;
+		volatile long retryAt;
+
+		Entries(String hostname, List<Entry> entries, @Nullable Throwable cause, long expiresAt, long refreshAt) {
+			this.hostname = hostname;
+			this.entries = entries;
+			this.cause = cause;
+			this.expiresAt = expiresAt;
+			this.refreshAt = refreshAt;
+		}
+
+		/**
+		 * Returns new entries with the given entry, replacing an entry for the same address if any.
+		 * The new entries expire with the first expiring record.
+		 */
+		Entries add(Entry entry, long now, long ttl) {
+			List<Entry> list = new ArrayList<>(entries.size() + 1);
+			for (Entry e : entries) {
+				if (!e.address.equals(entry.address)) {
+					list.add(e);
+				}
+			}
+			list.add(entry);
+			long expiresAt = now + ttl;
+			long refreshAt = now + (long) (ttl * REFRESH_FACTOR);
+			return new Entries(hostname, Collections.unmodifiableList(list), null,
+					expiresAt - this.expiresAt < 0 ? expiresAt : this.expiresAt,
+					refreshAt - this.refreshAt < 0 ? refreshAt : this.refreshAt);
+		}
+	}
+
+	static final class Entry implements DnsCacheEntry {
+
+		final String hostname;
+		final InetAddress address;
+		final Throwable cause;
+
+		Entry(String hostname, @Nullable InetAddress address, @Nullable Throwable cause) {
+			this.hostname = hostname;
+			this.address = address;
+			this.cause = cause;
+		}
+
+		@Override
+		@Nullable
+		public InetAddress address() {
+			return address;
+		}
+
+		@Override
+		@Nullable
+		public Throwable cause() {
+			return cause;
+		}
+
+		@Override
+		public String toString() {
+			return cause != null ? hostname + '/' + cause : address.toString();
+		}
+	}
+
+	/**
+	 * Collects the records resolved by a refresh, without answering the queries from the cache.
+	 */
+	final class Refresh implements DnsCache {
+
+		final String hostname;
+		final String key;
+		final List<Entry> resolved = new ArrayList<>();
+
+		long ttl = Long.MAX_VALUE;
+
+		Refresh(String hostname) {
+			this.hostname = hostname;
+			this.key = appendDot(hostname);
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		@Override
+		public boolean clear(String hostname) {
+			return false;
+		}
+
+		@Override
+		@Nullable
+		public List<? extends DnsCacheEntry> get(String hostname, @Nullable DnsRecord[] additionals) {
+			return null;
+		}
+
+		@Override
+		public synchronized DnsCacheEntry cache(String hostname, @Nullable DnsRecord[] additionals, InetAddress address,
+				long originalTtl, EventLoop loop) {
+			Entry entry = new Entry(hostname, address, null);
+			if (maxTtl != 0 && emptyAdditionals(additionals) && key.equals(appendDot(hostname))) {
+				resolved.removeIf(e -> e.address.equals(address));
+				resolved.add(entry);
+				ttl = Math.min(ttl, TimeUnit.SECONDS.toNanos(Math.max(minTtl, Math.min(maxTtl, originalTtl))));
+			}
+			return entry;
+		}
+
+		@Override
+		public DnsCacheEntry cache(String hostname, @Nullable DnsRecord[] additionals, Throwable cause, EventLoop loop) {
+			return new Entry(hostname, null, cause);
+		}
+
+		@Nullable
+		synchronized Entries entries() {
+			if (resolved.isEmpty()) {
+				return null;
+			}
+			return Entries.create(hostname, Collections.unmodifiableList(new ArrayList<>(resolved)), null, System.nanoTime(), ttl);
+		}
+	}
+}
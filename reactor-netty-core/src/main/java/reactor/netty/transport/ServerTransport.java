@@ -20,12 +20,15 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
@@ -36,14 +39,17 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.unix.DomainSocketAddress;
 import io.netty.handler.codec.DecoderException;
 import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.EventExecutor;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.MonoSink;
 import reactor.core.publisher.Operators;
@@ -53,6 +59,7 @@ import reactor.netty.ConnectionObserver;
 import reactor.netty.DisposableServer;
 import reactor.netty.FutureMono;
 import reactor.netty.channel.AbortedException;
+import reactor.netty.channel.ChannelMetricsRecorder;
 import reactor.netty.channel.ChannelOperations;
 import reactor.netty.internal.util.MapUtils;
 import reactor.netty.resources.ConnectionProvider;
@@ -113,8 +120,17 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 					new ChildObserver(config.defaultChildObserver().then(config.childObserver()));
 			ChannelInitializer<Channel> channelInitializer = config.channelInitializer(childObs, null, true);
 			if (!config.channelType(isDomainSocket).equals(DatagramChannel.class)) {
+				if (!isDomainSocket && config.reusePortAcceptors != 1) {
+					bindReusePort(config, channelInitializer, local)
+							.map(channels -> {
+								disposableServer.reusePortChannels = channels.subList(1, channels.size());
+								return channels.get(0);
+							})
+							.subscribe(disposableServer);
+					return;
+				}
 				Acceptor acceptor = new Acceptor(config.childEventLoopGroup(), channelInitializer,
-						config.childOptions, config.childAttrs, isDomainSocket);
+						config.childOptions, config.childAttrs, isDomainSocket, config.childEventLoopChooser, null, null);
 				channelInitializer = new AcceptorInitializer(acceptor);
 			}
 			TransportConnector.bind(config, channelInitializer, local, isDomainSocket)
@@ -209,6 +225,23 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 		return dup;
 	}
 
+	/**
+	 * Set the {@link EventLoopChooser} assigning the remote connections to the event loops.
+	 * By default, the connections are assigned in a round-robin fashion, see {@link EventLoopChooser#roundRobin()}.
+	 * Not applicable to the server channels bound with {@link #reusePortAcceptors(int)}, as their connections are
+	 * served by the event loop of the server channel.
+	 *
+	 * @param chooser the {@link EventLoopChooser} to use
+	 * @return a new {@link ServerTransport} reference
+	 * @since 1.2.0
+	 */
+	public T childEventLoopChooser(EventLoopChooser chooser) {
+		Objects.requireNonNull(chooser, "chooser");
+		T dup = duplicate();
+		dup.configuration().childEventLoopChooser = chooser == EventLoopChooser.roundRobin() ? null : chooser;
+		return dup;
+	}
+
 	/**
 	 * Set or add the given {@link ConnectionObserver} for each remote connection.
 	 *
@@ -334,6 +367,33 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 		return bindAddress(() -> AddressUtils.updatePort(configuration().bindAddress(), port));
 	}
 
+	/**
+	 * Binds several server channels to the same address with {@code SO_REUSEPORT}, so that the kernel spreads
+	 * the incoming connections across them instead of a single server channel accepting all of them.
+	 * Each server channel is registered on an event loop of the child event loop group, and the connections it accepts
+	 * are served by that event loop. All server channels are exposed by a single {@link DisposableServer}.
+	 * <p>{@code SO_REUSEPORT} is supported with the native transports and with NIO on JDK 9+, on Linux.
+	 * The number of the accepted connections per acceptor is recorded when the metrics are enabled.
+	 * Not applicable to Unix Domain Sockets. Default to {@code 1} - a single server channel.
+	 *
+	 * @param acceptors the number of server channels, {@code 0} for one per event loop of the child event loop group
+	 * @return a new {@link ServerTransport} reference
+	 * @since 1.2.0
+	 */
+	public T reusePortAcceptors(int acceptors) {
+		if (acceptors < 0) {
+			throw new IllegalArgumentException("acceptors must be positive or zero");
+		}
+		if (acceptors == configuration().reusePortAcceptors) {
+			@SuppressWarnings("unchecked")
+			T dup = (T) this;
+			return dup;
+		}
+		T dup = duplicate();
+		dup.configuration().reusePortAcceptors = acceptors;
+		return dup;
+	}
+
 	/**
 	 * Based on the actual configuration, returns a {@link Mono} that triggers:
 	 * <ul>
@@ -364,30 +424,45 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 		final Map<ChannelOption<?>, ?> childOptions;
 		final Map<AttributeKey<?>, ?> childAttrs;
 		final boolean isDomainSocket;
+		@Nullable
+		final EventLoopChooser chooser;
+		@Nullable
+		final ChannelMetricsRecorder recorder;
+		@Nullable
+		final String id;
 
 		Runnable enableAutoReadTask;
 
 		Acceptor(EventLoopGroup childGroup, ChannelHandler childHandler,
 				Map<ChannelOption<?>, ?> childOptions, Map<AttributeKey<?>, ?> childAttrs,
-				boolean isDomainSocket) {
+				boolean isDomainSocket, @Nullable EventLoopChooser chooser,
+				@Nullable ChannelMetricsRecorder recorder, @Nullable String id) {
 			this.childGroup = childGroup;
 			this.childHandler = childHandler;
 			this.childOptions = childOptions;
 			this.childAttrs = childAttrs;
 			this.isDomainSocket = isDomainSocket;
+			this.chooser = chooser;
+			this.recorder = recorder;
+			this.id = id;
 		}
 
 		@Override
 		public void channelRead(ChannelHandlerContext ctx, Object msg) {
 			final Channel child = (Channel) msg;
 
+			if (recorder != null && id != null) {
+				recorder.recordServerConnectionAccepted(ctx.channel().localAddress(), id);
+			}
+
 			child.pipeline().addLast(childHandler);
 
 			TransportConnector.setChannelOptions(child, childOptions, isDomainSocket);
 			TransportConnector.setAttributes(child, childAttrs);
 
 			try {
-				childGroup.register(child).addListener((ChannelFutureListener) future -> {
+				EventLoopGroup group = chooser != null ? chooser.next(childGroup, child) : childGroup;
+				group.register(child).addListener((ChannelFutureListener) future -> {
 					if (!future.isSuccess()) {
 						forceClose(child, future.cause());
 					}
@@ -434,6 +509,57 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 		}
 	}
 
+	/**
+	 * Binds one server channel with {@code SO_REUSEPORT} per acceptor. The server channel of each acceptor is registered
+	 * on an event loop of the child event loop group, which also serves the accepted connections.
+	 * The first server channel is bound to the requested address, the others to its actual address.
+	 */
+	static Mono<List<Channel>> bindReusePort(ServerTransportConfig<?> config, ChannelInitializer<Channel> childHandler,
+			SocketAddress bindAddress) {
+		List<EventLoop> eventLoops = new ArrayList<>();
+		for (EventExecutor executor : config.childEventLoopGroup()) {
+			if (executor instanceof EventLoop) {
+				eventLoops.add((EventLoop) executor);
+			}
+		}
+		if (eventLoops.isEmpty()) {
+			return Mono.error(new IllegalStateException("No event loop available for the acceptors"));
+		}
+
+		int acceptors = config.reusePortAcceptors == 0 ? eventLoops.size() : config.reusePortAcceptors;
+		Supplier<? extends ChannelMetricsRecorder> metricsRecorder = config.metricsRecorder();
+		ChannelMetricsRecorder recorder = metricsRecorder != null ? metricsRecorder.get() : null;
+
+		List<Channel> channels = new CopyOnWriteArrayList<>();
+		return bindReusePort(config, childHandler, bindAddress, eventLoops.get(0), recorder, 0)
+				.flatMap(first -> {
+					channels.add(first);
+					SocketAddress localAddress = first.localAddress();
+					return Flux.range(1, acceptors - 1)
+					           .flatMap(i -> bindReusePort(config, childHandler, localAddress,
+					                   eventLoops.get(i % eventLoops.size()), recorder, i))
+					           .doOnNext(channels::add)
+					           .then(Mono.fromSupplier(() -> (List<Channel>) new ArrayList<>(channels)));
+				})
+				.doOnError(t -> closeAll(channels))
+				.doOnCancel(() -> closeAll(channels));
+	}
+
+	static Mono<Channel> bindReusePort(ServerTransportConfig<?> config, ChannelInitializer<Channel> childHandler,
+			SocketAddress bindAddress, EventLoop eventLoop, @Nullable ChannelMetricsRecorder recorder, int index) {
+		Acceptor acceptor = new Acceptor(eventLoop, childHandler, config.childOptions, config.childAttrs, false,
+				null, recorder, String.valueOf(index));
+		return TransportConnector.bindReusePort(config, new AcceptorInitializer(acceptor), bindAddress, eventLoop);
+	}
+
+	@SuppressWarnings("FutureReturnValueIgnored")
+	static void closeAll(List<Channel> channels) {
+		for (Channel channel : channels) {
+			//"FutureReturnValueIgnored" this is deliberate
+			channel.close();
+		}
+	}
+
 	static final class AcceptorInitializer extends ChannelInitializer<Channel> {
 
 		final Acceptor acceptor;
@@ -495,6 +621,7 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 		final SocketAddress              bindAddress;
 
 		Channel channel;
+		List<Channel> reusePortChannels = Collections.emptyList();
 		Subscription subscription;
 
 		DisposableBind(MonoSink<DisposableServer> sink, TransportConfig config, SocketAddress bindAddress) {
@@ -518,9 +645,11 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 		@SuppressWarnings("FutureReturnValueIgnored")
 		public final void dispose() {
 			if (channel != null) {
-				if (channel.isActive()) {
+				if (!isDisposed()) {
 					//"FutureReturnValueIgnored" this is deliberate
 					channel.close();
+					// the acceptors are closed independently of the state of the first one
+					closeAll(reusePortChannels);
 
 					LoopResources loopResources = config.loopResources();
 					if (loopResources instanceof ConnectionProvider) {
@@ -533,6 +662,28 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 			}
 		}
 
+		@Override
+		public boolean isDisposed() {
+			if (channel().isActive()) {
+				return false;
+			}
+			for (Channel reusePortChannel : reusePortChannels) {
+				if (reusePortChannel.isActive()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public Mono<Void> onDispose() {
+			Mono<Void> onDispose = FutureMono.from(channel().closeFuture());
+			for (Channel reusePortChannel : reusePortChannels) {
+				onDispose = onDispose.and(FutureMono.from(reusePortChannel.closeFuture()));
+			}
+			return onDispose;
+		}
+
 		@Override
 		@SuppressWarnings("FutureReturnValueIgnored")
 		public void disposeNow(Duration timeout) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2020-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -59,6 +59,18 @@ public abstract class ServerTransportConfig<CONF extends TransportConfig> extend
 		return Collections.unmodifiableMap(childAttrs);
 	}
 
+	/**
+	 * Return the configured {@link EventLoopChooser} assigning the remote connections to the event loops
+	 * or null when they are assigned in a round-robin fashion.
+	 *
+	 * @return the configured {@link EventLoopChooser} or null
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public final EventLoopChooser childEventLoopChooser() {
+		return childEventLoopChooser;
+	}
+
 	/**
 	 * Return the configured {@link ConnectionObserver} if any or
 	 * {@link ConnectionObserver#emptyListener()} for each remote connection.
@@ -122,16 +134,29 @@ public abstract class ServerTransportConfig<CONF extends TransportConfig> extend
 		return doOnUnbound;
 	}
 
+	/**
+	 * Return the number of server channels bound with {@code SO_REUSEPORT}, {@code 0} meaning one per event loop,
+	 * or {@code 1} when a single server channel is bound.
+	 *
+	 * @return the number of server channels bound with {@code SO_REUSEPORT}
+	 * @since 1.2.0
+	 */
+	public final int reusePortAcceptors() {
+		return reusePortAcceptors;
+	}
+
 
 	// Protected/Package private write API
 
 	Map<AttributeKey<?>, ?>            childAttrs;
+	EventLoopChooser                   childEventLoopChooser;
 	ConnectionObserver                 childObserver;
 	Map<ChannelOption<?>, ?>           childOptions;
 	Consumer<? super CONF>             doOnBind;
 	Consumer<? super DisposableServer> doOnBound;
 	Consumer<? super Connection>       doOnConnection;
 	Consumer<? super DisposableServer> doOnUnbound;
+	int                                reusePortAcceptors;
 
 	/**
 	 * Default ServerTransportConfig with options.
@@ -146,17 +171,20 @@ public abstract class ServerTransportConfig<CONF extends TransportConfig> extend
 		this.childAttrs = Collections.emptyMap();
 		this.childObserver = ConnectionObserver.emptyListener();
 		this.childOptions = Objects.requireNonNull(childOptions, "childOptions");
+		this.reusePortAcceptors = 1;
 	}
 
 	protected ServerTransportConfig(ServerTransportConfig<CONF> parent) {
 		super(parent);
 		this.childAttrs = parent.childAttrs;
+		this.childEventLoopChooser = parent.childEventLoopChooser;
 		this.childObserver = parent.childObserver;
 		this.childOptions = parent.childOptions;
 		this.doOnBind = parent.doOnBind;
 		this.doOnBound = parent.doOnBound;
 		this.doOnConnection = parent.doOnConnection;
 		this.doOnUnbound = parent.doOnUnbound;
+		this.reusePortAcceptors = parent.reusePortAcceptors;
 	}
 
 	@Override
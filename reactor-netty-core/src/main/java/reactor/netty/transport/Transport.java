@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2022 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2020-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,6 +32,7 @@ import reactor.netty.ChannelPipelineConfigurer;
 import reactor.netty.ConnectionObserver;
 import reactor.netty.DisposableChannel;
 import reactor.netty.channel.ChannelMetricsRecorder;
+import reactor.netty.channel.InboundBufferWatermarks;
 import reactor.netty.internal.util.Metrics;
 import reactor.netty.transport.logging.AdvancedByteBufFormat;
 import reactor.netty.resources.LoopResources;
@@ -118,6 +119,59 @@ public abstract class Transport<T extends Transport<T, C>, C extends TransportCo
 		return dup;
 	}
 
+	/**
+	 * Configure when the flush operations issued while writing to the connections reach the socket.
+	 * By default, {@link FlushPolicy#immediate()} is used.
+	 *
+	 * @param flushPolicy the {@link FlushPolicy} to apply
+	 * @return a new {@link Transport} reference
+	 * @since 1.2.0
+	 */
+	public T flushPolicy(FlushPolicy flushPolicy) {
+		Objects.requireNonNull(flushPolicy, "flushPolicy");
+		T dup = duplicate();
+		dup.configuration().flushPolicy = flushPolicy;
+		return dup;
+	}
+
+	/**
+	 * Bound the inbound memory of each connection in bytes. The inbound messages not yet requested by the
+	 * {@link reactor.netty.NettyInbound#receive()} subscriber are buffered, reading from the connection is suspended
+	 * when their readable bytes reach {@link InboundBufferWatermarks#high()} and resumed when they drop to
+	 * {@link InboundBufferWatermarks#low()}. By default, reading is suspended based on the number of the buffered
+	 * messages only, regardless of their size.
+	 *
+	 * @param watermarks the {@link InboundBufferWatermarks} to apply or null to restore the default
+	 * @return a new {@link Transport} reference
+	 * @since 1.2.0
+	 */
+	public T inboundBufferWatermarks(@Nullable InboundBufferWatermarks watermarks) {
+		T dup = duplicate();
+		dup.configuration().inboundBufferWatermarks = watermarks;
+		return dup;
+	}
+
+	/**
+	 * Merge the consecutive small buffers written by the {@link reactor.netty.NettyOutbound#send} operations
+	 * into pooled direct buffers of up to {@code threshold} bytes, e.g. the TLS record size, so that fewer
+	 * buffers are written and encrypted. Only the buffers already available when writing are merged,
+	 * the writes are never delayed. The buffers that are not smaller than the threshold are written as is.
+	 * When metrics are enabled, the bytes sent in merged buffers are recorded in addition to the bytes sent.
+	 * By default, the write coalescing is disabled.
+	 *
+	 * @param threshold the maximum size of a merged buffer in bytes, {@code 0} disables the write coalescing
+	 * @return a new {@link Transport} reference
+	 * @since 1.2.0
+	 */
+	public T writeCoalescingThreshold(int threshold) {
+		if (threshold < 0) {
+			throw new IllegalArgumentException("threshold must be greater or equal to 0");
+		}
+		T dup = duplicate();
+		dup.configuration().writeCoalescingThreshold = threshold;
+		return dup;
+	}
+
 	/**
 	 * Whether to enable metrics to be collected and registered in Micrometer's
 	 * {@link io.micrometer.core.instrument.Metrics#globalRegistry globalRegistry}.
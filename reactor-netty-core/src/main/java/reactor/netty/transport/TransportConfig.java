@@ -27,6 +27,7 @@ import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
@@ -39,6 +40,7 @@ import reactor.netty.ConnectionObserver;
 import reactor.netty.NettyPipeline;
 import reactor.netty.channel.ChannelMetricsRecorder;
 import reactor.netty.channel.ChannelOperations;
+import reactor.netty.channel.InboundBufferWatermarks;
 import reactor.netty.internal.util.MapUtils;
 import reactor.netty.internal.util.Metrics;
 import reactor.netty.resources.LoopResources;
@@ -86,12 +88,15 @@ public abstract class TransportConfig {
 		result = 31 * result + (bindAddress != null ? Objects.hashCode(bindAddress.get()) : 0);
 		result = 31 * result + Objects.hashCode(channelGroup);
 		result = 31 * result + Objects.hashCode(doOnChannelInit);
+		result = 31 * result + Objects.hashCode(flushPolicy);
+		result = 31 * result + Objects.hashCode(inboundBufferWatermarks);
 		result = 31 * result + Objects.hashCode(loggingHandler);
 		result = 31 * result + Objects.hashCode(loopResources);
 		result = 31 * result + Objects.hashCode(metricsRecorder);
 		result = 31 * result + Objects.hashCode(observer);
 		result = 31 * result + Objects.hashCode(options);
 		result = 31 * result + Boolean.hashCode(preferNative);
+		result = 31 * result + writeCoalescingThreshold;
 		return result;
 	}
 
@@ -146,6 +151,38 @@ public abstract class TransportConfig {
 		return doOnChannelInit;
 	}
 
+	/**
+	 * Return the configured {@link FlushPolicy}.
+	 *
+	 * @return the configured {@link FlushPolicy}
+	 * @since 1.2.0
+	 */
+	public final FlushPolicy flushPolicy() {
+		return flushPolicy;
+	}
+
+	/**
+	 * Return the configured {@link InboundBufferWatermarks} or null.
+	 *
+	 * @return the configured {@link InboundBufferWatermarks} or null
+	 * @since 1.2.0
+	 */
+	@Nullable
+	public final InboundBufferWatermarks inboundBufferWatermarks() {
+		return inboundBufferWatermarks;
+	}
+
+	/**
+	 * Return the size, in bytes, below which the consecutive buffers written on a connection are merged,
+	 * or {@code 0} when the write coalescing is disabled.
+	 *
+	 * @return the write coalescing threshold in bytes
+	 * @since 1.2.0
+	 */
+	public final int writeCoalescingThreshold() {
+		return writeCoalescingThreshold;
+	}
+
 	/**
 	 * Return {@code true} if prefer native event loop and channel factory (e.g. epoll or kqueue).
 	 *
@@ -203,12 +240,15 @@ public abstract class TransportConfig {
 	Supplier<? extends SocketAddress>          bindAddress;
 	ChannelGroup                               channelGroup;
 	ChannelPipelineConfigurer                  doOnChannelInit;
+	FlushPolicy                                flushPolicy;
+	InboundBufferWatermarks                    inboundBufferWatermarks;
 	LoggingHandler                             loggingHandler;
 	LoopResources                              loopResources;
 	ChannelMetricsRecorder                     metricsRecorder;
 	ConnectionObserver                         observer;
 	Map<ChannelOption<?>, ?>                   options;
 	boolean                                    preferNative;
+	int                                        writeCoalescingThreshold;
 
 	/**
 	 * Default TransportConfig with options.
@@ -216,6 +256,7 @@ public abstract class TransportConfig {
 	protected TransportConfig(Map<ChannelOption<?>, ?> options) {
 		this.attrs = Collections.emptyMap();
 		this.doOnChannelInit = ChannelPipelineConfigurer.emptyConfigurer();
+		this.flushPolicy = FlushPolicy.immediate();
 		this.observer = ConnectionObserver.emptyListener();
 		this.options = requireNonNull(options, "options");
 		this.preferNative = LoopResources.DEFAULT_NATIVE;
@@ -228,6 +269,7 @@ public abstract class TransportConfig {
 		this.attrs = Collections.emptyMap();
 		this.bindAddress = requireNonNull(bindAddress, "bindAddress");
 		this.doOnChannelInit = ChannelPipelineConfigurer.emptyConfigurer();
+		this.flushPolicy = FlushPolicy.immediate();
 		this.observer = ConnectionObserver.emptyListener();
 		this.options = requireNonNull(options, "options");
 		this.preferNative = LoopResources.DEFAULT_NATIVE;
@@ -241,12 +283,15 @@ public abstract class TransportConfig {
 		this.bindAddress = parent.bindAddress;
 		this.channelGroup = parent.channelGroup;
 		this.doOnChannelInit = parent.doOnChannelInit;
+		this.flushPolicy = parent.flushPolicy;
+		this.inboundBufferWatermarks = parent.inboundBufferWatermarks;
 		this.loggingHandler = parent.loggingHandler;
 		this.loopResources = parent.loopResources;
 		this.metricsRecorder = parent.metricsRecorder;
 		this.observer = parent.observer;
 		this.options = parent.options;
 		this.preferNative = parent.preferNative;
+		this.writeCoalescingThreshold = parent.writeCoalescingThreshold;
 	}
 
 	/**
@@ -383,6 +428,13 @@ public abstract class TransportConfig {
 		protected void initChannel(Channel channel) {
 			ChannelPipeline pipeline = channel.pipeline();
 
+			// added first, so that it is closest to the socket when the pipeline is initialized,
+			// the handlers added later with addFirst (e.g. SslHandler) are in front of it and see only the consolidated flushes
+			ChannelHandler flushHandler = config.flushPolicy.newHandler();
+			if (flushHandler != null) {
+				pipeline.addFirst(NettyPipeline.FlushConsolidationHandler, flushHandler);
+			}
+
 			if (config.metricsRecorder != null) {
 				ChannelOperations.addMetricsHandler(channel, config.metricsRecorder, remoteAddress, onServer);
 
@@ -413,6 +465,14 @@ public abstract class TransportConfig {
 
 			ChannelOperations.addReactiveBridge(channel, config.channelOperationsProvider(), connectionObserver);
 
+			if (config.inboundBufferWatermarks != null) {
+				ChannelOperations.setInboundBufferWatermarks(channel, config.inboundBufferWatermarks);
+			}
+
+			if (config.writeCoalescingThreshold > 0) {
+				ChannelOperations.setWriteCoalescingThreshold(channel, config.writeCoalescingThreshold);
+			}
+
 			config.defaultOnChannelInit()
 			      .then(config.doOnChannelInit)
 			      .onChannelInit(connectionObserver, channel, remoteAddress);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2020-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package reactor.netty.transport;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
 import io.netty.channel.ChannelFactory;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
@@ -23,16 +24,20 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.DefaultChannelPromise;
 import io.netty.channel.EventLoop;
+import io.netty.channel.socket.nio.NioChannelOption;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.channel.unix.UnixChannelOption;
 import io.netty.resolver.AddressResolver;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.FutureListener;
 import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.concurrent.ScheduledFuture;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 import reactor.netty.Connection;
 import reactor.util.Logger;
 import reactor.util.Loggers;
@@ -41,7 +46,14 @@ import reactor.util.context.Context;
 import reactor.util.context.ContextView;
 import reactor.util.retry.Retry;
 
+import java.net.Inet6Address;
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.net.SocketOption;
+import java.net.StandardSocketOptions;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -93,6 +105,31 @@ public final class TransportConnector {
 				});
 	}
 
+	/**
+	 * Binds a server {@link Channel} with {@code SO_REUSEPORT} on the given {@link EventLoop}.
+	 * Fails with {@link UnsupportedOperationException} when the transport does not support {@code SO_REUSEPORT}.
+	 */
+	@SuppressWarnings("FutureReturnValueIgnored")
+	static Mono<Channel> bindReusePort(TransportConfig config, ChannelInitializer<Channel> channelInitializer,
+			SocketAddress bindAddress, EventLoop eventLoop) {
+		return doInitAndRegister(config, channelInitializer, false, eventLoop)
+				.flatMap(channel -> {
+					MonoChannelPromise promise = new MonoChannelPromise(channel);
+					// "FutureReturnValueIgnored" this is deliberate
+					channel.eventLoop().execute(() -> {
+						if (setReusePort(channel)) {
+							channel.bind(bindAddress, promise.unvoid());
+						}
+						else {
+							channel.unsafe().closeForcibly();
+							promise.setFailure(new UnsupportedOperationException(
+									"SO_REUSEPORT is not supported by " + channel.getClass().getName()));
+						}
+					});
+					return promise;
+				});
+	}
+
 	/**
 	 * Connect a {@link Channel} to the remote peer.
 	 *
@@ -162,7 +199,7 @@ public final class TransportConnector {
 
 		boolean isDomainAddress = remoteAddress instanceof DomainSocketAddress;
 		return doInitAndRegister(config, channelInitializer, isDomainAddress, eventLoop)
-				.flatMap(channel -> doResolveAndConnect(channel, config, remoteAddress, resolverGroup, contextView)
+				.flatMap(channel -> doResolveAndConnect(channel, config, remoteAddress, resolverGroup, channelInitializer, contextView)
 						.onErrorResume(RetryConnectException.class,
 								t -> {
 									AtomicInteger index = new AtomicInteger(1);
@@ -265,6 +302,102 @@ public final class TransportConnector {
 		});
 	}
 
+	@SuppressWarnings("FutureReturnValueIgnored")
+	static Mono<Channel> doConnectHappyEyeballs(Channel channel, Future<List<SocketAddress>> resolveFuture,
+			TransportConfig config, ChannelInitializer<Channel> channelInitializer, Duration connectionAttemptDelay,
+			ContextView contextView) {
+		return Mono.create(sink -> {
+			HappyEyeballsConnect connect =
+					new HappyEyeballsConnect(channel, config, channelInitializer, connectionAttemptDelay, contextView, sink);
+			// Registered before the resolution completes, a cancellation during the resolution closes the channel
+			sink.onCancel(() -> channel.eventLoop().execute(connect::cancel));
+			resolveFuture.addListener((FutureListener<List<SocketAddress>>) future -> {
+				if (future.cause() != null) {
+					// "FutureReturnValueIgnored" this is deliberate
+					channel.close();
+					sink.error(future.cause());
+				}
+				else if (future.getNow().isEmpty()) {
+					// "FutureReturnValueIgnored" this is deliberate
+					channel.close();
+					sink.error(new UnknownHostException("The name resolver returned no addresses"));
+				}
+				else {
+					connect.start(interleave(future.getNow()));
+				}
+			});
+		});
+	}
+
+	/**
+	 * Returns the delay between the connection attempts when Happy Eyeballs is enabled, otherwise {@code null}.
+	 */
+	@Nullable
+	static Duration connectionAttemptDelay(TransportConfig config) {
+		if (config instanceof ClientTransportConfig) {
+			NameResolverProvider nameResolverProvider = ((ClientTransportConfig<?>) config).getNameResolverProvider();
+			if (nameResolverProvider != null && nameResolverProvider.isHappyEyeballs()) {
+				return nameResolverProvider.connectionAttemptDelay();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Interleaves the address families as described in
+	 * <a href="https://datatracker.ietf.org/doc/html/rfc8305#section-4">RFC 8305, Section 4</a>.
+	 * The first address family is the family of the first address, the order within a family is preserved.
+	 *
+	 * @param addresses the resolved addresses
+	 * @return the addresses with interleaved address families
+	 */
+	static List<SocketAddress> interleave(List<SocketAddress> addresses) {
+		if (addresses.size() < 3) {
+			return addresses;
+		}
+		boolean firstIpv6 = isIpv6(addresses.get(0));
+		List<SocketAddress> first = new ArrayList<>(addresses.size());
+		List<SocketAddress> second = new ArrayList<>(addresses.size());
+		for (SocketAddress address : addresses) {
+			if (isIpv6(address) == firstIpv6) {
+				first.add(address);
+			}
+			else {
+				second.add(address);
+			}
+		}
+		if (second.isEmpty()) {
+			return addresses;
+		}
+		List<SocketAddress> result = new ArrayList<>(addresses.size());
+		for (int i = 0; i < Math.max(first.size(), second.size()); i++) {
+			if (i < first.size()) {
+				result.add(first.get(i));
+			}
+			if (i < second.size()) {
+				result.add(second.get(i));
+			}
+		}
+		return result;
+	}
+
+	static boolean isIpv6(SocketAddress address) {
+		return address instanceof InetSocketAddress && ((InetSocketAddress) address).getAddress() instanceof Inet6Address;
+	}
+
+	/**
+	 * Enables {@code SO_REUSEPORT}, with the native transports or with NIO when the JDK supports it.
+	 *
+	 * @return true if {@code SO_REUSEPORT} is enabled
+	 */
+	static boolean setReusePort(Channel channel) {
+		ChannelConfig channelConfig = channel.config();
+		if (channelConfig.setOption(UnixChannelOption.SO_REUSEPORT, true)) {
+			return true;
+		}
+		return NIO_SO_REUSEPORT != null && channelConfig.setOption(NIO_SO_REUSEPORT, true);
+	}
+
 	static Mono<Channel> doInitAndRegister(
 			TransportConfig config,
 			ChannelInitializer<Channel> channelInitializer,
@@ -296,7 +429,8 @@ public final class TransportConnector {
 
 	@SuppressWarnings({"unchecked", "FutureReturnValueIgnored", "try"})
 	static Mono<Channel> doResolveAndConnect(Channel channel, TransportConfig config,
-			SocketAddress remoteAddress, AddressResolverGroup<?> resolverGroup, ContextView contextView) {
+			SocketAddress remoteAddress, AddressResolverGroup<?> resolverGroup,
+			ChannelInitializer<Channel> channelInitializer, ContextView contextView) {
 		try {
 			AddressResolver<SocketAddress> resolver;
 			try {
@@ -355,6 +489,12 @@ public final class TransportConnector {
 				}
 			}
 
+			Duration connectionAttemptDelay = connectionAttemptDelay(config);
+			if (connectionAttemptDelay != null) {
+				return doConnectHappyEyeballs(channel, resolveFuture, config, channelInitializer, connectionAttemptDelay,
+						contextView);
+			}
+
 			if (resolveFuture.isDone()) {
 				Throwable cause = resolveFuture.cause();
 				if (cause != null) {
@@ -650,6 +790,213 @@ public final class TransportConnector {
 		volatile Object result;
 	}
 
+	/**
+	 * Races the connection attempts as described in <a href="https://datatracker.ietf.org/doc/html/rfc8305">RFC 8305</a>.
+	 * The first attempt is performed with the already initialized channel, a new attempt is started when the connection
+	 * attempt delay elapses or when the previous attempt fails. The first established connection wins, all other attempts
+	 * are cancelled. The channels for the subsequent attempts are registered without the channel initializer, so that
+	 * the pipeline is initialized only for the channel that wins. All methods are invoked on the event loop.
+	 */
+	static final class HappyEyeballsConnect implements Runnable {
+
+		final Supplier<? extends SocketAddress> bindAddress;
+		final List<Channel> channels;
+		final ChannelInitializer<Channel> channelInitializer;
+		final TransportConfig config;
+		final long connectionAttemptDelayNanos;
+		final ContextView contextView;
+		final EventLoop eventLoop;
+		final Channel initialChannel;
+		final MonoSink<Channel> sink;
+
+		List<SocketAddress> addresses = Collections.emptyList();
+		boolean autoRead = true;
+		boolean done;
+		int inProgress;
+		int next;
+		ScheduledFuture<?> nextAttempt;
+
+		HappyEyeballsConnect(Channel initialChannel, TransportConfig config, ChannelInitializer<Channel> channelInitializer,
+				Duration connectionAttemptDelay, ContextView contextView, MonoSink<Channel> sink) {
+			this.bindAddress = config.bindAddress();
+			this.channels = new ArrayList<>();
+			this.channelInitializer = channelInitializer;
+			this.config = config;
+			this.connectionAttemptDelayNanos = connectionAttemptDelay.toNanos();
+			this.contextView = contextView;
+			this.eventLoop = initialChannel.eventLoop();
+			this.initialChannel = initialChannel;
+			this.sink = sink;
+		}
+
+		@Override
+		public void run() {
+			nextAttempt = null;
+			startNextAttempt();
+		}
+
+		void start(List<SocketAddress> addresses) {
+			if (!eventLoop.inEventLoop()) {
+				eventLoop.execute(() -> start(addresses));
+				return;
+			}
+			if (done) {
+				// cancelled during the resolution
+				return;
+			}
+			this.addresses = addresses;
+			SocketAddress remoteAddress = addresses.get(next++);
+			inProgress++;
+			channels.add(initialChannel);
+			scheduleNextAttempt();
+			connect(initialChannel, remoteAddress);
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void cancel() {
+			if (done) {
+				return;
+			}
+			done = true;
+			cancelNextAttempt();
+			for (Channel channel : channels) {
+				// "FutureReturnValueIgnored" this is deliberate
+				channel.close();
+			}
+			channels.clear();
+			// the initial channel is not yet in the attempts when cancelled during the resolution
+			// "FutureReturnValueIgnored" this is deliberate
+			initialChannel.close();
+		}
+
+		void cancelNextAttempt() {
+			ScheduledFuture<?> nextAttempt = this.nextAttempt;
+			if (nextAttempt != null) {
+				nextAttempt.cancel(false);
+				this.nextAttempt = null;
+			}
+		}
+
+		void connect(Channel channel, SocketAddress remoteAddress) {
+			if (log.isDebugEnabled()) {
+				log.debug(format(channel, "Connecting to [" + remoteAddress + "]."));
+			}
+
+			ChannelFuture f;
+			if (bindAddress == null) {
+				f = channel.connect(remoteAddress);
+			}
+			else {
+				SocketAddress local = Objects.requireNonNull(bindAddress.get(), "bindAddress");
+				f = channel.connect(remoteAddress, local);
+			}
+
+			f.addListener(future -> {
+				if (future.isSuccess()) {
+					onConnected(channel);
+				}
+				else {
+					onFailed(channel, remoteAddress, future.cause());
+				}
+			});
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void onConnected(Channel channel) {
+			if (done) {
+				// "FutureReturnValueIgnored" this is deliberate
+				channel.close();
+				return;
+			}
+			done = true;
+			cancelNextAttempt();
+			for (Channel other : channels) {
+				if (other != channel) {
+					if (log.isDebugEnabled()) {
+						log.debug(format(other, "Connection attempt cancelled, another attempt succeeded."));
+					}
+					// "FutureReturnValueIgnored" this is deliberate
+					other.close();
+				}
+			}
+			channels.clear();
+
+			if (channel != initialChannel) {
+				if (!contextView.isEmpty()) {
+					setChannelContext(channel, contextView);
+				}
+				// The channel is already registered and active, replay these events for the handlers added by the initializer
+				channel.pipeline().addLast(channelInitializer);
+				channel.pipeline().fireChannelRegistered();
+				channel.pipeline().fireChannelActive();
+				channel.config().setAutoRead(autoRead);
+			}
+
+			sink.success(channel);
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void onFailed(@Nullable Channel channel, SocketAddress remoteAddress, Throwable cause) {
+			if (channel != null) {
+				if (log.isDebugEnabled()) {
+					log.debug(format(channel, "Connect attempt to [" + remoteAddress + "] failed."), cause);
+				}
+				channels.remove(channel);
+				// "FutureReturnValueIgnored" this is deliberate
+				channel.close();
+			}
+			inProgress--;
+			if (done) {
+				return;
+			}
+			if (next < addresses.size()) {
+				startNextAttempt();
+			}
+			else if (inProgress == 0) {
+				done = true;
+				sink.error(cause);
+			}
+		}
+
+		void scheduleNextAttempt() {
+			cancelNextAttempt();
+			if (next < addresses.size()) {
+				nextAttempt = eventLoop.schedule(this, connectionAttemptDelayNanos, TimeUnit.NANOSECONDS);
+			}
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void startNextAttempt() {
+			if (done || next >= addresses.size()) {
+				return;
+			}
+			SocketAddress remoteAddress = addresses.get(next++);
+			inProgress++;
+			scheduleNextAttempt();
+			doInitAndRegister(config, new ChannelInitializer<Channel>() {
+				@Override
+				protected void initChannel(Channel ch) {
+					// the pipeline is initialized once the connection attempt succeeds
+				}
+			}, false, eventLoop)
+					.subscribe(
+							channel -> {
+								if (done) {
+									inProgress--;
+									// "FutureReturnValueIgnored" this is deliberate
+									channel.close();
+									return;
+								}
+								// nothing is read until the pipeline is initialized
+								autoRead = channel.config().isAutoRead();
+								channel.config().setAutoRead(false);
+								channels.add(channel);
+								connect(channel, remoteAddress);
+							},
+							t -> onFailed(null, remoteAddress, t));
+		}
+	}
+
 	static final class RetryConnectException extends RuntimeException {
 
 		final List<SocketAddress> addresses;
@@ -670,4 +1017,25 @@ public final class TransportConnector {
 	static final Logger log = Loggers.getLogger(TransportConnector.class);
 
 	static final Predicate<Throwable> RETRY_PREDICATE = t -> t instanceof RetryConnectException;
+
+	/**
+	 * {@code SO_REUSEPORT} for NIO, available since JDK 9.
+	 */
+	@Nullable
+	static final ChannelOption<Boolean> NIO_SO_REUSEPORT;
+
+	static {
+		ChannelOption<Boolean> nioReusePort = null;
+		try {
+			@SuppressWarnings("unchecked")
+			SocketOption<Boolean> option = (SocketOption<Boolean>) StandardSocketOptions.class.getField("SO_REUSEPORT").get(null);
+			nioReusePort = NioChannelOption.of(option);
+		}
+		catch (ReflectiveOperationException | RuntimeException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("SO_REUSEPORT is not available with NIO", e);
+			}
+		}
+		NIO_SO_REUSEPORT = nioReusePort;
+	}
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.tcp.TcpClient;
+import reactor.netty.tcp.TcpServer;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BlockingHandlerTest {
+
+	@Test
+	void handlerRunsOffTheEventLoop() {
+		AtomicBoolean nonBlocking = new AtomicBoolean(true);
+		DisposableServer server =
+				TcpServer.create()
+				         .port(0)
+				         .handleBlocking((in, out) -> {
+				             nonBlocking.set(Schedulers.isInNonBlockingThread());
+				             String request = in.receive().asString().blockFirst(Duration.ofSeconds(5));
+				             return out.sendString(Mono.just(request.toUpperCase()));
+				         })
+				         .bindNow();
+
+		Connection client =
+				TcpClient.create()
+				         .port(server.port())
+				         .connectNow();
+		try {
+			client.outbound()
+			      .sendString(Mono.just("echo"))
+			      .then()
+			      .subscribe();
+
+			String response = client.inbound()
+			                        .receive()
+			                        .asString()
+			                        .blockFirst(Duration.ofSeconds(5));
+			assertThat(response).isEqualTo("ECHO");
+			assertThat(nonBlocking).isFalse();
+		}
+		finally {
+			client.disposeNow();
+			server.disposeNow();
+		}
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void schedulerRunsOnVirtualThreads() throws Exception {
+		assertThat(BlockingHandler.scheduler()).isNotSameAs(Schedulers.boundedElastic());
+
+		Thread thread = Mono.fromCallable(Thread::currentThread)
+		                    .subscribeOn(BlockingHandler.scheduler())
+		                    .block(Duration.ofSeconds(5));
+		assertThat(thread).isNotNull();
+		// Thread#isVirtual() is available since JDK 21
+		assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+	}
+
+	@Test
+	@EnabledForJreRange(max = JRE.JAVA_20)
+	void schedulerIsBoundedElasticWithoutVirtualThreads() {
+		assertThat(BlockingHandler.scheduler()).isSameAs(Schedulers.boundedElastic());
+	}
+
+	@Test
+	void schedulerFallsBackToBoundedElastic() {
+		Scheduler scheduler = BlockingHandler.createScheduler(() -> {
+			throw new UnsupportedOperationException("Virtual Threads are not supported");
+		});
+		assertThat(scheduler).isSameAs(Schedulers.boundedElastic());
+	}
+
+	@Test
+	void fromIterableIsPulledOnDemand() {
+		AtomicInteger pulled = new AtomicInteger();
+		List<String> threads = new CopyOnWriteArrayList<>();
+		Iterable<String> iterable = () -> new Iterator<String>() {
+			final Iterator<String> delegate = Arrays.asList("a", "b", "c").iterator();
+
+			@Override
+			public boolean hasNext() {
+				return delegate.hasNext();
+			}
+
+			@Override
+			public String next() {
+				pulled.incrementAndGet();
+				threads.add(Thread.currentThread().getName());
+				return delegate.next();
+			}
+		};
+
+		StepVerifier.create(BlockingHandler.fromIterable(iterable), 1)
+		            .expectNext("a")
+		            .then(() -> assertThat(pulled).hasValue(1))
+		            .thenRequest(2)
+		            .expectNext("b", "c")
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(5));
+
+		assertThat(threads).noneMatch(name -> name.equals(Thread.currentThread().getName()));
+	}
+
+	@Test
+	void badValues() {
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> BlockingHandler.wrap(null));
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> BlockingHandler.fromIterable(null));
+	}
+}
@@ -19,10 +19,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.security.cert.CertificateException;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -35,9 +37,9 @@ import javax.net.ssl.SSLException;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.DefaultFileRegion;
 import io.netty.channel.FileRegion;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.MessageToMessageEncoder;
@@ -46,7 +48,6 @@ import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
-import io.netty.handler.stream.ChunkedNioFile;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.CharsetUtil;
 import io.netty.util.ReferenceCountUtil;
@@ -135,7 +136,7 @@ class NettyOutboundTest {
 
 		assertThat(channel.inboundMessages()).isEmpty();
 		assertThat(channel.outboundMessages()).hasSize(2);
-		assertThat(messageClasses).containsExactly(Integer.class, DefaultFileRegion.class);
+		assertThat(messageClasses).containsExactly(Integer.class, ReactorNetty.SharedFileRegion.class);
 
 		assertThat(channel.outboundMessages())
 				.element(1)
@@ -230,18 +231,14 @@ class NettyOutboundTest {
 			e.printStackTrace();
 		}
 
-		assertThat(messageWritten).containsExactly(Integer.class, ChunkedNioFile.class);
+		assertThat(messageWritten).containsExactly(Integer.class, ReactorNetty.SharedChunkedNioFile.class);
 
+		// the chunk size is a multiple of the maximum SSL/TLS record size, the file fits in a single chunk
 		assertThat(clearMessages)
-				.hasSize(2)
+				.hasSize(1)
 				.element(0)
 				.asString()
 				.startsWith("This is an UTF-8 file that is larger than 1024 bytes. It contains accents like é. GARBAGE")
-				.endsWith("1024 mark here ->");
-		assertThat(clearMessages)
-				.element(1)
-				.asString()
-				.startsWith("<- 1024 mark here")
 				.endsWith("End of File");
 
 		assertThat(f.isSuccess()).isFalse();
@@ -316,25 +313,75 @@ class NettyOutboundTest {
 		        .then().block(Duration.ofSeconds(5));
 
 		assertThat(channel.inboundMessages()).isEmpty();
-		assertThat(messageWritten).containsExactly(Integer.class, ChunkedNioFile.class);
+		assertThat(messageWritten).containsExactly(Integer.class, ReactorNetty.SharedChunkedNioFile.class);
 
+		// the chunk size is a multiple of the allocator page size, the file fits in a single chunk
 		assertThat(channel.outboundMessages())
-				.hasSize(3)
+				.hasSize(2)
 				.element(1)
 				.asString()
 				.startsWith("This is an UTF-8 file that is larger than 1024 bytes. It contains accents like é. GARBAGE")
-				.endsWith("1024 mark here ->");
-
-		assertThat(channel.outboundMessages())
-				.last()
-				.asString()
-				.startsWith("<- 1024 mark here")
 				.endsWith("End of File");
 
 		assertThat(f.isSuccess()).isTrue();
 		assertThat(channel.finishAndReleaseAll()).isTrue();
 	}
 
+	@Test
+	void fileChunkSizeIsAdaptedToTheConnection() throws SSLException {
+		EmbeddedChannel channel = new EmbeddedChannel();
+		channel.config().setWriteBufferHighWaterMark(64 * 1024);
+		assertThat(ReactorNetty.fileChunkSize(channel)).isEqualTo(32 * 1024);
+
+		channel.config().setWriteBufferHighWaterMark(1024);
+		assertThat(ReactorNetty.fileChunkSize(channel)).isEqualTo(PooledByteBufAllocator.defaultPageSize());
+
+		channel.config().setWriteBufferHighWaterMark(1024 * 1024);
+		assertThat(ReactorNetty.fileChunkSize(channel)).isEqualTo(ReactorNetty.MAX_FILE_CHUNK_SIZE);
+		channel.finishAndReleaseAll();
+
+		SslContext sslCtx = SslContextBuilder.forServer(ssc.certificate(), ssc.privateKey()).build();
+		EmbeddedChannel secured = new EmbeddedChannel(sslCtx.newHandler(ByteBufAllocator.DEFAULT));
+		secured.config().setWriteBufferHighWaterMark(80 * 1024);
+		assertThat(ReactorNetty.fileChunkSize(secured)).isEqualTo(32 * 1024);
+
+		secured.config().setWriteBufferHighWaterMark(1024);
+		assertThat(ReactorNetty.fileChunkSize(secured)).isEqualTo(ReactorNetty.MAX_TLS_RECORD_PLAINTEXT_LENGTH);
+		secured.finishAndReleaseAll();
+	}
+
+	@Test
+	void mappedChunkedFile() throws Exception {
+		Path path = Paths.get(getClass().getResource("/largeFile.txt").toURI());
+		try (FileChannel fc = FileChannel.open(path, StandardOpenOption.READ)) {
+			ReactorNetty.MappedChunkedFile chunkedFile =
+					new ReactorNetty.MappedChunkedFile(fc, 0, fc.size(), 1024);
+			assertThat(chunkedFile.length()).isEqualTo(fc.size());
+
+			List<String> chunks = new ArrayList<>();
+			while (!chunkedFile.isEndOfInput()) {
+				ByteBuf chunk = chunkedFile.readChunk(ByteBufAllocator.DEFAULT);
+				assertThat(chunk).isNotNull();
+				chunks.add(chunk.toString(CharsetUtil.UTF_8));
+				chunk.release();
+			}
+			assertThat(chunkedFile.readChunk(ByteBufAllocator.DEFAULT)).isNull();
+			assertThat(chunkedFile.progress()).isEqualTo(fc.size());
+			chunkedFile.close();
+
+			assertThat(chunks).hasSize(2);
+			assertThat(chunks.get(0))
+					.startsWith("This is an UTF-8 file that is larger than 1024 bytes. It contains accents like é. GARBAGE")
+					.endsWith("1024 mark here ->");
+			assertThat(chunks.get(1))
+					.startsWith("<- 1024 mark here")
+					.endsWith("End of File");
+
+			// the FileChannel is owned by the caller
+			assertThat(fc.isOpen()).isTrue();
+		}
+	}
+
 	static <S> Mono<Void> mockSendUsing(Connection c, Callable<? extends S> sourceInput,
 			BiFunction<? super Connection, ? super S, ?> mappedInput,
 			Consumer<? super S> sourceCleanup) {
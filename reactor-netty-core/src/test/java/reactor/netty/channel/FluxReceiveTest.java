@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2023-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,8 +15,10 @@
  */
 package reactor.netty.channel;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
+import io.netty.buffer.Unpooled;
 import io.netty.channel.embedded.EmbeddedChannel;
 import org.junit.jupiter.api.Test;
 import reactor.netty.NettyInbound;
@@ -24,6 +26,9 @@ import reactor.netty.NettyOutbound;
 import reactor.test.subscriber.TestSubscriber;
 import reactor.test.util.RaceTestUtils;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
 public class FluxReceiveTest {
 
 	@Test
@@ -39,4 +44,51 @@ public class FluxReceiveTest {
 			subscriber.block(Duration.ofSeconds(5));
 		}
 	}
+
+	@Test
+	void inboundBufferWatermarks() {
+		EmbeddedChannel channel = new EmbeddedChannel();
+		ChannelOperations.setInboundBufferWatermarks(channel, InboundBufferWatermarks.of(16, 32));
+		ChannelOperations<NettyInbound, NettyOutbound> operations =
+				new ChannelOperations<>(() -> channel, (connection, newState) -> {
+				});
+		FluxReceive receive = operations.inbound;
+		TestSubscriber<Object> subscriber = TestSubscriber.builder().initialRequest(1).build();
+		receive.subscribe(subscriber);
+		assertThat(channel.config().isAutoRead()).isTrue();
+
+		// reading continues until the buffered bytes reach the high watermark
+		for (int i = 0; i < 4; i++) {
+			receive.onInboundNext(Unpooled.copiedBuffer("0123456789", StandardCharsets.UTF_8));
+			assertThat(channel.config().isAutoRead()).isTrue();
+		}
+		receive.onInboundNext(Unpooled.copiedBuffer("0123456789", StandardCharsets.UTF_8));
+		assertThat(subscriber.getReceivedOnNext()).hasSize(1);
+		assertThat(receive.receiverQueueBytes).isEqualTo(40);
+		assertThat(channel.config().isAutoRead()).isFalse();
+
+		// and resumes when they drop to the low watermark
+		subscriber.request(2);
+		assertThat(receive.receiverQueueBytes).isEqualTo(20);
+		assertThat(channel.config().isAutoRead()).isFalse();
+
+		subscriber.request(1);
+		assertThat(receive.receiverQueueBytes).isEqualTo(10);
+		assertThat(channel.config().isAutoRead()).isTrue();
+
+		subscriber.cancel();
+		assertThat(receive.receiverQueueBytes).isEqualTo(0);
+		channel.finishAndReleaseAll();
+	}
+
+	@Test
+	void inboundBufferWatermarksBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> InboundBufferWatermarks.of(-1, 1));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> InboundBufferWatermarks.of(0, 0));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> InboundBufferWatermarks.of(2, 1));
+		assertThat(InboundBufferWatermarks.of(0, 1)).isEqualTo(InboundBufferWatermarks.of(0, 1));
+	}
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static reactor.netty.Metrics.OVERFLOW;
+import static reactor.netty.Metrics.REGISTRY;
+
+class MeterCacheTest {
+
+	MeterRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		Metrics.addRegistry(registry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		Metrics.removeRegistry(registry);
+		registry.clear();
+		registry.close();
+	}
+
+	@Test
+	void overflow() {
+		MeterCache<MeterKey, Counter> cache = MeterCache.create(2, Duration.ZERO, MeterKey::overflow);
+
+		Counter c1 = cache.computeIfAbsent(new MeterKey("/1", "127.0.0.1:80", null, "GET", "200"), this::counter);
+		Counter c2 = cache.computeIfAbsent(new MeterKey("/2", "127.0.0.1:80", null, "GET", "200"), this::counter);
+		Counter c3 = cache.computeIfAbsent(new MeterKey("/3", "127.0.0.1:81", null, "GET", "200"), this::counter);
+		Counter c4 = cache.computeIfAbsent(new MeterKey("/4", "127.0.0.1:82", null, "GET", "200"), this::counter);
+		Counter c5 = cache.computeIfAbsent(new MeterKey("/5", "127.0.0.1:82", null, "POST", "200"), this::counter);
+
+		assertThat(c1).isNotSameAs(c2);
+		assertThat(c3).isSameAs(c4);
+		assertThat(c3).isNotSameAs(c5);
+		assertThat(c3.getId().getTag("uri")).isEqualTo(OVERFLOW);
+		assertThat(c3.getId().getTag("remote.address")).isEqualTo(OVERFLOW);
+		assertThat(c3.getId().getTag("method")).isEqualTo("GET");
+		assertThat(c5.getId().getTag("method")).isEqualTo("POST");
+
+		// the existing meters are still returned
+		assertThat(cache.computeIfAbsent(new MeterKey("/1", "127.0.0.1:80", null, "GET", "200"), this::counter)).isSameAs(c1);
+		assertThat(registry.find("test.meter.cache").counters()).hasSize(4);
+	}
+
+	@Test
+	void evictIdle() {
+		MeterCache<MeterKey, Counter> cache = MeterCache.create(10, Duration.ofSeconds(10), MeterKey::overflow);
+		MeterKey idleKey = new MeterKey("/idle", "127.0.0.1:80", null, "GET", "200");
+		MeterKey activeKey = new MeterKey("/active", "127.0.0.1:80", null, "GET", "200");
+		Counter idle = cache.computeIfAbsent(idleKey, this::counter);
+		Counter active = cache.computeIfAbsent(activeKey, this::counter);
+		idle.increment();
+		active.increment();
+
+		long now = System.nanoTime();
+		cache.evictIdle(now);
+		active.increment();
+		cache.evictIdle(now + TimeUnit.SECONDS.toNanos(5));
+		active.increment();
+		cache.evictIdle(now + TimeUnit.SECONDS.toNanos(11));
+
+		assertThat(cache.asMap()).containsOnlyKeys(activeKey);
+		assertThat(registry.find("test.meter.cache").tag("uri", "/idle").counter()).isNull();
+		assertThat(registry.find("test.meter.cache").tag("uri", "/active").counter()).isNotNull();
+
+		// an evicted meter is registered again on the next use
+		Counter again = cache.computeIfAbsent(idleKey, this::counter);
+		assertThat(again).isNotNull();
+		assertThat(registry.find("test.meter.cache").tag("uri", "/idle").counter()).isNotNull();
+	}
+
+	@Test
+	void badValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> MeterCache.create(0, Duration.ZERO, MeterKey::overflow));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> MeterCache.create(1, Duration.ofSeconds(-1), MeterKey::overflow));
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> MeterCache.create(1, Duration.ZERO, null));
+	}
+
+	Counter counter(MeterKey key) {
+		return Counter.builder("test.meter.cache")
+		              .tags("uri", key.uri(), "remote.address", key.remoteAddress(), "method", key.method())
+		              .register(REGISTRY);
+	}
+}
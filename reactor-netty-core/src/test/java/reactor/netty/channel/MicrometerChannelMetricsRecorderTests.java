@@ -15,13 +15,21 @@
  */
 package reactor.netty.channel;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
 import org.junit.jupiter.api.Test;
 import reactor.netty.transport.AddressUtils;
 
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.charset.Charset;
 import java.util.concurrent.atomic.LongAdder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static reactor.netty.Metrics.DATA_RECEIVED;
 
 class MicrometerChannelMetricsRecorderTests {
 	static final InetSocketAddress ADDRESS_1 = AddressUtils.createUnresolved("127.0.0.1", 80);
@@ -37,4 +45,85 @@ class MicrometerChannelMetricsRecorderTests {
 
 		assertThat(longAdder1).isNotSameAs(longAdder2);
 	}
+
+	@Test
+	void testConnectionMetersCacheable() {
+		assertThat(new MicrometerChannelMetricsRecorder("test", "test").connectionMetersCacheable).isTrue();
+
+		MicrometerChannelMetricsRecorder recorder = new MicrometerChannelMetricsRecorder("test", "test") {
+			@Override
+			public void recordDataReceived(SocketAddress remoteAddress, long bytes) {
+			}
+		};
+		assertThat(recorder.connectionMetersCacheable).isFalse();
+	}
+
+	@Test
+	void testHandlerCachesMeters() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		Metrics.addRegistry(registry);
+		try {
+			MicrometerChannelMetricsRecorder recorder = new MicrometerChannelMetricsRecorder("test.cached", "tcp");
+			MicrometerChannelMetricsHandler handler = new MicrometerChannelMetricsHandler(recorder, ADDRESS_1, true);
+			EmbeddedChannel channel = new EmbeddedChannel(handler);
+
+			channel.writeInbound(Unpooled.copiedBuffer("hello", Charset.defaultCharset()));
+			DistributionSummary dataReceived = handler.dataReceived;
+			assertThat(dataReceived).isNotNull();
+			channel.writeInbound(Unpooled.copiedBuffer("world!", Charset.defaultCharset()));
+			assertThat(handler.dataReceived).isSameAs(dataReceived);
+			assertThat(dataReceived.count()).isEqualTo(2);
+			assertThat(dataReceived.totalAmount()).isEqualTo(11);
+
+			channel.writeOutbound(Unpooled.copiedBuffer("hello", Charset.defaultCharset()));
+			assertThat(handler.dataSent).isNotNull();
+			assertThat(handler.dataSent.totalAmount()).isEqualTo(5);
+
+			channel.finishAndReleaseAll();
+		}
+		finally {
+			Metrics.removeRegistry(registry);
+			registry.clear();
+			registry.close();
+		}
+	}
+
+	@Test
+	void testHandlerLooksUpEvictedMetersAgain() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		Metrics.addRegistry(registry);
+		try {
+			MicrometerChannelMetricsRecorder recorder = new MicrometerChannelMetricsRecorder("test.evicted", "tcp");
+			MicrometerChannelMetricsHandler handler = new MicrometerChannelMetricsHandler(recorder, ADDRESS_1, true);
+			EmbeddedChannel channel = new EmbeddedChannel(handler);
+
+			channel.writeInbound(Unpooled.copiedBuffer("hello", Charset.defaultCharset()));
+			DistributionSummary evicted = handler.dataReceived;
+			assertThat(evicted).isNotNull();
+
+			// the meter did not record anything between the two invocations
+			long now = System.nanoTime();
+			recorder.dataReceivedCache.evictIdle(now);
+			recorder.dataReceivedCache.evictIdle(now);
+			assertThat(recorder.dataReceivedCache.size()).isEqualTo(0);
+			assertThat(recorder.dataReceivedCache.evictions()).isEqualTo(1);
+			assertThat(registry.find("test.evicted" + DATA_RECEIVED).summary()).isNull();
+
+			// the evicted meter is not used anymore, a new one is registered
+			channel.writeInbound(Unpooled.copiedBuffer("world!", Charset.defaultCharset()));
+			assertThat(handler.dataReceived).isNotSameAs(evicted);
+			assertThat(evicted.count()).isEqualTo(1);
+			DistributionSummary dataReceived = registry.find("test.evicted" + DATA_RECEIVED).summary();
+			assertThat(dataReceived).isNotNull();
+			assertThat(dataReceived.count()).isEqualTo(1);
+			assertThat(dataReceived.totalAmount()).isEqualTo(6);
+
+			channel.finishAndReleaseAll();
+		}
+		finally {
+			Metrics.removeRegistry(registry);
+			registry.clear();
+			registry.close();
+		}
+	}
 }
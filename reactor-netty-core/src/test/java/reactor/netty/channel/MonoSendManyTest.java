@@ -19,6 +19,7 @@ import java.lang.ref.WeakReference;
 import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Queue;
@@ -29,11 +30,14 @@ import java.util.stream.Collectors;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import io.netty.util.ReferenceCountUtil;
 import io.netty.util.ReferenceCounted;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.reactivestreams.Subscription;
@@ -345,6 +349,86 @@ class MonoSendManyTest {
 		assertThat(cleared).isTrue();
 	}
 
+	@Test
+	void byteAwareDemand() {
+		EmbeddedChannel channel = new EmbeddedChannel(new ChannelHandlerAdapter() {});
+		channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(8 * 1024, 16 * 1024));
+
+		// large messages, the demand is kept at its minimum
+		List<Long> requests = new ArrayList<>();
+		Flux<ByteBuf> large = Flux.range(0, 32)
+		                          .map(i -> Unpooled.wrappedBuffer(new byte[16 * 1024]))
+		                          .doOnRequest(requests::add)
+		                          .hide();
+		StepVerifier.create(new MonoSendMany<>(large, channel, b -> true, MonoSend.TRANSFORMATION_FUNCTION_BB,
+		                    MonoSend.CONSUMER_NOCHECK_CLEANUP, MonoSend.SIZE_OF_BB, true))
+		            .verifyComplete();
+		assertThat(channel.outboundMessages()).hasSize(32);
+		assertThat(requests).allMatch(n -> n <= MonoSend.MIN_DEMAND);
+		channel.releaseOutbound();
+
+		// small messages, the demand is increased above the default
+		requests.clear();
+		Flux<ByteBuf> small = Flux.range(0, 2048)
+		                          .map(i -> Unpooled.wrappedBuffer(new byte[8]))
+		                          .doOnRequest(requests::add)
+		                          .hide();
+		StepVerifier.create(new MonoSendMany<>(small, channel, b -> true, MonoSend.TRANSFORMATION_FUNCTION_BB,
+		                    MonoSend.CONSUMER_NOCHECK_CLEANUP, MonoSend.SIZE_OF_BB, true))
+		            .verifyComplete();
+		assertThat(channel.outboundMessages()).hasSize(2048);
+		assertThat(requests.get(0)).isEqualTo(MonoSend.MIN_DEMAND);
+		assertThat(requests).anyMatch(n -> n > MonoSend.MAX_SIZE)
+		                    .allMatch(n -> n <= MonoSend.MAX_DEMAND);
+		channel.finishAndReleaseAll();
+	}
+
+	@Test
+	void writeCoalescing() {
+		EmbeddedChannel channel = new EmbeddedChannel(new ChannelHandlerAdapter() {});
+		ChannelOperations.setWriteCoalescingThreshold(channel, 64);
+
+		// the source is fused, all the buffers are available when writing
+		List<ByteBuf> sources = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			byte[] bytes = new byte[i == 8 ? 100 : 10];
+			Arrays.fill(bytes, (byte) i);
+			sources.add(Unpooled.wrappedBuffer(bytes));
+		}
+		StepVerifier.create(MonoSendMany.byteBufSource(Flux.fromIterable(sources), channel, b -> false))
+		            .then(channel::runPendingTasks)
+		            .verifyComplete();
+
+		// the small buffers are merged up to the threshold, the large buffer is written as is
+		List<Integer> sizes = new ArrayList<>();
+		ByteBuf all = Unpooled.buffer();
+		ByteBuf msg;
+		while ((msg = channel.readOutbound()) != null) {
+			sizes.add(msg.readableBytes());
+			all.writeBytes(msg);
+			msg.release();
+		}
+		assertThat(sizes).containsExactly(60, 20, 100, 30);
+		for (int i = 0; i < 12; i++) {
+			int size = i == 8 ? 100 : 10;
+			for (int j = 0; j < size; j++) {
+				assertThat(all.readByte()).isEqualTo((byte) i);
+			}
+		}
+		all.release();
+		assertThat(sources).allMatch(b -> b.refCnt() == 0);
+
+		// disabled by default
+		ChannelOperations.setWriteCoalescingThreshold(channel, 0);
+		List<ByteBuf> small = Arrays.asList(Unpooled.wrappedBuffer(new byte[10]), Unpooled.wrappedBuffer(new byte[10]),
+				Unpooled.wrappedBuffer(new byte[10]), Unpooled.wrappedBuffer(new byte[10]));
+		StepVerifier.create(MonoSendMany.byteBufSource(Flux.fromIterable(small), channel, b -> false))
+		            .then(channel::runPendingTasks)
+		            .verifyComplete();
+		assertThat(channel.outboundMessages()).hasSize(4);
+		channel.finishAndReleaseAll();
+	}
+
 	static void wait(WeakReference<Subscription> ref) {
 		int duration = 5_000;
 		int spins = duration / 100;
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.resources;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class AdaptiveAllocationStrategyTest {
+	private AdaptiveAllocationStrategy.Builder builder;
+
+	@BeforeEach
+	void setUp() {
+		builder = AdaptiveAllocationStrategy.builder();
+	}
+
+	@Test
+	void build() {
+		AdaptiveAllocationStrategy strategy = builder.maxConnections(10).minConnections(2).build();
+		assertThat(strategy.permitMaximum()).isEqualTo(10);
+		assertThat(strategy.permitMinimum()).isEqualTo(2);
+		assertThat(strategy.limit()).isEqualTo(2);
+		assertThat(builder.initialConnections(5).build().limit()).isEqualTo(5);
+	}
+
+	@Test
+	void buildBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.maxConnections(1).minConnections(2).build())
+				.withMessage("minConnections (2) must be less than or equal to maxConnections (1)");
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> AdaptiveAllocationStrategy.builder().maxConnections(2).initialConnections(3).build());
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.backoffRatio(1));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.latencyTolerance(1));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.acquireLatencyThreshold(Duration.ofMillis(-1)));
+	}
+
+	@Test
+	void copy() {
+		AdaptiveAllocationStrategy strategy = builder.maxConnections(10).initialConnections(4).build();
+		strategy.getPermits(4);
+		strategy.onAcquire(TimeUnit.SECONDS.toNanos(1));
+
+		AdaptiveAllocationStrategy copy = strategy.copy();
+		assertThat(copy.permitMaximum()).isEqualTo(10);
+		assertThat(copy.limit()).isEqualTo(4);
+		assertThat(copy.permitGranted()).isEqualTo(0);
+	}
+
+	@Test
+	void permitsAreBoundedByTheLimit() {
+		AdaptiveAllocationStrategy strategy = builder.maxConnections(10).initialConnections(2).build();
+		assertThat(strategy.estimatePermitCount()).isEqualTo(2);
+		assertThat(strategy.getPermits(3)).isEqualTo(2);
+		assertThat(strategy.getPermits(1)).isEqualTo(0);
+		assertThat(strategy.estimatePermitCount()).isEqualTo(0);
+
+		strategy.returnPermits(2);
+		assertThat(strategy.permitGranted()).isEqualTo(0);
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> strategy.returnPermits(1));
+	}
+
+	@Test
+	void minConnectionsAreGrantedOnWarmup() {
+		AdaptiveAllocationStrategy strategy = builder.maxConnections(10).minConnections(3).initialConnections(3).build();
+		assertThat(strategy.getPermits(0)).isEqualTo(3);
+		assertThat(strategy.getPermits(0)).isEqualTo(0);
+	}
+
+	@Test
+	void additiveIncrease() {
+		AdaptiveAllocationStrategy strategy = builder.maxConnections(3).initialConnections(1).build();
+		strategy.getPermits(1);
+
+		// fast acquisitions do not increase the limit
+		strategy.onAcquire(TimeUnit.MICROSECONDS.toNanos(10));
+		assertThat(strategy.limit()).isEqualTo(1);
+
+		strategy.onAcquire(TimeUnit.MILLISECONDS.toNanos(10));
+		assertThat(strategy.limit()).isEqualTo(2);
+
+		// not all permitted connections are in use
+		strategy.onAcquire(TimeUnit.MILLISECONDS.toNanos(10));
+		assertThat(strategy.limit()).isEqualTo(2);
+
+		strategy.getPermits(1);
+		strategy.onAcquire(TimeUnit.MILLISECONDS.toNanos(10));
+		strategy.getPermits(1);
+		strategy.onAcquire(TimeUnit.MILLISECONDS.toNanos(10));
+		assertThat(strategy.limit()).isEqualTo(3);
+	}
+
+	@Test
+	void multiplicativeDecrease() {
+		AdaptiveAllocationStrategy strategy =
+				builder.maxConnections(100).minConnections(5).initialConnections(20).backoffRatio(0.5).build();
+
+		strategy.onRelease(TimeUnit.MILLISECONDS.toNanos(10));
+		strategy.onRelease(TimeUnit.MILLISECONDS.toNanos(15));
+		assertThat(strategy.limit()).isEqualTo(20);
+
+		strategy.onRelease(TimeUnit.MILLISECONDS.toNanos(100));
+		assertThat(strategy.limit()).isEqualTo(10);
+
+		// at most one decrease per response time
+		strategy.onRelease(TimeUnit.MILLISECONDS.toNanos(100));
+		assertThat(strategy.limit()).isEqualTo(10);
+
+		strategy.lastDecreaseNanos = 0;
+		strategy.onRelease(TimeUnit.MILLISECONDS.toNanos(100));
+		assertThat(strategy.limit()).isEqualTo(5);
+
+		strategy.lastDecreaseNanos = 0;
+		strategy.onRelease(TimeUnit.MILLISECONDS.toNanos(100));
+		assertThat(strategy.limit()).isEqualTo(5);
+	}
+
+	@Test
+	void noIncreaseWhileCongested() {
+		AdaptiveAllocationStrategy strategy = builder.maxConnections(10).initialConnections(1).build();
+		strategy.getPermits(1);
+		strategy.onRelease(TimeUnit.MILLISECONDS.toNanos(1));
+		for (int i = 0; i < 20; i++) {
+			strategy.onRelease(TimeUnit.MILLISECONDS.toNanos(50));
+		}
+
+		strategy.onAcquire(TimeUnit.MILLISECONDS.toNanos(10));
+		assertThat(strategy.limit()).isEqualTo(1);
+	}
+}
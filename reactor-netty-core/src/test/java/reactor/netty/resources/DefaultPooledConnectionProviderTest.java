@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2017-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,9 +22,12 @@ import java.time.Clock;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -39,6 +42,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.handler.logging.LoggingHandler;
@@ -46,6 +50,7 @@ import io.netty.resolver.AddressResolver;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.resolver.DefaultAddressResolverGroup;
 import io.netty.util.NetUtil;
+import io.netty.util.concurrent.EventExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -79,6 +84,7 @@ import reactor.test.StepVerifier;
 import reactor.test.scheduler.VirtualTimeScheduler;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.awaitility.Awaitility.await;
 
 class DefaultPooledConnectionProviderTest {
@@ -474,6 +480,353 @@ class DefaultPooledConnectionProviderTest {
 		}
 	}
 
+	@Test
+	void eventLoopAffinity() throws Exception {
+		EventLoopGroup group = new NioEventLoopGroup(2);
+		DisposableServer server =
+				TcpServer.create()
+				         .port(0)
+				         .bindNow();
+		DefaultPooledConnectionProvider provider =
+				(DefaultPooledConnectionProvider) ConnectionProvider.builder("eventLoopAffinity")
+				                                                    .maxConnections(2)
+				                                                    .eventLoopAffinity(true)
+				                                                    .build();
+		Supplier<? extends SocketAddress> remoteAddress = server::address;
+		ConnectionObserver observer = ConnectionObserver.emptyListener();
+		ClientTransportConfigImpl config = new ClientTransportConfigImpl(group, provider, Collections.emptyMap(),
+				remoteAddress, DefaultAddressResolverGroup.INSTANCE);
+		EventLoop loop1 = group.next();
+		EventLoop loop2 = group.next();
+		try {
+			PooledConnection c1 = acquire(provider, config, observer, loop1);
+			assertThat(c1.channel().eventLoop()).isSameAs(loop1);
+			c1.onStateChange(c1, ConnectionObserver.State.DISCONNECTING);
+			await().atMost(5, TimeUnit.SECONDS)
+			       .untilAsserted(() -> assertThat(c1.pool.metrics().idleSize()).isEqualTo(1));
+
+			// the pool of the second event loop creates its own connection
+			PooledConnection c2 = acquire(provider, config, observer, loop2);
+			assertThat(c2.channel().eventLoop()).isSameAs(loop2);
+			assertThat(c2.pool).isNotSameAs(c1.pool);
+			assertThat(c2.pool.metrics().getMaxAllocatedSize()).isEqualTo(1);
+			assertThat(provider.channelPools).hasSize(2);
+
+			// the pool of the second event loop is exhausted, the idle connection of the first event loop is taken
+			PooledConnection c3 = acquire(provider, config, observer, loop2);
+			assertThat(c3.channel()).isSameAs(c1.channel());
+			assertThat(c3.pool).isSameAs(c1.pool);
+		}
+		finally {
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(5));
+			server.disposeNow();
+			group.shutdownGracefully()
+			     .get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void eventLoopAffinityPermitStealing() throws Exception {
+		EventLoopGroup group = new NioEventLoopGroup(2);
+		DisposableServer server =
+				TcpServer.create()
+				         .port(0)
+				         .bindNow();
+		DefaultPooledConnectionProvider provider =
+				(DefaultPooledConnectionProvider) ConnectionProvider.builder("eventLoopAffinityPermitStealing")
+				                                                    .maxConnections(3)
+				                                                    .eventLoopAffinity(true)
+				                                                    .build();
+		Supplier<? extends SocketAddress> remoteAddress = server::address;
+		ConnectionObserver observer = ConnectionObserver.emptyListener();
+		ClientTransportConfigImpl config = new ClientTransportConfigImpl(group, provider, Collections.emptyMap(),
+				remoteAddress, DefaultAddressResolverGroup.INSTANCE);
+		Iterator<EventExecutor> loops = group.iterator();
+		EventLoop loop1 = (EventLoop) loops.next();
+		EventLoop loop2 = (EventLoop) loops.next();
+		try {
+			PooledConnection c1 = acquire(provider, config, observer, loop1);
+			PooledConnection c2 = acquire(provider, config, observer, loop2);
+
+			// the remainder goes to the first event loop, the pools sum up to the maximum number of connections
+			assertThat(c1.pool.metrics().getMaxAllocatedSize()).isEqualTo(2);
+			assertThat(c2.pool.metrics().getMaxAllocatedSize()).isEqualTo(1);
+
+			// the pool of the second event loop is exhausted, the free permit of the first event loop is taken
+			// and the new connection is created on the event loop of that pool
+			PooledConnection c3 = acquire(provider, config, observer, loop2);
+			assertThat(c3.pool).isSameAs(c1.pool);
+			assertThat(c3.channel().eventLoop()).isSameAs(loop1);
+			assertThat(c1.pool.metrics().allocatedSize()).isEqualTo(2);
+		}
+		finally {
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(5));
+			server.disposeNow();
+			group.shutdownGracefully()
+			     .get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void eventLoopAffinityFewerConnectionsThanEventLoops() throws Exception {
+		EventLoopGroup group = new NioEventLoopGroup(2);
+		DisposableServer server =
+				TcpServer.create()
+				         .port(0)
+				         .bindNow();
+		DefaultPooledConnectionProvider provider =
+				(DefaultPooledConnectionProvider) ConnectionProvider.builder("eventLoopAffinityFewerConnectionsThanEventLoops")
+				                                                    .maxConnections(1)
+				                                                    .eventLoopAffinity(true)
+				                                                    .build();
+		Supplier<? extends SocketAddress> remoteAddress = server::address;
+		ClientTransportConfigImpl config = new ClientTransportConfigImpl(group, provider, Collections.emptyMap(),
+				remoteAddress, DefaultAddressResolverGroup.INSTANCE);
+		try {
+			PooledConnection c1 = acquire(provider, config, ConnectionObserver.emptyListener(), group.next());
+
+			// the pool is not sharded, the maximum number of connections is not exceeded
+			assertThat(provider.channelPools).hasSize(1);
+			assertThat(provider.channelPools.keySet().iterator().next().eventLoop).isNull();
+			assertThat(c1.pool.metrics().getMaxAllocatedSize()).isEqualTo(1);
+		}
+		finally {
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(5));
+			server.disposeNow();
+			group.shutdownGracefully()
+			     .get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void eventLoopAffinityMaxConnections() throws Exception {
+		EventLoopGroup group = new NioEventLoopGroup(2);
+		EventLoopGroup foreignGroup = new NioEventLoopGroup(1);
+		DisposableServer server =
+				TcpServer.create()
+				         .port(0)
+				         .bindNow();
+		DefaultPooledConnectionProvider provider =
+				(DefaultPooledConnectionProvider) ConnectionProvider.builder("eventLoopAffinityMaxConnections")
+				                                                    .maxConnections(4)
+				                                                    .eventLoopAffinity(true)
+				                                                    .build();
+		Supplier<? extends SocketAddress> remoteAddress = server::address;
+		ConnectionObserver observer = ConnectionObserver.emptyListener();
+		ClientTransportConfigImpl config = new ClientTransportConfigImpl(group, provider, Collections.emptyMap(),
+				remoteAddress, DefaultAddressResolverGroup.INSTANCE);
+		EventLoop foreignLoop = foreignGroup.next();
+		List<Connection> connections = new CopyOnWriteArrayList<>();
+		try {
+			for (int i = 0; i < 3; i++) {
+				// the caller is not an event loop
+				provider.acquire(config, observer, remoteAddress, config.resolverInternal())
+				        .subscribe(connections::add);
+				// the caller is an event loop of another group
+				provider.acquire(config, observer, remoteAddress, config.resolverInternal())
+				        .contextWrite(ctx -> ctx.put(PooledConnectionProvider.CONTEXT_CALLER_EVENTLOOP, foreignLoop))
+				        .subscribe(connections::add);
+			}
+
+			// all acquire operations go to the pools of the event loops, which never exceed the maximum number of connections
+			await().atMost(5, TimeUnit.SECONDS)
+			       .untilAsserted(() -> assertThat(connections).hasSize(4));
+			await().atMost(5, TimeUnit.SECONDS)
+			       .untilAsserted(() -> assertThat(provider.channelPools.values()
+			                                                            .stream()
+			                                                            .mapToInt(pool -> pool.metrics().pendingAcquireSize())
+			                                                            .sum()).isEqualTo(2));
+			assertThat(provider.channelPools).hasSize(2);
+			int allocated = 0;
+			int maxAllocated = 0;
+			for (Map.Entry<PooledConnectionProvider.PoolKey, InstrumentedPool<PooledConnection>> e : provider.channelPools.entrySet()) {
+				assertThat(e.getKey().eventLoop).isNotNull().isNotSameAs(foreignLoop);
+				allocated += e.getValue().metrics().allocatedSize();
+				maxAllocated += e.getValue().metrics().getMaxAllocatedSize();
+			}
+			assertThat(allocated).isEqualTo(4);
+			assertThat(maxAllocated).isEqualTo(4);
+
+			// every connection is served by the event loop of its pool
+			for (Connection connection : connections) {
+				PooledConnection pooledConnection = (PooledConnection) connection;
+				PooledConnectionProvider.PoolKey key =
+						provider.channelPools.entrySet()
+						                     .stream()
+						                     .filter(e -> e.getValue() == pooledConnection.pool)
+						                     .findFirst()
+						                     .map(Map.Entry::getKey)
+						                     .orElseThrow(IllegalStateException::new);
+				assertThat(connection.channel().eventLoop()).isSameAs(key.eventLoop);
+			}
+		}
+		finally {
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(5));
+			server.disposeNow();
+			group.shutdownGracefully()
+			     .get(5, TimeUnit.SECONDS);
+			foreignGroup.shutdownGracefully()
+			            .get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void eventLoopAffinityWithAllocationStrategy() {
+		ConnectionProvider.Builder builder =
+				ConnectionProvider.builder("eventLoopAffinityWithAllocationStrategy")
+				                  .allocationStrategy(AdaptiveAllocationStrategy.builder().build())
+				                  .eventLoopAffinity(true);
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(builder::build)
+				.withMessage("Event loop affinity cannot be used with a custom allocation strategy");
+	}
+
+	@Test
+	void adaptiveAllocationStrategy() throws Exception {
+		EventLoopGroup group = new NioEventLoopGroup(1);
+		DisposableServer server =
+				TcpServer.create()
+				         .port(0)
+				         .bindNow();
+		DefaultPooledConnectionProvider provider =
+				(DefaultPooledConnectionProvider) ConnectionProvider.builder("adaptiveAllocationStrategy")
+				                                                    .allocationStrategy(AdaptiveAllocationStrategy.builder()
+				                                                                                                  .acquireLatencyThreshold(Duration.ofMillis(100))
+				                                                                                                  .backoffRatio(0.5)
+				                                                                                                  .maxConnections(4)
+				                                                                                                  .build())
+				                                                    .build();
+		Supplier<? extends SocketAddress> remoteAddress = server::address;
+		ConnectionObserver observer = ConnectionObserver.emptyListener();
+		ClientTransportConfigImpl config = new ClientTransportConfigImpl(group, provider, Collections.emptyMap(),
+				remoteAddress, DefaultAddressResolverGroup.INSTANCE);
+		EventLoop loop = group.next();
+		try {
+			PooledConnection c1 = acquire(provider, config, observer, loop);
+			AdaptiveAllocationStrategy strategy = DefaultPooledConnectionProvider.adaptiveAllocationStrategy(c1.pool);
+			assertThat(strategy).isNotNull();
+			assertThat(strategy.limit()).isEqualTo(1);
+
+			// the limit is reached, the second acquisition waits until the first connection is released
+			CompletableFuture<? extends Connection> pending =
+					provider.acquire(config, observer, remoteAddress, config.resolverInternal())
+					        .contextWrite(ctx -> ctx.put(PooledConnectionProvider.CONTEXT_CALLER_EVENTLOOP, loop))
+					        .toFuture();
+			Thread.sleep(300);
+			assertThat(pending).isNotDone();
+			c1.onStateChange(c1, ConnectionObserver.State.DISCONNECTING);
+
+			// the slow acquisition increases the limit
+			PooledConnection c2 = (PooledConnection) pending.get(5, TimeUnit.SECONDS);
+			assertThat(c2.channel()).isSameAs(c1.channel());
+			assertThat(strategy.limit()).isEqualTo(2);
+
+			// a short response time becomes the baseline
+			c2.onStateChange(c2, ConnectionObserver.State.DISCONNECTING);
+			await().atMost(5, TimeUnit.SECONDS)
+			       .untilAsserted(() -> assertThat(c1.pool.metrics().idleSize()).isEqualTo(1));
+			assertThat(strategy.limit()).isEqualTo(2);
+
+			// a connection held much longer than the baseline decreases the limit
+			PooledConnection c3 = acquire(provider, config, observer, loop);
+			Thread.sleep(300);
+			c3.onStateChange(c3, ConnectionObserver.State.DISCONNECTING);
+			await().atMost(5, TimeUnit.SECONDS)
+			       .untilAsserted(() -> assertThat(strategy.limit()).isEqualTo(1));
+		}
+		finally {
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(5));
+			server.disposeNow();
+			group.shutdownGracefully()
+			     .get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void poolFactoryShare() {
+		int total = 0;
+		for (int i = 0; i < 16; i++) {
+			int share = PooledConnectionProvider.PoolFactory.share(500, 16, i);
+			assertThat(share).isBetween(31, 32);
+			total += share;
+		}
+		assertThat(total).isEqualTo(500);
+	}
+
+	@Test
+	void minIdleConnections() throws Exception {
+		EventLoopGroup group = new NioEventLoopGroup(1);
+		DisposableServer server =
+				TcpServer.create()
+				         .port(0)
+				         .bindNow();
+		DefaultPooledConnectionProvider provider =
+				(DefaultPooledConnectionProvider) ConnectionProvider.builder("minIdleConnections")
+				                                                    .maxConnections(3)
+				                                                    .minIdleConnections(2)
+				                                                    .build();
+		Supplier<? extends SocketAddress> remoteAddress = server::address;
+		ClientTransportConfigImpl config = new ClientTransportConfigImpl(group, provider, Collections.emptyMap(),
+				remoteAddress, DefaultAddressResolverGroup.INSTANCE);
+		try {
+			provider.warmup(config, remoteAddress, config.resolverInternal())
+			        .block(Duration.ofSeconds(5));
+			assertThat(provider.channelPools).hasSize(1);
+			InstrumentedPool<PooledConnection> pool = provider.channelPools.values().iterator().next();
+			assertThat(pool.metrics().idleSize()).isEqualTo(2);
+
+			// an idle connection is acquired, the missing one is created in the background up to max connections
+			PooledConnection c1 = acquire(provider, config, ConnectionObserver.emptyListener(), group.next());
+			await().atMost(5, TimeUnit.SECONDS)
+			       .untilAsserted(() -> assertThat(pool.metrics().allocatedSize()).isEqualTo(3));
+			assertThat(pool.metrics().idleSize()).isEqualTo(2);
+			assertThat(c1.pool).isSameAs(pool);
+		}
+		finally {
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(5));
+			server.disposeNow();
+			group.shutdownGracefully()
+			     .get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void minIdleAllocationStrategy() {
+		PooledConnectionProvider.PoolFactory.MinIdleAllocationStrategy strategy =
+				new PooledConnectionProvider.PoolFactory.MinIdleAllocationStrategy(2, 4);
+		assertThat(strategy.permitMinimum()).isEqualTo(2);
+		// warmup
+		assertThat(strategy.getPermits(0)).isEqualTo(2);
+		assertThat(strategy.getPermits(0)).isEqualTo(0);
+		assertThat(strategy.getPermits(1)).isEqualTo(1);
+
+		// 2 acquired connections out of 3
+		assertThat(strategy.update(2)).isTrue();
+		assertThat(strategy.getPermits(0)).isEqualTo(1);
+		assertThat(strategy.permitGranted()).isEqualTo(4);
+		assertThat(strategy.update(3)).isFalse();
+		assertThat(strategy.getPermits(1)).isEqualTo(0);
+
+		strategy.returnPermits(4);
+		assertThat(strategy.permitGranted()).isEqualTo(0);
+	}
+
+	static PooledConnection acquire(PooledConnectionProvider<?> provider, ClientTransportConfigImpl config,
+			ConnectionObserver observer, EventLoop eventLoop) {
+		PooledConnection connection =
+				(PooledConnection) provider.acquire(config, observer, config.remoteAddress(), config.resolverInternal())
+				                           .contextWrite(ctx -> ctx.put(PooledConnectionProvider.CONTEXT_CALLER_EVENTLOOP, eventLoop))
+				                           .block(Duration.ofSeconds(5));
+		assertThat(connection).isNotNull();
+		return connection;
+	}
+
 	@Test
 	void testIssue1790FIFOPool() {
 		doTestIssue1790(true);
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.tcp.TcpClient;
+import reactor.netty.tcp.TcpServer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This test class verifies {@link EventLoopChooser}.
+ */
+class EventLoopChooserTest {
+
+	EventLoopGroup group;
+
+	@BeforeEach
+	void setUp() {
+		group = new DefaultEventLoopGroup(3);
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		group.shutdownGracefully(0, 0, TimeUnit.SECONDS).await(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void leastActiveChannels() {
+		EventLoopChoosers.LeastActiveChannels chooser = (EventLoopChoosers.LeastActiveChannels) EventLoopChooser.leastActiveChannels();
+
+		Map<EventLoop, EmbeddedChannel> channels = new HashMap<>();
+		for (int i = 0; i < 3; i++) {
+			EmbeddedChannel channel = new EmbeddedChannel();
+			channels.put(chooser.next(group, channel), channel);
+		}
+		assertThat(channels).hasSize(3);
+
+		EventLoop busy = chooser.next(group, new EmbeddedChannel());
+		assertThat(chooser.activeChannels(busy)).isEqualTo(2);
+
+		// the event loop of the closed connection is selected next
+		EventLoop released = channels.keySet()
+		                             .stream()
+		                             .filter(eventLoop -> eventLoop != busy)
+		                             .findFirst()
+		                             .orElseThrow(IllegalStateException::new);
+		channels.get(released).close();
+		assertThat(chooser.activeChannels(released)).isEqualTo(0);
+		assertThat(chooser.next(group, new EmbeddedChannel())).isSameAs(released);
+	}
+
+	@Test
+	void leastPendingTasks() {
+		EventLoopChooser chooser = EventLoopChooser.leastPendingTasks();
+		EventLoop busy = group.next();
+		CountDownLatch latch = new CountDownLatch(1);
+		try {
+			busy.execute(() -> {
+				try {
+					latch.await(5, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			for (int i = 0; i < 10; i++) {
+				busy.execute(() -> { });
+			}
+
+			for (int i = 0; i < 6; i++) {
+				assertThat(chooser.next(group, new EmbeddedChannel())).isNotSameAs(busy);
+			}
+		}
+		finally {
+			latch.countDown();
+		}
+	}
+
+	@Test
+	void childEventLoopChooserIsApplied() {
+		EventLoopChoosers.LeastActiveChannels chooser = (EventLoopChoosers.LeastActiveChannels) EventLoopChooser.leastActiveChannels();
+		DisposableServer server =
+				TcpServer.create()
+				         .port(0)
+				         .childEventLoopChooser(chooser)
+				         .handle((in, out) -> out.send(in.receive().retain()))
+				         .bindNow();
+
+		Connection client = TcpClient.create()
+		                             .port(server.port())
+		                             .connectNow();
+		try {
+			client.outbound()
+			      .sendString(Mono.just("echo"))
+			      .then()
+			      .subscribe();
+
+			assertThat(client.inbound().receive().asString().blockFirst(Duration.ofSeconds(5))).isEqualTo("echo");
+			assertThat(chooser.activeChannels.values()).anyMatch(count -> count.get() == 1);
+		}
+		finally {
+			client.disposeNow();
+			server.disposeNow();
+		}
+	}
+}
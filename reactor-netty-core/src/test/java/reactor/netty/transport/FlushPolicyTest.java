@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.NettyPipeline;
+import reactor.netty.tcp.TcpClient;
+import reactor.netty.tcp.TcpServer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * This test class verifies {@link FlushPolicy}.
+ */
+class FlushPolicyTest {
+
+	@Test
+	void badValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> FlushPolicy.consolidate(0));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> FlushPolicy.bounded(Duration.ZERO, 1));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> FlushPolicy.bounded(Duration.ofMillis(1), 0));
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> FlushPolicy.bounded(null, 1));
+	}
+
+	@Test
+	void handlers() {
+		assertThat(FlushPolicy.immediate().newHandler()).isNull();
+		assertThat(FlushPolicy.consolidate(8).newHandler()).isInstanceOf(FlushConsolidationHandler.class);
+		assertThat(FlushPolicy.consolidateUntilReadComplete().newHandler()).isInstanceOf(FlushConsolidationHandler.class);
+		assertThat(FlushPolicy.bounded(Duration.ofMillis(1), 1).newHandler()).isInstanceOf(FlushPolicy.BoundedFlushHandler.class);
+		assertThat(FlushPolicy.consolidate(8)).isEqualTo(FlushPolicy.consolidate(8))
+		                                      .isNotEqualTo(FlushPolicy.consolidate(16));
+	}
+
+	@Test
+	void boundedFlushIsDelayedUntilMaxBytes() {
+		EmbeddedChannel channel = new EmbeddedChannel(
+				new FlushPolicy.BoundedFlushHandler(TimeUnit.HOURS.toNanos(1), 10));
+
+		channel.write(Unpooled.wrappedBuffer(new byte[4]));
+		channel.flush();
+		assertThat(channel.outboundMessages()).isEmpty();
+
+		channel.write(Unpooled.wrappedBuffer(new byte[8]));
+		channel.flush();
+		assertThat(channel.outboundMessages()).hasSize(2);
+
+		channel.write(Unpooled.wrappedBuffer(new byte[1]));
+		channel.flush();
+		assertThat(channel.outboundMessages()).hasSize(2);
+
+		// pending writes are flushed on close
+		channel.close();
+		assertThat(channel.outboundMessages()).hasSize(3);
+		channel.releaseOutbound();
+	}
+
+	@Test
+	void boundedFlushIsDelayedUntilMaxDelay() throws InterruptedException {
+		EmbeddedChannel channel = new EmbeddedChannel(
+				new FlushPolicy.BoundedFlushHandler(TimeUnit.MILLISECONDS.toNanos(10), 1024));
+
+		channel.write(Unpooled.wrappedBuffer(new byte[4]));
+		channel.flush();
+		channel.write(Unpooled.wrappedBuffer(new byte[4]));
+		channel.flush();
+		assertThat(channel.outboundMessages()).isEmpty();
+
+		Thread.sleep(50);
+		channel.runScheduledPendingTasks();
+		assertThat(channel.outboundMessages()).hasSize(2);
+		channel.finishAndReleaseAll();
+	}
+
+	@Test
+	void flushPolicyIsAppliedToTheConnections() {
+		AtomicBoolean handlerAdded = new AtomicBoolean();
+		DisposableServer server =
+				TcpServer.create()
+				         .port(0)
+				         .flushPolicy(FlushPolicy.bounded(Duration.ofMillis(5), 1024))
+				         .doOnConnection(c -> handlerAdded.set(c.channel().pipeline().get(NettyPipeline.FlushConsolidationHandler) != null))
+				         .handle((in, out) -> out.send(in.receive().retain()))
+				         .bindNow();
+
+		Connection client =
+				TcpClient.create()
+				         .port(server.port())
+				         .flushPolicy(FlushPolicy.consolidate(8))
+				         .connectNow();
+		try {
+			assertThat(client.channel().pipeline().get(NettyPipeline.FlushConsolidationHandler))
+					.isInstanceOf(FlushConsolidationHandler.class);
+
+			client.outbound()
+			      .sendString(Mono.just("echo"))
+			      .then()
+			      .subscribe();
+
+			String echo = client.inbound()
+			                    .receive()
+			                    .asString()
+			                    .blockFirst(Duration.ofSeconds(5));
+			assertThat(echo).isEqualTo("echo");
+			assertThat(handlerAdded).isTrue();
+		}
+		finally {
+			client.disposeNow();
+			server.disposeNow();
+		}
+	}
+}
@@ -48,6 +48,8 @@ import static org.assertj.core.api.Assumptions.assumeThat;
 import static reactor.netty.transport.NameResolverProvider.Build.DEFAULT_CACHE_MAX_TIME_TO_LIVE;
 import static reactor.netty.transport.NameResolverProvider.Build.DEFAULT_CACHE_MIN_TIME_TO_LIVE;
 import static reactor.netty.transport.NameResolverProvider.Build.DEFAULT_CACHE_NEGATIVE_TIME_TO_LIVE;
+import static reactor.netty.transport.NameResolverProvider.Build.DEFAULT_CACHE_STALE_TIME_TO_LIVE;
+import static reactor.netty.transport.NameResolverProvider.Build.DEFAULT_CONNECTION_ATTEMPT_DELAY;
 import static reactor.netty.transport.NameResolverProvider.Build.DEFAULT_MAX_PAYLOAD_SIZE;
 import static reactor.netty.transport.NameResolverProvider.Build.DEFAULT_MAX_QUERIES_PER_RESOLVE;
 import static reactor.netty.transport.NameResolverProvider.Build.DEFAULT_NDOTS;
@@ -137,6 +139,41 @@ class NameResolverProviderTest {
 				.isThrownBy(() -> builder.build().newNameResolverGroup(TcpResources.get(), LoopResources.DEFAULT_NATIVE));
 	}
 
+	@Test
+	void cacheRefreshAhead() {
+		assertThat(builder.build().isCacheRefreshAhead()).isFalse();
+
+		builder.cacheRefreshAhead(true);
+		NameResolverProvider provider = builder.build();
+		assertThat(provider.isCacheRefreshAhead()).isTrue();
+
+		DnsAddressResolverGroup resolverGroup = provider.newNameResolverGroup(TcpResources.get(), LoopResources.DEFAULT_NATIVE);
+		assertThat(RefreshAheadDnsCache.get(resolverGroup)).isNotNull();
+
+		builder.resolveCache(new TestDnsCache());
+		resolverGroup = builder.build().newNameResolverGroup(TcpResources.get(), LoopResources.DEFAULT_NATIVE);
+		assertThat(RefreshAheadDnsCache.get(resolverGroup)).isNull();
+	}
+
+	@Test
+	void cacheStaleTimeToLive() {
+		assertThat(builder.build().cacheStaleTimeToLive()).isEqualTo(DEFAULT_CACHE_STALE_TIME_TO_LIVE);
+
+		Duration cacheStaleTimeToLive = Duration.ofSeconds(5);
+		builder.cacheStaleTimeToLive(cacheStaleTimeToLive);
+		assertThat(builder.build().cacheStaleTimeToLive()).isEqualTo(cacheStaleTimeToLive);
+	}
+
+	@Test
+	void cacheStaleTimeToLiveBadValues() {
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> builder.cacheStaleTimeToLive(null));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.cacheStaleTimeToLive(Duration.ofMillis(-1)))
+				.withMessage("cacheStaleTimeToLive must be positive or zero");
+	}
+
 	@Test
 	void completeOncePreferredResolved() {
 		assertThat(builder.build().isCompleteOncePreferredResolved()).isTrue();
@@ -145,6 +182,25 @@ class NameResolverProviderTest {
 		assertThat(builder.build().isCompleteOncePreferredResolved()).isFalse();
 	}
 
+	@Test
+	void connectionAttemptDelay() {
+		assertThat(builder.build().connectionAttemptDelay()).isEqualTo(DEFAULT_CONNECTION_ATTEMPT_DELAY);
+
+		Duration connectionAttemptDelay = Duration.ofMillis(100);
+		builder.connectionAttemptDelay(connectionAttemptDelay);
+		assertThat(builder.build().connectionAttemptDelay()).isEqualTo(connectionAttemptDelay);
+	}
+
+	@Test
+	void connectionAttemptDelayBadValues() {
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> builder.connectionAttemptDelay(null));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.connectionAttemptDelay(Duration.ofMillis(-1)))
+				.withMessage("connectionAttemptDelay must be positive or zero");
+	}
+
 	@Test
 	void disableOptionalRecord() {
 		assertThat(builder.build().isDisableOptionalRecord()).isFalse();
@@ -170,6 +226,14 @@ class NameResolverProviderTest {
 		assertThat(builder.build().dnsAddressResolverGroupProvider()).isEqualTo(provider);
 	}
 
+	@Test
+	void happyEyeballs() {
+		assertThat(builder.build().isHappyEyeballs()).isFalse();
+
+		builder.happyEyeballs(true);
+		assertThat(builder.build().isHappyEyeballs()).isTrue();
+	}
+
 	@Test
 	void hostsFileEntriesResolver() {
 		assertThat(builder.build().hostsFileEntriesResolver()).isNull();
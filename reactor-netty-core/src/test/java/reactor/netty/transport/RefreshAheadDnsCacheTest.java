@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.netty.handler.codec.dns.DefaultDnsOptEcsRecord;
+import io.netty.handler.codec.dns.DnsRecord;
+import io.netty.resolver.dns.DnsCacheEntry;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This test class verifies {@link RefreshAheadDnsCache}.
+ */
+class RefreshAheadDnsCacheTest {
+
+	static final String HOSTNAME = "example.com";
+
+	InetAddress address1;
+	InetAddress address2;
+
+	RefreshAheadDnsCache cache;
+	AtomicInteger refreshCount;
+	List<Promise<List<InetAddress>>> refreshes;
+
+	@BeforeEach
+	void setUp() throws UnknownHostException {
+		address1 = InetAddress.getByAddress(HOSTNAME, new byte[] {127, 0, 0, 1});
+		address2 = InetAddress.getByAddress(HOSTNAME, new byte[] {127, 0, 0, 2});
+
+		cache = new RefreshAheadDnsCache(0, Integer.MAX_VALUE, 10, TimeUnit.SECONDS.toNanos(30));
+		refreshCount = new AtomicInteger();
+		refreshes = new ArrayList<>();
+		cache.refresher = (hostname, dnsCache) -> {
+			refreshCount.incrementAndGet();
+			dnsCache.cache(hostname, null, address2, 60, null);
+			Promise<List<InetAddress>> promise = ImmediateEventExecutor.INSTANCE.newPromise();
+			refreshes.add(promise);
+			return promise;
+		};
+	}
+
+	@Test
+	void hitsAndMisses() {
+		assertThat(cache.get(HOSTNAME, null)).isNull();
+
+		cache.cache(HOSTNAME, null, address1, 60, null);
+		cache.cache(HOSTNAME + '.', null, address2, 60, null);
+		assertThat(cache.get(HOSTNAME, null)).extracting(DnsCacheEntry::address).containsExactly(address1, address2);
+
+		// the records are not cached when there are additional records
+		DnsRecord[] additionals = new DnsRecord[] {new DefaultDnsOptEcsRecord(1024, 24, address1.getAddress())};
+		assertThat(cache.get(HOSTNAME, additionals)).isNull();
+
+		assertThat(cache.hits.sum()).isEqualTo(1);
+		assertThat(cache.misses.sum()).isEqualTo(1);
+		assertThat(refreshCount.get()).isEqualTo(0);
+
+		cache.cache("unknown.com", null, new UnknownHostException(), null);
+		assertThat(cache.get("unknown.com", null)).extracting(DnsCacheEntry::cause).hasSize(1).doesNotContainNull();
+	}
+
+	@Test
+	void refreshAhead() {
+		long now = System.nanoTime();
+		putEntries(now + TimeUnit.SECONDS.toNanos(10), now - 1);
+
+		assertThat(cache.get(HOSTNAME, null)).extracting(DnsCacheEntry::address).containsExactly(address1);
+		assertThat(cache.get(HOSTNAME, null)).extracting(DnsCacheEntry::address).containsExactly(address1);
+		// only one refresh at a time
+		assertThat(refreshCount.get()).isEqualTo(1);
+
+		refreshes.get(0).setSuccess(Collections.singletonList(address2));
+		assertThat(cache.get(HOSTNAME, null)).extracting(DnsCacheEntry::address).containsExactly(address2);
+		assertThat(refreshCount.get()).isEqualTo(1);
+
+		assertThat(cache.hits.sum()).isEqualTo(3);
+		assertThat(cache.misses.sum()).isEqualTo(0);
+		assertThat(cache.refreshes.sum()).isEqualTo(1);
+	}
+
+	@Test
+	void staleWhileRevalidate() {
+		long now = System.nanoTime();
+		putEntries(now + TimeUnit.SECONDS.toNanos(10), now - 1);
+
+		assertThat(cache.get(HOSTNAME, null)).extracting(DnsCacheEntry::address).containsExactly(address1);
+		refreshes.get(0).setFailure(new UnknownHostException());
+		assertThat(cache.refreshErrors.sum()).isEqualTo(1);
+
+		// the records expired and could not be refreshed
+		RefreshAheadDnsCache.Entries expired = putEntries(now - 1, now - 2);
+		expired.refreshFailed = true;
+		expired.retryAt = now - 1;
+		assertThat(cache.get(HOSTNAME, null)).extracting(DnsCacheEntry::address).containsExactly(address1);
+		assertThat(refreshCount.get()).isEqualTo(2);
+
+		refreshes.get(1).setSuccess(Collections.singletonList(address2));
+		assertThat(cache.get(HOSTNAME, null)).extracting(DnsCacheEntry::address).containsExactly(address2);
+
+		// the records expired without a failed refresh
+		putEntries(now - 1, now - 2);
+		assertThat(cache.get(HOSTNAME, null)).isNull();
+		assertThat(cache.entries).isEmpty();
+		assertThat(refreshCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	void staleTimeToLiveExceeded() {
+		cache = new RefreshAheadDnsCache(0, Integer.MAX_VALUE, 0, 0);
+
+		long now = System.nanoTime();
+		RefreshAheadDnsCache.Entries expired = putEntries(now - 1, now - 2);
+		expired.refreshFailed = true;
+		assertThat(cache.get(HOSTNAME, null)).isNull();
+		assertThat(cache.misses.sum()).isEqualTo(1);
+	}
+
+	RefreshAheadDnsCache.Entries putEntries(long expiresAt, long refreshAt) {
+		RefreshAheadDnsCache.Entries entries = new RefreshAheadDnsCache.Entries(HOSTNAME,
+				Collections.singletonList(new RefreshAheadDnsCache.Entry(HOSTNAME, address1, null)), null, expiresAt, refreshAt);
+		cache.entries.put(HOSTNAME + '.', entries);
+		return entries;
+	}
+}
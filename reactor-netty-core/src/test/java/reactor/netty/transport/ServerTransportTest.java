@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2020-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,17 +15,34 @@
  */
 package reactor.netty.transport;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.Channel;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.logging.LoggingHandler;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
+import reactor.netty.ChannelBindException;
+import reactor.netty.Connection;
 import reactor.netty.DisposableServer;
+import reactor.netty.channel.ChannelMeters;
 import reactor.netty.channel.ChannelMetricsRecorder;
 import reactor.netty.resources.LoopResources;
+import reactor.netty.tcp.TcpClient;
+import reactor.netty.tcp.TcpServer;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static reactor.netty.Metrics.CONNECTIONS_ACCEPTED;
+import static reactor.netty.Metrics.TCP_SERVER_PREFIX;
 
 /**
  * This test class verifies {@link ServerTransport}.
@@ -64,6 +81,97 @@ class ServerTransportTest {
 				.isThrownBy(() -> new TestServerTransport(Mono.just(EmbeddedChannel::new)).bindNow().disposeNow(Duration.ofMillis(Long.MAX_VALUE)));
 	}
 
+	@Test
+	@SuppressWarnings("FutureReturnValueIgnored")
+	void testReusePortAcceptors() {
+		LoopResources loop = LoopResources.create("testReusePortAcceptors", 2, true);
+		MeterRegistry registry = new SimpleMeterRegistry();
+		Metrics.addRegistry(registry);
+		// the server channels that accepted the connections
+		List<Channel> parents = new CopyOnWriteArrayList<>();
+		DisposableServer server;
+		try {
+			server = TcpServer.create()
+			                  .port(0)
+			                  .runOn(loop)
+			                  .reusePortAcceptors(0)
+			                  .metrics(true)
+			                  .doOnConnection(c -> parents.add(c.channel().parent()))
+			                  .handle((in, out) -> out.send(in.receive().retain()))
+			                  .bindNow();
+		}
+		catch (ChannelBindException e) {
+			loop.disposeLater().block(Duration.ofSeconds(5));
+			Metrics.removeRegistry(registry);
+			registry.close();
+			assumeThat(e.getCause()).as("SO_REUSEPORT is not supported").isNotInstanceOf(UnsupportedOperationException.class);
+			throw e;
+		}
+
+		try {
+			List<Channel> reusePortChannels = ((ServerTransport.DisposableBind) server).reusePortChannels;
+			assertThat(reusePortChannels).hasSize(1);
+			assertThat(reusePortChannels.get(0).localAddress()).isEqualTo(server.channel().localAddress());
+			assertThat(reusePortChannels.get(0).eventLoop()).isNotSameAs(server.channel().eventLoop());
+
+			for (int i = 0; i < 4; i++) {
+				Connection client = TcpClient.create()
+				                             .port(server.port())
+				                             .connectNow();
+				try {
+					client.outbound()
+					      .sendString(Mono.just("echo"))
+					      .then()
+					      .subscribe();
+
+					assertThat(client.inbound().receive().asString().blockFirst(Duration.ofSeconds(5))).isEqualTo("echo");
+				}
+				finally {
+					client.disposeNow();
+				}
+			}
+
+			// the accepted connections are counted per acceptor, the first server channel is the acceptor "0"
+			assertThat(parents).hasSize(4);
+			List<Channel> serverChannels = Arrays.asList(server.channel(), reusePortChannels.get(0));
+			for (int i = 0; i < serverChannels.size(); i++) {
+				Channel serverChannel = serverChannels.get(i);
+				long accepted = parents.stream().filter(parent -> parent == serverChannel).count();
+				Counter counter = registry.find(TCP_SERVER_PREFIX + CONNECTIONS_ACCEPTED)
+				                          .tag(ChannelMeters.ConnectionsAcceptedMeterTags.ACCEPTOR.asString(), String.valueOf(i))
+				                          .counter();
+				if (accepted == 0) {
+					assertThat(counter).isNull();
+				}
+				else {
+					assertThat(counter).isNotNull();
+					assertThat(counter.count()).isEqualTo(accepted);
+				}
+			}
+
+			// the server is disposed only when all acceptors are closed
+			//"FutureReturnValueIgnored" this is deliberate
+			server.channel().close().syncUninterruptibly();
+			assertThat(server.isDisposed()).isFalse();
+
+			server.disposeNow();
+			assertThat(reusePortChannels.get(0).isActive()).isFalse();
+			assertThat(server.isDisposed()).isTrue();
+		}
+		finally {
+			server.disposeNow();
+			loop.disposeLater().block(Duration.ofSeconds(5));
+			Metrics.removeRegistry(registry);
+			registry.close();
+		}
+	}
+
+	@Test
+	void testReusePortAcceptorsBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> TcpServer.create().reusePortAcceptors(-1));
+	}
+
 	static final class TestServerTransport extends ServerTransport<TestServerTransport, TestServerTransportConfig> {
 
 		final Mono<? extends DisposableServer> bind;
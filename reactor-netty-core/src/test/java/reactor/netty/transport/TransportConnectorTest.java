@@ -17,15 +17,38 @@ package reactor.netty.transport;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
+import io.netty.resolver.AbstractNameResolver;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.InetSocketAddressResolver;
+import io.netty.resolver.NameResolver;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.util.concurrent.Promise;
 import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
 import reactor.netty.tcp.TcpClient;
 import reactor.netty.tcp.TcpClientConfig;
+import reactor.netty.tcp.TcpServer;
 
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
 class TransportConnectorTest {
 
@@ -50,6 +73,155 @@ class TransportConnectorTest {
 		channel1.close();
 	}
 
+	@Test
+	void interleaveAddressFamilies() throws Exception {
+		SocketAddress ipv6First = new InetSocketAddress(InetAddress.getByName("::1"), 80);
+		SocketAddress ipv6Second = new InetSocketAddress(InetAddress.getByName("::2"), 80);
+		SocketAddress ipv6Third = new InetSocketAddress(InetAddress.getByName("::3"), 80);
+		SocketAddress ipv4First = new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 80);
+		SocketAddress ipv4Second = new InetSocketAddress(InetAddress.getByName("127.0.0.2"), 80);
+
+		assertThat(TransportConnector.interleave(Arrays.asList(ipv6First, ipv6Second, ipv6Third, ipv4First, ipv4Second)))
+				.containsExactly(ipv6First, ipv4First, ipv6Second, ipv4Second, ipv6Third);
+		assertThat(TransportConnector.interleave(Arrays.asList(ipv4First, ipv4Second, ipv6First, ipv6Second)))
+				.containsExactly(ipv4First, ipv6First, ipv4Second, ipv6Second);
+		assertThat(TransportConnector.interleave(Arrays.asList(ipv4First, ipv6First)))
+				.containsExactly(ipv4First, ipv6First);
+		assertThat(TransportConnector.interleave(Arrays.asList(ipv6First, ipv6Second, ipv6Third)))
+				.containsExactly(ipv6First, ipv6Second, ipv6Third);
+	}
+
+	@Test
+	void happyEyeballsConnectsToTheFirstReachableAddress() throws Exception {
+		DisposableServer server =
+				TcpServer.create()
+				         .host("127.0.0.1")
+				         .port(0)
+				         .handle((in, out) -> out.send(in.receive().retain()))
+				         .bindNow();
+
+		// the first address is not routable, the connection attempt either hangs or fails
+		List<InetAddress> addresses = Arrays.asList(InetAddress.getByName("10.255.255.1"), InetAddress.getByName("127.0.0.1"));
+		Connection connection = null;
+		try {
+			connection =
+					TcpClient.newConnection()
+					         .remoteAddress(() -> InetSocketAddress.createUnresolved("happy.eyeballs.test", server.port()))
+					         .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 30000)
+					         .resolver(spec -> spec.happyEyeballs(true)
+					                               .connectionAttemptDelay(Duration.ofMillis(50))
+					                               .dnsAddressResolverGroupProvider(builder -> new FixedAddressResolverGroup(builder, addresses)))
+					         .connectNow(Duration.ofSeconds(5));
+
+			assertThat(((InetSocketAddress) connection.channel().remoteAddress()).getPort()).isEqualTo(server.port());
+
+			String response =
+					connection.outbound()
+					          .sendString(Mono.just("test"))
+					          .then(connection.inbound()
+					                          .receive()
+					                          .asString()
+					                          .next())
+					          .block(Duration.ofSeconds(5));
+			assertThat(response).isEqualTo("test");
+		}
+		finally {
+			if (connection != null) {
+				connection.disposeNow();
+			}
+			server.disposeNow();
+		}
+	}
+
+	@Test
+	void happyEyeballsFailsWhenNoAddressesAreResolved() {
+		RecordingChannelInitializer channelInitializer = new RecordingChannelInitializer();
+		assertThatThrownBy(() ->
+				TcpClient.newConnection()
+				         .remoteAddress(() -> InetSocketAddress.createUnresolved("happy.eyeballs.test", 80))
+				         .doOnChannelInit((observer, channel, remoteAddress) -> channelInitializer.channel = channel)
+				         .resolver(spec -> spec.happyEyeballs(true)
+				                               .dnsAddressResolverGroupProvider(builder ->
+				                                       new FixedAddressResolverGroup(builder, Collections.emptyList())))
+				         .connectNow(Duration.ofSeconds(5)))
+				.hasCauseInstanceOf(UnknownHostException.class);
+
+		assertThat(channelInitializer.channel).isNotNull();
+		assertThat(channelInitializer.channel.isOpen()).isFalse();
+	}
+
+	@Test
+	void happyEyeballsClosesTheChannelWhenCancelledDuringResolution() {
+		AtomicReference<Channel> channel = new AtomicReference<>();
+		Disposable connect =
+				TcpClient.newConnection()
+				         .remoteAddress(() -> InetSocketAddress.createUnresolved("happy.eyeballs.test", 80))
+				         .doOnChannelInit((observer, ch, remoteAddress) -> channel.set(ch))
+				         .resolver(spec -> spec.happyEyeballs(true)
+				                               .dnsAddressResolverGroupProvider(PendingAddressResolverGroup::new))
+				         .connect()
+				         .subscribe();
+
+		await().atMost(5, TimeUnit.SECONDS)
+		       .untilAsserted(() -> assertThat(channel.get()).isNotNull());
+		assertThat(channel.get().isOpen()).isTrue();
+
+		connect.dispose();
+
+		await().atMost(5, TimeUnit.SECONDS)
+		       .untilAsserted(() -> assertThat(channel.get().isOpen()).isFalse());
+	}
+
+	/**
+	 * Resolver group whose resolution never completes.
+	 */
+	static final class PendingAddressResolverGroup extends DnsAddressResolverGroup {
+
+		PendingAddressResolverGroup(DnsNameResolverBuilder builder) {
+			super(builder);
+		}
+
+		@Override
+		protected AddressResolver<InetSocketAddress> newAddressResolver(EventLoop eventLoop, NameResolver<InetAddress> resolver) {
+			return new InetSocketAddressResolver(eventLoop, new AbstractNameResolver<InetAddress>(eventLoop) {
+				@Override
+				protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+					// the promise is never completed
+				}
+
+				@Override
+				protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+					// the promise is never completed
+				}
+			});
+		}
+	}
+
+	static final class FixedAddressResolverGroup extends DnsAddressResolverGroup {
+
+		final List<InetAddress> addresses;
+
+		FixedAddressResolverGroup(DnsNameResolverBuilder builder, List<InetAddress> addresses) {
+			super(builder);
+			this.addresses = addresses;
+		}
+
+		@Override
+		protected AddressResolver<InetSocketAddress> newAddressResolver(EventLoop eventLoop, NameResolver<InetAddress> resolver) {
+			return new InetSocketAddressResolver(eventLoop, new AbstractNameResolver<InetAddress>(eventLoop) {
+				@Override
+				protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+					promise.setSuccess(addresses.get(0));
+				}
+
+				@Override
+				protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+					promise.setSuccess(addresses);
+				}
+			});
+		}
+	}
+
 	private static class RecordingChannelInitializer extends ChannelInitializer<Channel> {
 		Channel channel;
 		@Override
@@ -15,11 +15,14 @@
  */
 package reactor.netty.transport;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.DefaultEventLoop;
 import io.netty.channel.EventLoop;
 import io.netty.util.concurrent.SingleThreadEventExecutor;
 import org.junit.jupiter.api.AfterEach;
@@ -37,9 +40,12 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static reactor.netty.Metrics.BLOCKED;
+import static reactor.netty.Metrics.BUSY_RATIO;
 import static reactor.netty.Metrics.EVENT_LOOP_PREFIX;
 import static reactor.netty.Metrics.NAME;
 import static reactor.netty.Metrics.PENDING_TASKS;
+import static reactor.netty.Metrics.TASK_QUEUE_LATENCY;
 import static reactor.netty.micrometer.GaugeAssert.assertGauge;
 
 /**
@@ -87,6 +93,9 @@ class TransportEventLoopMetricsTest {
 									NAME, singleThreadEventExecutor.threadProperties().name(),
 							};
 							assertGauge(registry, EVENT_LOOP_PREFIX + PENDING_TASKS, tags).hasValueEqualTo(10);
+							assertThat(registry.find(EVENT_LOOP_PREFIX + BUSY_RATIO).tags(tags).gauge()).isNotNull();
+							assertThat(registry.find(EVENT_LOOP_PREFIX + TASK_QUEUE_LATENCY).tags(tags).timer()).isNotNull();
+							assertThat(registry.find(EVENT_LOOP_PREFIX + BLOCKED).tags(tags).counter()).isNotNull();
 							latch.countDown();
 						}
 					})
@@ -162,4 +171,50 @@ class TransportEventLoopMetricsTest {
 			}
 		}
 	}
+
+	@Test
+	void testEventLoopMonitorProbe() throws InterruptedException {
+		Timer taskQueueLatency = registry.timer("test.task.queue.latency");
+		Counter blocked = registry.counter("test.blocked");
+		DefaultEventLoop eventLoop = new DefaultEventLoop();
+		CountDownLatch unblock = new CountDownLatch(1);
+		EventLoopMonitor.Probe probe = new EventLoopMonitor.Probe("test", eventLoop, taskQueueLatency, blocked);
+		try {
+			eventLoop.submit(() -> {}).sync();
+
+			assertThat(probe.check(System.nanoTime(), TimeUnit.SECONDS.toNanos(1))).isTrue();
+			eventLoop.submit(() -> {}).sync();
+			assertThat(taskQueueLatency.count()).isEqualTo(1);
+			assertThat(probe.busyRatio()).isBetween(0.0d, 1.0d);
+
+			eventLoop.execute(() -> {
+				try {
+					unblock.await(5, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+
+			long start = System.nanoTime();
+			assertThat(probe.check(start, TimeUnit.SECONDS.toNanos(1))).isTrue();
+			assertThat(probe.check(start + TimeUnit.MILLISECONDS.toNanos(500), TimeUnit.SECONDS.toNanos(1))).isTrue();
+			assertThat(blocked.count()).isEqualTo(0);
+
+			// the blocked event loop is reported once
+			assertThat(probe.check(start + TimeUnit.SECONDS.toNanos(2), TimeUnit.SECONDS.toNanos(1))).isTrue();
+			assertThat(probe.check(start + TimeUnit.SECONDS.toNanos(3), TimeUnit.SECONDS.toNanos(1))).isTrue();
+			assertThat(blocked.count()).isEqualTo(1);
+
+			unblock.countDown();
+			eventLoop.submit(() -> {}).sync();
+			assertThat(taskQueueLatency.count()).isEqualTo(2);
+		}
+		finally {
+			unblock.countDown();
+			eventLoop.shutdownGracefully(0, 0, TimeUnit.SECONDS).await(5, TimeUnit.SECONDS);
+		}
+
+		assertThat(probe.check(System.nanoTime(), TimeUnit.SECONDS.toNanos(1))).isFalse();
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package reactor.netty.http;
 
 import java.net.URI;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.concurrent.Callable;
@@ -240,10 +241,26 @@ public abstract class HttpOperations<INBOUND extends NettyInbound, OUTBOUND exte
 	public final NettyOutbound sendFile(Path file, long position, long count) {
 		Objects.requireNonNull(file);
 
-		if (hasSentHeaders()) {
-			return super.sendFile(file, position, count);
+		if (!hasSentHeaders()) {
+			prepareFileTransfer(count);
 		}
 
+		return super.sendFile(file, position, count);
+	}
+
+	@Override
+	public final NettyOutbound sendFile(Path file, long position, long count,
+			Callable<? extends FileChannel> fileChannelInput, Consumer<? super FileChannel> fileChannelCleanup) {
+		Objects.requireNonNull(file);
+
+		if (!hasSentHeaders()) {
+			prepareFileTransfer(count);
+		}
+
+		return super.sendFile(file, position, count, fileChannelInput, fileChannelCleanup);
+	}
+
+	private void prepareFileTransfer(long count) {
 		if (!HttpUtil.isTransferEncodingChunked(outboundHttpMessage()) && !HttpUtil.isContentLengthSet(
 				outboundHttpMessage()) && count < Integer.MAX_VALUE) {
 			outboundHttpMessage().headers()
@@ -255,8 +272,6 @@ public abstract class HttpOperations<INBOUND extends NettyInbound, OUTBOUND exte
 			                     .remove(HttpHeaderNames.TRANSFER_ENCODING);
 			HttpUtil.setTransferEncodingChunked(outboundHttpMessage(), true);
 		}
-
-		return super.sendFile(file, position, count);
 	}
 
 	@Override
@@ -20,12 +20,11 @@ import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
 import reactor.netty.Metrics;
 import reactor.netty.channel.ChannelMeters;
+import reactor.netty.channel.MeterCache;
 import reactor.netty.channel.MeterKey;
 import reactor.netty.channel.MicrometerChannelMetricsRecorder;
-import reactor.netty.internal.util.MapUtils;
 
 import java.net.SocketAddress;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import static reactor.netty.Metrics.DATA_RECEIVED;
@@ -42,17 +41,59 @@ import static reactor.netty.channel.ChannelMeters.ChannelMetersTags.URI;
  * @since 0.9
  */
 public class MicrometerHttpMetricsRecorder extends MicrometerChannelMetricsRecorder implements HttpMetricsRecorder {
-	protected final ConcurrentMap<MeterKey, Timer> dataReceivedTimeCache = new ConcurrentHashMap<>();
+	/**
+	 * The cache of the data received time meters.
+	 *
+	 * @since 1.2.0
+	 */
+	protected final MeterCache<MeterKey, Timer> dataReceivedTimeMeters = MeterCache.create(MeterKey::overflow);
 
-	protected final ConcurrentMap<MeterKey, Timer> dataSentTimeCache = new ConcurrentHashMap<>();
+	/**
+	 * The cache of the data sent time meters.
+	 *
+	 * @since 1.2.0
+	 */
+	protected final MeterCache<MeterKey, Timer> dataSentTimeMeters = MeterCache.create(MeterKey::overflow);
 
-	protected final ConcurrentMap<MeterKey, Timer> responseTimeCache = new ConcurrentHashMap<>();
+	/**
+	 * The cache of the response time meters.
+	 *
+	 * @since 1.2.0
+	 */
+	protected final MeterCache<MeterKey, Timer> responseTimeMeters = MeterCache.create(MeterKey::overflow);
 
-	private final ConcurrentMap<MeterKey, DistributionSummary> dataReceivedCache = new ConcurrentHashMap<>();
+	/**
+	 * A view of {@link #dataReceivedTimeMeters}.
+	 *
+	 * @deprecated as of 1.2.0. Prefer {@link #dataReceivedTimeMeters} that bounds the number of meters.
+	 * This field will be removed in version 1.3.0.
+	 */
+	@Deprecated
+	protected final ConcurrentMap<MeterKey, Timer> dataReceivedTimeCache = dataReceivedTimeMeters.asMap();
 
-	private final ConcurrentMap<MeterKey, DistributionSummary> dataSentCache = new ConcurrentHashMap<>();
+	/**
+	 * A view of {@link #dataSentTimeMeters}.
+	 *
+	 * @deprecated as of 1.2.0. Prefer {@link #dataSentTimeMeters} that bounds the number of meters.
+	 * This field will be removed in version 1.3.0.
+	 */
+	@Deprecated
+	protected final ConcurrentMap<MeterKey, Timer> dataSentTimeCache = dataSentTimeMeters.asMap();
 
-	private final ConcurrentMap<MeterKey, Counter> errorsCache = new ConcurrentHashMap<>();
+	/**
+	 * A view of {@link #responseTimeMeters}.
+	 *
+	 * @deprecated as of 1.2.0. Prefer {@link #responseTimeMeters} that bounds the number of meters.
+	 * This field will be removed in version 1.3.0.
+	 */
+	@Deprecated
+	protected final ConcurrentMap<MeterKey, Timer> responseTimeCache = responseTimeMeters.asMap();
+
+	private final MeterCache<MeterKey, DistributionSummary> dataReceivedCache = MeterCache.create(MeterKey::overflow);
+
+	private final MeterCache<MeterKey, DistributionSummary> dataSentCache = MeterCache.create(MeterKey::overflow);
+
+	private final MeterCache<MeterKey, Counter> errorsCache = MeterCache.create(MeterKey::overflow);
 
 	protected MicrometerHttpMetricsRecorder(String name, String protocol) {
 		this(name, protocol, true);
@@ -66,10 +107,10 @@ public class MicrometerHttpMetricsRecorder extends MicrometerChannelMetricsRecor
 	public void recordDataReceived(SocketAddress remoteAddress, String uri, long bytes) {
 		String address = Metrics.formatSocketAddress(remoteAddress);
 		MeterKey meterKey = new MeterKey(uri, address, null, null, null);
-		DistributionSummary dataReceived = MapUtils.computeIfAbsent(dataReceivedCache, meterKey,
+		DistributionSummary dataReceived = dataReceivedCache.computeIfAbsent(meterKey,
 				key -> filter(DistributionSummary.builder(name() + DATA_RECEIVED)
 				                                 .baseUnit(ChannelMeters.DATA_RECEIVED.getBaseUnit())
-				                                 .tags(REMOTE_ADDRESS.asString(), address, URI.asString(), uri)
+				                                 .tags(REMOTE_ADDRESS.asString(), key.remoteAddress(), URI.asString(), key.uri())
 				                                 .register(REGISTRY)));
 		if (dataReceived != null) {
 			dataReceived.record(bytes);
@@ -80,10 +121,10 @@ public class MicrometerHttpMetricsRecorder extends MicrometerChannelMetricsRecor
 	public void recordDataSent(SocketAddress remoteAddress, String uri, long bytes) {
 		String address = Metrics.formatSocketAddress(remoteAddress);
 		MeterKey meterKey = new MeterKey(uri, address, null, null, null);
-		DistributionSummary dataSent = MapUtils.computeIfAbsent(dataSentCache, meterKey,
+		DistributionSummary dataSent = dataSentCache.computeIfAbsent(meterKey,
 				key -> filter(DistributionSummary.builder(name() + DATA_SENT)
 				                                 .baseUnit(ChannelMeters.DATA_SENT.getBaseUnit())
-				                                 .tags(REMOTE_ADDRESS.asString(), address, URI.asString(), uri)
+				                                 .tags(REMOTE_ADDRESS.asString(), key.remoteAddress(), URI.asString(), key.uri())
 				                                 .register(REGISTRY)));
 		if (dataSent != null) {
 			dataSent.record(bytes);
@@ -94,9 +135,9 @@ public class MicrometerHttpMetricsRecorder extends MicrometerChannelMetricsRecor
 	public void incrementErrorsCount(SocketAddress remoteAddress, String uri) {
 		String address = Metrics.formatSocketAddress(remoteAddress);
 		MeterKey meterKey = new MeterKey(uri, address, null, null, null);
-		Counter errors = MapUtils.computeIfAbsent(errorsCache, meterKey,
+		Counter errors = errorsCache.computeIfAbsent(meterKey,
 				key -> filter(Counter.builder(name() + ERRORS)
-				                     .tags(REMOTE_ADDRESS.asString(), address, URI.asString(), uri)
+				                     .tags(REMOTE_ADDRESS.asString(), key.remoteAddress(), URI.asString(), key.uri())
 				                     .register(REGISTRY)));
 		if (errors != null) {
 			errors.increment();
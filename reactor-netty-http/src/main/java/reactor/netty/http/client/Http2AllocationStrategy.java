@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2022-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package reactor.netty.http.client;
 
 import reactor.netty.resources.ConnectionProvider;
 
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
@@ -30,6 +31,32 @@ import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
  */
 public final class Http2AllocationStrategy implements ConnectionProvider.AllocationStrategy<Http2AllocationStrategy> {
 
+	/**
+	 * The strategy used for selecting the connection on which a new stream is opened.
+	 *
+	 * @since 1.2.0
+	 */
+	public enum ConnectionSelection {
+
+		/**
+		 * The connections are checked in FIFO order, a connection goes at the end of the queue once a stream
+		 * is opened on it. This is the default.
+		 */
+		ROUND_ROBIN,
+
+		/**
+		 * The connection with the least active streams is selected.
+		 */
+		LEAST_ACTIVE_STREAMS,
+
+		/**
+		 * Two connections are selected at random and the one with fewer active streams is used.
+		 * The connections are sampled among the first few available connections in the queue,
+		 * a connection goes at the end of the queue once a stream is opened on it.
+		 */
+		POWER_OF_TWO_CHOICES
+	}
+
 	public interface Builder {
 
 		/**
@@ -39,6 +66,18 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 		 */
 		Http2AllocationStrategy build();
 
+		/**
+		 * Configures the strategy used for selecting the connection on which a new stream is opened.
+		 * Default to {@link ConnectionSelection#ROUND_ROBIN}.
+		 *
+		 * @param connectionSelection the strategy used for selecting the connection
+		 * @return {@code this}
+		 * @since 1.2.0
+		 */
+		default Builder connectionSelection(ConnectionSelection connectionSelection) {
+			return this;
+		}
+
 		/**
 		 * Configures the maximum number of the concurrent streams that can be opened to the remote peer.
 		 * When evaluating how many streams can be opened to the remote peer,
@@ -77,6 +116,16 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 		return new Http2AllocationStrategy.Build();
 	}
 
+	/**
+	 * Returns the configured strategy used for selecting the connection on which a new stream is opened.
+	 *
+	 * @return the configured strategy used for selecting the connection on which a new stream is opened
+	 * @since 1.2.0
+	 */
+	public ConnectionSelection connectionSelection() {
+		return connectionSelection;
+	}
+
 	@Override
 	public Http2AllocationStrategy copy() {
 		return new Http2AllocationStrategy(this);
@@ -141,6 +190,7 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 		}
 	}
 
+	final ConnectionSelection connectionSelection;
 	final long maxConcurrentStreams;
 	final int maxConnections;
 	final int minConnections;
@@ -149,6 +199,7 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 	static final AtomicIntegerFieldUpdater<Http2AllocationStrategy> PERMITS = AtomicIntegerFieldUpdater.newUpdater(Http2AllocationStrategy.class, "permits");
 
 	Http2AllocationStrategy(Build build) {
+		this.connectionSelection = build.connectionSelection;
 		this.maxConcurrentStreams = build.maxConcurrentStreams;
 		this.maxConnections = build.maxConnections;
 		this.minConnections = build.minConnections;
@@ -156,6 +207,7 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 	}
 
 	Http2AllocationStrategy(Http2AllocationStrategy copy) {
+		this.connectionSelection = copy.connectionSelection;
 		this.maxConcurrentStreams = copy.maxConcurrentStreams;
 		this.maxConnections = copy.maxConnections;
 		this.minConnections = copy.minConnections;
@@ -167,6 +219,7 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 		static final int DEFAULT_MAX_CONNECTIONS = Integer.MAX_VALUE;
 		static final int DEFAULT_MIN_CONNECTIONS = 0;
 
+		ConnectionSelection connectionSelection = ConnectionSelection.ROUND_ROBIN;
 		long maxConcurrentStreams = DEFAULT_MAX_CONCURRENT_STREAMS;
 		int maxConnections = DEFAULT_MAX_CONNECTIONS;
 		int minConnections = DEFAULT_MIN_CONNECTIONS;
@@ -180,6 +233,12 @@ public final class Http2AllocationStrategy implements ConnectionProvider.Allocat
 			return new Http2AllocationStrategy(this);
 		}
 
+		@Override
+		public Builder connectionSelection(ConnectionSelection connectionSelection) {
+			this.connectionSelection = Objects.requireNonNull(connectionSelection, "connectionSelection");
+			return this;
+		}
+
 		@Override
 		public Builder maxConcurrentStreams(long maxConcurrentStreams) {
 			if (maxConcurrentStreams < -1) {
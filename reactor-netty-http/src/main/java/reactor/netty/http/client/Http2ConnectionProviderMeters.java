@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2022-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -67,6 +67,46 @@ enum Http2ConnectionProviderMeters implements MeterDocumentation {
 		}
 	},
 
+	/**
+	 * The maximum number of the active HTTP/2 streams on a single connection.
+	 */
+	CONNECTION_MAX_ACTIVE_STREAMS {
+		@Override
+		public String getName() {
+			return "reactor.netty.connection.provider.connection.max.active.streams";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return Http2ConnectionProviderMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
+	/**
+	 * The minimum number of the active HTTP/2 streams on a single connection.
+	 */
+	CONNECTION_MIN_ACTIVE_STREAMS {
+		@Override
+		public String getName() {
+			return "reactor.netty.connection.provider.connection.min.active.streams";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return Http2ConnectionProviderMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
 	/**
 	 * The number of the idle connections in the connection pool.
 	 */
@@ -21,6 +21,7 @@ import java.util.Iterator;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
@@ -44,6 +45,7 @@ import reactor.core.publisher.Operators;
 import reactor.netty.Connection;
 import reactor.netty.FutureMono;
 import reactor.netty.NettyPipeline;
+import reactor.netty.http.client.Http2AllocationStrategy.ConnectionSelection;
 import reactor.netty.internal.shaded.reactor.pool.InstrumentedPool;
 import reactor.netty.internal.shaded.reactor.pool.PoolAcquirePendingLimitException;
 import reactor.netty.internal.shaded.reactor.pool.PoolAcquireTimeoutException;
@@ -97,7 +99,8 @@ import static reactor.netty.ReactorNetty.format;
  *     <li>{@link PoolConfig#destroyHandler()} - the destroy handler cannot be used as the destruction is more complex.</li>
  *     <li>{@link PoolConfig#metricsRecorder()} - no pool instrumentation.</li>
  *     <li>{@link PoolConfig#releaseHandler()} - release functionality works as invalidate.</li>
- *     <li>{@link PoolConfig#reuseIdleResourcesInLruOrder()} - FIFO is used when checking the connections.</li>
+ *     <li>{@link PoolConfig#reuseIdleResourcesInLruOrder()} - the connection is selected with the configured
+ *     {@link ConnectionSelection}, FIFO is used by default when checking the connections.</li>
  *     <li>FIFO is used when obtaining the pending borrowers</li>
  *     <li>Warm up functionality is not supported</li>
  * </ul>
@@ -110,6 +113,12 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 
 	static final Logger log = Loggers.getLogger(Http2Pool.class);
 
+	/**
+	 * The number of the available connections at the head of the queue among which
+	 * {@link Http2AllocationStrategy.ConnectionSelection#POWER_OF_TWO_CHOICES} samples two connections.
+	 */
+	static final int POWER_OF_TWO_CHOICES_WINDOW = 8;
+
 	volatile int acquired;
 	static final AtomicIntegerFieldUpdater<Http2Pool> ACQUIRED =
 			AtomicIntegerFieldUpdater.newUpdater(Http2Pool.class, "acquired");
@@ -153,6 +162,7 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 			AtomicIntegerFieldUpdater.newUpdater(Http2Pool.class, "wip");
 
 	final Clock clock;
+	final ConnectionSelection connectionSelection;
 	final Long maxConcurrentStreams;
 	final int minConnections;
 	final PoolConfig<Connection> poolConfig;
@@ -164,6 +174,8 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 	Http2Pool(PoolConfig<Connection> poolConfig, @Nullable ConnectionProvider.AllocationStrategy<?> allocationStrategy) {
 		this.clock = poolConfig.clock();
 		this.connections = new ConcurrentLinkedQueue<>();
+		this.connectionSelection = allocationStrategy instanceof Http2AllocationStrategy ?
+				((Http2AllocationStrategy) allocationStrategy).connectionSelection() : ConnectionSelection.ROUND_ROBIN;
 		this.lastInteractionTimestamp = clock.millis();
 		this.maxConcurrentStreams = allocationStrategy instanceof Http2AllocationStrategy ?
 				((Http2AllocationStrategy) allocationStrategy).maxConcurrentStreams() : -1;
@@ -519,8 +531,30 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 	}
 
 	@Nullable
-	@SuppressWarnings("FutureReturnValueIgnored")
 	Slot findConnection(ConcurrentLinkedQueue<Slot> resources) {
+		if (connectionSelection == ConnectionSelection.ROUND_ROBIN) {
+			return pollConnection(resources);
+		}
+
+		for (;;) {
+			Slot slot = connectionSelection == ConnectionSelection.LEAST_ACTIVE_STREAMS ?
+					leastActiveStreams(resources) : powerOfTwoChoices(resources);
+			if (slot == null) {
+				return null;
+			}
+			// the connection might have been removed in the meantime, in this case select again
+			if (resources.remove(slot)) {
+				IDLE_SIZE.decrementAndGet(this);
+				return slot;
+			}
+		}
+	}
+
+	/**
+	 * Returns the first connection in FIFO order that can be used for opening a new stream.
+	 */
+	@Nullable
+	Slot pollConnection(ConcurrentLinkedQueue<Slot> resources) {
 		int resourcesCount = idleSize;
 		while (resourcesCount > 0) {
 			// There are connections in the queue
@@ -533,75 +567,188 @@ final class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.
 				continue;
 			}
 
-			// check the connection is active
-			if (!slot.connection.channel().isActive()) {
-				if (slot.concurrency() > 0) {
-					if (log.isDebugEnabled()) {
-						log.debug(format(slot.connection.channel(), "Channel is closed, {} active streams"),
-								slot.concurrency());
-					}
-					offerSlot(resources, slot);
+			if (isAvailable(slot)) {
+				return slot;
+			}
+
+			// the connection has active streams, it stays in the pool
+			if (!slot.get()) {
+				offerSlot(resources, slot);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the connection with the least active streams that can be used for opening a new stream.
+	 * The connection is not removed from the queue.
+	 */
+	@Nullable
+	Slot leastActiveStreams(ConcurrentLinkedQueue<Slot> resources) {
+		Slot selected = null;
+		for (Slot slot : resources) {
+			if (!isAvailable(slot)) {
+				if (slot.get()) {
+					removeSlot(slot);
 				}
-				else {
-					if (log.isDebugEnabled()) {
-						log.debug(format(slot.connection.channel(), "Channel is closed, remove from pool"));
-					}
-					slot.invalidate();
+				continue;
+			}
+			if (selected == null || slot.concurrency() < selected.concurrency()) {
+				selected = slot;
+				if (selected.concurrency() == 0) {
+					break;
+				}
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * Samples two connections that can be used for opening a new stream and returns the one with fewer
+	 * active streams. The connection is not removed from the queue.
+	 * <p>The connections are sampled among the first {@link #POWER_OF_TWO_CHOICES_WINDOW} available connections
+	 * at the head of the queue, so that the cost of the selection does not depend on the number of connections.
+	 * The selected connection goes at the end of the queue once a stream is opened on it,
+	 * hence the sampled window moves over all connections.
+	 */
+	@Nullable
+	Slot powerOfTwoChoices(ConcurrentLinkedQueue<Slot> resources) {
+		Slot[] candidates = new Slot[POWER_OF_TWO_CHOICES_WINDOW];
+		int count = 0;
+		for (Slot slot : resources) {
+			if (!isAvailable(slot)) {
+				if (slot.get()) {
+					removeSlot(slot);
 				}
 				continue;
 			}
+			candidates[count++] = slot;
+			if (count == POWER_OF_TWO_CHOICES_WINDOW) {
+				break;
+			}
+		}
+		if (count < 2) {
+			return candidates[0];
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int firstIndex = random.nextInt(count);
+		int secondIndex = random.nextInt(count - 1);
+		if (secondIndex >= firstIndex) {
+			secondIndex++;
+		}
+		Slot first = candidates[firstIndex];
+		Slot second = candidates[secondIndex];
+		return first.concurrency() <= second.concurrency() ? first : second;
+	}
 
-			// check the connection received GO_AWAY
-			if (slot.goAwayReceived()) {
-				if (slot.concurrency() > 0) {
-					if (log.isDebugEnabled()) {
-						log.debug(format(slot.connection.channel(), "Channel received GO_AWAY, {} active streams"),
-								slot.concurrency());
-					}
-					offerSlot(resources, slot);
+	/**
+	 * Checks whether a new stream can be opened on the connection. When the connection cannot be used anymore
+	 * and there are no active streams, the connection is invalidated and the caller is responsible for removing it
+	 * from the queue.
+	 *
+	 * @param slot the connection
+	 * @return {@code true} if a new stream can be opened on the connection
+	 */
+	@SuppressWarnings("FutureReturnValueIgnored")
+	boolean isAvailable(Slot slot) {
+		// check the connection is active
+		if (!slot.connection.channel().isActive()) {
+			if (slot.concurrency() > 0) {
+				if (log.isDebugEnabled()) {
+					log.debug(format(slot.connection.channel(), "Channel is closed, {} active streams"),
+							slot.concurrency());
 				}
-				else {
-					if (log.isDebugEnabled()) {
-						log.debug(format(slot.connection.channel(), "Channel received GO_AWAY, remove from pool"));
-					}
-					slot.invalidate();
+			}
+			else {
+				if (log.isDebugEnabled()) {
+					log.debug(format(slot.connection.channel(), "Channel is closed, remove from pool"));
 				}
-				continue;
+				slot.invalidate();
 			}
+			return false;
+		}
 
-			// check whether the eviction predicate for the connection evaluates to true
-			if (testEvictionPredicate(slot)) {
-				if (slot.concurrency() > 0) {
-					if (log.isDebugEnabled()) {
-						log.debug(format(slot.connection.channel(), "Eviction predicate was true, {} active streams"),
-								slot.concurrency());
-					}
-					offerSlot(resources, slot);
+		// check the connection received GO_AWAY
+		if (slot.goAwayReceived()) {
+			if (slot.concurrency() > 0) {
+				if (log.isDebugEnabled()) {
+					log.debug(format(slot.connection.channel(), "Channel received GO_AWAY, {} active streams"),
+							slot.concurrency());
 				}
-				else {
-					if (log.isDebugEnabled()) {
-						log.debug(format(slot.connection.channel(), "Eviction predicate was true, remove from pool"));
-					}
-					//"FutureReturnValueIgnored" this is deliberate
-					slot.connection.channel().close();
-					slot.invalidate();
+			}
+			else {
+				if (log.isDebugEnabled()) {
+					log.debug(format(slot.connection.channel(), "Channel received GO_AWAY, remove from pool"));
 				}
-				continue;
+				slot.invalidate();
 			}
+			return false;
+		}
 
-			// check that the connection's max active streams has not been reached
-			if (!slot.canOpenStream()) {
-				offerSlot(resources, slot);
+		// check whether the eviction predicate for the connection evaluates to true
+		if (testEvictionPredicate(slot)) {
+			if (slot.concurrency() > 0) {
 				if (log.isDebugEnabled()) {
-					log.debug(format(slot.connection.channel(), "Max active streams is reached"));
+					log.debug(format(slot.connection.channel(), "Eviction predicate was true, {} active streams"),
+							slot.concurrency());
 				}
-				continue;
 			}
+			else {
+				if (log.isDebugEnabled()) {
+					log.debug(format(slot.connection.channel(), "Eviction predicate was true, remove from pool"));
+				}
+				//"FutureReturnValueIgnored" this is deliberate
+				slot.connection.channel().close();
+				slot.invalidate();
+			}
+			return false;
+		}
 
-			return slot;
+		// check that the connection's max active streams has not been reached
+		if (!slot.canOpenStream()) {
+			if (log.isDebugEnabled()) {
+				log.debug(format(slot.connection.channel(), "Max active streams is reached"));
+			}
+			return false;
 		}
 
-		return null;
+		return true;
+	}
+
+	/**
+	 * Returns the maximum number of active streams on a single connection currently in the pool.
+	 *
+	 * @return the maximum number of active streams on a single connection currently in the pool
+	 */
+	int maxConnectionActiveStreams() {
+		ConcurrentLinkedQueue<Slot> resources = connections;
+		int max = 0;
+		if (resources != null) {
+			for (Slot slot : resources) {
+				max = Math.max(max, slot.concurrency());
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the minimum number of active streams on a single connection currently in the pool.
+	 *
+	 * @return the minimum number of active streams on a single connection currently in the pool
+	 */
+	int minConnectionActiveStreams() {
+		ConcurrentLinkedQueue<Slot> resources = connections;
+		int min = -1;
+		if (resources != null) {
+			for (Slot slot : resources) {
+				int concurrency = slot.concurrency();
+				if (min == -1 || concurrency < min) {
+					min = concurrency;
+				}
+			}
+		}
+		return Math.max(min, 0);
 	}
 
 	boolean testEvictionPredicate(Slot slot) {
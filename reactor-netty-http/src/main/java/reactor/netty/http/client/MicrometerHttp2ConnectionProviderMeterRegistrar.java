@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2021-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,8 @@ import java.net.SocketAddress;
 import static reactor.netty.Metrics.REGISTRY;
 import static reactor.netty.http.client.Http2ConnectionProviderMeters.ACTIVE_CONNECTIONS;
 import static reactor.netty.http.client.Http2ConnectionProviderMeters.ACTIVE_STREAMS;
+import static reactor.netty.http.client.Http2ConnectionProviderMeters.CONNECTION_MAX_ACTIVE_STREAMS;
+import static reactor.netty.http.client.Http2ConnectionProviderMeters.CONNECTION_MIN_ACTIVE_STREAMS;
 import static reactor.netty.http.client.Http2ConnectionProviderMeters.Http2ConnectionProviderMetersTags.ID;
 import static reactor.netty.http.client.Http2ConnectionProviderMeters.Http2ConnectionProviderMetersTags.NAME;
 import static reactor.netty.http.client.Http2ConnectionProviderMeters.Http2ConnectionProviderMetersTags.REMOTE_ADDRESS;
@@ -52,6 +54,16 @@ final class MicrometerHttp2ConnectionProviderMeterRegistrar {
 		     .tags(tags)
 		     .register(REGISTRY);
 
+		Gauge.builder(CONNECTION_MAX_ACTIVE_STREAMS.getName(), metrics,
+		             poolMetrics -> ((Http2Pool) poolMetrics).maxConnectionActiveStreams())
+		     .tags(tags)
+		     .register(REGISTRY);
+
+		Gauge.builder(CONNECTION_MIN_ACTIVE_STREAMS.getName(), metrics,
+		             poolMetrics -> ((Http2Pool) poolMetrics).minConnectionActiveStreams())
+		     .tags(tags)
+		     .register(REGISTRY);
+
 		Gauge.builder(IDLE_CONNECTIONS.getName(), metrics, InstrumentedPool.PoolMetrics::idleSize)
 		     .tags(tags)
 		     .register(REGISTRY);
@@ -67,6 +79,8 @@ final class MicrometerHttp2ConnectionProviderMeterRegistrar {
 
 		REGISTRY.remove(new Meter.Id(ACTIVE_CONNECTIONS.getName(), tags, null, null, Meter.Type.GAUGE));
 		REGISTRY.remove(new Meter.Id(ACTIVE_STREAMS.getName(), tags, null, null, Meter.Type.GAUGE));
+		REGISTRY.remove(new Meter.Id(CONNECTION_MAX_ACTIVE_STREAMS.getName(), tags, null, null, Meter.Type.GAUGE));
+		REGISTRY.remove(new Meter.Id(CONNECTION_MIN_ACTIVE_STREAMS.getName(), tags, null, null, Meter.Type.GAUGE));
 		REGISTRY.remove(new Meter.Id(IDLE_CONNECTIONS.getName(), tags, null, null, Meter.Type.GAUGE));
 		REGISTRY.remove(new Meter.Id(PENDING_STREAMS.getName(), tags, null, null, Meter.Type.GAUGE));
 	}
@@ -20,15 +20,13 @@ import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
 import reactor.netty.Metrics;
 import reactor.netty.channel.ChannelMeters;
+import reactor.netty.channel.MeterCache;
 import reactor.netty.channel.MeterKey;
 import reactor.netty.http.MicrometerHttpMetricsRecorder;
-import reactor.netty.internal.util.MapUtils;
 import reactor.util.annotation.Nullable;
 
 import java.net.SocketAddress;
 import java.time.Duration;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import static reactor.netty.Metrics.DATA_RECEIVED;
 import static reactor.netty.Metrics.DATA_RECEIVED_TIME;
@@ -56,11 +54,11 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 
 	static final MicrometerHttpClientMetricsRecorder INSTANCE = new MicrometerHttpClientMetricsRecorder();
 
-	private final ConcurrentMap<MeterKey, DistributionSummary> dataReceivedCache = new ConcurrentHashMap<>();
+	private final MeterCache<MeterKey, DistributionSummary> dataReceivedCache = MeterCache.create(MeterKey::overflow);
 
-	private final ConcurrentMap<MeterKey, DistributionSummary> dataSentCache = new ConcurrentHashMap<>();
+	private final MeterCache<MeterKey, DistributionSummary> dataSentCache = MeterCache.create(MeterKey::overflow);
 
-	private final ConcurrentMap<MeterKey, Counter> errorsCache = new ConcurrentHashMap<>();
+	private final MeterCache<MeterKey, Counter> errorsCache = MeterCache.create(MeterKey::overflow);
 
 	private MicrometerHttpClientMetricsRecorder() {
 		super(HTTP_CLIENT_PREFIX, "http", false);
@@ -79,11 +77,11 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 	void recordDataReceivedTime(SocketAddress remoteAddress, @Nullable String proxyAddress, String uri, String method, String status, Duration time) {
 		String address = formatSocketAddress(remoteAddress);
 		MeterKey meterKey = new MeterKey(uri, address, proxyAddress, method, status);
-		Timer dataReceivedTime = MapUtils.computeIfAbsent(dataReceivedTimeCache, meterKey,
+		Timer dataReceivedTime = dataReceivedTimeMeters.computeIfAbsent(meterKey,
 				key -> filter(Timer.builder(name() + DATA_RECEIVED_TIME)
-				                   .tags(HttpClientMeters.DataReceivedTimeTags.REMOTE_ADDRESS.asString(), address,
-				                         HttpClientMeters.DataReceivedTimeTags.PROXY_ADDRESS.asString(), proxyAddress,
-				                         HttpClientMeters.DataReceivedTimeTags.URI.asString(), uri,
+				                   .tags(HttpClientMeters.DataReceivedTimeTags.REMOTE_ADDRESS.asString(), key.remoteAddress(),
+				                         HttpClientMeters.DataReceivedTimeTags.PROXY_ADDRESS.asString(), key.proxyAddress(),
+				                         HttpClientMeters.DataReceivedTimeTags.URI.asString(), key.uri(),
 				                         HttpClientMeters.DataReceivedTimeTags.METHOD.asString(), method,
 				                         HttpClientMeters.DataReceivedTimeTags.STATUS.asString(), status)
 				                   .register(REGISTRY)));
@@ -105,11 +103,11 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 	void recordDataSentTime(SocketAddress remoteAddress, @Nullable String proxyAddress, String uri, String method, Duration time) {
 		String address = formatSocketAddress(remoteAddress);
 		MeterKey meterKey = new MeterKey(uri, address, proxyAddress, method, null);
-		Timer dataSentTime = MapUtils.computeIfAbsent(dataSentTimeCache, meterKey,
+		Timer dataSentTime = dataSentTimeMeters.computeIfAbsent(meterKey,
 				key -> filter(Timer.builder(name() + DATA_SENT_TIME)
-				                   .tags(HttpClientMeters.DataSentTimeTags.REMOTE_ADDRESS.asString(), address,
-				                         HttpClientMeters.DataSentTimeTags.PROXY_ADDRESS.asString(), proxyAddress,
-				                         HttpClientMeters.DataSentTimeTags.URI.asString(), uri,
+				                   .tags(HttpClientMeters.DataSentTimeTags.REMOTE_ADDRESS.asString(), key.remoteAddress(),
+				                         HttpClientMeters.DataSentTimeTags.PROXY_ADDRESS.asString(), key.proxyAddress(),
+				                         HttpClientMeters.DataSentTimeTags.URI.asString(), key.uri(),
 				                         HttpClientMeters.DataSentTimeTags.METHOD.asString(), method)
 				                   .register(REGISTRY)));
 		if (dataSentTime != null) {
@@ -136,9 +134,9 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 	@Nullable
 	Timer getResponseTimeTimer(String name, @Nullable String remoteAddress, @Nullable String proxyAddress, String uri, String method, String status) {
 		MeterKey meterKey = new MeterKey(uri, remoteAddress, proxyAddress, method, status);
-		return MapUtils.computeIfAbsent(responseTimeCache, meterKey,
+		return responseTimeMeters.computeIfAbsent(meterKey,
 				key -> filter(Timer.builder(name)
-				                   .tags(REMOTE_ADDRESS, remoteAddress, PROXY_ADDRESS, proxyAddress, URI, uri, METHOD, method, STATUS, status)
+				                   .tags(REMOTE_ADDRESS, key.remoteAddress(), PROXY_ADDRESS, key.proxyAddress(), URI, key.uri(), METHOD, method, STATUS, status)
 				                   .register(REGISTRY)));
 	}
 
@@ -155,12 +153,12 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 	void recordDataReceived(SocketAddress remoteAddress, @Nullable String proxyAddress, String uri, long bytes) {
 		String address = Metrics.formatSocketAddress(remoteAddress);
 		MeterKey meterKey = new MeterKey(uri, address, proxyAddress, null, null);
-		DistributionSummary dataReceived = MapUtils.computeIfAbsent(dataReceivedCache, meterKey,
+		DistributionSummary dataReceived = dataReceivedCache.computeIfAbsent(meterKey,
 				key -> filter(DistributionSummary.builder(name() + DATA_RECEIVED)
 				                                 .baseUnit(ChannelMeters.DATA_RECEIVED.getBaseUnit())
-				                                 .tags(ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), address,
-				                                       ChannelMeters.ChannelMetersTags.PROXY_ADDRESS.asString(), proxyAddress,
-				                                       ChannelMeters.ChannelMetersTags.URI.asString(), uri)
+				                                 .tags(ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), key.remoteAddress(),
+				                                       ChannelMeters.ChannelMetersTags.PROXY_ADDRESS.asString(), key.proxyAddress(),
+				                                       ChannelMeters.ChannelMetersTags.URI.asString(), key.uri())
 				                                 .register(REGISTRY)));
 		if (dataReceived != null) {
 			dataReceived.record(bytes);
@@ -180,12 +178,12 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 	void recordDataSent(SocketAddress remoteAddress, @Nullable String proxyAddress, String uri, long bytes) {
 		String address = Metrics.formatSocketAddress(remoteAddress);
 		MeterKey meterKey = new MeterKey(uri, address, proxyAddress, null, null);
-		DistributionSummary dataSent = MapUtils.computeIfAbsent(dataSentCache, meterKey,
+		DistributionSummary dataSent = dataSentCache.computeIfAbsent(meterKey,
 				key -> filter(DistributionSummary.builder(name() + DATA_SENT)
 				                                 .baseUnit(ChannelMeters.DATA_SENT.getBaseUnit())
-				                                 .tags(ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), address,
-				                                       ChannelMeters.ChannelMetersTags.PROXY_ADDRESS.asString(), proxyAddress,
-				                                       ChannelMeters.ChannelMetersTags.URI.asString(), uri)
+				                                 .tags(ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), key.remoteAddress(),
+				                                       ChannelMeters.ChannelMetersTags.PROXY_ADDRESS.asString(), key.proxyAddress(),
+				                                       ChannelMeters.ChannelMetersTags.URI.asString(), key.uri())
 				                                 .register(REGISTRY)));
 		if (dataSent != null) {
 			dataSent.record(bytes);
@@ -205,11 +203,11 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 	void incrementErrorsCount(SocketAddress remoteAddress, @Nullable String proxyAddress, String uri) {
 		String address = Metrics.formatSocketAddress(remoteAddress);
 		MeterKey meterKey = new MeterKey(uri, address, proxyAddress, null, null);
-		Counter errors = MapUtils.computeIfAbsent(errorsCache, meterKey,
+		Counter errors = errorsCache.computeIfAbsent(meterKey,
 				key -> filter(Counter.builder(name() + ERRORS)
-				                     .tags(ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), address,
-				                           ChannelMeters.ChannelMetersTags.PROXY_ADDRESS.asString(), proxyAddress,
-				                           ChannelMeters.ChannelMetersTags.URI.asString(), uri)
+				                     .tags(ChannelMeters.ChannelMetersTags.REMOTE_ADDRESS.asString(), key.remoteAddress(),
+				                           ChannelMeters.ChannelMetersTags.PROXY_ADDRESS.asString(), key.proxyAddress(),
+				                           ChannelMeters.ChannelMetersTags.URI.asString(), key.uri())
 				                     .register(REGISTRY)));
 		if (errors != null) {
 			errors.increment();
@@ -59,6 +59,7 @@ abstract class AbstractHttpServerMetricsHandler extends ChannelDuplexHandler {
 	ContextView contextView;
 
 	long dataReceived;
+	long dataReceivedEndTime;
 	long dataReceivedTime;
 
 	long dataSent;
@@ -86,6 +87,7 @@ abstract class AbstractHttpServerMetricsHandler extends ChannelDuplexHandler {
 		this.channelOpened = copy.channelOpened;
 		this.contextView = copy.contextView;
 		this.dataReceived = copy.dataReceived;
+		this.dataReceivedEndTime = copy.dataReceivedEndTime;
 		this.dataReceivedTime = copy.dataReceivedTime;
 		this.dataSent = copy.dataSent;
 		this.dataSentTime = copy.dataSentTime;
@@ -169,6 +171,7 @@ abstract class AbstractHttpServerMetricsHandler extends ChannelDuplexHandler {
 						remoteSocketAddress = ops.remoteSocketAddress();
 						initialized = true;
 					}
+					routeTemplate(ops);
 					if (contextView == null) {
 						contextView(ops);
 					}
@@ -247,7 +250,11 @@ abstract class AbstractHttpServerMetricsHandler extends ChannelDuplexHandler {
 			dataReceived += extractProcessedDataFromBuffer(msg);
 
 			if (msg instanceof LastHttpContent) {
-				recordRead();
+				dataReceivedEndTime = System.nanoTime();
+				// For a full request, the route is known only once the request is dispatched
+				if (ops == null) {
+					recordRead();
+				}
 			}
 		}
 		catch (RuntimeException e) {
@@ -260,6 +267,20 @@ abstract class AbstractHttpServerMetricsHandler extends ChannelDuplexHandler {
 		ctx.fireChannelRead(msg);
 
 		if (ops != null) {
+			try {
+				// The route is matched when the request is dispatched
+				routeTemplate(ops);
+				if (msg instanceof LastHttpContent) {
+					recordRead();
+				}
+			}
+			catch (RuntimeException e) {
+				// Allow request-response exchange to continue, unaffected by metrics problem
+				if (log.isWarnEnabled()) {
+					log.warn(format(ctx.channel(), "Exception caught while recording metrics."), e);
+				}
+			}
+
 			// ContextView is available only when a subscription to the I/O Handler happens
 			contextView(ops);
 		}
@@ -303,7 +324,7 @@ abstract class AbstractHttpServerMetricsHandler extends ChannelDuplexHandler {
 	}
 
 	protected void recordRead() {
-		recorder().recordDataReceivedTime(path, method, Duration.ofNanos(System.nanoTime() - dataReceivedTime));
+		recorder().recordDataReceivedTime(path, method, Duration.ofNanos(dataReceivedEndTime - dataReceivedTime));
 
 		// Always take the remote address from the operations in order to consider proxy information
 		// Use remoteSocketAddress() in order to obtain UDS info
@@ -342,6 +363,18 @@ abstract class AbstractHttpServerMetricsHandler extends ChannelDuplexHandler {
 		recorder().recordStreamClosed(localAddress);
 	}
 
+	/**
+	 * Uses the template of the route that matched the request as URI tag value,
+	 * when no {@code uriTagValue} function or {@link Function#identity()} is configured.
+	 *
+	 * @param ops the request
+	 */
+	protected void routeTemplate(HttpServerOperations ops) {
+		if ((uriTagValue == null || uriTagValue == Function.<String>identity()) && ops.routeTemplate != null) {
+			path = ops.routeTemplate;
+		}
+	}
+
 	protected void startRead(HttpServerOperations ops) {
 		dataReceivedTime = System.nanoTime();
 	}
@@ -381,6 +414,7 @@ abstract class AbstractHttpServerMetricsHandler extends ChannelDuplexHandler {
 		// There is no need to reset 'channelActivated' and 'channelOpened'
 		contextView = null;
 		dataReceived = 0;
+		dataReceivedEndTime = 0;
 		dataReceivedTime = 0;
 		dataSent = 0;
 		dataSentTime = 0;
@@ -65,7 +65,7 @@ final class ContextAwareHttpServerMetricsHandler extends AbstractHttpServerMetri
 	@Override
 	protected void recordRead() {
 		recorder().recordDataReceivedTime(contextView, path, method,
-				Duration.ofNanos(System.nanoTime() - dataReceivedTime));
+				Duration.ofNanos(dataReceivedEndTime - dataReceivedTime));
 
 		// Always take the remote address from the operations in order to consider proxy information
 		// Use remoteSocketAddress() in order to obtain UDS info
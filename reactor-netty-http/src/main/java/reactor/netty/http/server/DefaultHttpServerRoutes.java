@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,6 @@
 package reactor.netty.http.server;
 
 import java.net.URI;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -33,6 +32,7 @@ import io.netty.handler.codec.http.HttpMethod;
 import org.reactivestreams.Publisher;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
 import reactor.util.annotation.Nullable;
 
 /**
@@ -49,6 +49,14 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 
 	private Comparator<HttpRouteHandlerMetadata> comparator;
 
+	private boolean compiled;
+
+	private StaticFileCache fileCache;
+
+	private boolean precompressed;
+
+	private volatile HttpRouteIndex routeIndex;
+
 	@Override
 	public HttpServerRoutes directory(String uri, Path directory,
 			@Nullable Function<HttpServerResponse, HttpServerResponse> interceptor) {
@@ -65,24 +73,51 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 			}
 
 			Path p = absPath.resolve(prefix).toAbsolutePath().normalize();
-			if (Files.isReadable(p) && p.startsWith(absPath)) {
-
-				if (interceptor != null) {
-					return interceptor.apply(resp)
-					                  .sendFile(p);
+			if (p.startsWith(absPath)) {
+				StaticFileCache cache = fileCache;
+				StaticFileResponder.FileMetadata metadata = StaticFileResponder.metadata(p, cache);
+				if (metadata != null) {
+					return StaticFileResponder.send(req, resp, p, metadata, cache, precompressed, interceptor);
 				}
-				return resp.sendFile(p);
 			}
 
 			return resp.sendNotFound();
 		});
 	}
 
+	@Override
+	public HttpServerRoutes file(Predicate<HttpServerRequest> uri, Path path,
+			@Nullable Function<HttpServerResponse, HttpServerResponse> interceptor) {
+		Objects.requireNonNull(path, "path");
+		Path absPath = path.toAbsolutePath().normalize();
+		return route(uri, (req, resp) -> {
+			StaticFileCache cache = fileCache;
+			StaticFileResponder.FileMetadata metadata = StaticFileResponder.metadata(absPath, cache);
+			if (metadata == null) {
+				return resp.send(ByteBufFlux.fromPath(path));
+			}
+			return StaticFileResponder.send(req, resp, absPath, metadata, cache, precompressed, interceptor);
+		});
+	}
+
+	@Override
+	public HttpServerRoutes fileCache(@Nullable StaticFileCache cache) {
+		this.fileCache = cache;
+		return this;
+	}
+
+	@Override
+	public HttpServerRoutes precompressed(boolean enable) {
+		this.precompressed = enable;
+		return this;
+	}
+
 	@Override
 	public HttpServerRoutes removeIf(Predicate<? super HttpRouteHandlerMetadata> condition) {
 		Objects.requireNonNull(condition, "condition");
 
 		handlers.removeIf(condition);
+		routeIndex = null;
 
 		return this;
 	}
@@ -111,6 +146,7 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 		if (this.comparator != null) {
 			handlers.sort(this.comparator);
 		}
+		routeIndex = null;
 
 		return this;
 	}
@@ -120,6 +156,7 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 		Objects.requireNonNull(comparator, "comparator");
 		this.comparator = comparator;
 		handlers.sort(comparator);
+		routeIndex = null;
 		return this;
 	}
 
@@ -127,11 +164,23 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 	public HttpServerRoutes noComparator() {
 		handlers.clear();
 		handlers.addAll(initialOrderHandlers);
+		routeIndex = null;
+		return this;
+	}
+
+	@Override
+	public HttpServerRoutes compiled(boolean enable) {
+		this.compiled = enable;
+		routeIndex = null;
 		return this;
 	}
 
 	@Override
 	public Publisher<Void> apply(HttpServerRequest request, HttpServerResponse response) {
+		if (compiled) {
+			return applyCompiled(request, response);
+		}
+
 		// find I/0 handler to process this request
 		final Iterator<HttpRouteHandler> iterator = handlers.iterator();
 		HttpRouteHandler cursor;
@@ -152,6 +201,27 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 		return response.sendNotFound();
 	}
 
+	Publisher<Void> applyCompiled(HttpServerRequest request, HttpServerResponse response) {
+		HttpRouteIndex routeIndex = this.routeIndex;
+		if (routeIndex == null) {
+			routeIndex = HttpRouteIndex.create(handlers);
+			this.routeIndex = routeIndex;
+		}
+
+		try {
+			HttpRouteHandler handler = routeIndex.find(request);
+			if (handler != null) {
+				return handler.apply(request, response);
+			}
+		}
+		catch (Throwable t) {
+			Exceptions.throwIfJvmFatal(t);
+			return Mono.error(t); //500
+		}
+
+		return response.sendNotFound();
+	}
+
 	static final class HttpRouteHandler
 			implements BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>>,
 			Predicate<HttpServerRequest>, HttpRouteHandlerMetadata {
@@ -180,6 +250,9 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 		@Override
 		public Publisher<Void> apply(HttpServerRequest request,
 				HttpServerResponse response) {
+			if (path != null && request instanceof HttpServerOperations) {
+				((HttpServerOperations) request).routeTemplate = path;
+			}
 			return handler.apply(request.paramsResolver(resolver), response);
 		}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -252,6 +252,13 @@ final class HttpPredicate
 
 		private final Pattern uriPattern;
 
+		/**
+		 * The template as a sequence of literals, variables and splats, matched without {@link Pattern}.
+		 * {@code null} when the template relies on regular expression syntax, in which case {@link #uriPattern} is used.
+		 */
+		@Nullable
+		private final Token[] tokens;
+
 		private static String getNameSplatReplacement(String name) {
 			return "(?<" + name + ">.*)";
 		}
@@ -286,13 +293,26 @@ final class HttpPredicate
 			}
 		}
 
+		/**
+		 * Returns the end index of the path in a uri that was filtered with {@link #filterHostAndPort(String)},
+		 * i.e. the index of the query parameters if any, otherwise the length of the uri.
+		 *
+		 * @param uri the uri without host and port
+		 * @return the end index of the path
+		 */
+		static int pathEnd(String uri) {
+			int hasQuery = uri.lastIndexOf('?');
+			return hasQuery != -1 ? hasQuery : uri.length();
+		}
+
 		/**
 		 * Creates a new {@code UriPathTemplate} from the given {@code uriPattern}.
 		 *
 		 * @param uriPattern The pattern to be used by the template
 		 */
 		UriPathTemplate(String uriPattern) {
-			String s = "^" + filterQueryParams(filterHostAndPort(uriPattern));
+			String path = filterQueryParams(filterHostAndPort(uriPattern));
+			String s = "^" + path;
 
 			Matcher m = NAME_SPLAT_PATTERN.matcher(s);
 			while (m.find()) {
@@ -321,6 +341,7 @@ final class HttpPredicate
 			}
 
 			this.uriPattern = Pattern.compile(s + "$");
+			this.tokens = tokenize(path, pathVariables);
 		}
 
 		/**
@@ -332,7 +353,12 @@ final class HttpPredicate
 		 * @return {@code true} if there's a match, {@code false} otherwise
 		 */
 		public boolean matches(String uri) {
-			return matcher(uri).matches();
+			Token[] tokens = this.tokens;
+			if (tokens == null) {
+				return matcher(uri).matches();
+			}
+			String path = filterHostAndPort(uri);
+			return matches(tokens, path, pathEnd(path), 0, 0, null);
 		}
 
 		/**
@@ -347,12 +373,28 @@ final class HttpPredicate
 		final Map<String, String> match(String uri) {
 			Map<String, String> pathParameters = new HashMap<>(MapUtils.calculateInitialCapacity(pathVariables.size()));
 
+			Token[] tokens = this.tokens;
+			if (tokens != null) {
+				if (pathVariables.isEmpty()) {
+					return pathParameters;
+				}
+				String path = filterHostAndPort(uri);
+				int[] bounds = new int[tokens.length * 2];
+				if (matches(tokens, path, pathEnd(path), 0, 0, bounds)) {
+					for (int i = 0; i < tokens.length; i++) {
+						Token token = tokens[i];
+						if (token.name != null) {
+							pathParameters.put(token.name, path.substring(bounds[2 * i], bounds[2 * i + 1]));
+						}
+					}
+				}
+				return pathParameters;
+			}
+
 			Matcher m = matcher(uri);
 			if (m.matches()) {
-				int i = 1;
 				for (String name : pathVariables) {
-					String val = m.group(i++);
-					pathParameters.put(name, val);
+					pathParameters.put(name, m.group(name));
 				}
 			}
 			return pathParameters;
@@ -363,6 +405,148 @@ final class HttpPredicate
 			return uriPattern.matcher(uri);
 		}
 
+		/**
+		 * Matches {@code path[pos, end)} against {@code tokens[index...]} with the same semantics as the
+		 * equivalent regular expression: variables and splats are greedy and backtrack.
+		 * When {@code bounds} is provided, the start and end indexes of each variable and splat are recorded.
+		 */
+		static boolean matches(Token[] tokens, String path, int end, int index, int pos, @Nullable int[] bounds) {
+			if (index == tokens.length) {
+				return pos == end;
+			}
+
+			Token token = tokens[index];
+			if (token.kind == Token.LITERAL) {
+				String literal = token.value;
+				int next = pos + literal.length();
+				return next <= end &&
+						path.regionMatches(pos, literal, 0, literal.length()) &&
+						matches(tokens, path, end, index + 1, next, bounds);
+			}
+
+			int max = pos;
+			if (token.kind == Token.VARIABLE) {
+				while (max < end && path.charAt(max) != '/') {
+					max++;
+				}
+			}
+			else {
+				max = end;
+			}
+
+			for (int next = max; next >= pos; next--) {
+				if (matches(tokens, path, end, index + 1, next, bounds)) {
+					if (bounds != null) {
+						bounds[2 * index] = pos;
+						bounds[2 * index + 1] = next;
+					}
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Splits the template in literals, variables ({@code {name}}) and splats ({@code **}, {@code {name}**}).
+		 *
+		 * @param path the template without host, port and query parameters
+		 * @param pathVariables the variables found when compiling the template to a regular expression
+		 * @return the tokens or {@code null} when the template relies on regular expression syntax
+		 */
+		@Nullable
+		static Token[] tokenize(String path, List<String> pathVariables) {
+			List<Token> tokens = new ArrayList<>();
+			List<String> names = new ArrayList<>();
+			StringBuilder literal = new StringBuilder();
+			int i = 0;
+			while (i < path.length()) {
+				char c = path.charAt(i);
+				if (c == '{') {
+					int close = path.indexOf('}', i);
+					if (close == -1) {
+						return null;
+					}
+					String name = path.substring(i + 1, close);
+					if (!isGroupName(name)) {
+						return null;
+					}
+					if (literal.length() > 0) {
+						tokens.add(new Token(Token.LITERAL, literal.toString(), null));
+						literal.setLength(0);
+					}
+					names.add(name);
+					if (path.startsWith("**", close + 1)) {
+						tokens.add(new Token(Token.SPLAT, null, name));
+						i = close + 3;
+					}
+					else {
+						tokens.add(new Token(Token.VARIABLE, null, name));
+						i = close + 1;
+					}
+				}
+				else if (path.startsWith("**", i)) {
+					if (literal.length() > 0) {
+						tokens.add(new Token(Token.LITERAL, literal.toString(), null));
+						literal.setLength(0);
+					}
+					tokens.add(new Token(Token.SPLAT, null, null));
+					i += 2;
+				}
+				else if (REGEX_META_CHARACTERS.indexOf(c) != -1) {
+					return null;
+				}
+				else {
+					literal.append(c);
+					i++;
+				}
+			}
+			if (literal.length() > 0) {
+				tokens.add(new Token(Token.LITERAL, literal.toString(), null));
+			}
+
+			if (names.size() != pathVariables.size() || !names.containsAll(pathVariables)) {
+				return null;
+			}
+			return tokens.toArray(new Token[0]);
+		}
+
+		static boolean isGroupName(String name) {
+			if (name.isEmpty() || !isAsciiLetter(name.charAt(0))) {
+				return false;
+			}
+			for (int i = 1; i < name.length(); i++) {
+				char c = name.charAt(i);
+				if (!isAsciiLetter(c) && (c < '0' || c > '9')) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		static boolean isAsciiLetter(char c) {
+			return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+		}
+
+		static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+		static final class Token {
+
+			static final int LITERAL  = 0;
+			static final int VARIABLE = 1;
+			static final int SPLAT    = 2;
+
+			final int    kind;
+			@Nullable
+			final String value;
+			@Nullable
+			final String name;
+
+			Token(int kind, @Nullable String value, @Nullable String name) {
+				this.kind = kind;
+				this.value = value;
+				this.name = name;
+			}
+		}
 	}
 
 	static final class HttpPrefixPredicate implements Predicate<HttpServerRequest> {
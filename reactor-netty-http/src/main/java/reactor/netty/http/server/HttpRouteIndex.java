@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.netty.handler.codec.http.HttpMethod;
+import reactor.netty.http.server.DefaultHttpServerRoutes.HttpRouteHandler;
+import reactor.util.annotation.Nullable;
+
+import static reactor.netty.http.server.HttpPredicate.UriPathTemplate.REGEX_META_CHARACTERS;
+import static reactor.netty.http.server.HttpPredicate.UriPathTemplate.filterHostAndPort;
+import static reactor.netty.http.server.HttpPredicate.UriPathTemplate.filterQueryParams;
+import static reactor.netty.http.server.HttpPredicate.UriPathTemplate.pathEnd;
+
+/**
+ * A segment trie of the routes registered with a {@link HttpPredicate}, keyed by HTTP method and path segments.
+ * <p>
+ * Literal segments are looked up by value, template variables ({@code {name}}) match any single segment and
+ * a trailing splat ({@code **} or {@code {name}**}) matches any remaining segments. The trie only narrows down
+ * the candidates, each candidate is still verified with its predicate. Routes that cannot be indexed
+ * (custom predicates, prefix predicates, templates using regular expression syntax) are always evaluated.
+ * Among all matching routes, the one with the lowest position (declaration or comparator order) is selected,
+ * which is the same route that a linear evaluation of the routes would select.
+ *
+ * @since 1.2.0
+ */
+final class HttpRouteIndex {
+
+	static final String SPLAT = "**";
+
+	/**
+	 * Creates a new index for the given routes. The order of the routes is their evaluation order.
+	 *
+	 * @param handlers the routes in evaluation order
+	 * @return a new index
+	 */
+	static HttpRouteIndex create(List<HttpRouteHandler> handlers) {
+		Map<HttpMethod, Node> roots = new HashMap<>();
+		List<Entry> unindexed = new ArrayList<>();
+		int position = 0;
+		for (HttpRouteHandler handler : handlers) {
+			Entry entry = new Entry(position++, handler);
+			String[] segments = handler.condition instanceof HttpPredicate ?
+					segments(((HttpPredicate) handler.condition).uri) : null;
+			if (segments == null) {
+				unindexed.add(entry);
+				continue;
+			}
+
+			Node node = roots.computeIfAbsent(handler.method, m -> new Node());
+			for (int i = 0; i < segments.length; i++) {
+				String segment = segments[i];
+				if (isSplat(segment)) {
+					node.splat.add(entry);
+					node = null;
+					break;
+				}
+				if (isVariable(segment)) {
+					if (node.variable == null) {
+						node.variable = new Node();
+					}
+					node = node.variable;
+				}
+				else {
+					node = node.literals.computeIfAbsent(segment, s -> new Node());
+				}
+			}
+			if (node != null) {
+				node.terminal.add(entry);
+			}
+		}
+		return new HttpRouteIndex(roots, unindexed.toArray(new Entry[0]));
+	}
+
+	/**
+	 * Returns the path segments of the given URI template or {@code null} when the template cannot be indexed.
+	 *
+	 * @param uri the URI template
+	 * @return the path segments of the URI template or {@code null} when the template cannot be indexed
+	 */
+	@Nullable
+	static String[] segments(String uri) {
+		String path;
+		try {
+			path = filterQueryParams(filterHostAndPort(uri));
+		}
+		catch (IllegalArgumentException e) {
+			return null;
+		}
+		if (path.isEmpty() || path.charAt(0) != '/') {
+			return null;
+		}
+
+		String[] segments = path.substring(1).split("/", -1);
+		for (int i = 0; i < segments.length; i++) {
+			String segment = segments[i];
+			if (isSplat(segment)) {
+				// a splat can match across segments, only a trailing splat can be indexed
+				if (i != segments.length - 1) {
+					return null;
+				}
+			}
+			else if (segment.contains(SPLAT) || !isIndexable(segment)) {
+				return null;
+			}
+		}
+		return segments;
+	}
+
+	static boolean isSplat(String segment) {
+		if (SPLAT.equals(segment)) {
+			return true;
+		}
+		return segment.length() > SPLAT.length() + 2 && segment.charAt(0) == '{' &&
+				segment.endsWith("}" + SPLAT) && segment.indexOf('}') == segment.length() - SPLAT.length() - 1;
+	}
+
+	static boolean isVariable(String segment) {
+		return segment.indexOf('{') != -1;
+	}
+
+	/**
+	 * A segment can be indexed when, after removing the template variables, it does not contain
+	 * any character with a special meaning in a regular expression.
+	 */
+	static boolean isIndexable(String segment) {
+		boolean inVariable = false;
+		for (int i = 0; i < segment.length(); i++) {
+			char c = segment.charAt(i);
+			if (inVariable) {
+				if (c == '}') {
+					inVariable = false;
+				}
+				else if (c == '{') {
+					return false;
+				}
+			}
+			else if (c == '{') {
+				inVariable = true;
+			}
+			else if (REGEX_META_CHARACTERS.indexOf(c) != -1) {
+				return false;
+			}
+		}
+		return !inVariable;
+	}
+
+	final Map<HttpMethod, Node> roots;
+	final Entry[] unindexed;
+
+	HttpRouteIndex(Map<HttpMethod, Node> roots, Entry[] unindexed) {
+		this.roots = roots;
+		this.unindexed = unindexed;
+	}
+
+	/**
+	 * Finds the first route in evaluation order that matches the request.
+	 *
+	 * @param request the request
+	 * @return the first route in evaluation order that matches the request or {@code null}
+	 */
+	@Nullable
+	HttpRouteHandler find(HttpServerRequest request) {
+		Entry best = null;
+
+		Node root = roots.get(request.method());
+		if (root != null) {
+			String path = filterHostAndPort(request.uri());
+			if (!path.isEmpty() && path.charAt(0) == '/') {
+				best = find(root, path, 1, pathEnd(path), request, null);
+			}
+		}
+
+		for (Entry entry : unindexed) {
+			if (best != null && entry.position > best.position) {
+				break;
+			}
+			if (entry.handler.test(request)) {
+				return entry.handler;
+			}
+		}
+
+		return best != null ? best.handler : null;
+	}
+
+	@Nullable
+	static Entry find(Node node, String path, int start, int pathEnd, HttpServerRequest request, @Nullable Entry best) {
+		// the splat matches the current and all remaining segments
+		best = select(node.splat, request, best);
+
+		int end = path.indexOf('/', start);
+		boolean last = end == -1 || end >= pathEnd;
+		if (last) {
+			end = pathEnd;
+		}
+
+		Node variable = node.variable;
+		if (variable != null) {
+			best = last ? select(variable.terminal, request, best) :
+					find(variable, path, end + 1, pathEnd, request, best);
+		}
+
+		if (!node.literals.isEmpty()) {
+			Node literal = node.literals.get(path.substring(start, end));
+			if (literal != null) {
+				best = last ? select(literal.terminal, request, best) :
+						find(literal, path, end + 1, pathEnd, request, best);
+			}
+		}
+
+		return best;
+	}
+
+	@Nullable
+	static Entry select(List<Entry> entries, HttpServerRequest request, @Nullable Entry best) {
+		for (int i = 0; i < entries.size(); i++) {
+			Entry entry = entries.get(i);
+			if (best != null && entry.position > best.position) {
+				break;
+			}
+			if (entry.handler.test(request)) {
+				return entry;
+			}
+		}
+		return best;
+	}
+
+	static final class Entry {
+		final int position;
+		final HttpRouteHandler handler;
+
+		Entry(int position, HttpRouteHandler handler) {
+			this.position = position;
+			this.handler = handler;
+		}
+	}
+
+	static final class Node {
+		final Map<String, Node> literals = new HashMap<>();
+		final List<Entry> splat = new ArrayList<>();
+		final List<Entry> terminal = new ArrayList<>();
+
+		Node variable;
+	}
+}
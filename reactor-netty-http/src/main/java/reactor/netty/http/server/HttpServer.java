@@ -37,6 +37,7 @@ import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
+import reactor.netty.BlockingHandler;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
 import reactor.netty.channel.ChannelMetricsRecorder;
@@ -434,6 +435,22 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 		return childObserve(new HttpServerHandle(handler));
 	}
 
+	/**
+	 * Attach an I/O handler that may call blocking code to react on a connected client.
+	 * The handler is invoked, and its result is subscribed, on a virtual thread when the runtime supports them
+	 * (JDK 21+), otherwise on {@link reactor.core.scheduler.Schedulers#boundedElastic()},
+	 * so that the event loops are never blocked.
+	 *
+	 * @param handler an I/O handler that may block
+	 * @return a new {@link HttpServer}
+	 * @see BlockingHandler
+	 * @since 1.2.0
+	 */
+	public final HttpServer handleBlocking(
+			BiFunction<? super HttpServerRequest, ? super HttpServerResponse, ? extends Publisher<Void>> handler) {
+		return handle(BlockingHandler.wrap(handler));
+	}
+
 	@Override
 	public final HttpServer host(String host) {
 		return super.host(host);
@@ -611,6 +628,9 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 	 * that will be used for the metrics with {@link reactor.netty.Metrics#URI} tag.
 	 * For example instead of using the actual uri {@code "/users/1"} as uri tag value, templated uri
 	 * {@code "/users/{id}"} can be used.
+	 * <p>When the request is handled by {@link HttpServerRoutes} and {@code uriTagValue} is {@code null}
+	 * or {@link Function#identity()}, the template of the matched route (e.g. {@code "/users/{id}"})
+	 * is used as uri tag value. Any other {@code uriTagValue} function takes precedence over the route template.
 	 * <p><strong>Note:</strong>
 	 * It is strongly recommended to provide template-like form for the URIs. Without a conversion to a template-like form,
 	 * each distinct URI leads to the creation of a distinct tag, which takes a lot of memory for the metrics.
@@ -626,7 +646,8 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 	 *
 	 * @param enable true enables metrics collection; false disables it
 	 * @param uriTagValue a function that receives the actual uri and returns the uri tag value
-	 * that will be used for the metrics with {@link reactor.netty.Metrics#URI} tag
+	 * that will be used for the metrics with {@link reactor.netty.Metrics#URI} tag,
+	 * {@code null} or {@link Function#identity()} to use the route template when available
 	 * @return a new {@link HttpServer}
 	 * @since 0.9.7
 	 */
@@ -667,6 +688,9 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 	 * that will be used for the metrics with {@link reactor.netty.Metrics#URI} tag.
 	 * For example instead of using the actual uri {@code "/users/1"} as uri tag value, templated uri
 	 * {@code "/users/{id}"} can be used.
+	 * <p>When the request is handled by {@link HttpServerRoutes} and {@code uriTagValue} is {@code null}
+	 * or {@link Function#identity()}, the template of the matched route (e.g. {@code "/users/{id}"})
+	 * is used as uri tag value. Any other {@code uriTagValue} function takes precedence over the route template.
 	 * <p><strong>Note:</strong>
 	 * It is strongly recommended to provide template-like form for the URIs. Without a conversion to a template-like form,
 	 * each distinct URI leads to the creation of a distinct tag, which takes a lot of memory for the metrics.
@@ -684,7 +708,8 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 	 *
 	 * @param enable true enables metrics collection; false disables it
 	 * @param uriTagValue a function that receives the actual uri and returns the uri tag value
-	 * that will be used for the metrics with {@link reactor.netty.Metrics#URI} tag
+	 * that will be used for the metrics with {@link reactor.netty.Metrics#URI} tag,
+	 * {@code null} or {@link Function#identity()} to use the route template when available
 	 * @param methodTagValue a function that receives the actual method name and returns the method tag value
 	 * that will be used for the metrics with {@link reactor.netty.Metrics#METHOD} tag
 	 * @return a new {@link HttpServer}
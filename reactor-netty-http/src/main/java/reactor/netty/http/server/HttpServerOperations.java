@@ -129,9 +129,12 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 	final ZonedDateTime timestamp;
 
 	BiPredicate<HttpServerRequest, HttpServerResponse> compressionPredicate;
+	Map<String, String> params;
 	Function<? super String, Map<String, String>> paramsResolver;
+	boolean paramsResolved;
 	String path;
 	Future<?> requestTimeoutFuture;
+	String routeTemplate;
 	Consumer<? super HttpHeaders> trailerHeadersConsumer;
 
 	volatile Context currentContext;
@@ -151,10 +154,13 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		this.mapHandle = replaced.mapHandle;
 		this.nettyRequest = replaced.nettyRequest;
 		this.nettyResponse = replaced.nettyResponse;
+		this.params = replaced.params;
 		this.paramsResolver = replaced.paramsResolver;
+		this.paramsResolved = replaced.paramsResolved;
 		this.path = replaced.path;
 		this.readTimeout = replaced.readTimeout;
 		this.requestTimeout = replaced.requestTimeout;
+		this.routeTemplate = replaced.routeTemplate;
 		this.responseHeaders = replaced.responseHeaders;
 		this.scheme = replaced.scheme;
 		this.timestamp = replaced.timestamp;
@@ -384,22 +390,26 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 	@Nullable
 	public String param(CharSequence key) {
 		Objects.requireNonNull(key, "key");
-		Map<String, String> params = null;
-		if (paramsResolver != null) {
-			params = this.paramsResolver.apply(uri());
-		}
+		Map<String, String> params = params();
 		return null != params ? params.get(key.toString()) : null;
 	}
 
 	@Override
 	@Nullable
 	public Map<String, String> params() {
-		return null != paramsResolver ? paramsResolver.apply(uri()) : null;
+		// the params are resolved on first access only
+		if (!paramsResolved) {
+			params = null != paramsResolver ? paramsResolver.apply(uri()) : null;
+			paramsResolved = true;
+		}
+		return params;
 	}
 
 	@Override
 	public HttpServerRequest paramsResolver(Function<? super String, Map<String, String>> paramsResolver) {
 		this.paramsResolver = paramsResolver;
+		this.params = null;
+		this.paramsResolved = false;
 		return this;
 	}
 
@@ -588,6 +598,12 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		return withWebsocketSupport(uri(), configurer, websocketHandler);
 	}
 
+	@Override
+	@Nullable
+	public String routeTemplate() {
+		return routeTemplate;
+	}
+
 	@Override
 	public String uri() {
 		if (nettyRequest != null) {
@@ -705,7 +721,9 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 
 	@Override
 	protected void afterMarkSentHeaders() {
-		if (compressionPredicate != null && compressionPredicate.test(this, this)) {
+		// a response already having a content coding (e.g. a precompressed file) is sent as-is
+		if (compressionPredicate != null && !responseHeaders.contains(HttpHeaderNames.CONTENT_ENCODING) &&
+				compressionPredicate.test(this, this)) {
 			compression(true);
 		}
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -69,6 +69,20 @@ public interface HttpServerRequest extends NettyInbound, HttpServerInfos {
 	 */
 	HttpServerRequest paramsResolver(Function<? super String, Map<String, String>> paramsResolver);
 
+	/**
+	 * Returns the template of the route that matched this request (e.g. {@code /users/{id}}),
+	 * when the request is handled by {@link HttpServerRoutes}.
+	 * <p>When metrics are enabled without {@code uriTagValue} function or with {@link Function#identity()},
+	 * the route template is used as URI tag value.
+	 *
+	 * @return the template of the route that matched this request or null
+	 * @since 1.2.0
+	 */
+	@Nullable
+	default String routeTemplate() {
+		return null;
+	}
+
 	/**
 	 * Returns a {@link Flux} of {@link HttpContent} containing received chunks.
 	 *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,6 @@
 package reactor.netty.http.server;
 
 import java.net.URI;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
@@ -29,6 +28,7 @@ import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpMethod;
 import org.reactivestreams.Publisher;
+import reactor.netty.BlockingHandler;
 import reactor.netty.ByteBufFlux;
 import reactor.netty.http.websocket.WebsocketInbound;
 import reactor.netty.http.websocket.WebsocketOutbound;
@@ -149,14 +149,11 @@ public interface HttpServerRoutes extends
 			@Nullable Function<HttpServerResponse, HttpServerResponse> interceptor) {
 		Objects.requireNonNull(path, "path");
 		return route(uri, (req, resp) -> {
-			if (!Files.isReadable(path)) {
+			StaticFileResponder.FileMetadata metadata = StaticFileResponder.metadata(path, null);
+			if (metadata == null) {
 				return resp.send(ByteBufFlux.fromPath(path));
 			}
-			if (interceptor != null) {
-				return interceptor.apply(resp)
-				                  .sendFile(path);
-			}
-			return resp.sendFile(path);
+			return StaticFileResponder.send(req, resp, path, metadata, null, false, interceptor);
 		});
 	}
 
@@ -272,6 +269,23 @@ public interface HttpServerRoutes extends
 	HttpServerRoutes route(Predicate<? super HttpServerRequest> condition,
 			BiFunction<? super HttpServerRequest, ? super HttpServerResponse, ? extends Publisher<Void>> handler);
 
+	/**
+	 * A generic route predicate that if matched invoke the passed I/O handler, which may call blocking code.
+	 * The handler runs on a virtual thread when the runtime supports them (JDK 21+),
+	 * otherwise on {@link reactor.core.scheduler.Schedulers#boundedElastic()}.
+	 *
+	 * @param condition a predicate given each inbound request
+	 * @param handler the I/O handler that may block to invoke on match
+	 *
+	 * @return this {@link HttpServerRoutes}
+	 * @see BlockingHandler
+	 * @since 1.2.0
+	 */
+	default HttpServerRoutes routeBlocking(Predicate<? super HttpServerRequest> condition,
+			BiFunction<? super HttpServerRequest, ? super HttpServerResponse, ? extends Publisher<Void>> handler) {
+		return route(condition, BlockingHandler.wrap(handler));
+	}
+
 	/**
 	 * Use the provided {@link java.util.Comparator} to sort routes, rather than using configured order.Routes that were
 	 * already configured are also impacted by this change and will be sorted according to the comparator.You can revert
@@ -292,6 +306,54 @@ public interface HttpServerRoutes extends
 	 */
 	HttpServerRoutes noComparator();
 
+	/**
+	 * Enables or disables the compiled routing mode. By default, the routes are evaluated one after another
+	 * until a route matches. In compiled mode, the routes registered with a path (e.g. {@link #get(String, BiFunction)})
+	 * are indexed in a trie keyed by HTTP method and path segments, so that a request is evaluated only against
+	 * the routes whose path can match it. Routes registered with a custom {@link Predicate}, as well as paths
+	 * relying on regular expression syntax, are still evaluated for every request.
+	 * The invoked route is the same in both modes: the first matching route in declaration order,
+	 * or in the order defined with {@link #comparator(Comparator)}.
+	 *
+	 * @param enable true enables the compiled routing mode, false restores the default mode
+	 * @return this {@link HttpServerRoutes}
+	 * @since 1.2.0
+	 */
+	default HttpServerRoutes compiled(boolean enable) {
+		return this;
+	}
+
+	/**
+	 * Configures the {@link StaticFileCache} used by the {@link #directory(String, Path)} and
+	 * {@link #file(String, Path)} routes. By default, the file system is queried and the file is opened
+	 * for every request.
+	 *
+	 * @param cache the {@link StaticFileCache} to use, {@code null} to disable caching
+	 * @return this {@link HttpServerRoutes}
+	 * @since 1.2.0
+	 */
+	default HttpServerRoutes fileCache(@Nullable StaticFileCache cache) {
+		return this;
+	}
+
+	/**
+	 * Enables or disables serving precompressed variants of the files exposed with {@link #directory(String, Path)}
+	 * and {@link #file(String, Path)}. When enabled, a sibling file with a {@code .br}, {@code .zst} or {@code .gz}
+	 * extension (e.g. {@code app.js.br} for {@code app.js}) is sent as-is, with the matching {@code Content-Encoding},
+	 * if the request {@code Accept-Encoding} accepts it. When several variants are acceptable, the one with the highest
+	 * quality value is selected, the preference order {@code br}, {@code zstd}, {@code gzip} breaks ties.
+	 * The {@code Content-Type} of the response is the one of the original file, the validators are the ones of the variant,
+	 * and the {@code Vary} header is added whenever a variant exists. Lookups of missing variants are cached when a {@link #fileCache(StaticFileCache)}
+	 * is configured. By default, precompressed variants are not served.
+	 *
+	 * @param enable true enables serving precompressed variants, false disables it
+	 * @return this {@link HttpServerRoutes}
+	 * @since 1.2.0
+	 */
+	default HttpServerRoutes precompressed(boolean enable) {
+		return this;
+	}
+
 	/**
 	 * Listens for websocket on the passed path to be used as a routing condition. Incoming
 	 * connections will query the internal registry to invoke the matching handler.
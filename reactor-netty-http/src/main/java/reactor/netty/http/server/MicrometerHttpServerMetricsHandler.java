@@ -129,6 +129,10 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 			parentContextView = updateChannelContext(ops.channel(), responseTimeObservation);
 			responseTimeObservation.start();
 		}
+		else {
+			// The route that matched the request is known only after the observation has been started
+			responseTimeHandlerContext.path(path);
+		}
 		responseTimeHandlerContext.setResponse(ops.nettyResponse);
 		responseTimeHandlerContext.status = status;
 	}
@@ -146,10 +150,12 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 		final String method;
 		final String netHostName;
 		final String netHostPort;
-		final String path;
 		final MicrometerHttpServerMetricsRecorder recorder;
 		final String scheme;
 
+		// the route template might not be known beforehand
+		String path;
+
 		// status might not be known beforehand
 		String status = UNKNOWN;
 
@@ -167,6 +173,13 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 			setContextualName(this.method + '_' + this.path.substring(1));
 		}
 
+		void path(String path) {
+			if (!this.path.equals(path)) {
+				this.path = path;
+				setContextualName(this.method + '_' + this.path.substring(1));
+			}
+		}
+
 		@Override
 		public Observation.Context get() {
 			return this;
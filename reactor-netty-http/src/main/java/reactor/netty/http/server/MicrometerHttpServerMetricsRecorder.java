@@ -19,6 +19,7 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Timer;
+import reactor.netty.channel.MeterCache;
 import reactor.netty.channel.MeterKey;
 import reactor.netty.http.MicrometerHttpMetricsRecorder;
 import reactor.netty.internal.util.MapUtils;
@@ -37,6 +38,7 @@ import static reactor.netty.Metrics.DATA_SENT_TIME;
 import static reactor.netty.Metrics.ERRORS;
 import static reactor.netty.Metrics.HTTP_SERVER_PREFIX;
 import static reactor.netty.Metrics.METHOD;
+import static reactor.netty.Metrics.OVERFLOW;
 import static reactor.netty.Metrics.REGISTRY;
 import static reactor.netty.Metrics.RESPONSE_TIME;
 import static reactor.netty.Metrics.STATUS;
@@ -57,9 +59,9 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 	private static final String PROTOCOL_VALUE_HTTP = "http";
 	private final ConcurrentMap<String, LongAdder> activeConnectionsCache = new ConcurrentHashMap<>();
 	private final ConcurrentMap<String, LongAdder> activeStreamsCache = new ConcurrentHashMap<>();
-	private final ConcurrentMap<String, DistributionSummary> dataReceivedCache = new ConcurrentHashMap<>();
-	private final ConcurrentMap<String, DistributionSummary> dataSentCache = new ConcurrentHashMap<>();
-	private final ConcurrentMap<String, Counter> errorsCache = new ConcurrentHashMap<>();
+	private final MeterCache<String, DistributionSummary> dataReceivedCache = MeterCache.create(uri -> OVERFLOW);
+	private final MeterCache<String, DistributionSummary> dataSentCache = MeterCache.create(uri -> OVERFLOW);
+	private final MeterCache<String, Counter> errorsCache = MeterCache.create(uri -> OVERFLOW);
 
 	private MicrometerHttpServerMetricsRecorder() {
 		super(HTTP_SERVER_PREFIX, PROTOCOL_VALUE_HTTP);
@@ -68,9 +70,9 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 	@Override
 	public void recordDataReceivedTime(String uri, String method, Duration time) {
 		MeterKey meterKey = new MeterKey(uri, null, null, method, null);
-		Timer dataReceivedTime = MapUtils.computeIfAbsent(dataReceivedTimeCache, meterKey,
+		Timer dataReceivedTime = dataReceivedTimeMeters.computeIfAbsent(meterKey,
 				key -> filter(Timer.builder(name() + DATA_RECEIVED_TIME)
-				                   .tags(HttpServerMeters.DataReceivedTimeTags.URI.asString(), uri,
+				                   .tags(HttpServerMeters.DataReceivedTimeTags.URI.asString(), key.uri(),
 				                         HttpServerMeters.DataReceivedTimeTags.METHOD.asString(), method)
 				                   .register(REGISTRY)));
 		if (dataReceivedTime != null) {
@@ -81,9 +83,9 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 	@Override
 	public void recordDataSentTime(String uri, String method, String status, Duration time) {
 		MeterKey meterKey = new MeterKey(uri, null, null, method, status);
-		Timer dataSentTime = MapUtils.computeIfAbsent(dataSentTimeCache, meterKey,
+		Timer dataSentTime = dataSentTimeMeters.computeIfAbsent(meterKey,
 				key -> filter(Timer.builder(name() + DATA_SENT_TIME)
-				                   .tags(HttpServerMeters.DataSentTimeTags.URI.asString(), uri,
+				                   .tags(HttpServerMeters.DataSentTimeTags.URI.asString(), key.uri(),
 				                         HttpServerMeters.DataSentTimeTags.METHOD.asString(), method,
 				                         HttpServerMeters.DataSentTimeTags.STATUS.asString(), status)
 				                   .register(REGISTRY)));
@@ -103,18 +105,18 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 	@Nullable
 	final Timer getResponseTimeTimer(String name, String uri, String method, String status) {
 		MeterKey meterKey = new MeterKey(uri, null, null, method, status);
-		return MapUtils.computeIfAbsent(responseTimeCache, meterKey,
+		return responseTimeMeters.computeIfAbsent(meterKey,
 				key -> filter(Timer.builder(name)
-				                   .tags(URI, uri, METHOD, method, STATUS, status)
+				                   .tags(URI, key.uri(), METHOD, method, STATUS, status)
 				                   .register(REGISTRY)));
 	}
 
 	@Override
 	public void recordDataReceived(SocketAddress remoteAddress, String uri, long bytes) {
-		DistributionSummary dataReceived = MapUtils.computeIfAbsent(dataReceivedCache, uri,
+		DistributionSummary dataReceived = dataReceivedCache.computeIfAbsent(uri,
 				key -> filter(DistributionSummary.builder(name() + DATA_RECEIVED)
 				                                 .baseUnit(HttpServerMeters.HTTP_SERVER_DATA_RECEIVED.getBaseUnit())
-				                                 .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), uri)
+				                                 .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), key)
 				                                 .register(REGISTRY)));
 		if (dataReceived != null) {
 			dataReceived.record(bytes);
@@ -123,10 +125,10 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordDataSent(SocketAddress remoteAddress, String uri, long bytes) {
-		DistributionSummary dataSent = MapUtils.computeIfAbsent(dataSentCache, uri,
+		DistributionSummary dataSent = dataSentCache.computeIfAbsent(uri,
 				key -> filter(DistributionSummary.builder(name() + DATA_SENT)
 				                                 .baseUnit(HttpServerMeters.HTTP_SERVER_DATA_SENT.getBaseUnit())
-				                                 .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), uri)
+				                                 .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), key)
 				                                 .register(REGISTRY)));
 		if (dataSent != null) {
 			dataSent.record(bytes);
@@ -135,9 +137,9 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void incrementErrorsCount(SocketAddress remoteAddress, String uri) {
-		Counter errors = MapUtils.computeIfAbsent(errorsCache, uri,
+		Counter errors = errorsCache.computeIfAbsent(uri,
 				key -> filter(Counter.builder(name() + ERRORS)
-				                     .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), uri)
+				                     .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), key)
 				                     .register(REGISTRY)));
 		if (errors != null) {
 			errors.increment();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2018-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,7 +24,11 @@ import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.util.ReferenceCountUtil;
 
 import java.util.ArrayList;
@@ -53,6 +57,30 @@ final class SimpleCompressionHandler extends HttpContentCompressor {
 		}
 	}
 
+	@Override
+	protected Result beginEncode(HttpResponse httpResponse, String acceptEncoding) throws Exception {
+		// Content-Range and Content-Length of a partial response refer to the uncompressed representation
+		if (httpResponse.status().code() == HttpResponseStatus.PARTIAL_CONTENT.code()) {
+			return null;
+		}
+		Result result = super.beginEncode(httpResponse, acceptEncoding);
+		if (result != null) {
+			// The compressed representation must not share a strong entity tag with the uncompressed one,
+			// otherwise a range request with If-Range would append uncompressed bytes to compressed ones.
+			// Only the ranges of the uncompressed representation are served.
+			HttpHeaders headers = httpResponse.headers();
+			String etag = headers.get(HttpHeaderNames.ETAG);
+			if (etag != null && !etag.startsWith("W/")) {
+				headers.set(HttpHeaderNames.ETAG, "W/" + etag);
+			}
+			headers.remove(HttpHeaderNames.ACCEPT_RANGES);
+			if (!headers.containsValue(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING, true)) {
+				headers.add(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+			}
+		}
+		return result;
+	}
+
 	void decode(ChannelHandlerContext ctx, HttpRequest msg) {
 		List<Object> out = new ArrayList<>();
 		HttpRequest request = msg;
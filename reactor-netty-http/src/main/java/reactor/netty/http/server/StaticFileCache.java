@@ -0,0 +1,465 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.IllegalReferenceCountException;
+import reactor.core.Disposable;
+import reactor.netty.http.server.StaticFileResponder.FileMetadata;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+import reactor.util.annotation.Nullable;
+
+/**
+ * A bounded cache for the files served by {@link HttpServerRoutes#directory(String, Path)} and
+ * {@link HttpServerRoutes#file(String, Path)} routes, enabled with {@link HttpServerRoutes#fileCache(StaticFileCache)}.
+ * <p>
+ * The cache keeps the file metadata (size, last modification time, content type and entity tag), so that
+ * the file system is queried at most once per {@link Builder#revalidateAfter(Duration)} interval for a given file,
+ * and an open {@link FileChannel} per file, shared by all concurrent transfers of that file.
+ * A {@link FileChannel} is reference counted and closed once the file is evicted or invalidated and all
+ * transfers using it are completed.
+ * <p>
+ * When a file changes on the file system (size or last modification time), the change is detected on the next
+ * revalidation and the cached entry is replaced. {@link #invalidate(Path)} and {@link #invalidateAll()} can be used
+ * to drop entries immediately.
+ *
+ * @since 1.2.0
+ */
+public final class StaticFileCache implements Disposable {
+
+	/**
+	 * Default maximum number of cached files.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+	/**
+	 * Default maximum number of open {@link FileChannel}s kept by the cache.
+	 */
+	public static final int DEFAULT_MAX_OPEN_FILES = 128;
+
+	/**
+	 * Default interval after which the metadata of a cached file is checked against the file system.
+	 */
+	public static final Duration DEFAULT_REVALIDATE_AFTER = Duration.ofSeconds(1);
+
+	/**
+	 * Creates a builder for {@link StaticFileCache}.
+	 *
+	 * @return a new {@link StaticFileCache.Builder}
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Creates a {@link StaticFileCache} with the default settings.
+	 *
+	 * @return a new {@link StaticFileCache}
+	 */
+	public static StaticFileCache create() {
+		return builder().build();
+	}
+
+	/**
+	 * Drops the cached entry for the given file, if any.
+	 *
+	 * @param file the file to invalidate
+	 */
+	public void invalidate(Path file) {
+		Objects.requireNonNull(file, "file");
+		Entry entry = entries.remove(file.toAbsolutePath().normalize());
+		if (entry != null) {
+			entry.close();
+		}
+	}
+
+	/**
+	 * Drops all cached entries.
+	 */
+	public void invalidateAll() {
+		for (Map.Entry<Path, Entry> entry : entries.entrySet()) {
+			if (entries.remove(entry.getKey(), entry.getValue())) {
+				entry.getValue().close();
+			}
+		}
+	}
+
+	/**
+	 * Drops all cached entries and stops caching.
+	 * {@link FileChannel}s used by transfers in progress are closed once the transfers complete.
+	 */
+	@Override
+	public void dispose() {
+		disposed = true;
+		invalidateAll();
+	}
+
+	@Override
+	public boolean isDisposed() {
+		return disposed;
+	}
+
+	final ConcurrentHashMap<Path, Entry> entries = new ConcurrentHashMap<>();
+	final AtomicBoolean evicting = new AtomicBoolean();
+	final AtomicInteger openFiles = new AtomicInteger();
+	final int maxEntries;
+	final int maxOpenFiles;
+	final long revalidateAfterNanos;
+
+	volatile boolean disposed;
+
+	StaticFileCache(Builder builder) {
+		this.maxEntries = builder.maxEntries;
+		this.maxOpenFiles = builder.maxOpenFiles;
+		this.revalidateAfterNanos = builder.revalidateAfter.toNanos();
+	}
+
+	/**
+	 * Returns the metadata of the given file, from the cache when it is still valid.
+	 *
+	 * @param file an absolute and normalized path
+	 * @param cacheMissing true to cache the fact that the file does not exist, e.g. for the lookup of optional files
+	 * @return the metadata of the given file or {@code null} when it is not a readable regular file
+	 */
+	@Nullable
+	FileMetadata metadata(Path file, boolean cacheMissing) {
+		long now = System.nanoTime();
+		Entry entry = entries.get(file);
+		if (entry != null) {
+			entry.lastAccess = now;
+			if (now - entry.validatedAt < revalidateAfterNanos) {
+				return entry.metadata;
+			}
+		}
+
+		BasicFileAttributes attributes = FileMetadata.attributes(file);
+		if (attributes == null) {
+			if (cacheMissing && entry != null && entry.metadata == null) {
+				entry.validatedAt = now;
+			}
+			else if (cacheMissing) {
+				put(file, new Entry(file, null, now));
+			}
+			else if (entry != null && entries.remove(file, entry)) {
+				entry.close();
+			}
+			return null;
+		}
+		if (entry != null && entry.metadata != null && entry.metadata.matches(attributes)) {
+			entry.validatedAt = now;
+			return entry.metadata;
+		}
+
+		FileMetadata metadata = FileMetadata.create(file, attributes);
+		put(file, new Entry(file, metadata, now));
+		return metadata;
+	}
+
+	void put(Path file, Entry entry) {
+		if (disposed) {
+			return;
+		}
+		Entry previous = entries.put(file, entry);
+		if (previous != null) {
+			previous.close();
+		}
+		if (entries.size() > maxEntries) {
+			evict();
+		}
+	}
+
+	/**
+	 * Returns a {@link Lease} for a single transfer of the given file.
+	 *
+	 * @param file an absolute and normalized path
+	 * @return a {@link Lease} for a single transfer of the given file
+	 */
+	Lease lease(Path file) {
+		return new Lease(this, file);
+	}
+
+	/**
+	 * Evicts the least recently accessed entries, leaving some headroom so that the eviction does not
+	 * happen for every new entry once the cache is full.
+	 */
+	void evict() {
+		if (!evicting.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			int excess = entries.size() - maxEntries;
+			if (excess <= 0) {
+				return;
+			}
+			List<Entry> candidates = new ArrayList<>(entries.values());
+			candidates.sort(Comparator.comparingLong(e -> e.lastAccess));
+			int toEvict = Math.min(candidates.size(), excess + maxEntries / 10);
+			for (int i = 0; i < toEvict; i++) {
+				Entry entry = candidates.get(i);
+				if (entries.remove(entry.file, entry)) {
+					entry.close();
+				}
+			}
+		}
+		finally {
+			evicting.set(false);
+		}
+	}
+
+	static final Logger log = Loggers.getLogger(StaticFileCache.class);
+
+	/**
+	 * Builder for {@link StaticFileCache}.
+	 */
+	public static final class Builder {
+
+		int maxEntries = DEFAULT_MAX_ENTRIES;
+		int maxOpenFiles = DEFAULT_MAX_OPEN_FILES;
+		Duration revalidateAfter = DEFAULT_REVALIDATE_AFTER;
+
+		private Builder() {
+		}
+
+		/**
+		 * Configures the maximum number of cached files. The least recently accessed files are evicted
+		 * once the limit is exceeded. Default to {@link #DEFAULT_MAX_ENTRIES}.
+		 *
+		 * @param maxEntries the maximum number of cached files
+		 * @return {@code this}
+		 */
+		public Builder maxEntries(int maxEntries) {
+			if (maxEntries <= 0) {
+				throw new IllegalArgumentException("maxEntries must be strictly positive");
+			}
+			this.maxEntries = maxEntries;
+			return this;
+		}
+
+		/**
+		 * Configures the maximum number of {@link FileChannel}s kept open by the cache. When the limit is reached,
+		 * the files that do not have an open {@link FileChannel} yet are opened for each transfer.
+		 * Default to {@link #DEFAULT_MAX_OPEN_FILES}.
+		 *
+		 * @param maxOpenFiles the maximum number of open {@link FileChannel}s, {@code 0} to cache only the metadata
+		 * @return {@code this}
+		 */
+		public Builder maxOpenFiles(int maxOpenFiles) {
+			if (maxOpenFiles < 0) {
+				throw new IllegalArgumentException("maxOpenFiles must be positive or zero");
+			}
+			this.maxOpenFiles = maxOpenFiles;
+			return this;
+		}
+
+		/**
+		 * Configures the interval after which the metadata of a cached file is checked against the file system.
+		 * Changes on the file system are not visible until then. Default to {@link #DEFAULT_REVALIDATE_AFTER}.
+		 *
+		 * @param revalidateAfter the revalidation interval, {@link Duration#ZERO} to check on every request
+		 * @return {@code this}
+		 */
+		public Builder revalidateAfter(Duration revalidateAfter) {
+			Objects.requireNonNull(revalidateAfter, "revalidateAfter");
+			if (revalidateAfter.isNegative()) {
+				throw new IllegalArgumentException("revalidateAfter must be positive or zero");
+			}
+			this.revalidateAfter = revalidateAfter;
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link StaticFileCache}.
+		 *
+		 * @return a new {@link StaticFileCache}
+		 */
+		public StaticFileCache build() {
+			return new StaticFileCache(this);
+		}
+	}
+
+	static final class Entry {
+		final Path file;
+		/**
+		 * The file metadata, {@code null} when the file does not exist.
+		 */
+		@Nullable
+		final FileMetadata metadata;
+
+		volatile long lastAccess;
+		volatile long validatedAt;
+
+		volatile FileHandle handle;
+
+		// guarded by this
+		boolean closed;
+
+		Entry(Path file, @Nullable FileMetadata metadata, long now) {
+			this.file = file;
+			this.metadata = metadata;
+			this.lastAccess = now;
+			this.validatedAt = now;
+		}
+
+		/**
+		 * Retains the shared {@link FileHandle}, opening the file when needed.
+		 *
+		 * @return the retained {@link FileHandle} or {@code null} when the entry is closed or
+		 * the maximum number of open files is reached
+		 */
+		@Nullable
+		FileHandle retain(AtomicInteger openFiles, int maxOpenFiles) throws IOException {
+			FileHandle h = handle;
+			if (h != null) {
+				try {
+					return h.retain();
+				}
+				catch (IllegalReferenceCountException e) {
+					// closed concurrently
+				}
+			}
+
+			synchronized (this) {
+				if (closed) {
+					return null;
+				}
+				if (handle == null) {
+					if (openFiles.incrementAndGet() > maxOpenFiles) {
+						openFiles.decrementAndGet();
+						return null;
+					}
+					try {
+						handle = new FileHandle(FileChannel.open(file, StandardOpenOption.READ), openFiles);
+					}
+					catch (IOException | RuntimeException e) {
+						openFiles.decrementAndGet();
+						throw e;
+					}
+				}
+				return handle.retain();
+			}
+		}
+
+		void close() {
+			FileHandle h;
+			synchronized (this) {
+				closed = true;
+				h = handle;
+				handle = null;
+			}
+			if (h != null) {
+				h.release();
+			}
+		}
+	}
+
+	/**
+	 * A reference counted {@link FileChannel}, the cache entry holds one reference and
+	 * each transfer holds one reference.
+	 */
+	static final class FileHandle extends AbstractReferenceCounted {
+		final FileChannel channel;
+		final AtomicInteger openFiles;
+
+		FileHandle(FileChannel channel, AtomicInteger openFiles) {
+			this.channel = channel;
+			this.openFiles = openFiles;
+		}
+
+		@Override
+		public FileHandle retain() {
+			super.retain();
+			return this;
+		}
+
+		@Override
+		public FileHandle touch(Object hint) {
+			return this;
+		}
+
+		@Override
+		protected void deallocate() {
+			openFiles.decrementAndGet();
+			try {
+				channel.close();
+			}
+			catch (IOException e) {
+				if (log.isDebugEnabled()) {
+					log.debug("Failed to close the file channel", e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Provides the {@link FileChannel} for a single transfer, either the shared one or, when it is not available,
+	 * a {@link FileChannel} that is closed once the transfer completes.
+	 */
+	static final class Lease {
+		final StaticFileCache cache;
+		final Path file;
+
+		FileHandle handle;
+
+		Lease(StaticFileCache cache, Path file) {
+			this.cache = cache;
+			this.file = file;
+		}
+
+		FileChannel acquire() throws IOException {
+			Entry entry = cache.entries.get(file);
+			if (entry != null && entry.metadata != null) {
+				handle = entry.retain(cache.openFiles, cache.maxOpenFiles);
+				if (handle != null) {
+					return handle.channel;
+				}
+			}
+			return FileChannel.open(file, StandardOpenOption.READ);
+		}
+
+		void release(FileChannel channel) {
+			FileHandle h = handle;
+			if (h != null) {
+				handle = null;
+				h.release();
+				return;
+			}
+			try {
+				channel.close();
+			}
+			catch (IOException e) {
+				if (log.isDebugEnabled()) {
+					log.debug("Failed to close the file channel", e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import io.netty.handler.codec.DateFormatter;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.NettyOutbound;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Serves a file for the {@link HttpServerRoutes#file(String, Path)} and
+ * {@link HttpServerRoutes#directory(String, Path)} routes, supporting conditional requests
+ * ({@code If-None-Match}, {@code If-Modified-Since}) and range requests ({@code Range}, {@code If-Range})
+ * as described in <a href="https://datatracker.ietf.org/doc/html/rfc9110">RFC 9110</a>.
+ * <p>
+ * The file content is always sent with {@link NettyOutbound#sendFile(Path, long, long)}, so that the zero-copy
+ * file transfer is used whenever possible, also for the partial responses. When a {@link StaticFileCache} is
+ * configured, the file metadata and the {@link java.nio.channels.FileChannel} are obtained from the cache.
+ *
+ * @since 1.2.0
+ */
+final class StaticFileResponder {
+
+	/**
+	 * The maximum number of ranges served in a single {@code multipart/byteranges} response. When a request
+	 * contains more ranges, the {@code Range} header is ignored and the whole file is sent.
+	 */
+	static final int MAX_RANGES = 32;
+
+	static final String BYTES_UNIT = "bytes";
+
+	/**
+	 * The content codings looked up as precompressed sidecar files, in order of preference.
+	 */
+	static final String[] PRECOMPRESSED_ENCODINGS = {"br", "zstd", "gzip"};
+
+	/**
+	 * The file name extensions of the sidecar files, in the same order as {@link #PRECOMPRESSED_ENCODINGS}.
+	 */
+	static final String[] PRECOMPRESSED_EXTENSIONS = {".br", ".zst", ".gz"};
+
+	/**
+	 * Returns the metadata of the given file.
+	 *
+	 * @param file the file to serve
+	 * @param cache the cache to use or {@code null}
+	 * @return the metadata of the given file or {@code null} when it is not a readable regular file
+	 */
+	@Nullable
+	static FileMetadata metadata(Path file, @Nullable StaticFileCache cache) {
+		if (cache != null) {
+			return cache.metadata(file, false);
+		}
+		BasicFileAttributes attributes = FileMetadata.attributes(file);
+		return attributes != null ? FileMetadata.create(file, attributes) : null;
+	}
+
+	/**
+	 * Sends the file taking into account the conditional and the range request headers.
+	 *
+	 * @param request the request
+	 * @param response the response
+	 * @param file the file to serve
+	 * @param metadata the file metadata
+	 * @param cache the cache providing the shared {@link java.nio.channels.FileChannel} or {@code null}
+	 * @param precompressed true to negotiate the precompressed sidecar files with {@code Accept-Encoding}
+	 * @param interceptor a pre response processor
+	 * @return a {@link Publisher} that completes when the response is sent
+	 */
+	static Publisher<Void> send(HttpServerRequest request, HttpServerResponse response, Path file, FileMetadata metadata,
+			@Nullable StaticFileCache cache, boolean precompressed,
+			@Nullable Function<HttpServerResponse, HttpServerResponse> interceptor) {
+		if (interceptor != null) {
+			response = interceptor.apply(response);
+		}
+
+		HttpHeaders responseHeaders = response.responseHeaders();
+		// the content type is the one of the original file, not the one of the sidecar file
+		if (metadata.contentType != null && !responseHeaders.contains(HttpHeaderNames.CONTENT_TYPE)) {
+			responseHeaders.set(HttpHeaderNames.CONTENT_TYPE, metadata.contentType);
+		}
+
+		if (precompressed && !responseHeaders.contains(HttpHeaderNames.CONTENT_ENCODING)) {
+			String acceptEncoding = request.requestHeaders().get(HttpHeaderNames.ACCEPT_ENCODING);
+			boolean hasSidecar = false;
+			float bestQuality = 0;
+			String contentEncoding = null;
+			for (int i = 0; i < PRECOMPRESSED_ENCODINGS.length; i++) {
+				Path sidecar = file.resolveSibling(file.getFileName() + PRECOMPRESSED_EXTENSIONS[i]);
+				FileMetadata sidecarMetadata = cache != null ? cache.metadata(sidecar, true) : metadata(sidecar, null);
+				if (sidecarMetadata == null) {
+					continue;
+				}
+				hasSidecar = true;
+				float quality = acceptEncoding != null ? quality(acceptEncoding, PRECOMPRESSED_ENCODINGS[i]) : 0;
+				if (quality > bestQuality) {
+					bestQuality = quality;
+					contentEncoding = PRECOMPRESSED_ENCODINGS[i];
+					file = sidecar;
+					metadata = sidecarMetadata;
+				}
+			}
+			if (hasSidecar) {
+				responseHeaders.add(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+			}
+			if (contentEncoding != null) {
+				responseHeaders.set(HttpHeaderNames.CONTENT_ENCODING, contentEncoding);
+			}
+		}
+
+		long size = metadata.size;
+		long lastModified = metadata.lastModified;
+		String etag = metadata.etag;
+
+		String customEtag = responseHeaders.get(HttpHeaderNames.ETAG);
+		if (customEtag != null) {
+			etag = customEtag;
+		}
+		else {
+			responseHeaders.set(HttpHeaderNames.ETAG, etag);
+		}
+		if (!responseHeaders.contains(HttpHeaderNames.LAST_MODIFIED)) {
+			responseHeaders.set(HttpHeaderNames.LAST_MODIFIED, metadata.lastModifiedHeader);
+		}
+		responseHeaders.set(HttpHeaderNames.ACCEPT_RANGES, BYTES_UNIT);
+
+		HttpHeaders requestHeaders = request.requestHeaders();
+		HttpMethod method = request.method();
+		if ((HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)) &&
+				isNotModified(requestHeaders, etag, lastModified)) {
+			return response.status(HttpResponseStatus.NOT_MODIFIED)
+			               .send();
+		}
+
+		String range = requestHeaders.get(HttpHeaderNames.RANGE);
+		if (range == null || !HttpMethod.GET.equals(method) || !isRangeApplicable(requestHeaders, etag, lastModified)) {
+			return sendFile(response, file, 0L, size, cache);
+		}
+
+		List<long[]> ranges = parseRanges(range, size);
+		if (ranges == null) {
+			// invalid or not supported, ignore the header
+			return sendFile(response, file, 0L, size, cache);
+		}
+		if (ranges.isEmpty()) {
+			return response.status(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+			               .header(HttpHeaderNames.CONTENT_RANGE, BYTES_UNIT + " */" + size)
+			               .send();
+		}
+
+		response.status(HttpResponseStatus.PARTIAL_CONTENT);
+		if (ranges.size() == 1) {
+			long[] r = ranges.get(0);
+			return sendFile(response.header(HttpHeaderNames.CONTENT_RANGE, contentRange(r, size)),
+					file, r[0], r[1] - r[0] + 1, cache);
+		}
+		return sendMultipart(response, file, ranges, size, cache);
+	}
+
+	static NettyOutbound sendFile(NettyOutbound outbound, Path file, long position, long count,
+			@Nullable StaticFileCache cache) {
+		if (cache == null) {
+			return outbound.sendFile(file, position, count);
+		}
+		StaticFileCache.Lease lease = cache.lease(file);
+		return outbound.sendFile(file, position, count, lease::acquire, lease::release);
+	}
+
+	static Publisher<Void> sendMultipart(HttpServerResponse response, Path file, List<long[]> ranges, long size,
+			@Nullable StaticFileCache cache) {
+		String boundary = Long.toHexString(ThreadLocalRandom.current().nextLong()) +
+				Long.toHexString(ThreadLocalRandom.current().nextLong());
+		String contentType = response.responseHeaders().get(HttpHeaderNames.CONTENT_TYPE);
+
+		String[] partHeaders = new String[ranges.size()];
+		long contentLength = 0;
+		for (int i = 0; i < ranges.size(); i++) {
+			long[] r = ranges.get(i);
+			StringBuilder partHeader = new StringBuilder();
+			partHeader.append("\r\n--").append(boundary).append("\r\n");
+			if (contentType != null) {
+				partHeader.append(HttpHeaderNames.CONTENT_TYPE).append(": ").append(contentType).append("\r\n");
+			}
+			partHeader.append(HttpHeaderNames.CONTENT_RANGE).append(": ").append(contentRange(r, size)).append("\r\n\r\n");
+			partHeaders[i] = partHeader.toString();
+			contentLength += partHeaders[i].length() + r[1] - r[0] + 1;
+		}
+		String trailer = "\r\n--" + boundary + "--\r\n";
+		contentLength += trailer.length();
+
+		NettyOutbound outbound =
+				response.header(HttpHeaderNames.CONTENT_TYPE, "multipart/byteranges; boundary=" + boundary)
+				        .header(HttpHeaderNames.CONTENT_LENGTH, Long.toString(contentLength))
+				        .sendHeaders();
+		for (int i = 0; i < ranges.size(); i++) {
+			long[] r = ranges.get(i);
+			outbound = sendFile(outbound.sendString(Mono.just(partHeaders[i])), file, r[0], r[1] - r[0] + 1, cache);
+		}
+		return outbound.sendString(Mono.just(trailer));
+	}
+
+	static String contentRange(long[] range, long size) {
+		return BYTES_UNIT + ' ' + range[0] + '-' + range[1] + '/' + size;
+	}
+
+	static String etag(long size, long lastModified) {
+		return '"' + Long.toHexString(lastModified) + '-' + Long.toHexString(size) + '"';
+	}
+
+	/**
+	 * Evaluates {@code If-None-Match} and when it is not present {@code If-Modified-Since}.
+	 */
+	static boolean isNotModified(HttpHeaders requestHeaders, String etag, long lastModified) {
+		String ifNoneMatch = requestHeaders.get(HttpHeaderNames.IF_NONE_MATCH);
+		if (ifNoneMatch != null) {
+			return matchesWeak(ifNoneMatch, etag);
+		}
+		String ifModifiedSince = requestHeaders.get(HttpHeaderNames.IF_MODIFIED_SINCE);
+		if (ifModifiedSince != null) {
+			Date date = DateFormatter.parseHttpDate(ifModifiedSince);
+			return date != null && lastModified <= date.getTime();
+		}
+		return false;
+	}
+
+	/**
+	 * Evaluates {@code If-Range}, an entity tag is compared with the strong comparison,
+	 * a date must match exactly the last modification date.
+	 */
+	static boolean isRangeApplicable(HttpHeaders requestHeaders, String etag, long lastModified) {
+		String ifRange = requestHeaders.get(HttpHeaderNames.IF_RANGE);
+		if (ifRange == null) {
+			return true;
+		}
+		ifRange = ifRange.trim();
+		if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+			return ifRange.equals(etag);
+		}
+		Date date = DateFormatter.parseHttpDate(ifRange);
+		return date != null && date.getTime() == lastModified;
+	}
+
+	/**
+	 * Returns the quality value of the given content coding in the {@code Accept-Encoding} header value,
+	 * {@code 0} when the content coding is not acceptable.
+	 */
+	static float quality(String acceptEncoding, String coding) {
+		float wildcard = 0;
+		for (String candidate : acceptEncoding.split(",")) {
+			int index = candidate.indexOf(';');
+			String name = (index == -1 ? candidate : candidate.substring(0, index)).trim();
+			boolean matches = name.equalsIgnoreCase(coding);
+			if (!matches && !"*".equals(name)) {
+				continue;
+			}
+			float quality = 1;
+			if (index != -1) {
+				String parameter = candidate.substring(index + 1).trim();
+				if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q') &&
+						parameter.charAt(1) == '=') {
+					try {
+						quality = Float.parseFloat(parameter.substring(2));
+					}
+					catch (NumberFormatException e) {
+						quality = 0;
+					}
+				}
+			}
+			if (matches) {
+				return quality;
+			}
+			wildcard = quality;
+		}
+		return wildcard;
+	}
+
+	static boolean matchesWeak(String header, String etag) {
+		String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+		for (String candidate : header.split(",")) {
+			candidate = candidate.trim();
+			if ("*".equals(candidate)) {
+				return true;
+			}
+			if (candidate.startsWith("W/")) {
+				candidate = candidate.substring(2);
+			}
+			if (candidate.equals(opaqueTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Parses the {@code Range} header value.
+	 *
+	 * @param header the {@code Range} header value
+	 * @param size the file size
+	 * @return the satisfiable ranges as {@code [first, last]} (inclusive), an empty list when none of the ranges
+	 * is satisfiable, or {@code null} when the header is invalid and has to be ignored
+	 */
+	@Nullable
+	static List<long[]> parseRanges(String header, long size) {
+		int index = header.indexOf('=');
+		if (index == -1 || !BYTES_UNIT.equalsIgnoreCase(header.substring(0, index).trim())) {
+			return null;
+		}
+
+		String[] specs = header.substring(index + 1).split(",");
+		if (specs.length > MAX_RANGES) {
+			return null;
+		}
+
+		List<long[]> ranges = new ArrayList<>(specs.length);
+		for (String spec : specs) {
+			spec = spec.trim();
+			int dash = spec.indexOf('-');
+			if (dash == -1) {
+				return null;
+			}
+			String first = spec.substring(0, dash).trim();
+			String last = spec.substring(dash + 1).trim();
+			try {
+				if (first.isEmpty()) {
+					// suffix range, the last N bytes
+					long suffixLength = Long.parseLong(last);
+					if (suffixLength < 0) {
+						return null;
+					}
+					if (suffixLength > 0 && size > 0) {
+						ranges.add(new long[] {Math.max(0, size - suffixLength), size - 1});
+					}
+				}
+				else {
+					long firstPos = Long.parseLong(first);
+					long lastPos = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+					if (firstPos < 0 || lastPos < firstPos) {
+						return null;
+					}
+					if (firstPos < size) {
+						ranges.add(new long[] {firstPos, Math.min(lastPos, size - 1)});
+					}
+				}
+			}
+			catch (NumberFormatException e) {
+				return null;
+			}
+		}
+		return ranges;
+	}
+
+	/**
+	 * The file metadata used to build the response headers.
+	 */
+	static final class FileMetadata {
+
+		/**
+		 * Returns the attributes of the given file.
+		 *
+		 * @param file the file
+		 * @return the attributes of the given file or {@code null} when it is not a readable regular file
+		 */
+		@Nullable
+		static BasicFileAttributes attributes(Path file) {
+			try {
+				BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+				return attributes.isRegularFile() && Files.isReadable(file) ? attributes : null;
+			}
+			catch (IOException | SecurityException e) {
+				return null;
+			}
+		}
+
+		static FileMetadata create(Path file, BasicFileAttributes attributes) {
+			String contentType;
+			try {
+				contentType = Files.probeContentType(file);
+			}
+			catch (IOException | SecurityException e) {
+				contentType = null;
+			}
+			return new FileMetadata(attributes.size(), attributes.lastModifiedTime().toMillis(), contentType);
+		}
+
+		final long size;
+		final long modified;
+		/**
+		 * The last modification time truncated to seconds, the resolution of the HTTP dates.
+		 */
+		final long lastModified;
+		final String lastModifiedHeader;
+		final String etag;
+		@Nullable
+		final String contentType;
+
+		FileMetadata(long size, long modified, @Nullable String contentType) {
+			this.size = size;
+			this.modified = modified;
+			this.lastModified = modified / 1000 * 1000;
+			this.lastModifiedHeader = DateFormatter.format(new Date(lastModified));
+			this.etag = etag(size, modified);
+			this.contentType = contentType;
+		}
+
+		boolean matches(BasicFileAttributes attributes) {
+			return size == attributes.size() && modified == attributes.lastModifiedTime().toMillis();
+		}
+	}
+
+	private StaticFileResponder() {
+	}
+}
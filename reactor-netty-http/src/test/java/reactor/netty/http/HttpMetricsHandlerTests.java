@@ -507,6 +507,47 @@ class HttpMetricsHandlerTests extends BaseHttpTest {
 				serverCtx != null, numWrites, bytesWrite);
 	}
 
+	@ParameterizedTest
+	@MethodSource("httpCompatibleProtocols")
+	void testRouteTemplateAsUriTagValue(HttpProtocol[] serverProtocols, HttpProtocol[] clientProtocols,
+			@Nullable ProtocolSslContextSpec serverCtx, @Nullable ProtocolSslContextSpec clientCtx) throws Exception {
+		CountDownLatch responseSent = new CountDownLatch(1); // response fully sent by the server
+		ResponseSentHandler responseSentHandler = ResponseSentHandler.INSTANCE;
+		AtomicReference<String> routeTemplate = new AtomicReference<>();
+
+		disposableServer = customizeServerOptions(httpServer, serverCtx, serverProtocols)
+				.doOnConnection(cnx -> responseSentHandler.register(responseSent, cnx.channel().pipeline()))
+				.metrics(true, Function.identity())
+				.route(r -> r.post("/users/{id}", (req, res) -> {
+				                 routeTemplate.set(req.routeTemplate());
+				                 return res.send(req.receive().retain());
+				             }))
+				.bindNow();
+
+		httpClient = customizeClientOptions(httpClient, clientCtx, clientProtocols);
+
+		StepVerifier.create(httpClient.post()
+		                              .uri("/users/1")
+		                              .send(body)
+		                              .responseContent()
+		                              .aggregate()
+		                              .asString())
+		            .expectNext("Hello World!")
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(30));
+
+		assertThat(responseSent.await(30, TimeUnit.SECONDS)).as("responseSent latch await").isTrue();
+
+		assertThat(routeTemplate.get()).isEqualTo("/users/{id}");
+		assertTimer(registry, SERVER_RESPONSE_TIME, URI, "/users/{id}", METHOD, "POST", STATUS, "200")
+				.hasCountEqualTo(1);
+		assertTimer(registry, SERVER_DATA_RECEIVED_TIME, URI, "/users/{id}", METHOD, "POST")
+				.hasCountEqualTo(1);
+		assertDistributionSummary(registry, SERVER_DATA_RECEIVED, URI, "/users/{id}")
+				.hasCountGreaterThanOrEqualTo(1);
+		assertThat(registry.find(SERVER_RESPONSE_TIME).tag(URI, "/users/1").timer()).isNull();
+	}
+
 	/*
 	 * https://github.com/reactor/reactor-netty/issues/1559
 	 */
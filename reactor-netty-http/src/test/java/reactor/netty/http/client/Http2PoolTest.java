@@ -22,6 +22,8 @@ import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
 import io.netty.handler.codec.http2.Http2MultiplexHandler;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -1170,6 +1172,75 @@ class Http2PoolTest {
 		}
 	}
 
+	@ParameterizedTest
+	@EnumSource(value = Http2AllocationStrategy.ConnectionSelection.class, names = {"LEAST_ACTIVE_STREAMS", "POWER_OF_TWO_CHOICES"})
+	void connectionSelectionLeastLoaded(Http2AllocationStrategy.ConnectionSelection connectionSelection) {
+		List<EmbeddedChannel> channels = new ArrayList<>();
+		PoolBuilder<Connection, PoolConfig<Connection>> poolBuilder =
+				PoolBuilder.from(Mono.fromSupplier(() -> {
+				               EmbeddedChannel channel = new EmbeddedChannel(new TestChannelId(),
+				                   Http2FrameCodecBuilder.forClient().build(),
+				                   new Http2MultiplexHandler(new ChannelHandlerAdapter() {}));
+				               channels.add(channel);
+				               return Connection.from(channel);
+				           }))
+				           .idleResourceReuseLruOrder()
+				           .maxPendingAcquireUnbounded()
+				           .sizeBetween(2, 2);
+		Http2AllocationStrategy strategy = Http2AllocationStrategy.builder()
+				.connectionSelection(connectionSelection)
+				.maxConnections(2)
+				.minConnections(2)
+				.build();
+		Http2Pool http2Pool = poolBuilder.build(config -> new Http2Pool(config, strategy));
+
+		List<PooledRef<Connection>> acquired = new ArrayList<>();
+		try {
+			for (int i = 0; i < 4; i++) {
+				http2Pool.acquire().subscribe(acquired::add);
+				channels.forEach(EmbeddedChannel::runPendingTasks);
+			}
+
+			assertThat(acquired).hasSize(4);
+			assertThat(channels).hasSize(2);
+			assertThat(http2Pool.maxConnectionActiveStreams()).isEqualTo(2);
+			assertThat(http2Pool.minConnectionActiveStreams()).isEqualTo(2);
+
+			// release all streams on the second connection, the first connection stays at the head of the queue
+			Channel second = channels.get(1);
+			for (PooledRef<Connection> pooledRef : acquired) {
+				if (pooledRef.poolable().channel() == second) {
+					pooledRef.release().block(Duration.ofSeconds(1));
+				}
+			}
+			acquired.removeIf(pooledRef -> pooledRef.poolable().channel() == second);
+
+			assertThat(http2Pool.maxConnectionActiveStreams()).isEqualTo(2);
+			assertThat(http2Pool.minConnectionActiveStreams()).isEqualTo(0);
+
+			http2Pool.acquire().subscribe(acquired::add);
+			channels.forEach(EmbeddedChannel::runPendingTasks);
+
+			assertThat(acquired).hasSize(3);
+			assertThat(acquired.get(2).poolable().channel()).isSameAs(second);
+			assertThat(http2Pool.activeStreams()).isEqualTo(3);
+			assertThat(http2Pool.maxConnectionActiveStreams()).isEqualTo(2);
+			assertThat(http2Pool.minConnectionActiveStreams()).isEqualTo(1);
+
+			for (PooledRef<Connection> pooledRef : acquired) {
+				pooledRef.release().block(Duration.ofSeconds(1));
+			}
+
+			assertThat(http2Pool.activeStreams()).isEqualTo(0);
+		}
+		finally {
+			for (EmbeddedChannel channel : channels) {
+				channel.finishAndReleaseAll();
+				Connection.from(channel).dispose();
+			}
+		}
+	}
+
 	@Test
 	void nonHttp2ConnectionEmittedOnce() {
 		EmbeddedChannel channel = new EmbeddedChannel();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2021-2024 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,12 +15,14 @@
  */
 package reactor.netty.http.server;
 
+import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
 import reactor.netty.NettyOutbound;
 import reactor.test.StepVerifier;
 
@@ -28,6 +30,10 @@ import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -45,8 +51,9 @@ class DefaultHttpServerRoutesTest {
 		HttpServerRequest request = Mockito.mock(HttpServerRequest.class);
 
 		Mockito.when(request.paramsResolver(Mockito.any())).thenReturn(request);
-		Mockito.when(request.uri()).thenReturn("/test");
+		Mockito.when(request.uri()).thenReturn("/test/index.html");
 		Mockito.when(request.method()).thenReturn(HttpMethod.GET);
+		Mockito.when(request.requestHeaders()).thenReturn(new DefaultHttpHeaders());
 
 		Subscription subscription = Mockito.mock(Subscription.class);
 
@@ -60,7 +67,8 @@ class DefaultHttpServerRoutesTest {
 		}).when(outbound).subscribe(Mockito.any());
 		HttpServerResponse response = Mockito.mock(HttpServerResponse.class);
 
-		Mockito.when(response.sendFile(Mockito.any())).thenReturn(outbound);
+		Mockito.when(response.responseHeaders()).thenReturn(new DefaultHttpHeaders());
+		Mockito.when(response.sendFile(Mockito.any(), Mockito.anyLong(), Mockito.anyLong())).thenReturn(outbound);
 
 		Path resource = Paths.get(getClass().getResource("/public").toURI());
 
@@ -77,4 +85,103 @@ class DefaultHttpServerRoutesTest {
 				.verify(Duration.ofMillis(200));
 
 	}
-}
\ No newline at end of file
+
+	@Test
+	void compiledRoutesSelectTheSameRouteAsDeclarationOrder() {
+		assertSameRoutes(routes -> {});
+	}
+
+	@Test
+	void compiledRoutesSelectTheSameRouteAsComparatorOrder() {
+		assertSameRoutes(routes -> routes.comparator(Comparator.comparing(
+				(HttpRouteHandlerMetadata m) -> m.getPath() == null ? "" : m.getPath()).reversed()));
+	}
+
+	@Test
+	void compiledRoutesAreUpdatedOnRemoval() {
+		AtomicReference<String> selected = new AtomicReference<>();
+		DefaultHttpServerRoutes routes = new DefaultHttpServerRoutes();
+		routes.compiled(true);
+		routes.get("/a/{id}", handler("var", selected))
+		      .get("/a/b", handler("literal", selected));
+
+		assertThat(route(routes, HttpMethod.GET, "/a/b", selected)).isEqualTo("var");
+
+		routes.removeIf(metadata -> "/a/{id}".equals(metadata.getPath()));
+
+		assertThat(route(routes, HttpMethod.GET, "/a/b", selected)).isEqualTo("literal");
+		assertThat(route(routes, HttpMethod.GET, "/a/c", selected)).isEqualTo("404");
+	}
+
+	@Test
+	void routeIndexSegments() {
+		assertThat(HttpRouteIndex.segments("/")).containsExactly("");
+		assertThat(HttpRouteIndex.segments("/a/{id}/b")).containsExactly("a", "{id}", "b");
+		assertThat(HttpRouteIndex.segments("/a/{path}**")).containsExactly("a", "{path}**");
+		assertThat(HttpRouteIndex.segments("/a/**?q=1")).containsExactly("a", "**");
+		assertThat(HttpRouteIndex.segments("/a/**/b")).isNull();
+		assertThat(HttpRouteIndex.segments("/a**")).isNull();
+		assertThat(HttpRouteIndex.segments("/1.0/comments")).isNull();
+		assertThat(HttpRouteIndex.segments("/a/(b|c)")).isNull();
+	}
+
+	static void assertSameRoutes(Consumer<HttpServerRoutes> customizer) {
+		AtomicReference<String> selected = new AtomicReference<>();
+		DefaultHttpServerRoutes linear = new DefaultHttpServerRoutes();
+		DefaultHttpServerRoutes compiled = new DefaultHttpServerRoutes();
+		compiled.compiled(true);
+		for (DefaultHttpServerRoutes routes : new DefaultHttpServerRoutes[] {linear, compiled}) {
+			routes.get("/a/{id}/c", handler("var-c", selected))
+			      .get("/a/b/c", handler("literal-c", selected))
+			      .route(req -> req.uri().startsWith("/a/1"), handler("custom", selected))
+			      .get("/a/**", handler("splat-a", selected))
+			      .get("/a", handler("a", selected))
+			      .get("/", handler("root", selected))
+			      .get("/files/1.0/{name}", handler("regex", selected))
+			      .get("/users/{id}", handler("user", selected))
+			      .get("/users/{id}/orders/{order}", handler("order", selected))
+			      .get("/users/{id}-{name}", handler("user-name", selected))
+			      .post("/a/b/c", handler("post", selected))
+			      .get("/static/{path}**", handler("static", selected));
+			customizer.accept(routes);
+		}
+
+		String[] uris = {"/", "/a", "/a/", "/a/b", "/a/1/c", "/a/1/d", "/a/b/c", "/a/b/c/d", "/a/b/c?q=1",
+				"http://localhost:8080/a/b/c", "/static", "/static/", "/static/js/app.js", "/files/1.0/x",
+				"/files/1x0/x", "/users/42", "/users/", "/users/42/orders/7", "/users/42-john", "/unknown"};
+		for (HttpMethod method : new HttpMethod[] {HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT}) {
+			for (String uri : uris) {
+				assertThat(route(compiled, method, uri, selected))
+						.as("%s %s", method, uri)
+						.isEqualTo(route(linear, method, uri, selected));
+			}
+		}
+	}
+
+	static BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> handler(
+			String name, AtomicReference<String> selected) {
+		return (req, res) -> {
+			selected.set(name);
+			return Mono.empty();
+		};
+	}
+
+	static String route(DefaultHttpServerRoutes routes, HttpMethod method, String uri, AtomicReference<String> selected) {
+		HttpServerRequest request = Mockito.mock(HttpServerRequest.class);
+		Mockito.when(request.paramsResolver(Mockito.any())).thenReturn(request);
+		Mockito.when(request.uri()).thenReturn(uri);
+		Mockito.when(request.method()).thenReturn(method);
+
+		HttpServerResponse response = Mockito.mock(HttpServerResponse.class);
+		Mockito.when(response.sendNotFound()).thenAnswer(invocation -> {
+			selected.set("404");
+			return Mono.empty();
+		});
+
+		selected.set(null);
+		StepVerifier.create(routes.apply(request, response))
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(5));
+		return selected.get();
+	}
+}
@@ -120,6 +120,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.SignalType;
 import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.BaseHttpTest;
 import reactor.netty.ByteBufFlux;
 import reactor.netty.ChannelBindException;
@@ -325,6 +326,69 @@ class HttpServerTests extends BaseHttpTest {
 		    .block(Duration.ofSeconds(5));
 	}
 
+	@Test
+	void handleBlocking() {
+		AtomicBoolean nonBlocking = new AtomicBoolean(true);
+		disposableServer =
+				createServer()
+				        .handleBlocking((req, res) -> {
+				            nonBlocking.set(Schedulers.isInNonBlockingThread());
+				            String body = req.receive().aggregate().asString().block(Duration.ofSeconds(5));
+				            return res.sendString(Mono.just(body.toUpperCase()));
+				        })
+				        .bindNow();
+
+		String response =
+				createClient(disposableServer.port())
+				        .post()
+				        .uri("/")
+				        .send(ByteBufFlux.fromString(Mono.just("blocking")))
+				        .responseContent()
+				        .aggregate()
+				        .asString()
+				        .block(Duration.ofSeconds(5));
+
+		assertThat(response).isEqualTo("BLOCKING");
+		assertThat(nonBlocking).isFalse();
+	}
+
+	@Test
+	void routeBlocking() {
+		AtomicBoolean nonBlocking = new AtomicBoolean(true);
+		disposableServer =
+				createServer()
+				        .route(r -> r.routeBlocking(HttpPredicate.post("/blocking"), (req, res) -> {
+				                         nonBlocking.set(Schedulers.isInNonBlockingThread());
+				                         String body = req.receive().aggregate().asString().block(Duration.ofSeconds(5));
+				                         return res.sendString(Mono.just(body.toUpperCase()));
+				                     })
+				                     .get("/non-blocking", (req, res) -> res.sendString(Mono.just("non-blocking"))))
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port());
+		String response =
+				client.post()
+				      .uri("/blocking")
+				      .send(ByteBufFlux.fromString(Mono.just("blocking")))
+				      .responseContent()
+				      .aggregate()
+				      .asString()
+				      .block(Duration.ofSeconds(5));
+
+		assertThat(response).isEqualTo("BLOCKING");
+		assertThat(nonBlocking).isFalse();
+
+		response =
+				client.get()
+				      .uri("/non-blocking")
+				      .responseContent()
+				      .aggregate()
+				      .asString()
+				      .block(Duration.ofSeconds(5));
+
+		assertThat(response).isEqualTo("non-blocking");
+	}
+
 	//from https://github.com/reactor/reactor-netty/issues/90
 	@Test
 	void testRestart() {
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.BaseHttpTest;
+import reactor.netty.http.server.StaticFileResponder.FileMetadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * This test class verifies {@link StaticFileCache}.
+ */
+class StaticFileCacheTest extends BaseHttpTest {
+
+	@TempDir
+	Path dir;
+
+	Path file;
+	StaticFileCache cache;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		file = dir.resolve("test").toAbsolutePath().normalize();
+		Files.write(file, "0123456789".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (cache != null) {
+			cache.dispose();
+		}
+	}
+
+	@Test
+	void badValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> StaticFileCache.builder().maxEntries(0));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> StaticFileCache.builder().maxOpenFiles(-1));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> StaticFileCache.builder().revalidateAfter(Duration.ofSeconds(-1)));
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> StaticFileCache.builder().revalidateAfter(null));
+	}
+
+	@Test
+	void metadataIsCachedUntilRevalidation() throws IOException {
+		cache = StaticFileCache.builder().revalidateAfter(Duration.ofHours(1)).build();
+
+		FileMetadata metadata = cache.metadata(file, false);
+		assertThat(metadata).isNotNull();
+		assertThat(metadata.size).isEqualTo(10);
+
+		Files.write(file, "01234567890123456789".getBytes(StandardCharsets.UTF_8));
+		assertThat(cache.metadata(file, false)).isSameAs(metadata);
+
+		cache.invalidate(file);
+		FileMetadata updated = cache.metadata(file, false);
+		assertThat(updated).isNotNull();
+		assertThat(updated.size).isEqualTo(20);
+	}
+
+	@Test
+	void fileSystemChangesAreDetected() throws IOException {
+		cache = StaticFileCache.builder().revalidateAfter(Duration.ZERO).build();
+
+		FileMetadata metadata = cache.metadata(file, false);
+		assertThat(metadata).isNotNull();
+		assertThat(cache.metadata(file, false)).isSameAs(metadata);
+
+		Files.setLastModifiedTime(file, FileTime.fromMillis(metadata.modified - 10_000));
+		FileMetadata updated = cache.metadata(file, false);
+		assertThat(updated).isNotNull().isNotSameAs(metadata);
+		assertThat(updated.etag).isNotEqualTo(metadata.etag);
+
+		Files.delete(file);
+		assertThat(cache.metadata(file, false)).isNull();
+		assertThat(cache.entries).isEmpty();
+	}
+
+	@Test
+	void notRegularFiles() {
+		cache = StaticFileCache.create();
+
+		assertThat(cache.metadata(dir.toAbsolutePath(), false)).isNull();
+		assertThat(cache.metadata(dir.resolve("missing").toAbsolutePath(), false)).isNull();
+		assertThat(cache.entries).isEmpty();
+	}
+
+	@Test
+	void missingFilesCanBeCached() throws IOException {
+		cache = StaticFileCache.builder().revalidateAfter(Duration.ofHours(1)).build();
+		Path sidecar = dir.resolve("test.gz").toAbsolutePath().normalize();
+
+		assertThat(cache.metadata(sidecar, true)).isNull();
+		assertThat(cache.entries).containsOnlyKeys(sidecar);
+
+		Files.write(sidecar, new byte[1]);
+		assertThat(cache.metadata(sidecar, true)).isNull();
+
+		cache.invalidate(sidecar);
+		assertThat(cache.metadata(sidecar, true)).isNotNull();
+	}
+
+	@Test
+	void fileChannelIsSharedAndReferenceCounted() throws IOException {
+		cache = StaticFileCache.create();
+		assertThat(cache.metadata(file, false)).isNotNull();
+
+		StaticFileCache.Lease lease1 = cache.lease(file);
+		StaticFileCache.Lease lease2 = cache.lease(file);
+		FileChannel channel1 = lease1.acquire();
+		FileChannel channel2 = lease2.acquire();
+		assertThat(channel1).isSameAs(channel2);
+		assertThat(cache.openFiles.get()).isEqualTo(1);
+
+		// the channel stays open while transfers are in progress
+		cache.invalidate(file);
+		assertThat(channel1.isOpen()).isTrue();
+
+		lease1.release(channel1);
+		assertThat(channel1.isOpen()).isTrue();
+
+		lease2.release(channel2);
+		assertThat(channel1.isOpen()).isFalse();
+		assertThat(cache.openFiles.get()).isEqualTo(0);
+	}
+
+	@Test
+	void maxOpenFiles() throws IOException {
+		cache = StaticFileCache.builder().maxOpenFiles(0).build();
+		assertThat(cache.metadata(file, false)).isNotNull();
+
+		StaticFileCache.Lease lease = cache.lease(file);
+		FileChannel channel = lease.acquire();
+		assertThat(lease.handle).isNull();
+		assertThat(cache.openFiles.get()).isEqualTo(0);
+
+		lease.release(channel);
+		assertThat(channel.isOpen()).isFalse();
+	}
+
+	@Test
+	void leastRecentlyAccessedEntriesAreEvicted() throws IOException {
+		cache = StaticFileCache.builder().maxEntries(2).build();
+
+		Path other1 = Files.write(dir.resolve("other1").toAbsolutePath().normalize(), new byte[1]);
+		Path other2 = Files.write(dir.resolve("other2").toAbsolutePath().normalize(), new byte[1]);
+
+		assertThat(cache.metadata(file, false)).isNotNull();
+		assertThat(cache.metadata(other1, false)).isNotNull();
+		// make sure the access times differ
+		cache.entries.get(file).lastAccess = System.nanoTime() + 1_000_000;
+		assertThat(cache.metadata(other2, false)).isNotNull();
+
+		assertThat(cache.entries).hasSize(2)
+		                         .containsKeys(file, other2);
+	}
+
+	@Test
+	void directoryRoute() {
+		cache = StaticFileCache.create();
+		disposableServer =
+				createServer()
+				        .route(r -> r.fileCache(cache)
+				                     .directory("/dir", dir))
+				        .bindNow();
+
+		List<String> bodies =
+				Flux.range(0, 10)
+				    .flatMap(i -> createClient(disposableServer.port())
+				            .headers(h -> h.set(HttpHeaderNames.RANGE, "bytes=2-4"))
+				            .get()
+				            .uri("/dir/test")
+				            .responseSingle((res, buf) -> buf.asString()))
+				    .collectList()
+				    .block(Duration.ofSeconds(5));
+		assertThat(bodies).hasSize(10)
+		                  .allMatch("234"::equals);
+
+		assertThat(cache.entries).containsOnlyKeys(file);
+
+		Integer notFound =
+				createClient(disposableServer.port())
+				        .get()
+				        .uri("/dir/missing")
+				        .responseSingle((res, buf) -> Mono.just(res.status().code()))
+				        .block(Duration.ofSeconds(5));
+		assertThat(notFound).isEqualTo(404);
+	}
+}
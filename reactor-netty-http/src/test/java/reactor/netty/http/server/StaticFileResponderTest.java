@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.netty.BaseHttpTest;
+import reactor.util.function.Tuple3;
+import reactor.util.function.Tuples;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This test class verifies the conditional and the range requests handling, as well as the precompressed
+ * files negotiation, of the static file routes.
+ */
+class StaticFileResponderTest extends BaseHttpTest {
+
+	static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+	@TempDir
+	Path dir;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		Files.write(dir.resolve("test"), CONTENT.getBytes(StandardCharsets.UTF_8));
+		disposableServer =
+				createServer()
+				        .route(r -> r.directory("/dir", dir)
+				                     .file("/file", dir.resolve("test")))
+				        .bindNow();
+	}
+
+	@Test
+	void parseRanges() {
+		assertRange(StaticFileResponder.parseRanges("bytes=0-9", 36), 0, 9);
+		assertRange(StaticFileResponder.parseRanges("bytes=30-", 36), 30, 35);
+		assertRange(StaticFileResponder.parseRanges("bytes=-6", 36), 30, 35);
+		assertRange(StaticFileResponder.parseRanges("bytes=-100", 36), 0, 35);
+		assertRange(StaticFileResponder.parseRanges("bytes=10-100", 36), 10, 35);
+		assertRange(StaticFileResponder.parseRanges("BYTES = 1-1", 36), 1, 1);
+
+		assertThat(StaticFileResponder.parseRanges("bytes=0-1, 5-6", 36)).hasSize(2);
+		assertThat(StaticFileResponder.parseRanges("bytes=36-40", 36)).isEmpty();
+		assertThat(StaticFileResponder.parseRanges("bytes=0-1, 40-50", 36)).hasSize(1);
+		assertThat(StaticFileResponder.parseRanges("bytes=-0", 36)).isEmpty();
+
+		assertThat(StaticFileResponder.parseRanges("items=0-1", 36)).isNull();
+		assertThat(StaticFileResponder.parseRanges("bytes=5-1", 36)).isNull();
+		assertThat(StaticFileResponder.parseRanges("bytes=a-b", 36)).isNull();
+		assertThat(StaticFileResponder.parseRanges("bytes=10", 36)).isNull();
+
+		StringBuilder tooMany = new StringBuilder("bytes=0-0");
+		for (int i = 1; i <= StaticFileResponder.MAX_RANGES; i++) {
+			tooMany.append(',').append(i).append('-').append(i);
+		}
+		assertThat(StaticFileResponder.parseRanges(tooMany.toString(), 36)).isNull();
+	}
+
+	@Test
+	void fullResponseAdvertisesValidators() {
+		Tuple3<Integer, HttpHeaders, String> response = get("/file", h -> {});
+		assertThat(response.getT1()).isEqualTo(200);
+		assertThat(response.getT2().get(HttpHeaderNames.ETAG)).isNotNull();
+		assertThat(response.getT2().get(HttpHeaderNames.LAST_MODIFIED)).isNotNull();
+		assertThat(response.getT2().get(HttpHeaderNames.ACCEPT_RANGES)).isEqualTo("bytes");
+		assertThat(response.getT3()).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void singleRange() {
+		Tuple3<Integer, HttpHeaders, String> response = get("/dir/test", h -> h.set(HttpHeaderNames.RANGE, "bytes=10-19"));
+		assertThat(response.getT1()).isEqualTo(HttpResponseStatus.PARTIAL_CONTENT.code());
+		assertThat(response.getT2().get(HttpHeaderNames.CONTENT_RANGE)).isEqualTo("bytes 10-19/36");
+		assertThat(response.getT2().getInt(HttpHeaderNames.CONTENT_LENGTH)).isEqualTo(10);
+		assertThat(response.getT3()).isEqualTo("abcdefghij");
+	}
+
+	@Test
+	void multipleRanges() {
+		Tuple3<Integer, HttpHeaders, String> response = get("/file", h -> h.set(HttpHeaderNames.RANGE, "bytes=0-1,-2"));
+		assertThat(response.getT1()).isEqualTo(HttpResponseStatus.PARTIAL_CONTENT.code());
+
+		String contentType = response.getT2().get(HttpHeaderNames.CONTENT_TYPE);
+		assertThat(contentType).startsWith("multipart/byteranges; boundary=");
+		String boundary = contentType.substring(contentType.indexOf('=') + 1);
+
+		String body = response.getT3();
+		assertThat(response.getT2().getInt(HttpHeaderNames.CONTENT_LENGTH)).isEqualTo(body.length());
+		assertThat(body).isEqualTo(
+				"\r\n--" + boundary + "\r\n" +
+				"content-range: bytes 0-1/36\r\n\r\n01" +
+				"\r\n--" + boundary + "\r\n" +
+				"content-range: bytes 34-35/36\r\n\r\nyz" +
+				"\r\n--" + boundary + "--\r\n");
+	}
+
+	@Test
+	void rangesAreNotCompressed() {
+		disposableServer.disposeNow();
+		disposableServer =
+				createServer()
+				        .compress(true)
+				        .route(r -> r.file("/file", dir.resolve("test")))
+				        .bindNow();
+
+		Tuple3<Integer, HttpHeaders, String> response = get("/file", h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip"));
+		assertThat(response.getT1()).isEqualTo(200);
+		assertThat(response.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+
+		// Content-Range and Content-Length refer to the uncompressed file
+		response = get("/file", h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip").set(HttpHeaderNames.RANGE, "bytes=10-19"));
+		assertThat(response.getT1()).isEqualTo(HttpResponseStatus.PARTIAL_CONTENT.code());
+		assertThat(response.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isNull();
+		assertThat(response.getT2().get(HttpHeaderNames.CONTENT_RANGE)).isEqualTo("bytes 10-19/36");
+		assertThat(response.getT2().getInt(HttpHeaderNames.CONTENT_LENGTH)).isEqualTo(10);
+		assertThat(response.getT3()).isEqualTo("abcdefghij");
+
+		response = get("/file", h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip").set(HttpHeaderNames.RANGE, "bytes=0-1,-2"));
+		assertThat(response.getT1()).isEqualTo(HttpResponseStatus.PARTIAL_CONTENT.code());
+		assertThat(response.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isNull();
+		assertThat(response.getT2().getInt(HttpHeaderNames.CONTENT_LENGTH)).isEqualTo(response.getT3().length());
+		assertThat(response.getT3()).contains("content-range: bytes 0-1/36\r\n\r\n01", "content-range: bytes 34-35/36\r\n\r\nyz");
+	}
+
+	@Test
+	void compressedResponseIsNotResumedWithIfRange() {
+		disposableServer.disposeNow();
+		disposableServer =
+				createServer()
+				        .compress(true)
+				        .route(r -> r.file("/file", dir.resolve("test")))
+				        .bindNow();
+
+		String etag = get("/file", h -> {}).getT2().get(HttpHeaderNames.ETAG);
+
+		// the compressed representation has its own entity tag and does not advertise ranges
+		Tuple3<Integer, HttpHeaders, String> response = get("/file", h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip"));
+		assertThat(response.getT1()).isEqualTo(200);
+		assertThat(response.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(response.getT2().get(HttpHeaderNames.ETAG)).isEqualTo("W/" + etag);
+		assertThat(response.getT2().get(HttpHeaderNames.VARY)).isEqualTo("accept-encoding");
+		assertThat(response.getT2().get(HttpHeaderNames.ACCEPT_RANGES)).isNull();
+
+		// resuming the compressed download sends the whole representation again instead of uncompressed bytes
+		String compressedEtag = response.getT2().get(HttpHeaderNames.ETAG);
+		response = get("/file", h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip")
+		                              .set(HttpHeaderNames.RANGE, "bytes=10-")
+		                              .set(HttpHeaderNames.IF_RANGE, compressedEtag));
+		assertThat(response.getT1()).isEqualTo(200);
+		assertThat(response.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(response.getT2().get(HttpHeaderNames.CONTENT_RANGE)).isNull();
+
+		// the uncompressed representation can still be resumed
+		response = get("/file", h -> h.set(HttpHeaderNames.RANGE, "bytes=10-")
+		                              .set(HttpHeaderNames.IF_RANGE, etag));
+		assertThat(response.getT1()).isEqualTo(HttpResponseStatus.PARTIAL_CONTENT.code());
+		assertThat(response.getT3()).isEqualTo(CONTENT.substring(10));
+	}
+
+	@Test
+	void rangeNotSatisfiable() {
+		Tuple3<Integer, HttpHeaders, String> response = get("/file", h -> h.set(HttpHeaderNames.RANGE, "bytes=100-"));
+		assertThat(response.getT1()).isEqualTo(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE.code());
+		assertThat(response.getT2().get(HttpHeaderNames.CONTENT_RANGE)).isEqualTo("bytes */36");
+	}
+
+	@Test
+	void invalidRangeIsIgnored() {
+		Tuple3<Integer, HttpHeaders, String> response = get("/file", h -> h.set(HttpHeaderNames.RANGE, "bytes=9-1"));
+		assertThat(response.getT1()).isEqualTo(200);
+		assertThat(response.getT3()).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void notModified() {
+		HttpHeaders validators = get("/file", h -> {}).getT2();
+		String etag = validators.get(HttpHeaderNames.ETAG);
+		String lastModified = validators.get(HttpHeaderNames.LAST_MODIFIED);
+
+		Tuple3<Integer, HttpHeaders, String> response = get("/file", h -> h.set(HttpHeaderNames.IF_NONE_MATCH, "W/" + etag));
+		assertThat(response.getT1()).isEqualTo(HttpResponseStatus.NOT_MODIFIED.code());
+		assertThat(response.getT3()).isEmpty();
+
+		response = get("/file", h -> h.set(HttpHeaderNames.IF_MODIFIED_SINCE, lastModified));
+		assertThat(response.getT1()).isEqualTo(HttpResponseStatus.NOT_MODIFIED.code());
+
+		// If-None-Match takes precedence over If-Modified-Since
+		response = get("/file", h -> h.set(HttpHeaderNames.IF_NONE_MATCH, "\"other\"")
+		                              .set(HttpHeaderNames.IF_MODIFIED_SINCE, lastModified));
+		assertThat(response.getT1()).isEqualTo(200);
+	}
+
+	@Test
+	void ifRange() {
+		String etag = get("/file", h -> {}).getT2().get(HttpHeaderNames.ETAG);
+
+		Tuple3<Integer, HttpHeaders, String> response =
+				get("/file", h -> h.set(HttpHeaderNames.RANGE, "bytes=0-0").set(HttpHeaderNames.IF_RANGE, etag));
+		assertThat(response.getT1()).isEqualTo(HttpResponseStatus.PARTIAL_CONTENT.code());
+		assertThat(response.getT3()).isEqualTo("0");
+
+		response = get("/file", h -> h.set(HttpHeaderNames.RANGE, "bytes=0-0").set(HttpHeaderNames.IF_RANGE, "\"stale\""));
+		assertThat(response.getT1()).isEqualTo(200);
+		assertThat(response.getT3()).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void quality() {
+		assertThat(StaticFileResponder.quality("gzip, br", "br")).isEqualTo(1f);
+		assertThat(StaticFileResponder.quality("gzip;q=0.5, br;q=0.8", "gzip")).isEqualTo(0.5f);
+		assertThat(StaticFileResponder.quality("GZIP ; Q=0.5", "gzip")).isEqualTo(0.5f);
+		assertThat(StaticFileResponder.quality("br;q=0", "br")).isEqualTo(0f);
+		assertThat(StaticFileResponder.quality("gzip", "br")).isEqualTo(0f);
+		assertThat(StaticFileResponder.quality("*;q=0.3", "zstd")).isEqualTo(0.3f);
+		assertThat(StaticFileResponder.quality("*, br;q=0", "br")).isEqualTo(0f);
+		assertThat(StaticFileResponder.quality("br;q=abc", "br")).isEqualTo(0f);
+	}
+
+	@Test
+	void precompressedSidecars() throws IOException {
+		Files.write(dir.resolve("test.gz"), "gzip".getBytes(StandardCharsets.UTF_8));
+		Files.write(dir.resolve("test.br"), "br".getBytes(StandardCharsets.UTF_8));
+		disposableServer.disposeNow();
+		disposableServer =
+				createServer()
+				        .route(r -> r.precompressed(true)
+				                     .directory("/dir", dir)
+				                     .file("/file", dir.resolve("test")))
+				        .bindNow();
+
+		Tuple3<Integer, HttpHeaders, String> response = get("/dir/test", h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip, br"));
+		assertThat(response.getT1()).isEqualTo(200);
+		assertThat(response.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("br");
+		assertThat(response.getT2().get(HttpHeaderNames.VARY)).isEqualTo("accept-encoding");
+		assertThat(response.getT3()).isEqualTo("br");
+
+		response = get("/file", h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip, br;q=0.5"));
+		assertThat(response.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(response.getT3()).isEqualTo("gzip");
+
+		// the variants have their own validators
+		String etag = response.getT2().get(HttpHeaderNames.ETAG);
+		response = get("/file", h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip").set(HttpHeaderNames.IF_NONE_MATCH, etag));
+		assertThat(response.getT1()).isEqualTo(HttpResponseStatus.NOT_MODIFIED.code());
+		response = get("/file", h -> h.set(HttpHeaderNames.IF_NONE_MATCH, etag));
+		assertThat(response.getT1()).isEqualTo(200);
+
+		response = get("/file", h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "identity"));
+		assertThat(response.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isNull();
+		assertThat(response.getT2().get(HttpHeaderNames.VARY)).isEqualTo("accept-encoding");
+		assertThat(response.getT3()).isEqualTo(CONTENT);
+
+		response = get("/dir/test.gz", h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip"));
+		assertThat(response.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isNull();
+		assertThat(response.getT3()).isEqualTo("gzip");
+	}
+
+	@Test
+	void precompressedSidecarsAreNotServedByDefault() throws IOException {
+		Files.write(dir.resolve("test.gz"), "gzip".getBytes(StandardCharsets.UTF_8));
+
+		Tuple3<Integer, HttpHeaders, String> response = get("/file", h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "gzip"));
+		assertThat(response.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isNull();
+		assertThat(response.getT2().get(HttpHeaderNames.VARY)).isNull();
+		assertThat(response.getT3()).isEqualTo(CONTENT);
+	}
+
+	Tuple3<Integer, HttpHeaders, String> get(String uri, Consumer<HttpHeaders> headers) {
+		return createClient(disposableServer.port())
+		        .headers(headers)
+		        .get()
+		        .uri(uri)
+		        .responseSingle((res, buf) -> buf.asString()
+		                                         .defaultIfEmpty("")
+		                                         .map(body -> Tuples.of(res.status().code(), res.responseHeaders(), body)))
+		        .block(Duration.ofSeconds(5));
+	}
+
+	static void assertRange(List<long[]> ranges, long first, long last) {
+		assertThat(ranges).hasSize(1);
+		assertThat(ranges.get(0)).containsExactly(first, last);
+	}
+}
@@ -103,4 +103,46 @@ class UriPathTemplateTest {
         assertThat(template.match("/tags/v1.0.0").entrySet()).isEmpty();
     }
 
-}
\ No newline at end of file
+    @Test
+    void splatPathShouldBeMatched() {
+        UriPathTemplate template = new UriPathTemplate("/static/{path}**");
+        assertThat(template.matches("/static/")).isTrue();
+        assertThat(template.matches("/static")).isFalse();
+        assertThat(template.match("/static/js/app.js?v=1")).hasEntrySatisfying("path", s -> assertThat(s).isEqualTo("js/app.js"));
+    }
+
+    @Test
+    void multipleParametersInSegmentShouldBeMatchedGreedily() {
+        // same captures as the equivalent regular expression ^/(?<first>[^/]*)-(?<second>[^/]*)$
+        UriPathTemplate template = new UriPathTemplate("/{first}-{second}");
+        assertThat(template.matches("/a-b-c")).isTrue();
+        assertThat(template.match("/a-b-c"))
+                .hasEntrySatisfying("first", s -> assertThat(s).isEqualTo("a-b"))
+                .hasEntrySatisfying("second", s -> assertThat(s).isEqualTo("c"));
+        assertThat(template.matches("/a/b-c")).isFalse();
+    }
+
+    @Test
+    void parametersShouldBeResolvedByName() {
+        UriPathTemplate template = new UriPathTemplate("/{collection}/{path}**");
+        assertThat(template.match("/comments/1/author"))
+                .hasEntrySatisfying("collection", s -> assertThat(s).isEqualTo("comments"))
+                .hasEntrySatisfying("path", s -> assertThat(s).isEqualTo("1/author"));
+    }
+
+    @Test
+    void regularExpressionPathShouldBeMatched() {
+        UriPathTemplate template = new UriPathTemplate("/(comments|tags)/{id}");
+        assertThat(template.matches("/tags/1")).isTrue();
+        assertThat(template.matches("/users/1")).isFalse();
+        assertThat(template.match("/comments/1")).hasEntrySatisfying("id", s -> assertThat(s).isEqualTo("1"));
+    }
+
+    @Test
+    void absoluteUriShouldBeMatched() {
+        UriPathTemplate template = new UriPathTemplate("/comments/{id}");
+        assertThat(template.matches("http://localhost:8080/comments/1?q=reactor")).isTrue();
+        assertThat(template.match("http://localhost:8080/comments/1?q=reactor"))
+                .hasEntrySatisfying("id", s -> assertThat(s).isEqualTo("1"));
+    }
+}